@@ -36,22 +36,27 @@ import jakarta.persistence.*;
 public class UserTaskInstanceEntity {
     public static final String DELETE_BY_ID = "UserTaskInstanceEntity.DeleteById";
 
-    // Base query for finding instances by identity
+    // Base query for finding instances by identity, assignments are checked through correlated subqueries so the
+    // identity tables are never joined into the result set
     public static final String BASE_IDENTITY_QUERY =
             "select userTask from UserTaskInstanceEntity userTask " +
-                    "left join userTask.adminGroups adminGroup " +
-                    "left join userTask.potentialGroups potentialGroup " +
-                    "where (:userId member of userTask.adminUsers " +
-                    "or adminGroup in (:roles) " +
-                    "or userTask.actualOwner = :userId " +
+                    "where (userTask.actualOwner = :userId " +
+                    "or exists (select adminUser from userTask.adminUsers adminUser where adminUser = :userId) " +
+                    "or exists (select adminGroup from userTask.adminGroups adminGroup where adminGroup in (:roles)) " +
                     "or (userTask.actualOwner is null " + // checking if task is not reserved, we cannot check by status since lifecycle can be customized
-                    "and :userId not member of userTask.excludedUsers " +
-                    "and (:userId member of userTask.potentialUsers or potentialGroup in (:roles))))";
+                    "and not exists (select excludedUser from userTask.excludedUsers excludedUser where excludedUser = :userId) " +
+                    "and (exists (select potentialUser from userTask.potentialUsers potentialUser where potentialUser = :userId) " +
+                    "or exists (select potentialGroup from userTask.potentialGroups potentialGroup where potentialGroup in (:roles)))))";
 
     public static final String PROCESS_ID_FILTER_CLAUSE = " and userTask.processInfo.processId = :processId";
     public static final String PROCESS_INSTANCE_ID_FILTER_CLAUSE = " and userTask.processInfo.processInstanceId = :processInstanceId";
     public static final String TASKNAME_FILTER_CLAUSE = " and userTask.taskName = :taskName";
     public static final String STATUS_FILTER_CLAUSE = " and userTask.status in (:statusFilter)";
+    public static final String CURSOR_FILTER_CLAUSE = " and userTask.id > :cursor";
+    public static final String ORDER_BY_ID_CLAUSE = " order by userTask.id";
+
+    // Initializes a single assignment collection for a page of already loaded tasks
+    public static final String FETCH_ASSIGNMENTS_QUERY = "select distinct userTask from UserTaskInstanceEntity userTask left join fetch userTask.%s where userTask.id in (:ids)";
 
     @Id
     private String id;
@@ -82,29 +87,29 @@ public class UserTaskInstanceEntity {
     @Embedded
     private TaskProcessInfoEntity processInfo;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "jbpm_user_tasks_potential_users", joinColumns = @JoinColumn(name = "task_id", foreignKey = @ForeignKey(name = "fk_jbpm_user_tasks_potential_users_tid")))
     @Column(name = "user_id", nullable = false)
     private Set<String> potentialUsers = new HashSet<>();
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "jbpm_user_tasks_potential_groups", joinColumns = @JoinColumn(name = "task_id"),
             foreignKey = @ForeignKey(name = "fk_jbpm_user_tasks_potential_groups_tid"))
     @Column(name = "group_id")
     private Set<String> potentialGroups = new HashSet<>();
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "jbpm_user_tasks_admin_users", joinColumns = @JoinColumn(name = "task_id", foreignKey = @ForeignKey(name = "fk_jbpm_user_tasks_admin_users_tid")))
     @Column(name = "user_id", nullable = false)
     private Set<String> adminUsers = new HashSet<>();
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "jbpm_user_tasks_admin_groups", joinColumns = @JoinColumn(name = "task_id"),
             foreignKey = @ForeignKey(name = "fk_jbpm_user_tasks_admin_groups_tid"))
     @Column(name = "group_id")
     private Set<String> adminGroups = new HashSet<>();
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "jbpm_user_tasks_excluded_users", joinColumns = @JoinColumn(name = "task_id", foreignKey = @ForeignKey(name = "fk_jbpm_user_tasks_excluded_users_tid")))
     @Column(name = "user_id", nullable = false)
     private Set<String> excludedUsers = new HashSet<>();
@@ -29,7 +29,10 @@ import org.kie.kogito.usertask.UserTaskFilter;
 import jakarta.persistence.TypedQuery;
 
 import static org.jbpm.usertask.jpa.model.UserTaskInstanceEntity.BASE_IDENTITY_QUERY;
+import static org.jbpm.usertask.jpa.model.UserTaskInstanceEntity.CURSOR_FILTER_CLAUSE;
 import static org.jbpm.usertask.jpa.model.UserTaskInstanceEntity.DELETE_BY_ID;
+import static org.jbpm.usertask.jpa.model.UserTaskInstanceEntity.FETCH_ASSIGNMENTS_QUERY;
+import static org.jbpm.usertask.jpa.model.UserTaskInstanceEntity.ORDER_BY_ID_CLAUSE;
 import static org.jbpm.usertask.jpa.model.UserTaskInstanceEntity.PROCESS_ID_FILTER_CLAUSE;
 import static org.jbpm.usertask.jpa.model.UserTaskInstanceEntity.PROCESS_INSTANCE_ID_FILTER_CLAUSE;
 import static org.jbpm.usertask.jpa.model.UserTaskInstanceEntity.STATUS_FILTER_CLAUSE;
@@ -37,6 +40,9 @@ import static org.jbpm.usertask.jpa.model.UserTaskInstanceEntity.TASKNAME_FILTER
 
 public class UserTaskInstanceRepository extends BaseRepository<UserTaskInstanceEntity, String> {
 
+    private static final int FETCH_BATCH_SIZE = 500;
+    private static final List<String> ASSIGNMENT_COLLECTIONS = List.of("potentialUsers", "potentialGroups", "adminUsers", "adminGroups", "excludedUsers");
+
     public UserTaskInstanceRepository(UserTaskJPAContext context) {
         super(context);
     }
@@ -83,6 +89,16 @@ public class UserTaskInstanceRepository extends BaseRepository<UserTaskInstanceE
             jpql = jpql.concat(STATUS_FILTER_CLAUSE);
         }
 
+        boolean hasCursor = filter != null
+                && filter.cursor() != null
+                && !filter.cursor().isEmpty();
+
+        if (hasCursor) {
+            jpql = jpql.concat(CURSOR_FILTER_CLAUSE);
+        }
+
+        jpql = jpql.concat(ORDER_BY_ID_CLAUSE);
+
         TypedQuery<UserTaskInstanceEntity> query = getEntityManager()
                 .createQuery(jpql, UserTaskInstanceEntity.class)
                 .setParameter("userId", userId)
@@ -104,7 +120,35 @@ public class UserTaskInstanceRepository extends BaseRepository<UserTaskInstanceE
             query.setParameter("statusFilter", filter.statuses());
         }
 
-        return query.getResultList();
+        if (hasCursor) {
+            query.setParameter("cursor", filter.cursor());
+        }
+
+        if (filter != null && filter.limit() != null && filter.limit() > 0) {
+            query.setMaxResults(filter.limit());
+        }
+
+        List<UserTaskInstanceEntity> result = query.getResultList();
+        fetchAssignments(result);
+        return result;
+    }
+
+    /**
+     * Initializes the lazy assignment collections of the given tasks with one query per collection and batch instead of
+     * one per task and collection. Fetching them all at once would multiply the rows by each collection size.
+     */
+    private void fetchAssignments(List<UserTaskInstanceEntity> userTasks) {
+        for (int from = 0; from < userTasks.size(); from += FETCH_BATCH_SIZE) {
+            List<String> ids = userTasks.subList(from, Math.min(from + FETCH_BATCH_SIZE, userTasks.size()))
+                    .stream()
+                    .map(UserTaskInstanceEntity::getId)
+                    .toList();
+            for (String collection : ASSIGNMENT_COLLECTIONS) {
+                getEntityManager().createQuery(String.format(FETCH_ASSIGNMENTS_QUERY, collection), UserTaskInstanceEntity.class)
+                        .setParameter("ids", ids)
+                        .getResultList();
+            }
+        }
     }
 
     public UserTaskInstanceEntity delete(UserTaskInstanceEntity entity) {
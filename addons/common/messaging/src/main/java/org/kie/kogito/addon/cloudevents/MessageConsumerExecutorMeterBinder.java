@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.addon.cloudevents;
+
+import org.kie.kogito.event.impl.MessageConsumerExecutor;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the load of the shared {@link MessageConsumerExecutor} as Micrometer meters, so that a consumer queue
+ * filling up is visible before messages are rejected.
+ */
+public class MessageConsumerExecutorMeterBinder implements MeterBinder {
+
+    public static final String QUEUE_DEPTH_NAME = "kogito_events_consumer_queue_depth";
+    public static final String ACTIVE_NAME = "kogito_events_consumer_active";
+    public static final String REJECTED_NAME = "kogito_events_consumer_rejected";
+
+    private final MessageConsumerExecutor executor;
+
+    public MessageConsumerExecutorMeterBinder(MessageConsumerExecutor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(QUEUE_DEPTH_NAME, executor, MessageConsumerExecutor::getQueueDepth)
+                .description("Messages waiting for a consumer slot.")
+                .register(registry);
+        Gauge.builder(ACTIVE_NAME, executor, MessageConsumerExecutor::getActiveCount)
+                .description("Messages being consumed.")
+                .register(registry);
+        FunctionCounter.builder(REJECTED_NAME, executor, MessageConsumerExecutor::getRejectedCount)
+                .description("Messages rejected, and negatively acknowledged, because the consumer queue was full.")
+                .register(registry);
+    }
+}
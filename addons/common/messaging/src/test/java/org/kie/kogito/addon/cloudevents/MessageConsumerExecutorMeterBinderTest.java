@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.addon.cloudevents;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.event.impl.MessageConsumerExecutor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.kie.kogito.addon.cloudevents.MessageConsumerExecutorMeterBinder.ACTIVE_NAME;
+import static org.kie.kogito.addon.cloudevents.MessageConsumerExecutorMeterBinder.QUEUE_DEPTH_NAME;
+import static org.kie.kogito.addon.cloudevents.MessageConsumerExecutorMeterBinder.REJECTED_NAME;
+
+class MessageConsumerExecutorMeterBinderTest {
+
+    @Test
+    void testMetersFollowExecutor() {
+        MessageConsumerExecutor executor = new MessageConsumerExecutor(1, 0);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new MessageConsumerExecutorMeterBinder(executor).bindTo(registry);
+
+        assertThat(registry.get(QUEUE_DEPTH_NAME).gauge().value()).isZero();
+        executor.execute(() -> {
+            assertThat(registry.get(ACTIVE_NAME).gauge().value()).isEqualTo(1);
+            // the only slot is taken and nothing may wait for it
+            assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(() -> executor.execute(() -> {
+            }));
+        });
+
+        assertThat(registry.get(ACTIVE_NAME).gauge().value()).isZero();
+        assertThat(registry.get(REJECTED_NAME).functionCounter().count()).isEqualTo(1);
+    }
+}
@@ -18,7 +18,10 @@
  */
 package org.kie.kogito.monitoring.core.common.decision;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.kie.dmn.api.core.DMNContext;
 import org.kie.dmn.api.core.DMNMetadata;
@@ -27,21 +30,35 @@ import org.kie.dmn.api.core.DMNResult;
 import org.kie.dmn.api.core.FEELPropertyAccessible;
 import org.kie.kogito.KogitoGAV;
 import org.kie.kogito.decision.DecisionModel;
+import org.kie.kogito.dmn.CachedDecisionModel;
+import org.kie.kogito.dmn.DecisionResultCache;
 import org.kie.kogito.monitoring.core.common.system.metrics.DMNResultMetricsBuilder;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.TimeGauge;
 
 import static org.kie.kogito.monitoring.core.common.Constants.SKIP_MONITORING;
 
 public class MonitoredDecisionModel implements DecisionModel {
 
+    static final String CACHE_HITS_NAME = "kogito_decision_cache_hits";
+    static final String CACHE_MISSES_NAME = "kogito_decision_cache_misses";
+    static final String CACHE_HIT_RATIO_NAME = "kogito_decision_cache_hit_ratio";
+    static final String CACHE_SAVED_TIME_NAME = "kogito_decision_cache_saved_time";
+
     private final DecisionModel originalModel;
     private final DMNResultMetricsBuilder dmnResultMetricsBuilder;
 
     public MonitoredDecisionModel(DecisionModel originalModel, KogitoGAV gav, MeterRegistry meterRegistry) {
         this.originalModel = originalModel;
         this.dmnResultMetricsBuilder = new DMNResultMetricsBuilder(gav, meterRegistry);
+        if (originalModel instanceof CachedDecisionModel) {
+            registerCacheMetrics(((CachedDecisionModel) originalModel).getCache(), originalModel.getDMNModel().getName(), gav, meterRegistry);
+        }
     }
 
     public MonitoredDecisionModel(DecisionModel originalModel, KogitoGAV gav) {
@@ -86,6 +103,26 @@ public class MonitoredDecisionModel implements DecisionModel {
         return originalModel.getDMNModel();
     }
 
+    static void registerCacheMetrics(DecisionResultCache cache, String decision, KogitoGAV gav, MeterRegistry meterRegistry) {
+        List<Tag> tags = Arrays.asList(Tag.of("decision", decision), Tag.of("artifactId", gav.getArtifactId()), Tag.of("version", gav.getVersion()));
+        FunctionCounter.builder(CACHE_HITS_NAME, cache, DecisionResultCache::getHits)
+                .description("Decision evaluations served from the result cache.")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder(CACHE_MISSES_NAME, cache, DecisionResultCache::getMisses)
+                .description("Decision evaluations not found in the result cache.")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(CACHE_HIT_RATIO_NAME, cache, DecisionResultCache::getHitRatio)
+                .description("Ratio of decision evaluations served from the result cache.")
+                .tags(tags)
+                .register(meterRegistry);
+        TimeGauge.builder(CACHE_SAVED_TIME_NAME, cache, TimeUnit.MILLISECONDS, DecisionResultCache::getSavedTimeMillis)
+                .description("Evaluation time saved by serving decisions from the result cache.")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
     private boolean shouldSkipMonitoring(DMNMetadata dmnMetadata) {
         return dmnMetadata != null && (boolean) dmnMetadata.asMap().getOrDefault(SKIP_MONITORING, false);
     }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.monitoring.core.common.rule;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.kie.kogito.KogitoGAV;
+import org.kie.kogito.drools.core.session.KieSessionPool;
+import org.kie.kogito.drools.core.session.KieSessionPoolListener;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+
+public class KieSessionPoolMetricsListener implements KieSessionPoolListener {
+
+    static final String POOL_ACTIVE_NAME = "kogito_rule_session_pool_active";
+    static final String POOL_IDLE_NAME = "kogito_rule_session_pool_idle";
+    static final String POOL_CREATED_NAME = "kogito_rule_session_pool_created";
+    static final String POOL_REUSED_NAME = "kogito_rule_session_pool_reused";
+
+    private final KogitoGAV gav;
+    private final MeterRegistry meterRegistry;
+
+    public KieSessionPoolMetricsListener(KogitoGAV gav, MeterRegistry meterRegistry) {
+        this.gav = gav;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void poolCreated(KieSessionPool pool) {
+        List<Tag> tags = Arrays.asList(Tag.of("pool", pool.getName()), Tag.of("artifactId", gav.getArtifactId()), Tag.of("version", gav.getVersion()));
+        Gauge.builder(POOL_ACTIVE_NAME, pool, KieSessionPool::getActive)
+                .description("Rule sessions currently borrowed from the pool.")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(POOL_IDLE_NAME, pool, KieSessionPool::getIdle)
+                .description("Rule sessions idle in the pool.")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder(POOL_CREATED_NAME, pool, KieSessionPool::getCreated)
+                .description("Rule sessions created because the pool was empty.")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder(POOL_REUSED_NAME, pool, KieSessionPool::getReused)
+                .description("Rule sessions served from the pool.")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
@@ -20,6 +20,7 @@ package org.kie.kogito.monitoring.core.common.rule;
 
 import org.kie.kogito.KogitoGAV;
 import org.kie.kogito.drools.core.config.DefaultRuleEventListenerConfig;
+import org.kie.kogito.drools.core.session.KieSessionPools;
 
 import io.micrometer.core.instrument.MeterRegistry;
 
@@ -27,5 +28,6 @@ public class RuleMetricsListenerConfig extends DefaultRuleEventListenerConfig {
 
     public RuleMetricsListenerConfig(KogitoGAV gav, MeterRegistry meterRegistry) {
         super(new RuleMetricsListener("default-rule-monitoring-listener", gav, meterRegistry));
+        KieSessionPools.addListener(new KieSessionPoolMetricsListener(gav, meterRegistry));
     }
 }
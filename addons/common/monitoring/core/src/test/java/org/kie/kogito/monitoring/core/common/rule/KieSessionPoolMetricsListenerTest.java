@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.monitoring.core.common.rule;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.Agenda;
+import org.kie.kogito.KogitoGAV;
+import org.kie.kogito.drools.core.session.KieSessionPool;
+import org.kie.kogito.drools.core.session.KieSessionPools;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.monitoring.core.common.rule.KieSessionPoolMetricsListener.POOL_ACTIVE_NAME;
+import static org.kie.kogito.monitoring.core.common.rule.KieSessionPoolMetricsListener.POOL_CREATED_NAME;
+import static org.kie.kogito.monitoring.core.common.rule.KieSessionPoolMetricsListener.POOL_IDLE_NAME;
+import static org.kie.kogito.monitoring.core.common.rule.KieSessionPoolMetricsListener.POOL_REUSED_NAME;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KieSessionPoolMetricsListenerTest {
+
+    private MeterRegistry meterRegistry;
+    private KieSessionPoolMetricsListener listener;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new KieSessionPoolMetricsListener(new KogitoGAV("org.kie", "pool-test", "1.0"), meterRegistry);
+        KieSessionPools.addListener(listener);
+    }
+
+    @AfterEach
+    void cleanup() {
+        KieSessionPools.removeListener(listener);
+    }
+
+    @Test
+    void testPoolUtilizationIsExposed() {
+        KieSession session = mockSession();
+        KieSessionPool pool = KieSessionPools.create("group_1", () -> session, 1);
+
+        KieSession borrowed = pool.acquire();
+        assertThat(gauge(POOL_ACTIVE_NAME, "group_1")).isEqualTo(1);
+        assertThat(gauge(POOL_IDLE_NAME, "group_1")).isZero();
+
+        pool.release(borrowed);
+        pool.release(pool.acquire());
+
+        assertThat(gauge(POOL_ACTIVE_NAME, "group_1")).isZero();
+        assertThat(gauge(POOL_IDLE_NAME, "group_1")).isEqualTo(1);
+        assertThat(counter(POOL_CREATED_NAME, "group_1")).isEqualTo(1);
+        assertThat(counter(POOL_REUSED_NAME, "group_1")).isEqualTo(1);
+    }
+
+    @Test
+    void testPoolCreatedBeforeRegistrationIsExposed() {
+        KieSessionPools.removeListener(listener);
+        KieSessionPool pool = KieSessionPools.create("group_2", KieSessionPoolMetricsListenerTest::mockSession, 1);
+        pool.acquire();
+
+        KieSessionPools.addListener(listener);
+
+        assertThat(gauge(POOL_ACTIVE_NAME, "group_2")).isEqualTo(1);
+        assertThat(counter(POOL_CREATED_NAME, "group_2")).isEqualTo(1);
+    }
+
+    private static KieSession mockSession() {
+        KieSession session = mock(KieSession.class);
+        Agenda agenda = mock(Agenda.class);
+        when(session.getAgenda()).thenReturn(agenda);
+        return session;
+    }
+
+    private double gauge(String name, String pool) {
+        return meterRegistry.get(name).tag("pool", pool).gauge().value();
+    }
+
+    private double counter(String name, String pool) {
+        return meterRegistry.get(name).tag("pool", pool).functionCounter().count();
+    }
+}
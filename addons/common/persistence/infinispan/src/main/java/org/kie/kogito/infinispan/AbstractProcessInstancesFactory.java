@@ -27,16 +27,22 @@ public abstract class AbstractProcessInstancesFactory implements ProcessInstance
     private final RemoteCacheManager cacheManager;
     private final Boolean lock;
     private final String template;
+    private final boolean retireLegacyEvents;
 
     public AbstractProcessInstancesFactory(RemoteCacheManager cacheManager, Boolean lock, String template) {
+        this(cacheManager, lock, template, false);
+    }
+
+    public AbstractProcessInstancesFactory(RemoteCacheManager cacheManager, Boolean lock, String template, boolean retireLegacyEvents) {
         this.cacheManager = cacheManager;
         this.lock = lock;
         this.template = template;
+        this.retireLegacyEvents = retireLegacyEvents;
     }
 
     @Override
     public CacheProcessInstances createProcessInstances(Process<?> process) {
-        return new CacheProcessInstances(process, cacheManager, template, lock);
+        return new CacheProcessInstances(process, cacheManager, template, lock, retireLegacyEvents);
     }
 
 }
@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.infinispan;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.infinispan.client.hotrod.MetadataValue;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.commons.util.CloseableIterator;
+
+/**
+ * Index of the event types process instances are waiting for.
+ * <p>
+ * Every (event type, instance) registration is an entry of its own, written only by the node storing that instance,
+ * so registrations never contend with each other. Every event type also has a presence entry, rewritten on each
+ * registration and removed with a versioned write once no registration is left, so that event types nobody waits
+ * for are answered with a single read. Every instance has an entry with the event types it is registered for, so
+ * storing an instance only touches the event types that changed.
+ * <p>
+ * Previous versions kept every registration of a process in a single entry of the instances cache. While that entry
+ * exists and is not retired, it is kept up to date and read for the instances it lists, so both versions can run side
+ * by side during a rolling upgrade. Once no previous version is running, start with <code>retireLegacy</code>
+ * enabled: the legacy registrations are imported and the entry is replaced by a <code>#retired</code> marker in the
+ * same versioned write, so a registration written in between makes the import start over.
+ */
+class CacheEventIndex {
+
+    private static final String EVENT_PREFIX = "event::";
+    private static final String TYPE_PREFIX = "type::";
+    private static final String INSTANCE_PREFIX = "instance::";
+    private static final String SEPARATOR = "\n";
+    private static final String LEGACY_SEPARATOR = "::";
+    private static final String LEGACY_RETIRED_MARKER = "#retired";
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_ATTEMPTS = 10;
+
+    private final RemoteCache<String, byte[]> cache;
+    private final RemoteCache<String, byte[]> legacyCache;
+    private final String legacyKey;
+    private volatile boolean legacyActive;
+
+    CacheEventIndex(RemoteCache<String, byte[]> cache, RemoteCache<String, byte[]> legacyCache, String legacyKey) {
+        this(cache, legacyCache, legacyKey, false);
+    }
+
+    CacheEventIndex(RemoteCache<String, byte[]> cache, RemoteCache<String, byte[]> legacyCache, String legacyKey, boolean retireLegacy) {
+        this.cache = cache;
+        this.legacyCache = legacyCache;
+        this.legacyKey = legacyKey;
+        MetadataValue<byte[]> legacy = legacyCache.getWithMetadata(legacyKey);
+        this.legacyActive = legacy != null && !isRetired(legacy.getValue());
+        if (legacyActive && retireLegacy) {
+            retireLegacy();
+            this.legacyActive = false;
+        }
+    }
+
+    Set<String> waitingFor(String eventType) {
+        Map<String, Set<String>> legacy = legacyRegistrations();
+        Set<String> ids = cache.containsKey(TYPE_PREFIX + eventType) ? registered(eventType) : new HashSet<>();
+        if (legacy != null) {
+            // the legacy entry is up to date for every instance it lists, whichever version wrote it last
+            ids.removeIf(legacy::containsKey);
+            legacy.forEach((id, eventTypes) -> {
+                if (eventTypes.contains(eventType)) {
+                    ids.add(id);
+                }
+            });
+        }
+        return ids;
+    }
+
+    boolean existsWaitingFor(String eventType) {
+        if (legacyActive) {
+            return !waitingFor(eventType).isEmpty();
+        }
+        String typeKey = TYPE_PREFIX + eventType;
+        MetadataValue<byte[]> presence = cache.getWithMetadata(typeKey);
+        if (presence == null) {
+            return false;
+        }
+        try (Stream<String> ids = registrations(eventType)) {
+            if (ids.findAny().isPresent()) {
+                return true;
+            }
+        }
+        // a registration written after the presence entry was read changes its version and keeps it
+        cache.removeWithVersion(typeKey, presence.getVersion());
+        return false;
+    }
+
+    void update(String processInstanceId, Set<String> eventTypes) {
+        register(processInstanceId, eventTypes);
+        if (legacyActive) {
+            updateLegacy(processInstanceId, eventTypes);
+        }
+    }
+
+    void remove(String processInstanceId) {
+        update(processInstanceId, Set.of());
+    }
+
+    private void register(String processInstanceId, Set<String> eventTypes) {
+        String instanceKey = INSTANCE_PREFIX + processInstanceId;
+        Set<String> registered = decode(cache.get(instanceKey));
+        if (registered.equals(eventTypes)) {
+            return;
+        }
+        byte[] id = processInstanceId.getBytes(StandardCharsets.UTF_8);
+        for (String eventType : eventTypes) {
+            if (!registered.contains(eventType)) {
+                // the registration goes first, see existsWaitingFor
+                cache.put(EVENT_PREFIX + eventType + SEPARATOR + processInstanceId, id);
+                cache.put(TYPE_PREFIX + eventType, eventType.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        for (String eventType : registered) {
+            if (!eventTypes.contains(eventType)) {
+                cache.remove(EVENT_PREFIX + eventType + SEPARATOR + processInstanceId);
+            }
+        }
+        if (eventTypes.isEmpty()) {
+            cache.remove(instanceKey);
+        } else {
+            cache.put(instanceKey, encode(eventTypes));
+        }
+    }
+
+    private Set<String> registered(String eventType) {
+        try (Stream<String> ids = registrations(eventType)) {
+            return ids.collect(Collectors.toCollection(HashSet::new));
+        }
+    }
+
+    private Stream<String> registrations(String eventType) {
+        return keys(EVENT_PREFIX + eventType + SEPARATOR);
+    }
+
+    private Stream<String> keys(String prefix) {
+        CloseableIterator<Entry<Object, Object>> iterator = cache.retrieveEntries(null, BATCH_SIZE);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .map(entry -> (String) entry.getKey())
+                .filter(key -> key.startsWith(prefix))
+                .map(key -> key.substring(prefix.length()))
+                .onClose(iterator::close);
+    }
+
+    // previous versions still running only read the registrations from the legacy entry
+    private void updateLegacy(String processInstanceId, Set<String> eventTypes) {
+        for (int attempt = 1;; attempt++) {
+            MetadataValue<byte[]> current = legacyCache.getWithMetadata(legacyKey);
+            if (current == null || isRetired(current.getValue())) {
+                legacyActive = false;
+                return;
+            }
+            Map<String, Set<String>> legacy = decodeLegacy(current.getValue());
+            legacy.remove(processInstanceId);
+            if (!eventTypes.isEmpty()) {
+                legacy.put(processInstanceId, eventTypes);
+            }
+            if (legacyCache.replaceWithVersion(legacyKey, encodeLegacy(legacy), current.getVersion())) {
+                return;
+            }
+            backoff(attempt, processInstanceId);
+        }
+    }
+
+    private Map<String, Set<String>> legacyRegistrations() {
+        if (!legacyActive) {
+            return null;
+        }
+        byte[] legacy = legacyCache.get(legacyKey);
+        if (legacy == null || isRetired(legacy)) {
+            legacyActive = false;
+            return null;
+        }
+        return decodeLegacy(legacy);
+    }
+
+    private void retireLegacy() {
+        for (int attempt = 1;; attempt++) {
+            MetadataValue<byte[]> current = legacyCache.getWithMetadata(legacyKey);
+            if (current == null || isRetired(current.getValue())) {
+                return;
+            }
+            Map<String, Set<String>> legacy = decodeLegacy(current.getValue());
+            legacy.forEach(this::register);
+            // instances removed by a previous version only left their registrations in the index
+            try (Stream<String> ids = keys(INSTANCE_PREFIX)) {
+                ids.filter(id -> !legacy.containsKey(id) && !legacyCache.containsKey(id)).toList().forEach(id -> register(id, Set.of()));
+            }
+            if (legacyCache.replaceWithVersion(legacyKey, LEGACY_RETIRED_MARKER.getBytes(StandardCharsets.UTF_8), current.getVersion())) {
+                return;
+            }
+            backoff(attempt, legacyKey);
+        }
+    }
+
+    private static void backoff(int attempt, String id) {
+        if (attempt == MAX_ATTEMPTS) {
+            throw new IllegalStateException("Event registrations of " + id + " kept changing concurrently, giving up after " + attempt + " attempts");
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1L << attempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while updating event registrations of " + id, e);
+        }
+    }
+
+    private static boolean isRetired(byte[] legacy) {
+        return LEGACY_RETIRED_MARKER.equals(new String(legacy, StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, Set<String>> decodeLegacy(byte[] legacy) {
+        Map<String, Set<String>> eventTypesById = new HashMap<>();
+        for (String registration : new String(legacy, StandardCharsets.UTF_8).split(",")) {
+            int index = registration.lastIndexOf(LEGACY_SEPARATOR);
+            if (index > 0) {
+                eventTypesById.computeIfAbsent(registration.substring(index + LEGACY_SEPARATOR.length()), k -> new HashSet<>()).add(registration.substring(0, index));
+            }
+        }
+        return eventTypesById;
+    }
+
+    private static byte[] encodeLegacy(Map<String, Set<String>> eventTypesById) {
+        return eventTypesById.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream().map(eventType -> eventType + LEGACY_SEPARATOR + entry.getKey()))
+                .collect(Collectors.joining(",")).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Set<String> decode(byte[] data) {
+        if (data == null || data.length == 0) {
+            return new HashSet<>();
+        }
+        return Stream.of(new String(data, StandardCharsets.UTF_8).split(SEPARATOR)).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static byte[] encode(Set<String> values) {
+        return String.join(SEPARATOR, values).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -18,10 +18,7 @@
  */
 package org.kie.kogito.infinispan;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
@@ -49,24 +46,35 @@ import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
 
 public class CacheProcessInstances<T extends Model> implements MutableProcessInstances<T> {
-    private final String EVENT_SEPARATOR = "::";
+    private static final int BATCH_SIZE = 1000;
     private final RemoteCache<String, byte[]> cache;
+    private final CacheEventIndex eventIndex;
     private final ProcessInstanceMarshallerService marshaller;
     private final org.kie.kogito.process.Process<?> process;
     private final boolean lock;
-    private String eventKey;
+    private final String eventKey;
 
     public CacheProcessInstances(Process<?> process, RemoteCacheManager cacheManager, String templateName, boolean lock) {
+        this(process, cacheManager, templateName, lock, false);
+    }
+
+    public CacheProcessInstances(Process<?> process, RemoteCacheManager cacheManager, String templateName, boolean lock, boolean retireLegacyEvents) {
         this.process = process;
-        String cacheName = process.id() + "_store";
-        if (ConversionUtils.isEmpty(templateName)) {
-            this.cache = cacheManager.administration().getOrCreateCache(cacheName, DefaultTemplate.LOCAL);
-        } else {
-            this.cache = cacheManager.administration().getOrCreateCache(cacheName, templateName);
-        }
+        this.cache = getOrCreateCache(cacheManager, process.id() + "_store", templateName);
         this.marshaller = ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build();
         this.lock = lock;
+        // entry used by previous versions to keep the event registrations in the instances cache
         this.eventKey = process.id() + "-" + process.version() + ".events";
+        this.eventIndex = new CacheEventIndex(getOrCreateCache(cacheManager, process.id() + "-" + process.version() + "_events", templateName), cache, eventKey,
+                retireLegacyEvents);
+    }
+
+    private static RemoteCache<String, byte[]> getOrCreateCache(RemoteCacheManager cacheManager, String cacheName, String templateName) {
+        if (ConversionUtils.isEmpty(templateName)) {
+            return cacheManager.administration().getOrCreateCache(cacheName, DefaultTemplate.LOCAL);
+        } else {
+            return cacheManager.administration().getOrCreateCache(cacheName, templateName);
+        }
     }
 
     @Override
@@ -85,20 +93,23 @@ public class CacheProcessInstances<T extends Model> implements MutableProcessIns
 
     private Set<String> getUniqueEvents(ProcessInstance<T> instance) {
         return Stream.of(((AbstractProcessInstance<T>) instance).internalGetProcessInstance().getEventTypes())
-                .map(e -> e + EVENT_SEPARATOR + instance.id())
                 .collect(Collectors.toCollection(HashSet::new));
     }
 
     @Override
     public Stream<ProcessInstance<T>> stream(ProcessInstanceReadMode mode) {
         if (lock) {
-            CloseableIterator<Entry<Object, MetadataValue<Object>>> iterator = cache.retrieveEntriesWithMetadata(null, 1000);
+            CloseableIterator<Entry<Object, MetadataValue<Object>>> iterator = cache.retrieveEntriesWithMetadata(null, BATCH_SIZE);
             return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
                     .filter(v -> !v.getKey().equals(this.eventKey))
                     .map(v -> unmarshall((byte[]) v.getValue().getValue(), v.getValue().getVersion(), mode))
                     .onClose(iterator::close);
         } else {
-            return cache.entrySet().stream().filter(v -> !v.getKey().equals(this.eventKey)).map(data -> unmarshall(data.getValue(), null, mode));
+            CloseableIterator<Entry<Object, Object>> iterator = cache.retrieveEntries(null, BATCH_SIZE);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                    .filter(v -> !v.getKey().equals(this.eventKey))
+                    .map(v -> unmarshall((byte[]) v.getValue(), null, mode))
+                    .onClose(iterator::close);
         }
     }
 
@@ -119,8 +130,7 @@ public class CacheProcessInstances<T extends Model> implements MutableProcessIns
     @Override
     public void remove(String processInstanceId) {
         cache.remove(processInstanceId);
-        List<String> events = clearEventTypes(cache.get(this.eventKey), processInstanceId);
-        cache.put(this.eventKey, toBytes(events));
+        eventIndex.remove(processInstanceId);
     }
 
     @Override
@@ -149,9 +159,7 @@ public class CacheProcessInstances<T extends Model> implements MutableProcessIns
                 }
             }
 
-            List<String> events = clearEventTypes(cache.get(this.eventKey), id);
-            events.addAll(getUniqueEvents(instance));
-            cache.put(this.eventKey, toBytes(events));
+            eventIndex.update(id, getUniqueEvents(instance));
 
             connectProcessInstance(id, instance);
         }
@@ -191,32 +199,20 @@ public class CacheProcessInstances<T extends Model> implements MutableProcessIns
 
     @Override
     public Stream<ProcessInstance<T>> waitingForEventType(String eventType, ProcessInstanceReadMode mode) {
-        byte[] eventData = cache.get(this.eventKey);
-        if (eventData == null) {
-            return Collections.<ProcessInstance<T>> emptyList().stream();
+        Set<String> processInstancesId = eventIndex.waitingFor(eventType);
+        if (processInstancesId.isEmpty()) {
+            return Stream.empty();
         }
-        String list = new String(eventData);
-        List<String> processInstancesId = Stream.of(list.split(","))
-                .filter(e -> e.startsWith(eventType + EVENT_SEPARATOR))
-                .map(e -> e.substring(e.indexOf(EVENT_SEPARATOR) + EVENT_SEPARATOR.length()))
-                .toList();
-
-        List<ProcessInstance<T>> waitingInstances = new ArrayList<>();
-        for (String processInstanceId : processInstancesId) {
-            findById(processInstanceId).ifPresent(waitingInstances::add);
+        if (lock) {
+            // versions are only returned by single entry reads
+            return processInstancesId.stream().map(id -> findWithLock(id, mode)).flatMap(Optional::stream);
         }
-        return waitingInstances.stream();
-    }
-
-    private byte[] toBytes(List<String> events) {
-        return String.join(",", events).getBytes();
+        return cache.getAll(processInstancesId).values().stream().map(data -> unmarshall(data, null, mode));
     }
 
-    private List<String> clearEventTypes(byte[] eventData, String processInstanceId) {
-        String list = eventData != null ? new String(eventData) : new String();
-        return Stream.of(list.split(","))
-                .filter(e -> !e.endsWith(EVENT_SEPARATOR + processInstanceId))
-                .collect(Collectors.toCollection(ArrayList::new));
+    @Override
+    public boolean existsWaitingFor(String eventType) {
+        return eventIndex.existsWaitingFor(eventType);
     }
 
 }
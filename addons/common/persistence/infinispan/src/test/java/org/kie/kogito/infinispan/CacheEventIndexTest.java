@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.infinispan;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.infinispan.client.hotrod.MetadataValue;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.commons.util.Closeables;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CacheEventIndexTest {
+
+    private static final String LEGACY_KEY = "process-1.0.events";
+
+    private Map<String, byte[]> entries;
+    private Map<String, Long> versions;
+    private Map<String, byte[]> legacyEntries;
+    private Map<String, Long> legacyVersions;
+    private RemoteCache<String, byte[]> cache;
+    private RemoteCache<String, byte[]> legacyCache;
+    private CacheEventIndex index;
+
+    @BeforeEach
+    void setup() {
+        entries = new HashMap<>();
+        versions = new HashMap<>();
+        legacyEntries = new HashMap<>();
+        legacyVersions = new HashMap<>();
+        cache = mockCache(entries, versions);
+        legacyCache = mockCache(legacyEntries, legacyVersions);
+        index = new CacheEventIndex(cache, legacyCache, LEGACY_KEY);
+    }
+
+    @Test
+    void testUpdateAndRemove() {
+        index.update("pi1", Set.of("sig1", "sig2"));
+        index.update("pi2", Set.of("sig1"));
+
+        assertThat(index.waitingFor("sig1")).containsExactlyInAnyOrder("pi1", "pi2");
+        assertThat(index.waitingFor("sig2")).containsExactly("pi1");
+        assertThat(index.existsWaitingFor("sig3")).isFalse();
+
+        index.update("pi1", Set.of("sig2"));
+        assertThat(index.waitingFor("sig1")).containsExactly("pi2");
+
+        index.remove("pi2");
+        assertThat(index.waitingFor("sig1")).isEmpty();
+        assertThat(index.existsWaitingFor("sig1")).isFalse();
+        assertThat(index.existsWaitingFor("sig2")).isTrue();
+    }
+
+    @Test
+    void testRegistrationsDoNotShareEntries() {
+        index.update("pi1", Set.of("sig1"));
+        index.update("pi2", Set.of("sig1"));
+
+        // each instance owns its registration, nothing is read and rewritten on behalf of other instances
+        assertThat(entries).containsKeys("event::sig1\npi1", "event::sig1\npi2", "type::sig1");
+        assertThat(new String(entries.get("event::sig1\npi1"))).isEqualTo("pi1");
+    }
+
+    @Test
+    void testPresenceEntryKeptForConcurrentRegistration() {
+        index.update("pi1", Set.of("sig1"));
+        index.remove("pi1");
+        // another node registers its instance while the registrations are scanned
+        AtomicBoolean concurrentWrite = new AtomicBoolean(true);
+        when(cache.retrieveEntries(isNull(), anyInt())).thenAnswer(invocation -> {
+            Object snapshot = Closeables.iterator(new ArrayList<>(entries.entrySet()).iterator());
+            if (concurrentWrite.getAndSet(false)) {
+                cache.put("event::sig1\npi3", "pi3".getBytes());
+                cache.put("type::sig1", "sig1".getBytes());
+            }
+            return snapshot;
+        });
+
+        assertThat(index.existsWaitingFor("sig1")).isFalse();
+        assertThat(entries).containsKey("type::sig1");
+        assertThat(index.existsWaitingFor("sig1")).isTrue();
+    }
+
+    @Test
+    void testLegacyRegistrationsDuringUpgrade() {
+        legacyCache.put(LEGACY_KEY, "sig1::pi1,sig2::pi1".getBytes());
+        index = new CacheEventIndex(cache, legacyCache, LEGACY_KEY);
+
+        assertThat(index.waitingFor("sig1")).containsExactly("pi1");
+        index.update("pi2", Set.of("sig1"));
+        assertThat(new String(legacyEntries.get(LEGACY_KEY)).split(",")).containsExactlyInAnyOrder("sig1::pi1", "sig2::pi1", "sig1::pi2");
+
+        // a previous version still running moves pi1 on and registers pi3
+        legacyCache.put(LEGACY_KEY, "sig3::pi1,sig1::pi2,sig2::pi3".getBytes());
+        assertThat(index.waitingFor("sig1")).containsExactly("pi2");
+        assertThat(index.waitingFor("sig2")).containsExactly("pi3");
+        assertThat(index.existsWaitingFor("sig3")).isTrue();
+    }
+
+    @Test
+    void testRetireLegacyRegistrations() {
+        legacyCache.put(LEGACY_KEY, "sig1::pi1,sig2::pi1,sig1::pi2".getBytes());
+        legacyCache.put("pi1", new byte[0]);
+        legacyCache.put("pi2", new byte[0]);
+        // the legacy entry changes between the read and the versioned write of the marker
+        AtomicBoolean concurrentWrite = new AtomicBoolean(true);
+        when(legacyCache.replaceWithVersion(eq(LEGACY_KEY), any(), anyLong())).thenAnswer(invocation -> {
+            if (concurrentWrite.getAndSet(false)) {
+                legacyEntries.put(LEGACY_KEY, "sig1::pi1,sig2::pi1,sig1::pi2,sig1::pi3".getBytes());
+                legacyVersions.merge(LEGACY_KEY, 1L, Long::sum);
+            }
+            return replaceWithVersion(legacyEntries, legacyVersions, LEGACY_KEY, invocation.getArgument(1), invocation.getArgument(2));
+        });
+
+        index = new CacheEventIndex(cache, legacyCache, LEGACY_KEY, true);
+
+        assertThat(new String(legacyEntries.get(LEGACY_KEY))).isEqualTo("#retired");
+        assertThat(index.waitingFor("sig1")).containsExactlyInAnyOrder("pi1", "pi2", "pi3");
+        assertThat(index.waitingFor("sig2")).containsExactly("pi1");
+
+        index.update("pi4", Set.of("sig1"));
+        assertThat(new String(legacyEntries.get(LEGACY_KEY))).isEqualTo("#retired");
+        assertThat(new CacheEventIndex(cache, legacyCache, LEGACY_KEY).waitingFor("sig1")).containsExactlyInAnyOrder("pi1", "pi2", "pi3", "pi4");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RemoteCache<String, byte[]> mockCache(Map<String, byte[]> entries, Map<String, Long> versions) {
+        RemoteCache<String, byte[]> cache = mock(RemoteCache.class);
+        when(cache.get(anyString())).thenAnswer(invocation -> entries.get(invocation.<String> getArgument(0)));
+        when(cache.containsKey(anyString())).thenAnswer(invocation -> entries.containsKey(invocation.<String> getArgument(0)));
+        when(cache.getWithMetadata(anyString())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            if (!entries.containsKey(key)) {
+                return null;
+            }
+            MetadataValue<byte[]> value = mock(MetadataValue.class);
+            when(value.getValue()).thenReturn(entries.get(key));
+            when(value.getVersion()).thenReturn(versions.get(key));
+            return value;
+        });
+        when(cache.put(anyString(), any())).thenAnswer(invocation -> {
+            versions.merge(invocation.getArgument(0), 1L, Long::sum);
+            return entries.put(invocation.getArgument(0), invocation.getArgument(1));
+        });
+        when(cache.retrieveEntries(isNull(), anyInt())).thenAnswer(invocation -> Closeables.iterator(new ArrayList<>(entries.entrySet()).iterator()));
+        when(cache.remove(anyString())).thenAnswer(invocation -> entries.remove(invocation.<String> getArgument(0)));
+        when(cache.replaceWithVersion(anyString(), any(), anyLong()))
+                .thenAnswer(invocation -> replaceWithVersion(entries, versions, invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+        when(cache.removeWithVersion(anyString(), anyLong())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            if (!versions.get(key).equals(invocation.getArgument(1))) {
+                return false;
+            }
+            entries.remove(key);
+            return true;
+        });
+        return cache;
+    }
+
+    private static boolean replaceWithVersion(Map<String, byte[]> entries, Map<String, Long> versions, String key, byte[] value, long version) {
+        if (!entries.containsKey(key) || versions.get(key) != version) {
+            return false;
+        }
+        entries.put(key, value);
+        versions.merge(key, 1L, Long::sum);
+        return true;
+    }
+}
@@ -196,6 +196,8 @@ class CacheProcessInstancesIT {
 
         pi1.workItems().forEach(wi -> pi1.completeWorkItem(wi.getId(), Collections.emptyMap()));
         pi2.workItems().forEach(wi -> pi2.completeWorkItem(wi.getId(), Collections.emptyMap()));
+        assertThat(fsInstances.existsWaitingFor("sig1")).isTrue();
+        assertThat(fsInstances.waitingForEventType("sig1", ProcessInstanceReadMode.READ_ONLY)).hasSize(1);
 
         process.send(SignalFactory.of("sig1", "SomeValue"));
         assertThat(process.instances().stream().count()).isEqualTo(1);
@@ -36,6 +36,8 @@ public class GenericRepository extends Repository {
 
     private static final String PAYLOAD = "payload";
     private static final String VERSION = "version";
+    private static final String ID = "id";
+    private static final int WAITING_FOR_PAGE_SIZE = 100;
 
     private final DataSource dataSource;
 
@@ -184,26 +186,69 @@ public class GenericRepository extends Repository {
 
     @Override
     Stream<Record> findAllInternalWaitingFor(String processId, String processVersion, String eventType) {
+        // keyset pagination over the instance id, so a broadcast never holds every waiting payload (nor a connection) at once
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<Record>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            private final Deque<Record> page = new ArrayDeque<>();
+            private String lastId = "";
+            private boolean exhausted;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Record> action) {
+                if (page.isEmpty() && !exhausted) {
+                    lastId = findWaitingForPage(processId, processVersion, eventType, lastId, page);
+                    exhausted = page.size() < WAITING_FOR_PAGE_SIZE;
+                }
+                Record record = page.poll();
+                if (record == null) {
+                    return false;
+                }
+                action.accept(record);
+                return true;
+            }
+        }, false);
+    }
+
+    private String findWaitingForPage(String processId, String processVersion, String eventType, String afterId, Deque<Record> page) {
         try (Connection connection = dataSource.getConnection();
-                PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(FIND_ALL_WAITING_FOR_EVENT_TYPE, processVersion));) {
+                PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(FIND_ALL_WAITING_FOR_EVENT_TYPE, processVersion) + " " + ORDER_BY_ID)) {
             statement.setString(1, processId);
             statement.setString(2, eventType);
+            statement.setString(3, afterId);
             if (processVersion != null) {
-                statement.setString(3, processVersion);
+                statement.setString(4, processVersion);
             }
-
-            List<Record> data = new ArrayList<>();
-            ResultSet resultSet = statement.executeQuery();
-            while (resultSet.next()) {
-                data.add(from(resultSet));
+            statement.setMaxRows(WAITING_FOR_PAGE_SIZE);
+            String lastId = afterId;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    lastId = resultSet.getString(ID);
+                    page.add(from(resultSet));
+                }
             }
-            resultSet.close();
-            return data.stream();
+            return lastId;
         } catch (SQLException e) {
             throw uncheckedException(e, "Error finding all process instances, for processId %s waiting for %s", processId, eventType);
         }
     }
 
+    @Override
+    boolean existsWaitingFor(String processId, String processVersion, String eventType) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(EXISTS_WAITING_FOR_EVENT_TYPE, processVersion))) {
+            statement.setString(1, processId);
+            statement.setString(2, eventType);
+            if (processVersion != null) {
+                statement.setString(3, processVersion);
+            }
+            statement.setMaxRows(1);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        } catch (SQLException e) {
+            throw uncheckedException(e, "Error checking process instances, for processId %s waiting for %s", processId, eventType);
+        }
+    }
+
     @Override
     Optional<Record> findByBusinessKey(String processId, String processVersion, String businessKey) {
         try (Connection connection = dataSource.getConnection();
@@ -298,6 +343,28 @@ public class GenericRepository extends Repository {
         }
     }
 
+    @Override
+    List<String> findIds(String processId, String processVersion, String afterId, int limit) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(FIND_IDS, processVersion) + " ORDER BY id")) {
+            statement.setString(1, processId);
+            statement.setString(2, afterId);
+            if (processVersion != null) {
+                statement.setString(3, processVersion);
+            }
+            statement.setMaxRows(limit);
+            List<String> ids = new ArrayList<>(limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getString(ID));
+                }
+            }
+            return ids;
+        } catch (SQLException e) {
+            throw uncheckedException(e, "Error finding process instance ids, for processId %s version %s", processId, processVersion);
+        }
+    }
+
     private static String sqlIncludingVersion(String statement, String processVersion) {
         return statement + " " + (processVersion == null ? PROCESS_VERSION_IS_NULL : PROCESS_VERSION_EQUALS_TO);
     }
@@ -19,6 +19,7 @@
 package org.kie.kogito.persistence.jdbc;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -111,6 +112,16 @@ public class JDBCProcessInstances<T extends Model> implements MutableProcessInst
         repository.migrate(process.id(), process.version(), targetProcessId, targetProcessVersion, processIds);
     }
 
+    @Override
+    public void migrateProcessInstancesOfVersion(String processVersion, String targetProcessId, String targetProcessVersion, String... processIds) {
+        repository.migrate(process.id(), processVersion, targetProcessId, targetProcessVersion, processIds);
+    }
+
+    @Override
+    public List<String> findIds(String processVersion, String afterId, int limit) {
+        return repository.findIds(process.id(), processVersion, afterId, limit);
+    }
+
     @Override
     public void remove(String id) {
         LOGGER.debug("Removing process instance id: {}, processId: {}", id, process.id());
@@ -132,6 +143,11 @@ public class JDBCProcessInstances<T extends Model> implements MutableProcessInst
         return repository.findAllInternalWaitingFor(process.id(), process.version(), eventType).map(r -> unmarshall(r, mode));
     }
 
+    @Override
+    public boolean existsWaitingFor(String eventType) {
+        return repository.existsWaitingFor(process.id(), process.version(), eventType);
+    }
+
     @Override
     public Optional<ProcessInstance<T>> findByBusinessKey(String businessKey, ProcessInstanceReadMode mode) {
         LOGGER.debug("Find process instance using business Key : {}", businessKey);
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.jdbc.correlation;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.kie.kogito.correlation.CorrelationInstance;
+
+/**
+ * Bounded, time limited cache of correlation instances, keyed by encoded correlation id.
+ * <p>
+ * Only found instances are kept, a missing correlation is always looked up again. Entries expire so that
+ * correlations deleted by other nodes are not resolved for longer than the time to live. A time to live of zero
+ * disables the cache.
+ */
+class CorrelationInstanceCache {
+
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoTime;
+    private final Map<String, Entry> entries;
+
+    CorrelationInstanceCache(int maxSize, Duration timeToLive) {
+        this(maxSize, timeToLive, System::nanoTime);
+    }
+
+    CorrelationInstanceCache(int maxSize, Duration timeToLive, LongSupplier nanoTime) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    boolean isEnabled() {
+        return timeToLiveNanos > 0;
+    }
+
+    CorrelationInstance get(String encodedCorrelationId) {
+        if (!isEnabled()) {
+            return null;
+        }
+        synchronized (entries) {
+            Entry entry = entries.get(encodedCorrelationId);
+            if (entry == null) {
+                return null;
+            }
+            if (nanoTime.getAsLong() - entry.createdAt > timeToLiveNanos) {
+                entries.remove(encodedCorrelationId);
+                return null;
+            }
+            return entry.instance;
+        }
+    }
+
+    void put(CorrelationInstance instance) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(instance.getCorrelationId(), new Entry(instance, nanoTime.getAsLong()));
+        }
+    }
+
+    void invalidate(String encodedCorrelationId) {
+        synchronized (entries) {
+            entries.remove(encodedCorrelationId);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry(CorrelationInstance instance, long createdAt) {
+    }
+}
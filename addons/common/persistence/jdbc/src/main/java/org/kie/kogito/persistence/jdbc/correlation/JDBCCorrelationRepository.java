@@ -21,6 +21,13 @@ package org.kie.kogito.persistence.jdbc.correlation;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import javax.sql.DataSource;
@@ -32,6 +39,8 @@ import org.kie.kogito.correlation.SimpleCorrelation;
 import org.kie.kogito.jackson.utils.ObjectMapperFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
 public class JDBCCorrelationRepository {
@@ -40,23 +49,28 @@ public class JDBCCorrelationRepository {
     static final String DELETE = "DELETE FROM correlation_instances WHERE encoded_correlation_id = ?";
     private static final String FIND_BY_ENCODED_ID = "SELECT correlated_id, correlation FROM correlation_instances WHERE encoded_correlation_id = ?";
     private static final String FIND_BY_CORRELATED_ID = "SELECT encoded_correlation_id, correlation FROM correlation_instances WHERE correlated_id = ?";
+    private static final String FIND_CORRELATED_IDS = "SELECT encoded_correlation_id, correlated_id FROM correlation_instances WHERE encoded_correlation_id IN (%s)";
+    static final int BATCH_SIZE = 100;
 
     private DataSource dataSource;
-    private ObjectMapper objectMapper;
+    private ObjectWriter correlationWriter;
+    private ObjectReader correlationReader;
 
     public JDBCCorrelationRepository(DataSource dataSource) {
         this.dataSource = dataSource;
-        this.objectMapper = ObjectMapperFactory.get().copy();
+        ObjectMapper objectMapper = ObjectMapperFactory.get().copy();
 
         SimpleModule module = new SimpleModule();
         module.addAbstractTypeMapping(Correlation.class, SimpleCorrelation.class);
         objectMapper.registerModule(module);
+        this.correlationWriter = objectMapper.writer();
+        this.correlationReader = objectMapper.readerFor(CompositeCorrelation.class);
     }
 
     public CorrelationInstance insert(String encodedCorrelationId, String correlatedId, Correlation correlation) {
         try (Connection connection = dataSource.getConnection();
                 PreparedStatement statement = connection.prepareStatement(INSERT)) {
-            String correlationJson = objectMapper.writeValueAsString(correlation);
+            String correlationJson = correlationWriter.writeValueAsString(correlation);
             String id = UUID.randomUUID().toString();
             statement.setString(1, id);
             statement.setString(2, encodedCorrelationId);
@@ -80,7 +94,7 @@ public class JDBCCorrelationRepository {
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
                     String correlationJson = resultSet.getString("correlation");
-                    CompositeCorrelation correlation = objectMapper.readValue(correlationJson, CompositeCorrelation.class);
+                    CompositeCorrelation correlation = correlationReader.readValue(correlationJson);
                     String correlatedId = resultSet.getString("correlated_id");
                     return new CorrelationInstance(encodedCorrelationId, correlatedId, correlation);
                 }
@@ -91,6 +105,61 @@ public class JDBCCorrelationRepository {
         }
     }
 
+    /**
+     * Looks up the correlated ids of several encoded correlation ids using a single connection, without reading
+     * the stored correlations. Ids are queried in chunks of {@value #BATCH_SIZE}.
+     *
+     * @return correlated id by encoded correlation id, for the correlations found
+     */
+    public Map<String, String> findCorrelatedIds(Collection<String> encodedCorrelationIds) {
+        if (encodedCorrelationIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> correlatedIds = new HashMap<>();
+        List<String> ids = List.copyOf(encodedCorrelationIds);
+        try (Connection connection = dataSource.getConnection()) {
+            PreparedStatement fullBatch = null;
+            try {
+                for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                    List<String> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+                    if (batch.size() == BATCH_SIZE) {
+                        if (fullBatch == null) {
+                            fullBatch = connection.prepareStatement(findCorrelatedIdsQuery(BATCH_SIZE));
+                        }
+                        findCorrelatedIds(fullBatch, batch, correlatedIds);
+                    } else {
+                        try (PreparedStatement statement = connection.prepareStatement(findCorrelatedIdsQuery(batch.size()))) {
+                            findCorrelatedIds(statement, batch, correlatedIds);
+                        }
+                    }
+                }
+            } finally {
+                if (fullBatch != null) {
+                    fullBatch.close();
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return correlatedIds;
+    }
+
+    private static String findCorrelatedIdsQuery(int size) {
+        return String.format(FIND_CORRELATED_IDS, String.join(", ", Collections.nCopies(size, "?")));
+    }
+
+    private static void findCorrelatedIds(PreparedStatement statement, List<String> encodedCorrelationIds, Map<String, String> correlatedIds) throws SQLException {
+        Iterator<String> iterator = encodedCorrelationIds.iterator();
+        for (int i = 1; iterator.hasNext(); i++) {
+            statement.setString(i, iterator.next());
+        }
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                correlatedIds.put(resultSet.getString("encoded_correlation_id"), resultSet.getString("correlated_id"));
+            }
+        }
+    }
+
     public CorrelationInstance findByCorrelatedId(String correlatedId) {
         try (Connection connection = dataSource.getConnection();
                 PreparedStatement statement = connection.prepareStatement(FIND_BY_CORRELATED_ID)) {
@@ -98,7 +167,7 @@ public class JDBCCorrelationRepository {
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
                     String correlationJson = resultSet.getString("correlation");
-                    CompositeCorrelation correlation = objectMapper.readValue(correlationJson, CompositeCorrelation.class);
+                    CompositeCorrelation correlation = correlationReader.readValue(correlationJson);
                     String encodedCorrelationId = resultSet.getString("encoded_correlation_id");
                     return new CorrelationInstance(encodedCorrelationId, correlatedId, correlation);
                 }
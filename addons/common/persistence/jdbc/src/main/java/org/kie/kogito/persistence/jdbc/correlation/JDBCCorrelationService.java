@@ -18,6 +18,11 @@
  */
 package org.kie.kogito.persistence.jdbc.correlation;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.sql.DataSource;
@@ -28,26 +33,97 @@ import org.kie.kogito.correlation.CorrelationInstance;
 import org.kie.kogito.correlation.CorrelationService;
 import org.kie.kogito.event.correlation.MD5CorrelationEncoder;
 
+/**
+ * Correlation service backed by the <code>correlation_instances</code> table.
+ * <p>
+ * Correlations are looked up by their encoded id. Found instances can be kept in a bounded local cache, which is off
+ * unless a positive time to live is given. The cache is invalidated only when the correlation is created or deleted
+ * through this service, so with several nodes sharing the table a correlation deleted or replaced by another node may
+ * still resolve here, to its former correlated id, for up to the time to live.
+ */
 public class JDBCCorrelationService implements CorrelationService {
 
+    public static final int DEFAULT_CACHE_SIZE = 10000;
+    public static final Duration DEFAULT_CACHE_TIME_TO_LIVE = Duration.ZERO;
+
     private JDBCCorrelationRepository repository;
     private CorrelationEncoder correlationEncoder;
+    private CorrelationInstanceCache cache;
 
     public JDBCCorrelationService(DataSource dataSource) {
+        this(dataSource, DEFAULT_CACHE_SIZE, DEFAULT_CACHE_TIME_TO_LIVE);
+    }
+
+    /**
+     * @param cacheSize maximum number of cached correlation instances
+     * @param cacheTimeToLive how long a found instance is cached, zero disables the cache
+     */
+    public JDBCCorrelationService(DataSource dataSource, int cacheSize, Duration cacheTimeToLive) {
         this.repository = new JDBCCorrelationRepository(dataSource);
         this.correlationEncoder = new MD5CorrelationEncoder();
+        this.cache = new CorrelationInstanceCache(cacheSize, cacheTimeToLive);
     }
 
     @Override
     public CorrelationInstance create(Correlation correlation, String correlatedId) {
         String encodedCorrelationId = correlationEncoder.encode(correlation);
-        return repository.insert(encodedCorrelationId, correlatedId, correlation);
+        cache.invalidate(encodedCorrelationId);
+        CorrelationInstance instance = repository.insert(encodedCorrelationId, correlatedId, correlation);
+        if (instance != null) {
+            cache.put(instance);
+        }
+        return instance;
     }
 
     @Override
     public Optional<CorrelationInstance> find(Correlation correlation) {
         String encoded = correlationEncoder.encode(correlation);
-        return Optional.ofNullable(repository.findByEncodedCorrelationId(encoded));
+        CorrelationInstance instance = cache.get(encoded);
+        if (instance == null) {
+            Map<String, Correlation<?>> encodedCorrelation = Map.of(encoded, correlation);
+            instance = findAll(encodedCorrelation).get(encoded);
+        }
+        return Optional.ofNullable(instance);
+    }
+
+    /**
+     * Finds the instances of several correlations, querying the database once for those not cached.
+     *
+     * @return the instances found, by correlation
+     */
+    @Override
+    public Map<Correlation<?>, CorrelationInstance> find(Collection<? extends Correlation<?>> correlations) {
+        Map<String, Correlation<?>> encodedCorrelations = new LinkedHashMap<>();
+        correlations.forEach(correlation -> encodedCorrelations.put(correlationEncoder.encode(correlation), correlation));
+        Map<String, CorrelationInstance> instances = findAll(encodedCorrelations);
+        Map<Correlation<?>, CorrelationInstance> result = new HashMap<>();
+        encodedCorrelations.forEach((encoded, correlation) -> {
+            CorrelationInstance instance = instances.get(encoded);
+            if (instance != null) {
+                result.put(correlation, instance);
+            }
+        });
+        return result;
+    }
+
+    private Map<String, CorrelationInstance> findAll(Map<String, Correlation<?>> encodedCorrelations) {
+        Map<String, CorrelationInstance> instances = new HashMap<>();
+        encodedCorrelations.keySet().forEach(encoded -> {
+            CorrelationInstance instance = cache.get(encoded);
+            if (instance != null) {
+                instances.put(encoded, instance);
+            }
+        });
+        if (instances.size() < encodedCorrelations.size()) {
+            // the encoded id identifies the correlation, so the stored one does not need to be read back
+            repository.findCorrelatedIds(encodedCorrelations.keySet().stream().filter(encoded -> !instances.containsKey(encoded)).toList())
+                    .forEach((encoded, correlatedId) -> {
+                        CorrelationInstance instance = new CorrelationInstance(encoded, correlatedId, encodedCorrelations.get(encoded));
+                        cache.put(instance);
+                        instances.put(encoded, instance);
+                    });
+        }
+        return instances;
     }
 
     @Override
@@ -58,6 +134,7 @@ public class JDBCCorrelationService implements CorrelationService {
     @Override
     public void delete(Correlation correlation) {
         String encoded = correlationEncoder.encode(correlation);
+        cache.invalidate(encoded);
         repository.delete(encoded);
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.jdbc.correlation;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.correlation.CorrelationInstance;
+import org.kie.kogito.correlation.SimpleCorrelation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CorrelationInstanceCacheTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private static CorrelationInstance instance(String correlationId) {
+        return new CorrelationInstance(correlationId, correlationId + "-process", new SimpleCorrelation<>("key", correlationId));
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        CorrelationInstanceCache cache = new CorrelationInstanceCache(2, Duration.ofSeconds(30), nanoTime::get);
+        cache.put(instance("first"));
+        cache.put(instance("second"));
+        // reading keeps the entry, the least recently used one is evicted
+        assertThat(cache.get("first")).isNotNull();
+        cache.put(instance("third"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("second")).isNull();
+        assertThat(cache.get("first").getCorrelatedId()).isEqualTo("first-process");
+        assertThat(cache.get("third").getCorrelatedId()).isEqualTo("third-process");
+    }
+
+    @Test
+    public void testEntriesExpire() {
+        CorrelationInstanceCache cache = new CorrelationInstanceCache(10, Duration.ofSeconds(30), nanoTime::get);
+        cache.put(instance("first"));
+
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(cache.get("first")).isNotNull();
+
+        nanoTime.incrementAndGet();
+        assertThat(cache.get("first")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void testInvalidate() {
+        CorrelationInstanceCache cache = new CorrelationInstanceCache(10, Duration.ofSeconds(30), nanoTime::get);
+        cache.put(instance("first"));
+        cache.put(instance("second"));
+
+        cache.invalidate("first");
+
+        assertThat(cache.get("first")).isNull();
+        assertThat(cache.get("second")).isNotNull();
+    }
+
+    @Test
+    public void testZeroTimeToLiveDisablesCache() {
+        CorrelationInstanceCache cache = new CorrelationInstanceCache(10, Duration.ZERO, nanoTime::get);
+        cache.put(instance("first"));
+
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.get("first")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}
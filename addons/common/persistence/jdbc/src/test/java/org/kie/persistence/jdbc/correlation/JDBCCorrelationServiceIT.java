@@ -19,6 +19,8 @@
 package org.kie.persistence.jdbc.correlation;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.sql.DataSource;
@@ -27,6 +29,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.kie.flyway.initializer.KieFlywayInitializer;
 import org.kie.kogito.correlation.CompositeCorrelation;
+import org.kie.kogito.correlation.Correlation;
 import org.kie.kogito.correlation.CorrelationInstance;
 import org.kie.kogito.correlation.SimpleCorrelation;
 import org.kie.kogito.persistence.jdbc.correlation.JDBCCorrelationService;
@@ -89,4 +92,27 @@ public class JDBCCorrelationServiceIT {
         foundInstance = correlationService.findByCorrelatedId(correlatedId);
         assertThat(foundInstance).isEmpty();
     }
+
+    @Test
+    public void testFindCorrelations() {
+        CompositeCorrelation first = new CompositeCorrelation(Collections.singleton(new SimpleCorrelation<>("name", "first")));
+        CompositeCorrelation second = new CompositeCorrelation(Collections.singleton(new SimpleCorrelation<>("name", "second")));
+        CompositeCorrelation missing = new CompositeCorrelation(Collections.singleton(new SimpleCorrelation<>("name", "missing")));
+        correlationService.create(first, "firstId");
+        correlationService.create(second, "secondId");
+
+        // resolved by another service over the same table, as another node would
+        Map<Correlation<?>, CorrelationInstance> found = new JDBCCorrelationService(dataSource).find(List.of(first, second, missing));
+
+        assertThat(found).hasSize(2).doesNotContainKey(missing);
+        assertThat(found.get(first).getCorrelatedId()).isEqualTo("firstId");
+        assertThat(found.get(second).getCorrelatedId()).isEqualTo("secondId");
+        assertThat(found.get(second).getCorrelation()).isEqualTo(second);
+
+        correlationService.delete(first);
+        correlationService.delete(second);
+
+        assertThat(correlationService.find(first)).isEmpty();
+        assertThat(correlationService.find(List.of(first, second))).isEmpty();
+    }
 }
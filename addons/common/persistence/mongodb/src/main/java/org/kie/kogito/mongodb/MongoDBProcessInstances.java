@@ -19,17 +19,21 @@
 package org.kie.kogito.mongodb;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.codecs.configuration.CodecRegistries;
 import org.bson.codecs.configuration.CodecRegistry;
@@ -46,8 +50,11 @@ import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
 
+import com.mongodb.ErrorCategory;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoWriteException;
 import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
@@ -55,20 +62,53 @@ import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.UpdateResult;
 
+import static org.kie.kogito.mongodb.utils.DocumentConstants.DOCUMENT_ID;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.EVENT_TYPES;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.EVENT_TYPES_INDEX;
 import static org.kie.kogito.mongodb.utils.DocumentConstants.PROCESS_BUSINESS_KEY;
 import static org.kie.kogito.mongodb.utils.DocumentConstants.PROCESS_BUSINESS_KEY_INDEX;
 import static org.kie.kogito.mongodb.utils.DocumentConstants.PROCESS_INSTANCE_ID;
 import static org.kie.kogito.mongodb.utils.DocumentConstants.PROCESS_INSTANCE_ID_INDEX;
 
+/**
+ * Process instances stored in a MongoDB collection named after the process, one document per instance. The event types
+ * an instance waits for are kept in the indexed <code>eventTypes</code> array of its document.
+ * <p>
+ * Previous versions kept the event types in a separate <code>&lt;process&gt;-events</code> collection. While that
+ * collection exists and is not retired, it is kept up to date and instances whose document has no event types (last
+ * written by a previous version) are looked up through it in batches, so both versions can run side by side during a
+ * rolling upgrade. Entries written by this version are flagged as <code>synced</code> so lookups skip them.
+ * <p>
+ * Once no previous version is running, start with <code>retireLegacyEvents</code> enabled: a <code>retired</code>
+ * marker is stored in the legacy collection, its event types are copied into the instance documents that do not have
+ * them yet and its entries are deleted. Instances still in compatibility mode check the marker periodically and stop
+ * writing to the legacy collection. The marker is also written when the collection is found to be dropped, so that
+ * entries recreated by a lagging write never switch compatibility back on.
+ */
 public class MongoDBProcessInstances<T extends Model> implements MutableProcessInstances<T> {
 
     private static final String VERSION = "version";
+    private static final String LEGACY_EVENTS_SUFFIX = "-events";
+    private static final String LEGACY_RETIRED_MARKER = "retired";
+    private static final String LEGACY_SYNCED = "synced";
+    private static final long LEGACY_CHECK_INTERVAL_MILLIS = 10_000L;
+    private static final int BATCH_SIZE = 100;
     private org.kie.kogito.process.Process<?> process;
     private ProcessInstanceMarshallerService marshaller;
+    private final ProcessInstanceDocumentConverter converter;
     private final MongoCollection<Document> collection;
-    private final MongoCollection<Document> events;
+    private final MongoCollection<BsonDocument> documents;
+    private final MongoDatabase database;
+    private final String legacyEventsName;
+    private volatile MongoCollection<Document> legacyEvents;
+    private volatile long legacyCheckedAt;
     private final AbstractTransactionManager transactionManager;
     private final boolean lock;
 
@@ -78,17 +118,82 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
 
     public MongoDBProcessInstances(MongoClient mongoClient, org.kie.kogito.process.Process<?> process, String dbName, AbstractTransactionManager transactionManager, boolean lock,
             HeadersPersistentConfig headersConfig) {
+        this(mongoClient, process, dbName, transactionManager, lock, headersConfig, false);
+    }
+
+    public MongoDBProcessInstances(MongoClient mongoClient, org.kie.kogito.process.Process<?> process, String dbName, AbstractTransactionManager transactionManager, boolean lock,
+            HeadersPersistentConfig headersConfig, boolean retireLegacyEvents) {
         this.process = process;
         this.collection = Objects.requireNonNull(getCollection(mongoClient, process.id(), dbName));
-        this.events = Objects.requireNonNull(getCollection(mongoClient, process.id() + "-events", dbName));
+        this.documents = collection.withDocumentClass(BsonDocument.class);
+        // instances are marshalled with the binary format and converted straight into bson
         this.marshaller = ProcessInstanceMarshallerService.newBuilder()
                 .withDefaultObjectMarshallerStrategies()
                 .withDefaultListeners()
-                .withContextEntry(MarshallerContextName.MARSHALLER_FORMAT, MarshallerContextName.MARSHALLER_FORMAT_JSON)
                 .withContextEntry(MarshallerContextName.MARSHALLER_HEADERS_CONFIG, headersConfig)
                 .build();
+        this.converter = new ProcessInstanceDocumentConverter();
         this.transactionManager = Objects.requireNonNull(transactionManager);
         this.lock = lock;
+        this.database = mongoClient.getDatabase(dbName);
+        this.legacyEventsName = process.id() + LEGACY_EVENTS_SUFFIX;
+        this.legacyEvents = findLegacyEvents();
+        this.legacyCheckedAt = System.currentTimeMillis();
+        if (legacyEvents != null && retireLegacyEvents) {
+            retireLegacyEvents(legacyEvents);
+            this.legacyEvents = null;
+        }
+    }
+
+    private MongoCollection<Document> findLegacyEvents() {
+        for (String collectionName : database.listCollectionNames()) {
+            if (collectionName.equals(legacyEventsName)) {
+                MongoCollection<Document> events = database.getCollection(legacyEventsName);
+                return events.find(Filters.eq(DOCUMENT_ID, LEGACY_RETIRED_MARKER)).first() == null ? events : null;
+            }
+        }
+        return null;
+    }
+
+    // the legacy collection is checked again from time to time, it is never switched back on once retired
+    private MongoCollection<Document> legacyEvents() {
+        MongoCollection<Document> events = legacyEvents;
+        long now = System.currentTimeMillis();
+        if (events != null && now - legacyCheckedAt > LEGACY_CHECK_INTERVAL_MILLIS) {
+            legacyCheckedAt = now;
+            events = findLegacyEvents();
+            if (events == null) {
+                legacyEvents = null;
+                markLegacyEventsRetired(database.getCollection(legacyEventsName));
+            }
+        }
+        return events;
+    }
+
+    private static void markLegacyEventsRetired(MongoCollection<Document> events) {
+        events.replaceOne(Filters.eq(DOCUMENT_ID, LEGACY_RETIRED_MARKER), new Document(DOCUMENT_ID, LEGACY_RETIRED_MARKER), new ReplaceOptions().upsert(true));
+    }
+
+    private void retireLegacyEvents(MongoCollection<Document> events) {
+        markLegacyEventsRetired(events);
+        // entries written by this version are already reflected in the instance documents
+        Bson filters = Filters.and(Filters.exists(PROCESS_INSTANCE_ID), Filters.ne(LEGACY_SYNCED, true));
+        List<WriteModel<Document>> updates = new ArrayList<>();
+        try (MongoCursor<Document> cursor = events.find(filters).batchSize(BATCH_SIZE).iterator()) {
+            while (cursor.hasNext()) {
+                Document legacyDocument = cursor.next();
+                updates.add(new UpdateOneModel<>(Filters.and(Filters.eq(PROCESS_INSTANCE_ID, legacyDocument.getString(PROCESS_INSTANCE_ID)), Filters.exists(EVENT_TYPES, false)),
+                        Updates.set(EVENT_TYPES, legacyDocument.getList(EVENT_TYPES, String.class, List.of()))));
+                if (updates.size() == BATCH_SIZE) {
+                    collection.bulkWrite(updates);
+                    updates.clear();
+                }
+            }
+        }
+        if (!updates.isEmpty()) {
+            collection.bulkWrite(updates);
+        }
+        events.deleteMany(Filters.ne(DOCUMENT_ID, LEGACY_RETIRED_MARKER));
     }
 
     @Override
@@ -104,34 +209,78 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
     @Override
     public Stream<ProcessInstance<T>> waitingForEventType(String eventType, ProcessInstanceReadMode mode) {
         ClientSession clientSession = transactionManager.getClientSession();
-        Bson eventTypeFilter = new Document("eventTypes", eventType);
-        List<String> processInstancesId = new ArrayList<>();
-        if (clientSession != null) {
-            events.find(clientSession, eventTypeFilter).forEach(e -> processInstancesId.add(e.getString("id")));
-        } else {
-            events.find(eventTypeFilter).forEach(e -> processInstancesId.add(e.getString("id")));
+        Stream<BsonDocument> docs = query(clientSession, Filters.eq(EVENT_TYPES, eventType), null);
+        MongoCollection<Document> events = legacyEvents();
+        if (events != null) {
+            docs = Stream.concat(docs, legacyWaitingFor(events, eventType, clientSession, null));
         }
-        Bson filters = Filters.in("id", processInstancesId);
-        MongoCursor<Document> docs = (clientSession == null ? collection.find(filters) : collection.find(clientSession, filters)).iterator();
-        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(docs, Spliterator.ORDERED), false).map(doc -> unmarshall(doc, mode)).onClose(docs::close);
+        return docs.map(doc -> unmarshall(doc, mode));
+    }
+
+    @Override
+    public boolean existsWaitingFor(String eventType) {
+        ClientSession clientSession = transactionManager.getClientSession();
+        Bson filters = Filters.eq(EVENT_TYPES, eventType);
+        if ((clientSession == null ? documents.find(filters) : documents.find(clientSession, filters)).projection(Projections.include(DOCUMENT_ID)).first() != null) {
+            return true;
+        }
+        MongoCollection<Document> events = legacyEvents();
+        if (events == null) {
+            return false;
+        }
+        try (Stream<BsonDocument> docs = legacyWaitingFor(events, eventType, clientSession, Projections.include(DOCUMENT_ID))) {
+            return docs.findAny().isPresent();
+        }
+    }
+
+    // instances last written by a previous version only have their event types in the legacy collection,
+    // their ids are resolved in batches rather than in a single unbounded $in
+    private Stream<BsonDocument> legacyWaitingFor(MongoCollection<Document> events, String eventType, ClientSession clientSession, Bson projection) {
+        Bson filters = Filters.and(Filters.eq(EVENT_TYPES, eventType), Filters.ne(LEGACY_SYNCED, true));
+        MongoCursor<Document> legacyDocuments = (clientSession == null ? events.find(filters) : events.find(clientSession, filters))
+                .projection(Projections.include(PROCESS_INSTANCE_ID)).batchSize(BATCH_SIZE).iterator();
+        Iterator<List<String>> batches = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return legacyDocuments.hasNext();
+            }
+
+            @Override
+            public List<String> next() {
+                List<String> ids = new ArrayList<>(BATCH_SIZE);
+                while (ids.size() < BATCH_SIZE && legacyDocuments.hasNext()) {
+                    ids.add(legacyDocuments.next().getString(PROCESS_INSTANCE_ID));
+                }
+                return ids;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED), false).onClose(legacyDocuments::close)
+                .flatMap(ids -> query(clientSession, Filters.and(Filters.exists(EVENT_TYPES, false), Filters.in(PROCESS_INSTANCE_ID, ids)), projection));
+    }
+
+    private Stream<BsonDocument> query(ClientSession clientSession, Bson filters, Bson projection) {
+        FindIterable<BsonDocument> results = clientSession == null ? documents.find(filters) : documents.find(clientSession, filters);
+        MongoCursor<BsonDocument> docs = results.projection(projection).batchSize(BATCH_SIZE).iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(docs, Spliterator.ORDERED), false).onClose(docs::close);
     }
 
     @Override
     public Stream<ProcessInstance<T>> stream(ProcessInstanceReadMode mode) {
         ClientSession clientSession = transactionManager.getClientSession();
-        MongoCursor<Document> docs = (clientSession == null ? collection.find() : collection.find(clientSession)).iterator();
+        MongoCursor<BsonDocument> docs = (clientSession == null ? documents.find() : documents.find(clientSession)).iterator();
         return StreamSupport.stream(Spliterators.spliteratorUnknownSize(docs, Spliterator.ORDERED), false).map(doc -> unmarshall(doc, mode)).onClose(docs::close);
     }
 
-    private ProcessInstance<T> unmarshall(Document document, ProcessInstanceReadMode mode) {
-        ProcessInstance<T> instance = (ProcessInstance<T>) marshaller.unmarshallProcessInstance(document.toJson().getBytes(), process, mode);
-        setVersion(instance, document.getLong(VERSION));
+    private ProcessInstance<T> unmarshall(BsonDocument document, ProcessInstanceReadMode mode) {
+        ProcessInstance<T> instance = (ProcessInstance<T>) marshaller.unmarshallProcessInstance(converter.toBytes(document), process, mode);
+        setVersion(instance, getVersion(document));
         connectProcessInstance(instance, instance.id());
         return instance;
     }
 
-    private Set<String> getUniqueEvents(ProcessInstance<T> instance) {
-        return Stream.of(((AbstractProcessInstance<T>) instance).internalGetProcessInstance().getEventTypes()).collect(Collectors.toCollection(HashSet::new));
+    private BsonArray getUniqueEvents(ProcessInstance<T> instance) {
+        return Stream.of(((AbstractProcessInstance<T>) instance).internalGetProcessInstance().getEventTypes()).distinct().<BsonValue> map(BsonString::new)
+                .collect(Collectors.toCollection(BsonArray::new));
     }
 
     @Override
@@ -148,52 +297,65 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
 
     protected void updateStorage(String id, ProcessInstance<T> instance, boolean checkDuplicates) {
         ClientSession clientSession = transactionManager.getClientSession();
-        Document doc = Document.parse(new String(marshaller.marshallProcessInstance(instance)));
-        Set<String> eventTypes = getUniqueEvents(instance);
+        BsonDocument doc = converter.toDocument(marshaller.marshallProcessInstance(instance));
+        BsonArray eventTypes = getUniqueEvents(instance);
+        doc.put(EVENT_TYPES, eventTypes);
         if (checkDuplicates) {
-            createInternal(id, clientSession, doc, eventTypes);
+            createInternal(id, clientSession, doc);
         } else {
-            updateInternal(id, instance, clientSession, doc, eventTypes);
+            updateInternal(id, instance, clientSession, doc);
         }
+        updateLegacyEvents(id, clientSession, eventTypes);
         connectProcessInstance(instance, id);
     }
 
-    private void createInternal(String id, ClientSession clientSession, Document doc, Set<String> eventTypes) {
-        if (exists(id)) {
-            throw new ProcessInstanceDuplicatedException(id);
+    // previous versions still running only look for waiting instances in the legacy collection
+    private void updateLegacyEvents(String id, ClientSession clientSession, BsonArray eventTypes) {
+        MongoCollection<Document> events = legacyEvents();
+        if (events == null) {
+            return;
+        }
+        Document legacyDocument = new Document()
+                .append(PROCESS_INSTANCE_ID, id)
+                .append(EVENT_TYPES, eventTypes.stream().map(eventType -> eventType.asString().getValue()).collect(Collectors.toList()))
+                .append(LEGACY_SYNCED, true);
+        ReplaceOptions upsert = new ReplaceOptions().upsert(true);
+        if (clientSession != null) {
+            events.replaceOne(clientSession, Filters.eq(PROCESS_INSTANCE_ID, id), legacyDocument, upsert);
         } else {
-            Document eventsDocument = new Document()
-                    .append("id", id)
-                    .append("eventTypes", eventTypes);
-            doc.put(VERSION, 0L);
+            events.replaceOne(Filters.eq(PROCESS_INSTANCE_ID, id), legacyDocument, upsert);
+        }
+    }
+
+    private void createInternal(String id, ClientSession clientSession, BsonDocument doc) {
+        doc.put(VERSION, new BsonInt64(0L));
+        try {
             if (clientSession != null) {
-                collection.insertOne(clientSession, doc);
-                events.insertOne(clientSession, eventsDocument);
+                documents.insertOne(clientSession, doc);
             } else {
-                collection.insertOne(doc);
-                events.insertOne(eventsDocument);
+                documents.insertOne(doc);
+            }
+        } catch (MongoWriteException e) {
+            // the unique index on the process instance id rejects duplicates
+            if (e.getError().getCategory() == ErrorCategory.DUPLICATE_KEY) {
+                throw new ProcessInstanceDuplicatedException(id);
             }
+            throw e;
         }
     }
 
-    private void updateInternal(String id, ProcessInstance<T> instance, ClientSession clientSession, Document doc, Set<String> eventTypes) {
+    private void updateInternal(String id, ProcessInstance<T> instance, ClientSession clientSession, BsonDocument doc) {
         Bson filters = Filters.eq(PROCESS_INSTANCE_ID, id);
-        Bson eventsFilter = Filters.eq(PROCESS_INSTANCE_ID, id);
         UpdateResult result;
         if (lock) {
-            doc.put(VERSION, instance.version() + 1);
+            doc.put(VERSION, new BsonInt64(instance.version() + 1));
             filters = Filters.and(Filters.eq(PROCESS_INSTANCE_ID, id), Filters.eq(VERSION, instance.version()));
         }
-        Document eventsDocument = new Document()
-                .append("id", id)
-                .append("eventTypes", eventTypes);
 
         if (clientSession != null) {
-            result = collection.replaceOne(clientSession, filters, doc);
-            events.replaceOne(clientSession, eventsFilter, eventsDocument);
+            result = documents.replaceOne(clientSession, filters, doc);
         } else {
-            result = collection.replaceOne(filters, doc);
-            events.replaceOne(eventsFilter, eventsDocument);
+            result = documents.replaceOne(filters, doc);
         }
 
         if (lock && result.getModifiedCount() != 1) {
@@ -201,9 +363,9 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
         }
     }
 
-    private Optional<Document> find(String id, String key) {
+    private Optional<BsonDocument> find(String id, String key) {
         ClientSession clientSession = transactionManager.getClientSession();
-        return Optional.ofNullable((clientSession != null ? collection.find(clientSession, Filters.eq(key, id)) : collection.find(Filters.eq(key, id))).first());
+        return Optional.ofNullable((clientSession != null ? documents.find(clientSession, Filters.eq(key, id)) : documents.find(Filters.eq(key, id))).first());
     }
 
     @Override
@@ -216,20 +378,31 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
         ClientSession clientSession = transactionManager.getClientSession();
         if (clientSession != null) {
             collection.deleteOne(clientSession, Filters.eq(PROCESS_INSTANCE_ID, id));
-            events.deleteOne(clientSession, Filters.eq(PROCESS_INSTANCE_ID, id));
         } else {
             collection.deleteOne(Filters.eq(PROCESS_INSTANCE_ID, id));
-            events.deleteOne(Filters.eq(PROCESS_INSTANCE_ID, id));
+        }
+        MongoCollection<Document> events = legacyEvents();
+        if (events != null) {
+            if (clientSession != null) {
+                events.deleteOne(clientSession, Filters.eq(PROCESS_INSTANCE_ID, id));
+            } else {
+                events.deleteOne(Filters.eq(PROCESS_INSTANCE_ID, id));
+            }
         }
     }
 
     private void connectProcessInstance(ProcessInstance<T> instance, String id) {
         ((AbstractProcessInstance<?>) instance).internalSetReloadSupplier(marshaller.createdReloadFunction(() -> find(id, PROCESS_INSTANCE_ID).map(reloaded -> {
-            setVersion(instance, reloaded.getLong(VERSION));
-            return reloaded.toJson().getBytes();
+            setVersion(instance, getVersion(reloaded));
+            return converter.toBytes(reloaded);
         }).orElseThrow(() -> new IllegalArgumentException("process instance id " + id + " does not exists in mongodb"))));
     }
 
+    private static Long getVersion(BsonDocument document) {
+        BsonValue version = document.get(VERSION);
+        return version != null && version.isNumber() ? version.asNumber().longValue() : null;
+    }
+
     private static void setVersion(ProcessInstance<?> instance, Long version) {
         ((AbstractProcessInstance<?>) instance).setVersion(version == null ? 0L : version);
     }
@@ -252,6 +425,8 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
                 new IndexOptions().unique(true).name(PROCESS_INSTANCE_ID_INDEX).background(true));
         collection.createIndex(Indexes.ascending(PROCESS_BUSINESS_KEY),
                 new IndexOptions().name(PROCESS_BUSINESS_KEY_INDEX).background(true));
+        collection.createIndex(Indexes.ascending(EVENT_TYPES),
+                new IndexOptions().name(EVENT_TYPES_INDEX).background(true));
         return collection;
     }
 }
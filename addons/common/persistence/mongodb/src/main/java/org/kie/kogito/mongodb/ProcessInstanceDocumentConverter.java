@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.mongodb;
+
+import java.text.ParseException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.jbpm.flow.serialization.protobuf.KogitoProcessInstanceProtobuf;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.FloatValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.TypeRegistry;
+import com.google.protobuf.UInt32Value;
+import com.google.protobuf.UInt64Value;
+import com.google.protobuf.util.Timestamps;
+
+import static org.jbpm.flow.serialization.protobuf.ProtobufTypeRegistryFactory.protobufTypeRegistryFactoryInstance;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.VALUE;
+
+/**
+ * Converts the protobuf representation of a process instance into a {@link BsonDocument} and back, without going
+ * through JSON text.
+ * <p>
+ * Documents have the same layout the protobuf JSON format produces (json field names, maps as sub documents and
+ * {@code Any} as its content plus an {@code @type} entry), so they can be queried as before, but numbers and binaries
+ * are stored with their native BSON types. Documents written through the JSON format are still readable.
+ */
+public class ProcessInstanceDocumentConverter {
+
+    private static final String TYPE_URL = "@type";
+
+    private static final Set<String> WRAPPER_TYPES = Set.of(
+            BoolValue.getDescriptor().getFullName(),
+            BytesValue.getDescriptor().getFullName(),
+            DoubleValue.getDescriptor().getFullName(),
+            FloatValue.getDescriptor().getFullName(),
+            Int32Value.getDescriptor().getFullName(),
+            Int64Value.getDescriptor().getFullName(),
+            StringValue.getDescriptor().getFullName(),
+            UInt32Value.getDescriptor().getFullName(),
+            UInt64Value.getDescriptor().getFullName());
+
+    private final TypeRegistry typeRegistry;
+    private final Map<Descriptor, Map<String, FieldDescriptor>> fieldsByName = new ConcurrentHashMap<>();
+
+    public ProcessInstanceDocumentConverter() {
+        this(protobufTypeRegistryFactoryInstance().create());
+    }
+
+    public ProcessInstanceDocumentConverter(TypeRegistry typeRegistry) {
+        this.typeRegistry = typeRegistry;
+    }
+
+    /**
+     * Converts a process instance marshalled with the protobuf binary format into a document.
+     */
+    public BsonDocument toDocument(byte[] processInstance) {
+        try {
+            return writeMessage(KogitoProcessInstanceProtobuf.ProcessInstance.parseFrom(processInstance));
+        } catch (InvalidProtocolBufferException e) {
+            throw new DocumentMarshallingException(e);
+        }
+    }
+
+    /**
+     * Converts a document into a process instance in the protobuf binary format. Fields that are not part of the
+     * process instance, as the document id, are ignored.
+     */
+    public byte[] toBytes(BsonDocument document) {
+        KogitoProcessInstanceProtobuf.ProcessInstance.Builder builder = KogitoProcessInstanceProtobuf.ProcessInstance.newBuilder();
+        try {
+            mergeFields(document, builder);
+        } catch (InvalidProtocolBufferException | ParseException | RuntimeException e) {
+            throw new DocumentUnmarshallingException(e);
+        }
+        return builder.build().toByteArray();
+    }
+
+    private BsonDocument writeMessage(Message message) throws InvalidProtocolBufferException {
+        Descriptor descriptor = message.getDescriptorForType();
+        if (descriptor.getFullName().equals(Any.getDescriptor().getFullName())) {
+            return writeAny((String) message.getField(descriptor.findFieldByNumber(Any.TYPE_URL_FIELD_NUMBER)),
+                    (ByteString) message.getField(descriptor.findFieldByNumber(Any.VALUE_FIELD_NUMBER)));
+        }
+        BsonDocument document = new BsonDocument();
+        writeFields(message, document);
+        return document;
+    }
+
+    private void writeFields(Message message, BsonDocument document) throws InvalidProtocolBufferException {
+        for (Map.Entry<FieldDescriptor, Object> entry : message.getAllFields().entrySet()) {
+            FieldDescriptor field = entry.getKey();
+            if (field.isMapField()) {
+                FieldDescriptor keyField = field.getMessageType().findFieldByNumber(1);
+                FieldDescriptor valueField = field.getMessageType().findFieldByNumber(2);
+                BsonDocument map = new BsonDocument();
+                for (Object item : (List<?>) entry.getValue()) {
+                    Message mapEntry = (Message) item;
+                    map.put(String.valueOf(mapEntry.getField(keyField)), writeValue(valueField, mapEntry.getField(valueField)));
+                }
+                document.put(field.getJsonName(), map);
+            } else if (field.isRepeated()) {
+                BsonArray array = new BsonArray();
+                for (Object item : (List<?>) entry.getValue()) {
+                    array.add(writeValue(field, item));
+                }
+                document.put(field.getJsonName(), array);
+            } else {
+                document.put(field.getJsonName(), writeValue(field, entry.getValue()));
+            }
+        }
+    }
+
+    private BsonDocument writeAny(String typeUrl, ByteString value) throws InvalidProtocolBufferException {
+        Descriptor descriptor = findDescriptor(typeUrl);
+        Message content = DynamicMessage.parseFrom(descriptor, value);
+        BsonDocument document = new BsonDocument(TYPE_URL, new BsonString(typeUrl));
+        if (WRAPPER_TYPES.contains(descriptor.getFullName())) {
+            FieldDescriptor valueField = descriptor.findFieldByNumber(1);
+            document.put(VALUE, writeValue(valueField, content.getField(valueField)));
+        } else if (descriptor.getFullName().equals(Timestamp.getDescriptor().getFullName())) {
+            document.put(VALUE, new BsonString(Timestamps.toString(Timestamp.parseFrom(value))));
+        } else {
+            writeFields(content, document);
+        }
+        return document;
+    }
+
+    private BsonValue writeValue(FieldDescriptor field, Object value) throws InvalidProtocolBufferException {
+        switch (field.getJavaType()) {
+            case INT:
+                return isUnsigned(field) ? new BsonInt64(Integer.toUnsignedLong((Integer) value)) : new BsonInt32((Integer) value);
+            case LONG:
+                return new BsonInt64((Long) value);
+            case FLOAT:
+                return new BsonDouble((Float) value);
+            case DOUBLE:
+                return new BsonDouble((Double) value);
+            case BOOLEAN:
+                return BsonBoolean.valueOf((Boolean) value);
+            case STRING:
+                return new BsonString((String) value);
+            case BYTE_STRING:
+                return new BsonBinary(((ByteString) value).toByteArray());
+            case ENUM:
+                return new BsonString(((EnumValueDescriptor) value).getName());
+            case MESSAGE:
+                return writeMessage((Message) value);
+            default:
+                throw new IllegalArgumentException("Unsupported field type " + field.getJavaType() + " for field " + field.getFullName());
+        }
+    }
+
+    private void mergeFields(BsonDocument document, Message.Builder builder) throws InvalidProtocolBufferException, ParseException {
+        Map<String, FieldDescriptor> fields = fieldsByName.computeIfAbsent(builder.getDescriptorForType(), ProcessInstanceDocumentConverter::indexFields);
+        for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+            FieldDescriptor field = fields.get(entry.getKey());
+            BsonValue value = entry.getValue();
+            if (field == null || value.isNull()) {
+                continue;
+            }
+            if (field.isMapField()) {
+                FieldDescriptor keyField = field.getMessageType().findFieldByNumber(1);
+                FieldDescriptor valueField = field.getMessageType().findFieldByNumber(2);
+                for (Map.Entry<String, BsonValue> item : value.asDocument().entrySet()) {
+                    Message.Builder mapEntry = builder.newBuilderForField(field);
+                    mapEntry.setField(keyField, readValue(keyField, new BsonString(item.getKey()), mapEntry));
+                    mapEntry.setField(valueField, readValue(valueField, item.getValue(), mapEntry));
+                    builder.addRepeatedField(field, mapEntry.build());
+                }
+            } else if (field.isRepeated()) {
+                for (BsonValue item : value.asArray()) {
+                    builder.addRepeatedField(field, readValue(field, item, builder));
+                }
+            } else {
+                builder.setField(field, readValue(field, value, builder));
+            }
+        }
+    }
+
+    private Object readValue(FieldDescriptor field, BsonValue value, Message.Builder parent) throws InvalidProtocolBufferException, ParseException {
+        // documents stored through the json format keep 64 bit numbers and binaries as strings
+        switch (field.getJavaType()) {
+            case INT:
+                if (value.isNumber()) {
+                    return isUnsigned(field) ? (int) value.asNumber().longValue() : value.asNumber().intValue();
+                }
+                return isUnsigned(field) ? Integer.parseUnsignedInt(value.asString().getValue()) : Integer.parseInt(value.asString().getValue());
+            case LONG:
+                if (value.isNumber()) {
+                    return value.asNumber().longValue();
+                }
+                return isUnsigned(field) ? Long.parseUnsignedLong(value.asString().getValue()) : Long.parseLong(value.asString().getValue());
+            case FLOAT:
+                return value.isNumber() ? (float) value.asNumber().doubleValue() : Float.parseFloat(value.asString().getValue());
+            case DOUBLE:
+                return value.isNumber() ? value.asNumber().doubleValue() : Double.parseDouble(value.asString().getValue());
+            case BOOLEAN:
+                return value.isBoolean() ? value.asBoolean().getValue() : Boolean.parseBoolean(value.asString().getValue());
+            case STRING:
+                return value.asString().getValue();
+            case BYTE_STRING:
+                return ByteString.copyFrom(value.isBinary() ? value.asBinary().getData() : Base64.getDecoder().decode(value.asString().getValue()));
+            case ENUM:
+                return value.isNumber() ? field.getEnumType().findValueByNumber(value.asNumber().intValue()) : field.getEnumType().findValueByName(value.asString().getValue());
+            case MESSAGE:
+                if (field.getMessageType().getFullName().equals(Any.getDescriptor().getFullName())) {
+                    return readAny(value.asDocument());
+                }
+                Message.Builder builder = parent.newBuilderForField(field);
+                mergeFields(value.asDocument(), builder);
+                return builder.build();
+            default:
+                throw new IllegalArgumentException("Unsupported field type " + field.getJavaType() + " for field " + field.getFullName());
+        }
+    }
+
+    private Any readAny(BsonDocument document) throws InvalidProtocolBufferException, ParseException {
+        String typeUrl = document.getString(TYPE_URL).getValue();
+        Descriptor descriptor = findDescriptor(typeUrl);
+        ByteString content;
+        if (WRAPPER_TYPES.contains(descriptor.getFullName())) {
+            DynamicMessage.Builder builder = DynamicMessage.newBuilder(descriptor);
+            FieldDescriptor valueField = descriptor.findFieldByNumber(1);
+            if (document.containsKey(VALUE)) {
+                builder.setField(valueField, readValue(valueField, document.get(VALUE), builder));
+            }
+            content = builder.build().toByteString();
+        } else if (descriptor.getFullName().equals(Timestamp.getDescriptor().getFullName())) {
+            BsonValue value = document.get(VALUE);
+            content = (value.isDateTime() ? Timestamps.fromMillis(value.asDateTime().getValue()) : Timestamps.parse(value.asString().getValue())).toByteString();
+        } else {
+            DynamicMessage.Builder builder = DynamicMessage.newBuilder(descriptor);
+            mergeFields(document, builder);
+            content = builder.build().toByteString();
+        }
+        return Any.newBuilder().setTypeUrl(typeUrl).setValue(content).build();
+    }
+
+    private Descriptor findDescriptor(String typeUrl) throws InvalidProtocolBufferException {
+        Descriptor descriptor = typeRegistry.find(typeUrl.substring(typeUrl.lastIndexOf('/') + 1));
+        if (descriptor == null) {
+            throw new InvalidProtocolBufferException("Cannot find type for url: " + typeUrl);
+        }
+        return descriptor;
+    }
+
+    private static boolean isUnsigned(FieldDescriptor field) {
+        switch (field.getType()) {
+            case UINT32:
+            case FIXED32:
+            case UINT64:
+            case FIXED64:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static Map<String, FieldDescriptor> indexFields(Descriptor descriptor) {
+        Map<String, FieldDescriptor> fields = new HashMap<>();
+        for (FieldDescriptor field : descriptor.getFields()) {
+            fields.put(field.getName(), field);
+            fields.put(field.getJsonName(), field);
+        }
+        return fields;
+    }
+}
@@ -27,6 +27,8 @@ public class DocumentConstants {
     public static final String PROCESS_BUSINESS_KEY = "businessKey";
     public static final String PROCESS_INSTANCE_ID_INDEX = "index_process_instance_id";
     public static final String PROCESS_BUSINESS_KEY_INDEX = "index_process_instance_business_key";
+    public static final String EVENT_TYPES = "eventTypes";
+    public static final String EVENT_TYPES_INDEX = "index_process_instance_event_types";
     public static final String STRATEGIES = "strategies";
     public static final String NAME = "name";
     public static final String PROCESS_INSTANCE = "processInstance";
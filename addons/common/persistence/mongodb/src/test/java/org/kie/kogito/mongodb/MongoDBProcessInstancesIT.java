@@ -57,6 +57,9 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,6 +69,8 @@ import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STAT
 import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_COMPLETED;
 import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_ERROR;
 import static org.kie.kogito.mongodb.utils.DocumentConstants.DOCUMENT_ID;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.EVENT_TYPES;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.PROCESS_INSTANCE_ID;
 import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.abort;
 import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.abortFirst;
 import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.assertEmpty;
@@ -304,6 +309,71 @@ class MongoDBProcessInstancesIT {
         assertEmpty(instances);
     }
 
+    @Test
+    void testLegacyEventsCollectionIsKeptDuringUpgrade() {
+        MongoDatabase database = mongoClient.getDatabase(DB_NAME);
+        String legacyCollectionName = COLLECTION_NAME + "-events";
+        MongoCollection<Document> legacyEvents = database.getCollection(legacyCollectionName);
+        legacyEvents.insertOne(new Document(PROCESS_INSTANCE_ID, "previous").append(EVENT_TYPES, Collections.emptyList()));
+        try {
+            AbstractTransactionManager transactionManager = new AbstractTransactionManager(mongoClient, false) {
+            };
+            BpmnProcess process = createProcess(transactionManager, "BPMN2-UserTask.bpmn2");
+            ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+            processInstance.start();
+
+            // previous versions still running read the event types from the legacy collection
+            Document legacyDocument = legacyEvents.find(Filters.eq(PROCESS_INSTANCE_ID, processInstance.id())).first();
+            assertThat(legacyDocument).isNotNull();
+            List<String> eventTypes = legacyDocument.getList(EVENT_TYPES, String.class);
+            assertThat(eventTypes).isNotEmpty();
+
+            // an instance last written by a previous version has no event types in its document
+            database.getCollection(COLLECTION_NAME).updateOne(Filters.eq(PROCESS_INSTANCE_ID, processInstance.id()), Updates.unset(EVENT_TYPES));
+            legacyEvents.updateOne(Filters.eq(PROCESS_INSTANCE_ID, processInstance.id()), Updates.unset("synced"));
+            assertThat(process.instances().existsWaitingFor(eventTypes.get(0))).isTrue();
+            assertThat(process.instances().waitingForEventType(eventTypes.get(0), ProcessInstanceReadMode.READ_ONLY)).hasSize(1);
+
+            abortFirst(process.instances());
+            assertThat(legacyEvents.countDocuments(Filters.eq(PROCESS_INSTANCE_ID, processInstance.id()))).isZero();
+            assertThat(legacyEvents.countDocuments(Filters.eq(PROCESS_INSTANCE_ID, "previous"))).isOne();
+            assertThat(database.listCollectionNames()).contains(legacyCollectionName);
+        } finally {
+            legacyEvents.drop();
+        }
+    }
+
+    @Test
+    void testLegacyEventsCollectionIsRetired() {
+        MongoDatabase database = mongoClient.getDatabase(DB_NAME);
+        MongoCollection<Document> legacyEvents = database.getCollection(COLLECTION_NAME + "-events");
+        AbstractTransactionManager transactionManager = new AbstractTransactionManager(mongoClient, false) {
+        };
+        BpmnProcess process = createProcess(transactionManager, "BPMN2-UserTask.bpmn2");
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+        try {
+            // instance last written by a previous version
+            MongoCollection<Document> documents = database.getCollection(COLLECTION_NAME);
+            List<String> eventTypes = documents.find(Filters.eq(PROCESS_INSTANCE_ID, processInstance.id())).first().getList(EVENT_TYPES, String.class);
+            documents.updateOne(Filters.eq(PROCESS_INSTANCE_ID, processInstance.id()), Updates.unset(EVENT_TYPES));
+            legacyEvents.insertOne(new Document(PROCESS_INSTANCE_ID, processInstance.id()).append(EVENT_TYPES, eventTypes));
+
+            MongoDBProcessInstances<BpmnVariables> retired = new MongoDBProcessInstances<>(mongoClient, process, DB_NAME, transactionManager, false, null, true);
+            assertThat(documents.find(Filters.eq(PROCESS_INSTANCE_ID, processInstance.id())).first().getList(EVENT_TYPES, String.class)).containsExactlyElementsOf(eventTypes);
+            assertThat(legacyEvents.find()).extracting(document -> document.get(DOCUMENT_ID)).containsExactly("retired");
+            assertThat(retired.waitingForEventType(eventTypes.get(0), ProcessInstanceReadMode.READ_ONLY)).hasSize(1);
+
+            // the marker keeps instances started without the flag away from the retired collection
+            MongoDBProcessInstances<BpmnVariables> afterRetirement = new MongoDBProcessInstances<>(mongoClient, process, DB_NAME, transactionManager, false);
+            afterRetirement.update(processInstance.id(), processInstance);
+            assertThat(legacyEvents.countDocuments()).isOne();
+        } finally {
+            legacyEvents.drop();
+            abort(process.instances());
+        }
+    }
+
     private class MongoDBProcessInstancesFactory extends AbstractProcessInstancesFactory {
 
         public MongoDBProcessInstancesFactory(MongoClient mongoClient, AbstractTransactionManager transactionManager) {
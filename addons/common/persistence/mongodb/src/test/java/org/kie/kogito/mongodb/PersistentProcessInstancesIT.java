@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.Optional;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.jbpm.workflow.instance.WorkflowProcessInstance;
@@ -30,6 +31,7 @@ import org.kie.kogito.Application;
 import org.kie.kogito.Model;
 import org.kie.kogito.mongodb.transaction.AbstractTransactionManager;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceDuplicatedException;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.SignalFactory;
 import org.kie.kogito.process.bpmn2.BpmnProcess;
@@ -47,16 +49,20 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.MongoIterable;
 import com.mongodb.client.model.Filters;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_ACTIVE;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.EVENT_TYPES;
 import static org.kie.kogito.mongodb.utils.DocumentConstants.PROCESS_INSTANCE_ID;
 import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.abort;
 import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.assertEmpty;
 import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.assertOne;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -133,17 +139,31 @@ class PersistentProcessInstancesIT extends TestHelper {
         when(mongoDatabase.withCodecRegistry(any())).thenReturn(mongoDatabase);
         when(mongoDatabase.getCollection(anyString(), eq(Document.class))).thenReturn(mongoCollection);
         when(mongoCollection.withCodecRegistry(any())).thenReturn(mongoCollection);
+        when(mongoDatabase.getCollection(anyString())).thenReturn(mongoCollection);
+        MongoIterable<String> collectionNames = mock(MongoIterable.class);
+        MongoCursor<String> collectionNamesCursor = mock(MongoCursor.class);
+        when(collectionNames.iterator()).thenReturn(collectionNamesCursor);
+        when(mongoDatabase.listCollectionNames()).thenReturn(collectionNames);
+        MongoCollection<BsonDocument> bsonCollection = mock(MongoCollection.class);
+        when(mongoCollection.withDocumentClass(BsonDocument.class)).thenReturn(bsonCollection);
 
         MongoCursor<Document> cursor = mock(MongoCursor.class);
         when(cursor.hasNext()).thenReturn(false);
         FindIterable<Document> results = mock(FindIterable.class);
         when(results.first()).thenReturn(null);
         when(results.iterator()).thenReturn(cursor);
-        when(mongoCollection.find(eq(clientSession), any(Bson.class))).thenReturn(results);
-        when(mongoCollection.find(eq(clientSession))).thenReturn(results);
-        when(mongoCollection.find(any(Bson.class))).thenReturn(results);
         when(mongoCollection.find()).thenReturn(results);
 
+        MongoCursor<BsonDocument> bsonCursor = mock(MongoCursor.class);
+        when(bsonCursor.hasNext()).thenReturn(false);
+        FindIterable<BsonDocument> bsonResults = mock(FindIterable.class);
+        when(bsonResults.first()).thenReturn(null);
+        when(bsonResults.iterator()).thenReturn(bsonCursor);
+        when(bsonResults.batchSize(anyInt())).thenReturn(bsonResults);
+        when(bsonResults.projection(any())).thenReturn(bsonResults);
+        when(bsonCollection.find(eq(clientSession), any(Bson.class))).thenReturn(bsonResults);
+        when(bsonCollection.find(eq(clientSession))).thenReturn(bsonResults);
+
         String id = "testId";
 
         StaticProcessConfig config = new StaticProcessConfig();
@@ -155,13 +175,16 @@ class PersistentProcessInstancesIT extends TestHelper {
         MongoDBProcessInstances<BpmnVariables> mongodbInstance = new MongoDBProcessInstances<>(mongoClient, process, DB_NAME, transactionExecutor, false);
 
         mongodbInstance.findById(id, ProcessInstanceReadMode.READ_ONLY);
-        verify(mongoCollection, times(1)).find(eq(clientSession), eq(Filters.eq(PROCESS_INSTANCE_ID, id)));
+        verify(bsonCollection, times(1)).find(eq(clientSession), eq(Filters.eq(PROCESS_INSTANCE_ID, id)));
 
         mongodbInstance.exists(id);
-        verify(mongoCollection, times(2)).find(eq(clientSession), eq(Filters.eq(PROCESS_INSTANCE_ID, id)));
+        verify(bsonCollection, times(2)).find(eq(clientSession), eq(Filters.eq(PROCESS_INSTANCE_ID, id)));
+
+        mongodbInstance.existsWaitingFor("signal");
+        verify(bsonCollection, times(1)).find(eq(clientSession), eq(Filters.eq(EVENT_TYPES, "signal")));
 
         mongodbInstance.remove(id);
-        verify(mongoCollection, times(2)).deleteOne(eq(clientSession), eq(Filters.eq(PROCESS_INSTANCE_ID, id)));
+        verify(mongoCollection, times(1)).deleteOne(eq(clientSession), eq(Filters.eq(PROCESS_INSTANCE_ID, id)));
 
         WorkflowProcessInstance updatePi = ((AbstractProcessInstance<?>) process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")))).internalGetProcessInstance();
         updatePi.setId(id);
@@ -173,7 +196,7 @@ class PersistentProcessInstancesIT extends TestHelper {
         when(mockUpdateProcessInstance.process()).thenReturn(process);
 
         mongodbInstance.update(id, mockUpdateProcessInstance);
-        verify(mongoCollection, times(2)).replaceOne(eq(clientSession), eq(Filters.eq(PROCESS_INSTANCE_ID, id)), any());
+        verify(bsonCollection, times(1)).replaceOne(eq(clientSession), eq(Filters.eq(PROCESS_INSTANCE_ID, id)), any());
 
         WorkflowProcessInstance createPi = ((AbstractProcessInstance<?>) process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")))).internalGetProcessInstance();
         createPi.setId(id);
@@ -185,7 +208,20 @@ class PersistentProcessInstancesIT extends TestHelper {
         when(mockCreateProcessInstance.process()).thenReturn(process);
 
         mongodbInstance.create(id, mockCreateProcessInstance);
-        verify(mongoCollection, times(2)).insertOne(eq(clientSession), any());
+        verify(bsonCollection, times(1)).insertOne(eq(clientSession), any());
+        // creating does not look up the instance first
+        verify(bsonCollection, times(3)).find(eq(clientSession), any(Bson.class));
+    }
+
+    @Test
+    void testDuplicatedProcessInstance() {
+        BpmnProcess process = createProcess("BPMN2-UserTask.bpmn2");
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+
+        MongoDBProcessInstances<BpmnVariables> mongodbInstance = new MongoDBProcessInstances<>(getMongoClient(), process, DB_NAME, getDisabledMongoDBTransactionManager(), false);
+        assertThatThrownBy(() -> mongodbInstance.create(processInstance.id(), processInstance)).isInstanceOf(ProcessInstanceDuplicatedException.class);
+        abort(mongodbInstance);
     }
 
     @Test
@@ -199,6 +235,8 @@ class PersistentProcessInstancesIT extends TestHelper {
 
         pi1.workItems().forEach(wi -> pi1.completeWorkItem(wi.getId(), Collections.emptyMap()));
         pi2.workItems().forEach(wi -> pi2.completeWorkItem(wi.getId(), Collections.emptyMap()));
+        assertThat(fsInstances.existsWaitingFor("sig1")).isTrue();
+        assertThat(fsInstances.waitingForEventType("sig1", ProcessInstanceReadMode.READ_ONLY)).hasSize(1);
         process.send(SignalFactory.of("sig1", "SomeValue"));
         process.send(SignalFactory.of("sig2", "SomeValue"));
         assertThat(process.instances().stream().count()).isEqualTo(0);
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.mongodb;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.jbpm.flow.serialization.MarshallerContextName;
+import org.jbpm.flow.serialization.ProcessInstanceMarshallerService;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.Application;
+import org.kie.kogito.Model;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.bpmn2.BpmnProcess;
+import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.kie.kogito.process.bpmn2.StaticApplicationAssembler;
+import org.kie.kogito.process.impl.StaticProcessConfig;
+import org.kie.kogito.process.workitems.impl.DefaultKogitoWorkItemHandler;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.abort;
+
+class ProcessInstanceDocumentConverterTest {
+
+    ProcessInstanceMarshallerService marshaller = ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build();
+
+    ProcessInstanceMarshallerService jsonMarshaller =
+            ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies()
+                    .withContextEntries(singletonMap(MarshallerContextName.MARSHALLER_FORMAT, MarshallerContextName.MARSHALLER_FORMAT_JSON)).build();
+
+    ProcessInstanceDocumentConverter converter = new ProcessInstanceDocumentConverter();
+
+    private BpmnProcess newProcess() throws URISyntaxException, IOException {
+        StaticProcessConfig processConfig = StaticProcessConfig.newStaticProcessConfigBuilder()
+                .withWorkItemHandler("Human Task", new DefaultKogitoWorkItemHandler())
+                .build();
+
+        Application application = StaticApplicationAssembler.instance().newStaticApplication(null, processConfig, "BPMN2-UserTask.bpmn2");
+
+        org.kie.kogito.process.Processes container = application.get(org.kie.kogito.process.Processes.class);
+        String processId = container.processIds().stream().findFirst().get();
+        org.kie.kogito.process.Process<? extends Model> compiledProcess = container.processById(processId);
+
+        abort(compiledProcess.instances());
+        return (BpmnProcess) compiledProcess;
+    }
+
+    private Map<String, Object> variables() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("test", "testValue");
+        variables.put("number", 10);
+        variables.put("counter", 5L);
+        variables.put("flag", true);
+        variables.put("date", new Date(1000L));
+        return variables;
+    }
+
+    @Test
+    void testToDocument() throws Exception {
+        BpmnProcess process = newProcess();
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(singletonMap("test", "testValue")));
+        BsonDocument doc = converter.toDocument(marshaller.marshallProcessInstance(processInstance));
+        assertThat(doc).as("Converted value should not be null").isNotNull()
+                .containsEntry("id", new BsonString(processInstance.id()))
+                .containsEntry("description", new BsonString(processInstance.description()));
+        assertThat(doc.getDocument("context").getArray("variable")).hasSize(1);
+        BsonDocument variable = doc.getDocument("context").getArray("variable").get(0).asDocument();
+        assertThat(variable).containsEntry("name", new BsonString("test"));
+        assertThat(variable.getDocument("value")).containsEntry("value", new BsonString("testValue"));
+    }
+
+    @Test
+    void testRoundTrip() throws Exception {
+        BpmnProcess process = newProcess();
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(variables()));
+        processInstance.start();
+
+        BsonDocument doc = converter.toDocument(marshaller.marshallProcessInstance(processInstance));
+        doc.put("version", new BsonString("ignored"));
+        ProcessInstance<BpmnVariables> unmarshalled = (ProcessInstance<BpmnVariables>) marshaller.unmarshallProcessInstance(converter.toBytes(doc), process);
+
+        assertThat(unmarshalled.id()).isEqualTo(processInstance.id());
+        assertThat(unmarshalled.status()).isEqualTo(processInstance.status());
+        assertThat(unmarshalled.variables().toMap()).containsAllEntriesOf(variables());
+        assertThat(converter.toDocument(converter.toBytes(doc))).isEqualTo(converter.toDocument(marshaller.marshallProcessInstance(processInstance)));
+    }
+
+    @Test
+    void testReadJsonFormatDocument() throws Exception {
+        BpmnProcess process = newProcess();
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(variables()));
+        processInstance.start();
+
+        BsonDocument doc = BsonDocument.parse(new String(jsonMarshaller.marshallProcessInstance(processInstance)));
+        ProcessInstance<BpmnVariables> unmarshalled = (ProcessInstance<BpmnVariables>) marshaller.unmarshallProcessInstance(converter.toBytes(doc), process);
+
+        assertThat(unmarshalled.id()).isEqualTo(processInstance.id());
+        assertThat(unmarshalled.variables().toMap()).containsAllEntriesOf(variables());
+    }
+
+    @Test
+    void testUnknownType() {
+        BsonDocument doc = BsonDocument.parse("{\"id\": \"1\", \"context\": {\"variable\": [{\"name\": \"test\", \"value\": {\"@type\": \"type.googleapis.com/unknown.Type\"}}]}}");
+        assertThatThrownBy(() -> converter.toBytes(doc)).isInstanceOf(DocumentUnmarshallingException.class);
+    }
+}
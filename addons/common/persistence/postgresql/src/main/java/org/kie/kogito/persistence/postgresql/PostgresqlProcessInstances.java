@@ -64,8 +64,12 @@ public class PostgresqlProcessInstances<T extends Model> implements MutableProce
     private static final String UPDATE_WITH_LOCK = "UPDATE process_instances SET payload = $1, version = $2 WHERE process_id = $3 and id = $4 and version = $5 and process_version ";
     private static final String MIGRATE_BULK = "UPDATE process_instances SET process_id = $1, process_version = $2 WHERE process_id = $3 and process_version ";
     private static final String MIGRATE_INSTANCE = "UPDATE process_instances SET process_id = $1, process_version = $2 WHERE process_id = $3 and id = ANY ($4) and process_version ";
+    private static final String FIND_IDS = "SELECT id FROM process_instances WHERE process_id = $1 and id > $2 and process_version ";
     static final String FIND_ALL_WAITING_FOR_EVENT_TYPE =
             "SELECT payload, version FROM event_types, process_instances WHERE process_instances.id = event_types.process_instance_id AND event_type = $1 AND process_id = $2 AND process_version ";
+    static final String EXISTS_WAITING_FOR_EVENT_TYPE =
+            "SELECT 1 FROM event_types, process_instances WHERE process_instances.id = event_types.process_instance_id AND event_type = $1 AND process_id = $2 AND process_version ";
+    static final String LIMIT_ONE = " LIMIT 1";
     static final String DELETE_ALL_WAITING_FOR_EVENT_TYPE = "DELETE FROM event_types WHERE process_instance_id = $1";
     static final String INSERT_WAITING_FOR_EVENT_TYPE = "INSERT INTO event_types (process_instance_id, event_type) VALUES($1,$2)";
 
@@ -163,6 +167,20 @@ public class PostgresqlProcessInstances<T extends Model> implements MutableProce
 
     }
 
+    @Override
+    public boolean existsWaitingFor(String eventType) {
+        try {
+            Tuple parameters = tuple(eventType, process.id());
+            return getResultFromFuture(client.preparedQuery(EXISTS_WAITING_FOR_EVENT_TYPE + (process.version() == null ? IS_NULL : "= $3") + LIMIT_ONE).execute(parameters))
+                    .map(r -> r.iterator().hasNext()).orElse(false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw uncheckedException(e, "Error checking process instances, for processId %s waiting for %s", process.id(), eventType);
+        } catch (ExecutionException | TimeoutException e) {
+            throw uncheckedException(e, "Error checking process instances, for processId %s waiting for %s", process.id(), eventType);
+        }
+    }
+
     private ProcessInstance<T> unmarshall(Row r, ProcessInstanceReadMode mode) {
         AbstractProcessInstance<T> instance = (AbstractProcessInstance<T>) marshaller.unmarshallProcessInstance(r.getBuffer(PAYLOAD).getBytes(), process, mode);
         instance.setVersion(r.getLong(VERSION));
@@ -247,6 +265,41 @@ public class PostgresqlProcessInstances<T extends Model> implements MutableProce
         }
     }
 
+    @Override
+    public void migrateProcessInstancesOfVersion(String processVersion, String targetProcessId, String targetProcessVersion, String... processIds) {
+        try {
+            Tuple parameters = Tuple.of(targetProcessId, targetProcessVersion, process.id(), processIds);
+            if (processVersion != null) {
+                parameters.addValue(processVersion);
+            }
+            getExecutedResult(client.preparedQuery(MIGRATE_INSTANCE + (processVersion == null ? IS_NULL : "= $5")).execute(parameters));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw uncheckedException(e, "Error migrating process instances %s", Arrays.toString(processIds));
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error migrating process instances %s", Arrays.toString(processIds));
+        }
+    }
+
+    @Override
+    public List<String> findIds(String processVersion, String afterId, int limit) {
+        try {
+            Tuple parameters = Tuple.of(process.id(), afterId);
+            if (processVersion != null) {
+                parameters.addValue(processVersion);
+            }
+            String query = FIND_IDS + (processVersion == null ? IS_NULL : "= $3") + " ORDER BY id LIMIT " + limit;
+            return getResultFromFuture(client.preparedQuery(query).execute(parameters))
+                    .map(r -> StreamSupport.stream(r.spliterator(), false).map(row -> row.getString("id")).collect(Collectors.toList()))
+                    .orElse(List.of());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw uncheckedException(e, "Error finding process instance ids, for processId %s version %s", process.id(), processVersion);
+        } catch (ExecutionException | TimeoutException e) {
+            throw uncheckedException(e, "Error finding process instance ids, for processId %s version %s", process.id(), processVersion);
+        }
+    }
+
     private boolean updateInternal(String id, byte[] payload, String[] eventTypes) {
         try {
             Future<RowSet<Row>> future =
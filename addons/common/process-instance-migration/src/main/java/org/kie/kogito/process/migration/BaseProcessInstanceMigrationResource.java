@@ -18,7 +18,11 @@
  */
 package org.kie.kogito.process.migration;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
 import org.kie.kogito.Application;
@@ -30,12 +34,19 @@ import org.slf4j.LoggerFactory;
 
 public abstract class BaseProcessInstanceMigrationResource<T> implements ProcessInstanceMigration<T> {
 
+    // finished jobs stay available to the status endpoint for this long
+    static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
     Logger logger = LoggerFactory.getLogger(BaseProcessInstanceMigrationResource.class);
 
     private Supplier<Processes> processes;
 
     private Application application;
 
+    private final Map<String, ProcessInstanceMigrationJob> jobs = new ConcurrentHashMap<>();
+
+    private ExecutorService jobExecutor;
+
     public BaseProcessInstanceMigrationResource(Processes processes, Application application) {
         this(() -> processes, application);
     }
@@ -73,6 +84,65 @@ public abstract class BaseProcessInstanceMigrationResource<T> implements Process
         }
     }
 
+    public T doStartMigrationJob(String processId, ProcessMigrationSpec migrationSpec) {
+        try {
+            Process<? extends Model> process = processes.get().processById(processId);
+            if (process == null) {
+                return notFoundResponse("Process with id " + processId + " not found");
+            }
+            Process<? extends Model> target = processes.get().processById(migrationSpec.getTargetProcessId());
+            if (target == null || !Objects.equals(target.version(), migrationSpec.getTargetProcessVersion())) {
+                return badRequestResponse("Target process " + migrationSpec.getTargetProcessId() + " version " + migrationSpec.getTargetProcessVersion() + " is not deployed");
+            }
+            String sourceVersion = migrationSpec.getSourceProcessVersion() != null ? migrationSpec.getSourceProcessVersion() : process.version();
+            if (ProcessInstanceMigrationJob.isSameProcess(process, sourceVersion, target)) {
+                return badRequestResponse("Process " + processId + " version " + sourceVersion + " cannot be migrated to itself");
+            }
+            evictFinishedJobs();
+            ProcessInstanceMigrationJob job = new ProcessInstanceMigrationJob(process, target, application.unitOfWorkManager(), migrationSpec);
+            jobs.put(job.getId(), job);
+            getJobExecutor().execute(job);
+            return buildOkResponse(job.status());
+        } catch (Exception e) {
+            logger.error("An exception occurred starting the migration of process instances. ", e);
+            return badRequestResponse("An exception occurred starting the migration of process instances. Please check the logs for more information.");
+        }
+    }
+
+    public T doGetMigrationJob(String processId, String jobId) {
+        evictFinishedJobs();
+        ProcessInstanceMigrationJob job = jobs.get(jobId);
+        if (job == null || !job.getProcessId().equals(processId)) {
+            return notFoundResponse("Migration job " + jobId + " not found for process " + processId);
+        }
+        return buildOkResponse(job.status());
+    }
+
+    public T doCancelMigrationJob(String processId, String jobId) {
+        ProcessInstanceMigrationJob job = jobs.get(jobId);
+        if (job == null || !job.getProcessId().equals(processId)) {
+            return notFoundResponse("Migration job " + jobId + " not found for process " + processId);
+        }
+        job.cancel();
+        return buildOkResponse(job.status());
+    }
+
+    private void evictFinishedJobs() {
+        jobs.values().removeIf(job -> job.isFinishedFor(FINISHED_JOB_RETENTION));
+    }
+
+    // jobs run one at a time, so migrations do not compete with each other for the storage
+    private synchronized ExecutorService getJobExecutor() {
+        if (jobExecutor == null) {
+            jobExecutor = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "kogito-process-migration");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return jobExecutor;
+    }
+
     protected abstract <R> T buildOkResponse(R body);
 
     protected abstract T badRequestResponse(String message);
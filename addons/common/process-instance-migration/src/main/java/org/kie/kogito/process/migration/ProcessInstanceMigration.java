@@ -24,4 +24,10 @@ public interface ProcessInstanceMigration<T> {
 
     T migrateInstance(String processId, String processInstanceId, ProcessMigrationSpec migrationSpec);
 
+    T startMigrationJob(String processId, ProcessMigrationSpec migrationSpec);
+
+    T getMigrationJob(String processId, String jobId);
+
+    T cancelMigrationJob(String processId, String jobId);
+
 }
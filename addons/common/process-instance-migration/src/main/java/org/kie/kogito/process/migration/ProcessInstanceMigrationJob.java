@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.process.migration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.kie.kogito.Model;
+import org.kie.kogito.process.MutableProcessInstances;
+import org.kie.kogito.process.Process;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceReadMode;
+import org.kie.kogito.services.uow.UnitOfWorkExecutor;
+import org.kie.kogito.uow.UnitOfWorkManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Background migration of all the instances of a process version to a target process.
+ * <p>
+ * Instances are handled in batches, each one in its own unit of work: the persisted process definition is moved
+ * to the target and the instance is loaded and stored again, so the migration plan is applied once by the marshaller
+ * instead of on every load. The source version defaults to the deployed one, but can be any version still stored,
+ * e.g. the previous one after a redeployment.
+ * <p>
+ * Batches are pages of ids read from the storage by process id and version, keyed by the last id of the previous
+ * page, so no instance is loaded to build them. The storage is the durable checkpoint: migrated instances leave the
+ * source version, so a job started again after a cancellation or a restart carries on with the remaining ones. The
+ * cursor, reported in the status, only skips the instances that failed and can be passed as <code>resumeAfter</code>
+ * to avoid retrying them. Instances that cannot be migrated are reported and skipped.
+ */
+public class ProcessInstanceMigrationJob implements Runnable {
+
+    public enum State {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    static final int MAX_REPORTED_FAILURES = 100;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessInstanceMigrationJob.class);
+
+    private final String id = UUID.randomUUID().toString();
+    private final Process<? extends Model> source;
+    private final String sourceVersion;
+    private final Process<? extends Model> target;
+    private final UnitOfWorkManager unitOfWorkManager;
+    private final int batchSize;
+    private final long batchDelay;
+
+    private final AtomicLong migrated = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final Map<String, String> failures = new ConcurrentHashMap<>();
+    private volatile String cursor;
+    private volatile State state = State.PENDING;
+    private volatile boolean cancelled;
+    private volatile String lastMigratedId;
+    private volatile String error;
+    private volatile Instant startTime;
+    private volatile Instant endTime;
+
+    public ProcessInstanceMigrationJob(Process<? extends Model> source, Process<? extends Model> target, UnitOfWorkManager unitOfWorkManager, ProcessMigrationSpec migrationSpec) {
+        String sourceVersion = migrationSpec.getSourceProcessVersion() != null ? migrationSpec.getSourceProcessVersion() : source.version();
+        if (isSameProcess(source, sourceVersion, target)) {
+            throw new IllegalArgumentException("Process " + source.id() + " version " + sourceVersion + " cannot be migrated to itself");
+        }
+        this.source = source;
+        this.sourceVersion = sourceVersion;
+        this.target = target;
+        this.cursor = migrationSpec.getResumeAfter() != null ? migrationSpec.getResumeAfter() : "";
+        this.unitOfWorkManager = unitOfWorkManager;
+        this.batchSize = migrationSpec.getBatchSize() != null && migrationSpec.getBatchSize() > 0 ? migrationSpec.getBatchSize() : DEFAULT_BATCH_SIZE;
+        this.batchDelay = migrationSpec.getBatchDelay() != null ? Math.max(0, migrationSpec.getBatchDelay()) : 0;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getProcessId() {
+        return source.id();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * @return whether this job is over and has been for longer than the given duration
+     */
+    public boolean isFinishedFor(Duration duration) {
+        Instant end = endTime;
+        return end != null && end.plus(duration).isBefore(Instant.now());
+    }
+
+    public static boolean isSameProcess(Process<? extends Model> source, String sourceVersion, Process<? extends Model> target) {
+        return source.id().equals(target.id()) && Objects.equals(sourceVersion, target.version());
+    }
+
+    @Override
+    public void run() {
+        startTime = Instant.now();
+        state = State.RUNNING;
+        LOGGER.info("Starting migration job {} of process {} version {} to {} version {}", id, source.id(), sourceVersion, target.id(), target.version());
+        try {
+            List<String> batch;
+            while (!cancelled && !(batch = nextBatch()).isEmpty()) {
+                migrateBatch(batch);
+                cursor = batch.get(batch.size() - 1);
+                batches.incrementAndGet();
+                LOGGER.debug("Migration job {} completed batch {}, {} instances migrated, {} failed", id, batches.get(), migrated.get(), failures.size());
+                if (batchDelay > 0) {
+                    TimeUnit.MILLISECONDS.sleep(batchDelay);
+                }
+            }
+            state = cancelled ? State.CANCELLED : State.COMPLETED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state = State.CANCELLED;
+        } catch (RuntimeException e) {
+            LOGGER.error("Migration job {} of process {} failed", id, source.id(), e);
+            error = e.getMessage();
+            state = State.FAILED;
+        } finally {
+            endTime = Instant.now();
+        }
+        LOGGER.info("Migration job {} of process {} finished as {}, {} instances migrated, {} failed", id, source.id(), state, migrated.get(), failures.size());
+    }
+
+    private List<String> nextBatch() {
+        return source.instances().findIds(sourceVersion, cursor, batchSize);
+    }
+
+    private void migrateBatch(List<String> batch) {
+        try {
+            UnitOfWorkExecutor.executeInUnitOfWork(unitOfWorkManager, () -> {
+                source.instances().migrateProcessInstancesOfVersion(sourceVersion, target.id(), target.version(), batch.toArray(String[]::new));
+                batch.forEach(this::rewrite);
+                return null;
+            });
+            migrated.addAndGet(batch.size());
+            lastMigratedId = batch.get(batch.size() - 1);
+        } catch (UnsupportedOperationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            LOGGER.debug("Migration job {} batch failed, migrating its instances one by one", id, e);
+            batch.forEach(this::migrateOne);
+        }
+    }
+
+    private void migrateOne(String processInstanceId) {
+        try {
+            UnitOfWorkExecutor.executeInUnitOfWork(unitOfWorkManager, () -> {
+                source.instances().migrateProcessInstancesOfVersion(sourceVersion, target.id(), target.version(), processInstanceId);
+                rewrite(processInstanceId);
+                return null;
+            });
+            migrated.incrementAndGet();
+            lastMigratedId = processInstanceId;
+        } catch (RuntimeException e) {
+            LOGGER.warn("Migration job {} could not migrate process instance {}", id, processInstanceId, e);
+            failures.put(processInstanceId, String.valueOf(e.getMessage()));
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void rewrite(String processInstanceId) {
+        // loading applies the migration plan, storing makes it permanent
+        MutableProcessInstances instances = (MutableProcessInstances) target.instances();
+        ProcessInstance<?> instance = (ProcessInstance<?>) instances.findById(processInstanceId, ProcessInstanceReadMode.MUTABLE)
+                .orElseThrow(() -> new IllegalStateException("Process instance " + processInstanceId + " not found after moving it to " + target.id()));
+        instances.update(processInstanceId, instance);
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("jobId", id);
+        status.put("processId", source.id());
+        status.put("processVersion", sourceVersion);
+        status.put("targetProcessId", target.id());
+        status.put("targetProcessVersion", target.version());
+        status.put("state", state);
+        status.put("numberOfProcessInstanceMigrated", migrated.get());
+        status.put("numberOfProcessInstanceFailed", failures.size());
+        status.put("batches", batches.get());
+        status.put("lastMigratedProcessInstanceId", lastMigratedId);
+        status.put("cursor", cursor);
+        status.put("startTime", startTime != null ? startTime.toString() : null);
+        status.put("endTime", endTime != null ? endTime.toString() : null);
+        status.put("error", error);
+        status.put("failures", failures.entrySet().stream().limit(MAX_REPORTED_FAILURES)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        return status;
+    }
+}
@@ -24,6 +24,14 @@ public class ProcessMigrationSpec {
 
     private String targetProcessVersion;
 
+    private Integer batchSize;
+
+    private Long batchDelay;
+
+    private String sourceProcessVersion;
+
+    private String resumeAfter;
+
     public String getTargetProcessId() {
         return targetProcessId;
     }
@@ -40,4 +48,35 @@ public class ProcessMigrationSpec {
         this.targetProcessVersion = targetProcessVersion;
     }
 
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Long getBatchDelay() {
+        return batchDelay;
+    }
+
+    public void setBatchDelay(Long batchDelay) {
+        this.batchDelay = batchDelay;
+    }
+
+    public String getSourceProcessVersion() {
+        return sourceProcessVersion;
+    }
+
+    public void setSourceProcessVersion(String sourceProcessVersion) {
+        this.sourceProcessVersion = sourceProcessVersion;
+    }
+
+    public String getResumeAfter() {
+        return resumeAfter;
+    }
+
+    public void setResumeAfter(String resumeAfter) {
+        this.resumeAfter = resumeAfter;
+    }
 }
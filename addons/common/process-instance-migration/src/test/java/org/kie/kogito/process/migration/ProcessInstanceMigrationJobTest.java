@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.process.migration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.process.MutableProcessInstances;
+import org.kie.kogito.process.Process;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceReadMode;
+import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class ProcessInstanceMigrationJobTest {
+
+    private static final String FAILING_ID = "instance-13";
+
+    // stored instances of process_A, id to process version
+    private TreeMap<String, String> stored;
+    private Process source;
+    private Process target;
+    private MutableProcessInstances sourceInstances;
+    private MutableProcessInstances targetInstances;
+
+    @BeforeEach
+    public void init() {
+        stored = new TreeMap<>();
+        for (int i = 0; i < 25; i++) {
+            stored.put("instance-" + i, "1");
+        }
+
+        source = mock(Process.class);
+        target = mock(Process.class);
+        sourceInstances = mock(MutableProcessInstances.class);
+        targetInstances = mock(MutableProcessInstances.class);
+        when(source.id()).thenReturn("process_A");
+        when(source.version()).thenReturn("1");
+        when(source.instances()).thenReturn(sourceInstances);
+        when(target.id()).thenReturn("process_B");
+        when(target.version()).thenReturn("2");
+        when(target.instances()).thenReturn(targetInstances);
+
+        when(sourceInstances.findIds(any(), anyString(), anyInt())).thenAnswer(invocation -> stored.tailMap(invocation.getArgument(1), false).entrySet().stream()
+                .filter(entry -> entry.getValue().equals(invocation.getArgument(0)))
+                .map(Map.Entry::getKey)
+                .limit(invocation.<Integer> getArgument(2))
+                .collect(Collectors.toList()));
+        doAnswer(invocation -> {
+            String targetId = invocation.getArgument(1);
+            String targetVersion = invocation.getArgument(2);
+            List<String> ids = new ArrayList<>();
+            for (int i = 3; i < invocation.getArguments().length; i++) {
+                ids.add(invocation.getArgument(i));
+            }
+            if (ids.contains(FAILING_ID)) {
+                throw new IllegalStateException("Cannot migrate " + FAILING_ID);
+            }
+            ids.forEach(id -> {
+                if (targetId.equals("process_A")) {
+                    stored.put(id, targetVersion);
+                } else {
+                    stored.remove(id);
+                }
+            });
+            return null;
+        }).when(sourceInstances).migrateProcessInstancesOfVersion(any(), anyString(), anyString(), any(String[].class));
+        when(targetInstances.findById(anyString(), eq(ProcessInstanceReadMode.MUTABLE))).thenAnswer(invocation -> Optional.of(mock(ProcessInstance.class)));
+    }
+
+    @Test
+    public void testMigrationInBatches() {
+        ProcessInstanceMigrationJob job = newJob(10);
+        stored.remove(FAILING_ID);
+        job.run();
+
+        assertThat(job.getState()).isEqualTo(ProcessInstanceMigrationJob.State.COMPLETED);
+        assertThat(stored).isEmpty();
+        assertThat(job.status())
+                .containsEntry("numberOfProcessInstanceMigrated", 24L)
+                .containsEntry("numberOfProcessInstanceFailed", 0)
+                .containsEntry("batches", 3L);
+        verify(sourceInstances, times(3)).migrateProcessInstancesOfVersion(eq("1"), eq("process_B"), eq("2"), any(String[].class));
+        verify(targetInstances, times(24)).update(anyString(), any());
+        // paging reads ids only, instances are loaded once to be rewritten
+        verify(sourceInstances, never()).stream(any());
+        verify(targetInstances, times(24)).findById(anyString(), eq(ProcessInstanceReadMode.MUTABLE));
+    }
+
+    @Test
+    public void testFailingInstanceIsSkipped() {
+        ProcessInstanceMigrationJob job = newJob(10);
+        job.run();
+
+        assertThat(job.getState()).isEqualTo(ProcessInstanceMigrationJob.State.COMPLETED);
+        assertThat(stored).containsOnlyKeys(FAILING_ID);
+        assertThat(job.status())
+                .containsEntry("numberOfProcessInstanceMigrated", 24L)
+                .containsEntry("numberOfProcessInstanceFailed", 1)
+                .containsEntry("cursor", "instance-9");
+        assertThat((Map<String, String>) job.status().get("failures")).containsOnlyKeys(FAILING_ID);
+        verify(targetInstances, times(24)).update(anyString(), any());
+    }
+
+    @Test
+    public void testResumeAfterCursorSkipsFailedInstances() {
+        ProcessInstanceMigrationJob job = newJob(10);
+        job.run();
+
+        ProcessMigrationSpec spec = spec(10);
+        spec.setResumeAfter((String) job.status().get("cursor"));
+        ProcessInstanceMigrationJob resumed = new ProcessInstanceMigrationJob(source, target, new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory()), spec);
+        resumed.run();
+
+        assertThat(resumed.getState()).isEqualTo(ProcessInstanceMigrationJob.State.COMPLETED);
+        assertThat(resumed.status())
+                .containsEntry("numberOfProcessInstanceMigrated", 0L)
+                .containsEntry("numberOfProcessInstanceFailed", 0)
+                .containsEntry("batches", 0L);
+        assertThat(stored).containsOnlyKeys(FAILING_ID);
+    }
+
+    @Test
+    public void testRestartedJobCarriesOnWithRemainingInstances() {
+        stored.remove(FAILING_ID);
+        ProcessInstanceMigrationJob job = newJob(10);
+        job.cancel();
+        job.run();
+        assertThat(stored).hasSize(24);
+
+        // a new job starts from the beginning, the instances already migrated left the source version
+        stored.keySet().stream().limit(10).collect(Collectors.toList()).forEach(id -> stored.remove(id));
+        ProcessInstanceMigrationJob restarted = newJob(10);
+        restarted.run();
+
+        assertThat(restarted.getState()).isEqualTo(ProcessInstanceMigrationJob.State.COMPLETED);
+        assertThat(restarted.status()).containsEntry("numberOfProcessInstanceMigrated", 14L);
+        assertThat(stored).isEmpty();
+    }
+
+    @Test
+    public void testCancelledJob() {
+        ProcessInstanceMigrationJob job = newJob(10);
+        job.cancel();
+        job.run();
+
+        assertThat(job.getState()).isEqualTo(ProcessInstanceMigrationJob.State.CANCELLED);
+        assertThat(stored).hasSize(25);
+    }
+
+    @Test
+    public void testUnsupportedStorageFailsJob() {
+        doAnswer(invocation -> {
+            throw new UnsupportedOperationException("Migration not supported");
+        }).when(sourceInstances).migrateProcessInstancesOfVersion(any(), anyString(), anyString(), any(String[].class));
+        ProcessInstanceMigrationJob job = newJob(10);
+        job.run();
+
+        assertThat(job.getState()).isEqualTo(ProcessInstanceMigrationJob.State.FAILED);
+        assertThat(job.status()).containsEntry("error", "Migration not supported");
+        verify(sourceInstances, atLeastOnce()).findIds(eq("1"), anyString(), eq(10));
+    }
+
+    @Test
+    public void testMigrationToSameProcessVersionIsRejected() {
+        when(source.version()).thenReturn("2");
+        when(target.id()).thenReturn("process_A");
+
+        assertThatThrownBy(() -> newJob(10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testMigrationToNewVersionOfSameProcess() {
+        when(target.id()).thenReturn("process_A");
+        stored.remove(FAILING_ID);
+        ProcessInstanceMigrationJob job = newJob(10);
+        job.run();
+
+        assertThat(job.getState()).isEqualTo(ProcessInstanceMigrationJob.State.COMPLETED);
+        assertThat(job.status())
+                .containsEntry("numberOfProcessInstanceMigrated", 24L)
+                .containsEntry("batches", 3L);
+        assertThat(stored.values()).containsOnly("2");
+        verify(sourceInstances, times(3)).migrateProcessInstancesOfVersion(eq("1"), eq("process_A"), eq("2"), any(String[].class));
+        verify(targetInstances, times(24)).update(anyString(), any());
+    }
+
+    @Test
+    public void testMigrationOfPreviousVersionAfterRedeployment() {
+        // version 2 is deployed, the instances left on version 1 are migrated to it
+        when(source.version()).thenReturn("2");
+        when(target.id()).thenReturn("process_A");
+        stored.remove(FAILING_ID);
+        stored.put("instance-running-on-2", "2");
+        ProcessMigrationSpec spec = spec(10);
+        spec.setSourceProcessVersion("1");
+        ProcessInstanceMigrationJob job = new ProcessInstanceMigrationJob(source, target, new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory()), spec);
+        job.run();
+
+        assertThat(job.getState()).isEqualTo(ProcessInstanceMigrationJob.State.COMPLETED);
+        assertThat(job.status())
+                .containsEntry("processVersion", "1")
+                .containsEntry("numberOfProcessInstanceMigrated", 24L);
+        assertThat(stored.values()).containsOnly("2");
+        verify(targetInstances, never()).findById(eq("instance-running-on-2"), any());
+    }
+
+    @Test
+    public void testFinishedJob() {
+        ProcessInstanceMigrationJob job = newJob(10);
+        assertThat(job.isFinishedFor(Duration.ofSeconds(-1))).isFalse();
+
+        job.run();
+
+        assertThat(job.isFinishedFor(Duration.ofSeconds(-1))).isTrue();
+        assertThat(job.isFinishedFor(Duration.ofHours(1))).isFalse();
+    }
+
+    private ProcessInstanceMigrationJob newJob(int batchSize) {
+        return new ProcessInstanceMigrationJob(source, target, new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory()), spec(batchSize));
+    }
+
+    private static ProcessMigrationSpec spec(int batchSize) {
+        ProcessMigrationSpec spec = new ProcessMigrationSpec();
+        spec.setTargetProcessId("process_B");
+        spec.setTargetProcessVersion("2");
+        spec.setBatchSize(batchSize);
+        return spec;
+    }
+}
@@ -25,13 +25,19 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.drools.util.PathUtils;
 import org.kie.kogito.svg.dataindex.DataIndexClient;
 import org.kie.kogito.svg.dataindex.NodeInstance;
-import org.kie.kogito.svg.processor.SVGProcessor;
+import org.kie.kogito.svg.processor.SVGTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,12 +50,19 @@ public abstract class AbstractProcessSvgService implements ProcessSvgService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractProcessSvgService.class);
     public static final String SVG_RELATIVE_PATH = "META-INF/processSVG/";
+    private static final int MAX_TEMPLATES = 64;
+    private static final int MAX_RENDERED = 256;
     protected DataIndexClient dataIndexClient;
     protected Optional<String> svgResourcesPath;
     protected String completedColor;
     protected String completedBorderColor;
     protected String activeBorderColor;
 
+    private final Map<String, String> classPathSvgs = new ConcurrentHashMap<>();
+    private final Map<Path, FileSvg> fileSvgs = new ConcurrentHashMap<>();
+    private final Map<String, SVGTemplate> templates = new BoundedCache<>(MAX_TEMPLATES);
+    private final Map<RenderKey, String> rendered = new BoundedCache<>(MAX_RENDERED);
+
     public AbstractProcessSvgService() {
     }
 
@@ -80,7 +93,7 @@ public abstract class AbstractProcessSvgService implements ProcessSvgService {
                     }
                     return Optional.empty();
                 }
-                return Optional.of(new String(Files.readAllBytes(path)));
+                return Optional.of(readFile(path));
             } catch (IOException e) {
                 throw new ProcessSVGException("Exception trying to read SVG file", e);
             }
@@ -89,7 +102,28 @@ public abstract class AbstractProcessSvgService implements ProcessSvgService {
         }
     }
 
+    private String readFile(Path path) throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(path);
+        FileSvg cached = fileSvgs.get(path);
+        if (cached == null || !cached.lastModified().equals(lastModified)) {
+            cached = new FileSvg(lastModified, new String(Files.readAllBytes(path)));
+            fileSvgs.put(path, cached);
+        }
+        return cached.content();
+    }
+
     protected Optional<String> readFileContentFromClassPath(String fileName) {
+        String cached = classPathSvgs.get(fileName);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<String> content = loadFileContentFromClassPath(fileName);
+        // missing files are not cached, the name comes from the request
+        content.ifPresent(c -> classPathSvgs.put(fileName, c));
+        return content;
+    }
+
+    private Optional<String> loadFileContentFromClassPath(String fileName) {
         try (InputStream is = Thread.currentThread().getContextClassLoader().getResourceAsStream(SVG_RELATIVE_PATH + fileName)) {
             if (is == null) {
                 return Optional.empty();
@@ -109,16 +143,41 @@ public abstract class AbstractProcessSvgService implements ProcessSvgService {
             return Optional.of(svg);
         }
 
-        try (InputStream svgStream = new ByteArrayInputStream(svg.getBytes())) {
-            SVGProcessor processor = new SVGImageProcessor(svgStream).getProcessor();
-            completedNodes.forEach(nodeId -> processor.defaultCompletedTransformation(nodeId, completedColor, completedBorderColor));
-            activeNodes.forEach(nodeId -> processor.defaultActiveTransformation(nodeId, activeBorderColor));
-            return Optional.of(processor.getSVG());
+        try {
+            SVGTemplate template = getTemplate(svg);
+            RenderKey key = new RenderKey(template, new HashSet<>(completedNodes), new HashSet<>(activeNodes));
+            String result;
+            synchronized (rendered) {
+                result = rendered.get(key);
+            }
+            if (result == null) {
+                result = template.render(key.completed(), key.active(), completedColor, completedBorderColor, activeBorderColor);
+                synchronized (rendered) {
+                    rendered.put(key, result);
+                }
+            }
+            return Optional.of(result);
         } catch (Exception e) {
             throw new ProcessSVGException("Failed to annotated SVG for process instance", e);
         }
     }
 
+    private SVGTemplate getTemplate(String svg) throws IOException {
+        SVGTemplate template;
+        synchronized (templates) {
+            template = templates.get(svg);
+        }
+        if (template == null) {
+            try (InputStream svgStream = new ByteArrayInputStream(svg.getBytes())) {
+                template = new SVGImageProcessor(svgStream).getProcessor().toTemplate();
+            }
+            synchronized (templates) {
+                templates.put(svg, template);
+            }
+        }
+        return template;
+    }
+
     @Override
     public Optional<String> getProcessInstanceSvg(String processId, String processInstanceId, String authHeader) {
         Optional<String> processSvg = getProcessSvg(processId);
@@ -131,4 +190,27 @@ public abstract class AbstractProcessSvgService implements ProcessSvgService {
             return Optional.empty();
         }
     }
+
+    private record FileSvg(FileTime lastModified, String content) {
+    }
+
+    private record RenderKey(SVGTemplate template, Set<String> completed, Set<String> active) {
+    }
+
+    private static class BoundedCache<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        private BoundedCache(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxSize;
+        }
+    }
 }
@@ -59,15 +59,29 @@ public abstract class AbstractSVGProcessor implements SVGProcessor {
 
     @Override
     public String getSVG() {
+        fitViewBox();
+        return serialize();
+    }
+
+    @Override
+    public SVGTemplate toTemplate() {
+        fitViewBox();
+        SVGTemplate.Builder builder = new SVGTemplate.Builder(summary);
+        return builder.build(serialize());
+    }
+
+    private void fitViewBox() {
+        Element root = (Element) svgDocument.getFirstChild();
+        root.setAttribute("viewBox", "0 0 " + root.getAttribute("width") + " " + root.getAttribute("height"));
+        root.removeAttribute("width");
+        root.removeAttribute("height");
+    }
+
+    private String serialize() {
         try (StringWriter writer = new StringWriter()) {
             DOMSource domSource = new DOMSource(svgDocument.getFirstChild());
             StreamResult result = new StreamResult(writer);
             Transformer transformer = transformerFactory.newTransformer();
-            ((Element) svgDocument.getFirstChild()).setAttribute("viewBox", "0 0 " +
-                    ((Element) svgDocument.getFirstChild()).getAttribute("width") + " " +
-                    ((Element) svgDocument.getFirstChild()).getAttribute("height"));
-            ((Element) svgDocument.getFirstChild()).removeAttribute("width");
-            ((Element) svgDocument.getFirstChild()).removeAttribute("height");
             transformer.transform(domSource, result);
             return writer.toString();
         } catch (TransformerException | IOException e) {
@@ -41,5 +41,11 @@ public interface SVGProcessor {
 
     String getSVG();
 
+    /**
+     * Builds a reusable template of the document for the default completed and active transformations.
+     * The processor must not be used afterwards.
+     */
+    SVGTemplate toTemplate();
+
     void processNodes(NodeList nodes);
 }
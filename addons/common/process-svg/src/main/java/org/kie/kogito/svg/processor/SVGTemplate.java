@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.svg.processor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.kogito.svg.ProcessSVGException;
+import org.kie.kogito.svg.model.NodeSummary;
+import org.kie.kogito.svg.model.RenderType;
+import org.kie.kogito.svg.model.SVGSummary;
+import org.w3c.dom.Element;
+
+/**
+ * Serialized SVG with a slot for every attribute the default completed and active transformations may change.
+ * <p>
+ * It is built once per diagram by {@link AbstractSVGProcessor#toTemplate()}; rendering an annotated diagram only
+ * concatenates the static text with the slot values, so no xml parsing nor serialization takes place.
+ * Instances are immutable and can be shared between threads.
+ */
+public class SVGTemplate {
+
+    // private use characters, not expected in diagrams produced by the editors
+    private static final String SLOT_START = "\uE000kogito-slot-";
+    private static final char SLOT_END = '\uE001';
+
+    private final String[] segments;
+    private final String[] attributes;
+    private final String[] originals;
+    private final Map<String, NodeSlots> nodes;
+
+    private SVGTemplate(String[] segments, String[] attributes, String[] originals, Map<String, NodeSlots> nodes) {
+        this.segments = segments;
+        this.attributes = attributes;
+        this.originals = originals;
+        this.nodes = nodes;
+    }
+
+    public String render(Collection<String> completedNodes, Collection<String> activeNodes, String completedColor, String completedBorderColor, String activeBorderColor) {
+        String[] values = new String[originals.length];
+        for (String nodeId : completedNodes) {
+            NodeSlots node = nodes.get(nodeId);
+            if (node != null && node.background >= 0) {
+                values[node.background] = completedColor;
+                node.setBorderColor(values, completedBorderColor);
+            }
+        }
+        for (String nodeId : activeNodes) {
+            NodeSlots node = nodes.get(nodeId);
+            if (node != null) {
+                node.setBorderColor(values, activeBorderColor);
+            }
+        }
+        StringBuilder sb = new StringBuilder(segments[segments.length - 1].length() * 2);
+        for (int i = 0; i < values.length; i++) {
+            sb.append(segments[i]);
+            String value = values[i] != null ? values[i] : originals[i];
+            if (value != null) {
+                sb.append(' ').append(attributes[i]).append("=\"");
+                escape(sb, value);
+                sb.append('"');
+            }
+        }
+        return sb.append(segments[values.length]).toString();
+    }
+
+    private static void escape(StringBuilder sb, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&':
+                    sb.append("&amp;");
+                    break;
+                case '<':
+                    sb.append("&lt;");
+                    break;
+                case '>':
+                    sb.append("&gt;");
+                    break;
+                case '"':
+                    sb.append("&quot;");
+                    break;
+                case '\n':
+                    sb.append("&#10;");
+                    break;
+                case '\r':
+                    sb.append("&#13;");
+                    break;
+                case '\t':
+                    sb.append("&#9;");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+    }
+
+    private static class NodeSlots {
+        private int background = -1;
+        private int borderWidth = -1;
+        private int border = -1;
+
+        private void setBorderColor(String[] values, String color) {
+            if (border >= 0) {
+                if (borderWidth >= 0) {
+                    values[borderWidth] = "2";
+                }
+                values[border] = color;
+            }
+        }
+    }
+
+    /**
+     * Replaces every attribute that can be annotated by a marker, so the slots can be located once the
+     * document is serialized. The document must not be used for anything else afterwards.
+     */
+    static class Builder {
+
+        private final List<String> attributes = new ArrayList<>();
+        private final List<String> originals = new ArrayList<>();
+        private final Map<Element, Map<String, Integer>> slots = new IdentityHashMap<>();
+        private final Map<String, NodeSlots> nodes = new HashMap<>();
+
+        Builder(SVGSummary summary) {
+            for (NodeSummary node : summary.getNodesMap().values()) {
+                NodeSlots nodeSlots = new NodeSlots();
+                if (node.getBackground() != null) {
+                    nodeSlots.background = slot(node.getBackground(), "fill");
+                }
+                if (node.getBorder() != null) {
+                    if (node.getRenderType().orElse(RenderType.STROKE) == RenderType.STROKE) {
+                        nodeSlots.borderWidth = slot(node.getBorder(), "stroke-width");
+                        nodeSlots.border = slot(node.getBorder(), "stroke");
+                    } else {
+                        nodeSlots.border = slot(node.getBorder(), "fill");
+                    }
+                }
+                nodes.put(node.getNodeId(), nodeSlots);
+            }
+        }
+
+        private int slot(Element element, String attribute) {
+            return slots.computeIfAbsent(element, k -> new HashMap<>()).computeIfAbsent(attribute, k -> {
+                int index = attributes.size();
+                attributes.add(attribute);
+                originals.add(element.hasAttribute(attribute) ? element.getAttribute(attribute) : null);
+                element.setAttribute(attribute, SLOT_START + index + SLOT_END);
+                return index;
+            });
+        }
+
+        SVGTemplate build(String serialized) {
+            int size = attributes.size();
+            String[] segments = new String[size + 1];
+            String[] orderedAttributes = new String[size];
+            String[] orderedOriginals = new String[size];
+            int[] positions = new int[size];
+            int from = 0;
+            for (int position = 0; position < size; position++) {
+                int index = serialized.indexOf(SLOT_START, from);
+                int markerEnd = index < 0 ? -1 : serialized.indexOf(SLOT_END, index);
+                if (markerEnd < 0) {
+                    throw new ProcessSVGException("Could not locate annotated attributes in serialized svg", null);
+                }
+                int slot = Integer.parseInt(serialized, index + SLOT_START.length(), markerEnd, 10);
+                String prefix = ' ' + attributes.get(slot) + "=\"";
+                int start = index - prefix.length();
+                if (start < from || !serialized.startsWith(prefix, start) || markerEnd + 1 >= serialized.length() || serialized.charAt(markerEnd + 1) != '"') {
+                    throw new ProcessSVGException("Could not locate attribute " + attributes.get(slot) + " in serialized svg", null);
+                }
+                segments[position] = serialized.substring(from, start);
+                orderedAttributes[position] = attributes.get(slot);
+                orderedOriginals[position] = originals.get(slot);
+                positions[slot] = position;
+                from = markerEnd + 2;
+            }
+            segments[size] = serialized.substring(from);
+            // slots are numbered as found in the summary, the template needs them in document order
+            for (NodeSlots node : nodes.values()) {
+                node.background = node.background >= 0 ? positions[node.background] : -1;
+                node.borderWidth = node.borderWidth >= 0 ? positions[node.borderWidth] : -1;
+                node.border = node.border >= 0 ? positions[node.border] : -1;
+            }
+            return new SVGTemplate(segments, orderedAttributes, orderedOriginals, nodes);
+        }
+    }
+}
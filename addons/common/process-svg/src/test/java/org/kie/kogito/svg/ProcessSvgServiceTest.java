@@ -96,6 +96,21 @@ public abstract class ProcessSvgServiceTest {
                 Collections.emptyList())).hasValue(getTravelsSVGFile());
     }
 
+    @Test
+    public void annotateExecutedPathCachedTest() throws Exception {
+        AbstractProcessSvgService svgService = getTestedProcessSvgService();
+        String svg = svgService.getProcessSvg(PROCESS_ID).get();
+        assertThat(svgService.getProcessSvg(PROCESS_ID)).containsSame(svg);
+
+        List<String> completed = Arrays.asList("_1A708F87-11C0-42A0-A464-0B7E259C426F");
+        String content = svgService.annotateExecutedPath(svg, completed, Collections.emptyList()).get();
+        assertThat(svgService.annotateExecutedPath(svg, completed, Collections.emptyList())).containsSame(content);
+        assertThat(svgService.annotateExecutedPath(svg, Collections.emptyList(), completed)).isPresent().doesNotContain(content);
+
+        Diff myDiff = new CustomSVGDiffer(content).withTest(Input.fromString(readFileContent("travels-expected.svg")));
+        assertThat(myDiff.hasDifferences()).isFalse();
+    }
+
     @Test
     public void readFileFromClassPathTest() throws Exception {
         assertThat(getTestedProcessSvgService().readFileContentFromClassPath("undefined")).isEmpty();
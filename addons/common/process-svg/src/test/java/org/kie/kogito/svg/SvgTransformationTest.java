@@ -38,8 +38,10 @@ import javax.xml.xpath.XPathFactory;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.svg.processor.SVGProcessor;
+import org.kie.kogito.svg.processor.SVGTemplate;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -102,6 +104,23 @@ public class SvgTransformationTest {
         validateNodesMarkedAsCompleted(svgDocument, completed, completedNodeColor);
     }
 
+    @Test
+    public void testTemplateRender() throws Exception {
+        List<String> completed = List.of("_1A708F87-11C0-42A0-A464-0B7E259C426F", "_24FBB8D6-EF2D-4DCC-846D-D8C5E21849D2");
+        List<String> active = List.of("_24FBB8D6-EF2D-4DCC-846D-D8C5E21849D2");
+        SVGTemplate template = new SVGImageProcessor(readTestFileContent()).getProcessor().toTemplate();
+
+        Document svgDocument = readSVG(template.render(completed, active, "#888888", "#888887", "#888886"));
+        validateNodesMarkedAsActive(svgDocument, active, "#888886");
+        validateNodesMarkedAsCompleted(svgDocument, List.of("_1A708F87-11C0-42A0-A464-0B7E259C426F"), "#888888");
+        assertThat(svgDocument.getFirstChild().getAttributes().getNamedItem("viewBox").getNodeValue()).isEqualTo("0 0 1748 632");
+
+        // the template is not modified by rendering
+        Document plainDocument = readSVG(template.render(List.of(), List.of(), "#888888", "#888887", "#888886"));
+        NodeList marked = (NodeList) xpath.compile("//*[@fill='#888888' or @stroke='#888886']").evaluate(plainDocument, XPathConstants.NODESET);
+        assertThat(marked.getLength()).isZero();
+    }
+
     // helper methods for verifying svg transformation
 
     @Test
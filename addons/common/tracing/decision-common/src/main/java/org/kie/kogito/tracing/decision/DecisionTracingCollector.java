@@ -18,11 +18,16 @@
  */
 package org.kie.kogito.tracing.decision;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -38,20 +43,34 @@ import org.kie.kogito.tracing.decision.terminationdetector.TerminationDetector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class DecisionTracingCollector {
+public class DecisionTracingCollector implements AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(DecisionTracingCollector.class);
+    private static final long EVICTION_INTERVAL_MILLIS = 1000L;
+    private static final int SAMPLING_BUCKETS = 10_000;
+    private static final int DROPPED_EVENTS_LOG_INTERVAL = 1000;
 
-    private final Map<String, List<EvaluateEvent>> cacheMap;
-    private final Map<String, TerminationDetector> terminationDetectorMap;
+    private final Partition[] partitions;
     private final Aggregator aggregator;
     private final Consumer<String> payloadConsumer;
     private final BiFunction<String, String, DMNModel> modelSupplier;
     private final Supplier<TerminationDetector> terminationDetectorSupplier;
     private final ConfigBean configBean;
+    private final long executionTtlNanos;
+    private final int sampledBuckets;
+
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong droppedTraces = new AtomicLong();
+    private final AtomicLong evictedTraces = new AtomicLong();
+    private volatile boolean running = true;
 
     public DecisionTracingCollector(Consumer<String> payloadConsumer, BiFunction<String, String, DMNModel> modelSupplier, ConfigBean configBean) {
-        this(new DefaultAggregator(), payloadConsumer, modelSupplier, CounterTerminationDetector::new, configBean);
+        this(payloadConsumer, modelSupplier, configBean, DecisionTracingCollectorConfig.synchronous());
+    }
+
+    public DecisionTracingCollector(Consumer<String> payloadConsumer, BiFunction<String, String, DMNModel> modelSupplier, ConfigBean configBean,
+            DecisionTracingCollectorConfig config) {
+        this(new DefaultAggregator(), payloadConsumer, modelSupplier, CounterTerminationDetector::new, configBean, config);
     }
 
     public DecisionTracingCollector(
@@ -60,31 +79,102 @@ public class DecisionTracingCollector {
             BiFunction<String, String, DMNModel> modelSupplier,
             Supplier<TerminationDetector> terminationDetectorSupplier,
             ConfigBean configBean) {
-        this.cacheMap = new ConcurrentHashMap<>();
-        this.terminationDetectorMap = new ConcurrentHashMap<>();
+        this(aggregator, payloadConsumer, modelSupplier, terminationDetectorSupplier, configBean, DecisionTracingCollectorConfig.synchronous());
+    }
+
+    public DecisionTracingCollector(
+            Aggregator aggregator,
+            Consumer<String> payloadConsumer,
+            BiFunction<String, String, DMNModel> modelSupplier,
+            Supplier<TerminationDetector> terminationDetectorSupplier,
+            ConfigBean configBean,
+            DecisionTracingCollectorConfig config) {
         this.aggregator = aggregator;
         this.payloadConsumer = payloadConsumer;
         this.modelSupplier = modelSupplier;
         this.terminationDetectorSupplier = terminationDetectorSupplier;
         this.configBean = configBean;
+        this.executionTtlNanos = config.getExecutionTtl().toNanos();
+        this.sampledBuckets = (int) Math.round(config.getSamplingRate() * SAMPLING_BUCKETS);
+
+        // executions are assigned to partitions by id, so all the events of an execution are handled by the same worker, in order
+        int partitionCount = config.isAsync() ? config.getWorkers() : Runtime.getRuntime().availableProcessors();
+        this.partitions = new Partition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new Partition(config.isAsync() ? new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity() / partitionCount)) : null);
+            if (config.isAsync()) {
+                Thread worker = new Thread(partitions[i], "kogito-tracing-decision-" + i);
+                worker.setDaemon(true);
+                worker.start();
+            }
+        }
     }
 
     public void addEvent(EvaluateEvent event) {
         LOG.trace("Received {}(executionId: {}, modelName: {}, modelNamespace: {})", event.getType(), event.getExecutionId(), event.getModelName(), event.getModelNamespace());
 
         String executionId = event.getExecutionId();
-        if (!cacheMap.containsKey(executionId)) {
-            cacheMap.put(executionId, new LinkedList<>());
-            terminationDetectorMap.put(executionId, terminationDetectorSupplier.get());
-            LOG.trace("Added evaluation {} to cache (current size: {})", executionId, cacheMap.size());
+        if (!isSampled(executionId)) {
+            return;
+        }
+        Partition partition = partitions[Math.floorMod(executionId.hashCode(), partitions.length)];
+        if (partition.queue == null) {
+            partition.handle(event);
+        } else if (!partition.queue.offer(event)) {
+            long dropped = droppedEvents.incrementAndGet();
+            if (dropped % DROPPED_EVENTS_LOG_INTERVAL == 1) {
+                LOG.warn("Decision tracing queue is full, {} event(s) dropped so far", dropped);
+            }
+            partition.markIncomplete(executionId);
         }
+    }
+
+    /**
+     * @return number of events discarded because the tracing queue was full
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * @return number of executions whose trace was not emitted, either because some of their events were dropped
+     *         or because they did not terminate within the configured time to live
+     */
+    public long getDroppedTraces() {
+        return droppedTraces.get() + evictedTraces.get();
+    }
 
-        cacheMap.get(executionId).add(event);
-        terminationDetectorMap.get(executionId).add(event);
+    /**
+     * @return number of executions evicted because they did not terminate within the configured time to live
+     */
+    public long getEvictedTraces() {
+        return evictedTraces.get();
+    }
 
-        if (terminationDetectorMap.get(executionId).isTerminated()) {
-            DMNModel dmnModel = modelSupplier.apply(event.getModelNamespace(), event.getModelName());
-            Optional<String> optPayload = aggregate(dmnModel, executionId, cacheMap.get(executionId));
+    /**
+     * @return number of executions currently waiting for termination
+     */
+    public int getPendingExecutions() {
+        int pending = 0;
+        for (Partition partition : partitions) {
+            pending += partition.size();
+        }
+        return pending;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+    }
+
+    private boolean isSampled(String executionId) {
+        return sampledBuckets >= SAMPLING_BUCKETS || Math.floorMod(executionId.hashCode(), SAMPLING_BUCKETS) < sampledBuckets;
+    }
+
+    private void emit(EvaluateEvent lastEvent, String executionId, List<EvaluateEvent> events) {
+        try {
+            DMNModel dmnModel = modelSupplier.apply(lastEvent.getModelNamespace(), lastEvent.getModelName());
+            Optional<String> optPayload = aggregate(dmnModel, executionId, events);
 
             if (optPayload.isPresent()) {
                 String payload = optPayload.get();
@@ -93,14 +183,117 @@ public class DecisionTracingCollector {
             } else {
                 LOG.error("Failed aggregating data for evaluation {}", executionId);
             }
-
-            cacheMap.remove(executionId);
-            terminationDetectorMap.remove(executionId);
-            LOG.trace("Removed evaluation {} from cache (current size: {})", executionId, cacheMap.size());
+        } catch (RuntimeException e) {
+            LOG.error("Failed aggregating data for evaluation {}", executionId, e);
         }
     }
 
     private Optional<String> aggregate(DMNModel model, String executionId, List<EvaluateEvent> events) {
         return aggregator.aggregate(model, executionId, events, configBean).flatMap(CloudEventUtils::encode);
     }
+
+    private static class Execution {
+
+        private final List<EvaluateEvent> events = new ArrayList<>();
+        private final TerminationDetector terminationDetector;
+        private long lastUpdate;
+        private boolean incomplete;
+
+        private Execution(TerminationDetector terminationDetector, long now) {
+            this.terminationDetector = terminationDetector;
+            this.lastUpdate = now;
+        }
+    }
+
+    private class Partition implements Runnable {
+
+        private final BlockingQueue<EvaluateEvent> queue;
+        private final Map<String, Execution> executions = new HashMap<>();
+        private long lastEviction = System.nanoTime();
+
+        private Partition(BlockingQueue<EvaluateEvent> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    EvaluateEvent event = queue.poll(EVICTION_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (event != null) {
+                        handle(event);
+                    } else {
+                        evictExpired(System.nanoTime());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    LOG.error("Unexpected error processing decision tracing event", e);
+                }
+            }
+        }
+
+        private void handle(EvaluateEvent event) {
+            String executionId = event.getExecutionId();
+            Execution completed = collect(executionId, event);
+            if (completed != null) {
+                if (completed.incomplete) {
+                    droppedTraces.incrementAndGet();
+                    LOG.debug("Discarded incomplete trace of evaluation {}", executionId);
+                } else {
+                    emit(event, executionId, completed.events);
+                }
+            }
+        }
+
+        private synchronized Execution collect(String executionId, EvaluateEvent event) {
+            long now = System.nanoTime();
+            Execution execution = executions.get(executionId);
+            if (execution == null) {
+                execution = new Execution(terminationDetectorSupplier.get(), now);
+                executions.put(executionId, execution);
+                LOG.trace("Added evaluation {} to cache (current size: {})", executionId, executions.size());
+            }
+            execution.events.add(event);
+            execution.terminationDetector.add(event);
+            execution.lastUpdate = now;
+
+            if (now - lastEviction > TimeUnit.MILLISECONDS.toNanos(EVICTION_INTERVAL_MILLIS)) {
+                evictExpired(now);
+            }
+            if (execution.terminationDetector.isTerminated()) {
+                executions.remove(executionId);
+                LOG.trace("Removed evaluation {} from cache (current size: {})", executionId, executions.size());
+                return execution;
+            }
+            return null;
+        }
+
+        private synchronized void markIncomplete(String executionId) {
+            Execution execution = executions.get(executionId);
+            if (execution == null) {
+                execution = new Execution(terminationDetectorSupplier.get(), System.nanoTime());
+                executions.put(executionId, execution);
+            }
+            execution.incomplete = true;
+        }
+
+        private synchronized void evictExpired(long now) {
+            lastEviction = now;
+            Iterator<Map.Entry<String, Execution>> iterator = executions.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Execution> entry = iterator.next();
+                if (now - entry.getValue().lastUpdate > executionTtlNanos) {
+                    iterator.remove();
+                    evictedTraces.incrementAndGet();
+                    LOG.debug("Evicted evaluation {} that did not terminate in time", entry.getKey());
+                }
+            }
+        }
+
+        private synchronized int size() {
+            return executions.size();
+        }
+    }
 }
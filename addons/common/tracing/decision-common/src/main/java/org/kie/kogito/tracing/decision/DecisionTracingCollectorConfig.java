@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.tracing.decision;
+
+import java.time.Duration;
+
+/**
+ * Tuning of the {@link DecisionTracingCollector} pipeline.
+ * <p>
+ * With a positive queue capacity events are buffered in bounded queues and aggregated by dedicated worker threads;
+ * events that do not fit are dropped instead of slowing down the evaluation. Otherwise they are aggregated on the
+ * calling thread. Executions that do not terminate within the time to live are evicted in both modes.
+ */
+public final class DecisionTracingCollectorConfig {
+
+    public static final String QUEUE_CAPACITY_PROPERTY = "kogito.addon.tracing.decision.queue.capacity";
+    public static final String WORKERS_PROPERTY = "kogito.addon.tracing.decision.workers";
+    public static final String EXECUTION_TTL_MILLIS_PROPERTY = "kogito.addon.tracing.decision.execution.ttlMillis";
+    public static final String SAMPLING_RATE_PROPERTY = "kogito.addon.tracing.decision.samplingRate";
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    public static final int DEFAULT_WORKERS = 1;
+    public static final long DEFAULT_EXECUTION_TTL_MILLIS = 60_000L;
+    public static final double DEFAULT_SAMPLING_RATE = 1.0;
+
+    private final int queueCapacity;
+    private final int workers;
+    private final Duration executionTtl;
+    private final double samplingRate;
+
+    public DecisionTracingCollectorConfig(int queueCapacity, int workers, Duration executionTtl, double samplingRate) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Decision tracing requires at least one worker, got " + workers);
+        }
+        if (samplingRate < 0 || samplingRate > 1) {
+            throw new IllegalArgumentException("Decision tracing sampling rate must be between 0 and 1, got " + samplingRate);
+        }
+        this.queueCapacity = Math.max(queueCapacity, 0);
+        this.workers = workers;
+        this.executionTtl = executionTtl;
+        this.samplingRate = samplingRate;
+    }
+
+    public static DecisionTracingCollectorConfig synchronous() {
+        return new DecisionTracingCollectorConfig(0, DEFAULT_WORKERS, Duration.ofMillis(DEFAULT_EXECUTION_TTL_MILLIS), DEFAULT_SAMPLING_RATE);
+    }
+
+    public static DecisionTracingCollectorConfig asynchronous() {
+        return new DecisionTracingCollectorConfig(DEFAULT_QUEUE_CAPACITY, DEFAULT_WORKERS, Duration.ofMillis(DEFAULT_EXECUTION_TTL_MILLIS), DEFAULT_SAMPLING_RATE);
+    }
+
+    public boolean isAsync() {
+        return queueCapacity > 0;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public Duration getExecutionTtl() {
+        return executionTtl;
+    }
+
+    public double getSamplingRate() {
+        return samplingRate;
+    }
+}
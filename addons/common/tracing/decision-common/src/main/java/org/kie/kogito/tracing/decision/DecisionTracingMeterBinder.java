@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.tracing.decision;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the health of a {@link DecisionTracingCollector} as Micrometer meters, so that dropped and evicted
+ * traces are visible without polling the collector.
+ */
+public class DecisionTracingMeterBinder implements MeterBinder {
+
+    static final String DROPPED_EVENTS_NAME = "kogito_tracing_decision_events_dropped";
+    static final String DROPPED_TRACES_NAME = "kogito_tracing_decision_traces_dropped";
+    static final String EVICTED_TRACES_NAME = "kogito_tracing_decision_traces_evicted";
+    static final String PENDING_EXECUTIONS_NAME = "kogito_tracing_decision_executions_pending";
+
+    private final DecisionTracingCollector collector;
+
+    public DecisionTracingMeterBinder(DecisionTracingCollector collector) {
+        this.collector = collector;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(DROPPED_EVENTS_NAME, collector, DecisionTracingCollector::getDroppedEvents)
+                .description("Evaluate events discarded because the tracing queue was full.")
+                .register(registry);
+        FunctionCounter.builder(DROPPED_TRACES_NAME, collector, DecisionTracingCollector::getDroppedTraces)
+                .description("Executions whose trace was not emitted because events were dropped or the execution was evicted.")
+                .register(registry);
+        FunctionCounter.builder(EVICTED_TRACES_NAME, collector, DecisionTracingCollector::getEvictedTraces)
+                .description("Executions evicted because they did not terminate within the configured time to live.")
+                .register(registry);
+        Gauge.builder(PENDING_EXECUTIONS_NAME, collector, DecisionTracingCollector::getPendingExecutions)
+                .description("Executions waiting for termination.")
+                .register(registry);
+    }
+}
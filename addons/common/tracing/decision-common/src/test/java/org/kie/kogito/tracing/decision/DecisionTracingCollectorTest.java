@@ -19,9 +19,12 @@
 package org.kie.kogito.tracing.decision;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -32,6 +35,7 @@ import org.kie.dmn.feel.util.Pair;
 import org.kie.kogito.config.ConfigBean;
 import org.kie.kogito.config.StaticConfigBean;
 import org.kie.kogito.event.cloudevents.utils.CloudEventUtils;
+import org.kie.kogito.tracing.decision.aggregator.DefaultAggregator;
 import org.kie.kogito.tracing.decision.event.evaluate.EvaluateEvent;
 import org.kie.kogito.tracing.decision.mock.MockDefaultAggregator;
 import org.kie.kogito.tracing.decision.terminationdetector.BoundariesTerminationDetector;
@@ -48,7 +52,9 @@ import static org.kie.kogito.dmn.DecisionTestUtils.createDMNModel;
 import static org.kie.kogito.tracing.decision.DecisionTracingTestUtils.EVALUATE_ALL_JSON_RESOURCE;
 import static org.kie.kogito.tracing.decision.DecisionTracingTestUtils.EVALUATE_DECISION_SERVICE_JSON_RESOURCE;
 import static org.kie.kogito.tracing.decision.DecisionTracingTestUtils.readEvaluateEventsFromJsonResource;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -73,6 +79,62 @@ class DecisionTracingCollectorTest {
         testInterleavedEvaluations(CounterTerminationDetector::new);
     }
 
+    @Test
+    void testAsyncCollectorEmitsOffThread() throws Exception {
+        CountDownLatch emitted = new CountDownLatch(2);
+        DecisionTracingCollector collector = new DecisionTracingCollector(
+                new DefaultAggregator(),
+                payload -> emitted.countDown(),
+                (namespace, name) -> model,
+                CounterTerminationDetector::new,
+                configBean,
+                new DecisionTracingCollectorConfig(100, 2, Duration.ofMinutes(1), 1.0));
+        try {
+            readEvaluateEventsFromJsonResource(EVALUATE_ALL_JSON_RESOURCE).forEach(collector::addEvent);
+            readEvaluateEventsFromJsonResource(EVALUATE_DECISION_SERVICE_JSON_RESOURCE).forEach(collector::addEvent);
+            assertThat(emitted.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(collector.getDroppedEvents()).isZero();
+            assertThat(collector.getPendingExecutions()).isZero();
+        } finally {
+            collector.close();
+        }
+    }
+
+    @Test
+    void testSampledOutExecutionsAreIgnored() throws IOException {
+        Consumer<String> payloadConsumer = mock(Consumer.class);
+        DecisionTracingCollector collector = new DecisionTracingCollector(
+                new MockDefaultAggregator(),
+                payloadConsumer,
+                (namespace, name) -> model,
+                CounterTerminationDetector::new,
+                configBean,
+                new DecisionTracingCollectorConfig(0, 1, Duration.ofMinutes(1), 0.0));
+
+        readEvaluateEventsFromJsonResource(EVALUATE_ALL_JSON_RESOURCE).forEach(collector::addEvent);
+
+        verify(payloadConsumer, never()).accept(any());
+        assertThat(collector.getPendingExecutions()).isZero();
+    }
+
+    @Test
+    void testUnterminatedExecutionsArePending() throws IOException {
+        Consumer<String> payloadConsumer = mock(Consumer.class);
+        DecisionTracingCollector collector = new DecisionTracingCollector(
+                new MockDefaultAggregator(),
+                payloadConsumer,
+                (namespace, name) -> model,
+                CounterTerminationDetector::new,
+                configBean);
+
+        List<EvaluateEvent> events = readEvaluateEventsFromJsonResource(EVALUATE_ALL_JSON_RESOURCE);
+        events.subList(0, events.size() - 1).forEach(collector::addEvent);
+
+        verify(payloadConsumer, never()).accept(any());
+        assertThat(collector.getPendingExecutions()).isEqualTo(1);
+        assertThat(collector.getDroppedTraces()).isZero();
+    }
+
     private void testInterleavedEvaluations(Supplier<TerminationDetector> terminationDetectorSupplier) throws IOException {
         MockDefaultAggregator aggregator = new MockDefaultAggregator();
         Consumer<String> payloadConsumer = mock(Consumer.class);
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.tracing.decision;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.kogito.config.StaticConfigBean;
+import org.kie.kogito.tracing.decision.event.evaluate.EvaluateEvent;
+import org.kie.kogito.tracing.decision.mock.MockDefaultAggregator;
+import org.kie.kogito.tracing.decision.terminationdetector.CounterTerminationDetector;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.dmn.DecisionTestUtils.createDMNModel;
+import static org.kie.kogito.tracing.decision.DecisionTracingMeterBinder.DROPPED_EVENTS_NAME;
+import static org.kie.kogito.tracing.decision.DecisionTracingMeterBinder.DROPPED_TRACES_NAME;
+import static org.kie.kogito.tracing.decision.DecisionTracingMeterBinder.EVICTED_TRACES_NAME;
+import static org.kie.kogito.tracing.decision.DecisionTracingMeterBinder.PENDING_EXECUTIONS_NAME;
+import static org.kie.kogito.tracing.decision.DecisionTracingTestUtils.EVALUATE_ALL_JSON_RESOURCE;
+import static org.kie.kogito.tracing.decision.DecisionTracingTestUtils.readEvaluateEventsFromJsonResource;
+import static org.mockito.Mockito.mock;
+
+class DecisionTracingMeterBinderTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMetersAreRegistered() throws IOException {
+        DMNModel model = createDMNModel();
+        DecisionTracingCollector collector = new DecisionTracingCollector(
+                new MockDefaultAggregator(),
+                mock(Consumer.class),
+                (namespace, name) -> model,
+                CounterTerminationDetector::new,
+                new StaticConfigBean());
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        new DecisionTracingMeterBinder(collector).bindTo(registry);
+
+        assertThat(registry.get(DROPPED_EVENTS_NAME).functionCounter().count()).isZero();
+        assertThat(registry.get(DROPPED_TRACES_NAME).functionCounter().count()).isZero();
+        assertThat(registry.get(EVICTED_TRACES_NAME).functionCounter().count()).isZero();
+        assertThat(registry.get(PENDING_EXECUTIONS_NAME).gauge().value()).isZero();
+
+        List<EvaluateEvent> events = readEvaluateEventsFromJsonResource(EVALUATE_ALL_JSON_RESOURCE);
+        events.subList(0, events.size() - 1).forEach(collector::addEvent);
+
+        assertThat(registry.get(PENDING_EXECUTIONS_NAME).gauge().value()).isEqualTo(1);
+    }
+}
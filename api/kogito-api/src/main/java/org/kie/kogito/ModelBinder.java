@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito;
+
+import java.util.Map;
+
+/**
+ * Moves variables between a model and the variable map of a process instance without reflection.
+ * <p>
+ * Implementations are generated along with the model classes, see the <code>BINDER</code> field of a generated model.
+ *
+ * @param <T> type of the model
+ */
+public interface ModelBinder<T> {
+
+    /**
+     * Returns the variables of the model
+     *
+     * @param model model to read
+     * @return non null map of variables keyed by name
+     */
+    Map<String, Object> toMap(T model);
+
+    /**
+     * Sets the variables contained in the map, variables missing from the map are left untouched
+     *
+     * @param model model to fill
+     * @param values variables keyed by name
+     */
+    void fromMap(T model, Map<String, Object> values);
+
+    /**
+     * Sets the id of the model, does nothing for models without id
+     *
+     * @param model model to update
+     * @param id process instance id
+     */
+    void setId(T model, String id);
+}
@@ -38,4 +38,25 @@ public interface ConfigBean extends KogitoConfig {
     default short processInstanceLimit() {
         return 1000;
     }
+
+    /**
+     * Maximum number of work item activations of concurrent multi-instance loops running at the same time
+     */
+    default int multiInstanceConcurrency() {
+        return 32;
+    }
+
+    /**
+     * Maximum number of waiting process instances loaded at once when broadcasting a signal
+     */
+    default int signalBroadcastPageSize() {
+        return 100;
+    }
+
+    /**
+     * Maximum number of waiting process instances signalled at the same time when broadcasting a signal
+     */
+    default int signalBroadcastConcurrency() {
+        return 1;
+    }
 }
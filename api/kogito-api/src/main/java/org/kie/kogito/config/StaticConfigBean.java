@@ -27,6 +27,9 @@ public class StaticConfigBean implements ConfigBean {
     private String serviceUrl;
     private boolean useCloudEvents = true;
     private boolean failOnEmptyBean = false;
+    private int multiInstanceConcurrency = 32;
+    private int signalBroadcastPageSize = 100;
+    private int signalBroadcastConcurrency = 1;
     private KogitoGAV gav;
 
     public StaticConfigBean() {
@@ -50,6 +53,18 @@ public class StaticConfigBean implements ConfigBean {
         this.failOnEmptyBean = failOnEmptyBean;
     }
 
+    protected void setMultiInstanceConcurrency(int multiInstanceConcurrency) {
+        this.multiInstanceConcurrency = multiInstanceConcurrency;
+    }
+
+    protected void setSignalBroadcastPageSize(int signalBroadcastPageSize) {
+        this.signalBroadcastPageSize = signalBroadcastPageSize;
+    }
+
+    protected void setSignalBroadcastConcurrency(int signalBroadcastConcurrency) {
+        this.signalBroadcastConcurrency = signalBroadcastConcurrency;
+    }
+
     public void setGav(KogitoGAV gav) {
         this.gav = gav;
     }
@@ -73,4 +88,19 @@ public class StaticConfigBean implements ConfigBean {
     public boolean failOnEmptyBean() {
         return failOnEmptyBean;
     }
+
+    @Override
+    public int multiInstanceConcurrency() {
+        return multiInstanceConcurrency;
+    }
+
+    @Override
+    public int signalBroadcastPageSize() {
+        return signalBroadcastPageSize;
+    }
+
+    @Override
+    public int signalBroadcastConcurrency() {
+        return signalBroadcastConcurrency;
+    }
 }
@@ -18,6 +18,9 @@
  */
 package org.kie.kogito.correlation;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CorrelationService {
@@ -26,6 +29,17 @@ public interface CorrelationService {
 
     Optional<CorrelationInstance> find(Correlation correlation);
 
+    /**
+     * Finds the instances of several correlations, implementations backed by a store may resolve them at once.
+     *
+     * @return the instances found, by correlation
+     */
+    default Map<Correlation<?>, CorrelationInstance> find(Collection<? extends Correlation<?>> correlations) {
+        Map<Correlation<?>, CorrelationInstance> result = new HashMap<>();
+        correlations.forEach(correlation -> find(correlation).ifPresent(instance -> result.put(correlation, instance)));
+        return result;
+    }
+
     Optional<CorrelationInstance> findByCorrelatedId(String correlatedId);
 
     void delete(Correlation correlation);
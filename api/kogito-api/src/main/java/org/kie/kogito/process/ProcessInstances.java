@@ -18,6 +18,7 @@
  */
 package org.kie.kogito.process;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -41,6 +42,22 @@ public interface ProcessInstances<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Moves the given instances stored for a version of the process, which does not need to be the deployed one,
+     * to the target process.
+     */
+    default void migrateProcessInstancesOfVersion(String processVersion, String targetProcessId, String targetProcessVersion, String... processIds) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns, in ascending order, at most <code>limit</code> ids greater than <code>afterId</code> of the instances
+     * stored for a version of the process, which does not need to be the deployed one. The instances are not loaded.
+     */
+    default List<String> findIds(String processVersion, String afterId, int limit) {
+        throw new UnsupportedOperationException();
+    }
+
     default Optional<ProcessInstance<T>> findByBusinessKey(String id, ProcessInstanceReadMode mode) {
         return stream(mode).filter(pi -> id.equals(pi.businessKey())).findAny();
     }
@@ -57,6 +74,16 @@ public interface ProcessInstances<T> {
 
     Stream<ProcessInstance<T>> waitingForEventType(String eventType, ProcessInstanceReadMode mode);
 
+    /**
+     * Tells whether any instance waits for the given event type, without loading the instances.
+     * Implementations backed by an event type index should answer this with an existence query.
+     */
+    default boolean existsWaitingFor(String eventType) {
+        try (Stream<ProcessInstance<T>> waiting = waitingForEventType(eventType, ProcessInstanceReadMode.READ_ONLY)) {
+            return waiting.findAny().isPresent();
+        }
+    }
+
     default Stream<ProcessInstance<T>> acceptingEventType(String signalName, String id) {
         return findById(id, ProcessInstanceReadMode.MUTABLE)
                 .filter(pi -> {
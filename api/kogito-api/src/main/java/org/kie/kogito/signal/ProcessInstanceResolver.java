@@ -20,6 +20,7 @@
 package org.kie.kogito.signal;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.kie.kogito.process.ProcessInstance;
 
@@ -29,4 +30,16 @@ public interface ProcessInstanceResolver<T> {
 
     List<ProcessInstance<T>> waitingForEvents(String eventType);
 
+    /**
+     * Lazy variant of {@link #waitingForEvents(String)}, so callers can go through the waiting instances
+     * without holding all of them at once. The stream must be closed.
+     */
+    default Stream<ProcessInstance<T>> streamWaitingForEvents(String eventType) {
+        return waitingForEvents(eventType).stream();
+    }
+
+    default boolean existsWaitingFor(String eventType) {
+        return !waitingForEvents(eventType).isEmpty();
+    }
+
 }
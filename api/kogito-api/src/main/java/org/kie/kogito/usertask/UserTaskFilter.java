@@ -24,12 +24,25 @@ import java.util.List;
  * Filter criteria for querying user tasks.
  * All filters are combined using AND logic.
  * Null filters are ignored (no filtering applied for that criterion).
+ * <p>
+ * Results are paged by keyset: tasks are returned ordered by id, {@code limit} bounds the page size and
+ * {@code cursor} is the id of the last task of the previous page (exclusive).
  */
 public record UserTaskFilter(
         String processId,
         String processInstanceId,
         List<String> statuses,
-        String taskName) {
+        String taskName,
+        Integer limit,
+        String cursor) {
+
+    public UserTaskFilter(String processId, String processInstanceId, List<String> statuses, String taskName) {
+        this(processId, processInstanceId, statuses, taskName, null, null);
+    }
+
+    public boolean isPaged() {
+        return (limit != null && limit > 0) || (cursor != null && !cursor.isEmpty());
+    }
 
     public static Builder builder() {
         return new Builder();
@@ -40,6 +53,8 @@ public record UserTaskFilter(
         private String processInstanceId;
         private List<String> statuses;
         private String taskName;
+        private Integer limit;
+        private String cursor;
 
         public Builder processId(String processId) {
             this.processId = processId;
@@ -61,8 +76,18 @@ public record UserTaskFilter(
             return this;
         }
 
+        public Builder limit(Integer limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        public Builder cursor(String cursor) {
+            this.cursor = cursor;
+            return this;
+        }
+
         public UserTaskFilter build() {
-            return new UserTaskFilter(processId, processInstanceId, statuses, taskName);
+            return new UserTaskFilter(processId, processInstanceId, statuses, taskName, limit, cursor);
         }
     }
 }
@@ -26,6 +26,10 @@ public class KogitoEventStreams {
     public static final String DEFAULT_MAX_THREADS = "10";
     public static final String DEFAULT_QUEUE_SIZE = "1";
     public static final String THREAD_NAME = "kogito-event-executor";
+    public static final String CONSUMER_PARALLELISM_PROPERTY = "kogito.events.consumer.parallelism";
+    public static final String CONSUMER_QUEUE_SIZE_PROPERTY = "kogito.events.consumer.queueSize";
+    public static final String DEFAULT_CONSUMER_PARALLELISM = "20";
+    public static final String DEFAULT_CONSUMER_QUEUE_SIZE = "1000";
 
     private KogitoEventStreams() {
     }
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.event.process;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.kie.kogito.jackson.utils.ObjectMapperFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import static org.kie.kogito.event.process.CompactDataOutput.ARRAY;
+import static org.kie.kogito.event.process.CompactDataOutput.BIG_DECIMAL;
+import static org.kie.kogito.event.process.CompactDataOutput.BIG_INTEGER;
+import static org.kie.kogito.event.process.CompactDataOutput.BINARY;
+import static org.kie.kogito.event.process.CompactDataOutput.FALSE;
+import static org.kie.kogito.event.process.CompactDataOutput.FLOATING;
+import static org.kie.kogito.event.process.CompactDataOutput.INTEGRAL;
+import static org.kie.kogito.event.process.CompactDataOutput.LONG_TEXT;
+import static org.kie.kogito.event.process.CompactDataOutput.NULL;
+import static org.kie.kogito.event.process.CompactDataOutput.OBJECT;
+import static org.kie.kogito.event.process.CompactDataOutput.RAW;
+import static org.kie.kogito.event.process.CompactDataOutput.TEXT;
+import static org.kie.kogito.event.process.CompactDataOutput.TRUE;
+
+/**
+ * {@link DataInput} reading streams written by {@link CompactDataOutput}
+ */
+public class CompactDataInput implements DataInput {
+
+    private final DataInput in;
+    private final List<String> dictionary = new ArrayList<>();
+
+    public CompactDataInput(DataInput in) {
+        this.in = in;
+    }
+
+    public void readFormatVersion() throws IOException {
+        byte version = in.readByte();
+        if (version != CompactDataOutput.FORMAT_VERSION) {
+            throw new IOException("Unsupported compact event format version " + version);
+        }
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        int reference = readVarInt();
+        if (reference == 0) {
+            String s = in.readUTF();
+            dictionary.add(s);
+            return s;
+        }
+        if (reference > dictionary.size()) {
+            throw new IOException("Stream corrupted. Unknown string reference " + reference);
+        }
+        return dictionary.get(reference - 1);
+    }
+
+    public int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Stream corrupted. Malformed variable length int");
+    }
+
+    public long readVarLong() throws IOException {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IOException("Stream corrupted. Malformed variable length long");
+    }
+
+    public JsonNode readTree() throws IOException {
+        JsonNodeFactory factory = JsonNodeFactory.instance;
+        byte kind = in.readByte();
+        switch (kind) {
+            case NULL:
+                return factory.nullNode();
+            case TRUE:
+                return factory.booleanNode(true);
+            case FALSE:
+                return factory.booleanNode(false);
+            case INTEGRAL:
+                long value = readVarLong();
+                return value == (int) value ? factory.numberNode((int) value) : factory.numberNode(value);
+            case FLOATING:
+                return factory.numberNode(in.readDouble());
+            case BIG_INTEGER:
+                return factory.numberNode(new BigInteger(readUTF()));
+            case BIG_DECIMAL:
+                return factory.numberNode(new BigDecimal(readUTF()));
+            case TEXT:
+                return factory.textNode(readUTF());
+            case LONG_TEXT:
+                return factory.textNode(new String(readBytes(), StandardCharsets.UTF_8));
+            case BINARY:
+                return factory.binaryNode(readBytes());
+            case ARRAY:
+                int size = readVarInt();
+                ArrayNode array = factory.arrayNode(size);
+                while (size-- > 0) {
+                    array.add(readTree());
+                }
+                return array;
+            case OBJECT:
+                int fields = readVarInt();
+                ObjectNode object = factory.objectNode();
+                while (fields-- > 0) {
+                    String name = readUTF();
+                    object.set(name, readTree());
+                }
+                return object;
+            case RAW:
+                return ObjectMapperFactory.get().readTree(readBytes());
+            default:
+                throw new IOException("Stream corrupted. Read unrecognized node kind " + kind);
+        }
+    }
+
+    private byte[] readBytes() throws IOException {
+        byte[] bytes = new byte[readVarInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    @Override
+    public void readFully(byte[] b) throws IOException {
+        in.readFully(b);
+    }
+
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        in.readFully(b, off, len);
+    }
+
+    @Override
+    public int skipBytes(int n) throws IOException {
+        return in.skipBytes(n);
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return in.readBoolean();
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        return in.readByte();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return in.readUnsignedByte();
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        return in.readShort();
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return in.readUnsignedShort();
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        return in.readChar();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        return in.readInt();
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        return in.readLong();
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        return in.readFloat();
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        return in.readDouble();
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        return in.readLine();
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.event.process;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * {@link DataOutput} used by the compact binary event format.
+ * <p>
+ * Strings written through {@link #writeUTF(String)} are stored once per stream and referenced by index afterwards,
+ * so repeated identifiers, node names, variable names or types cost one or two bytes. It also provides variable length
+ * integers and a typed encoding of json trees, used instead of embedding json text.
+ * The stream must be read back with {@link CompactDataInput}.
+ */
+public class CompactDataOutput implements DataOutput {
+
+    public static final byte FORMAT_VERSION = 1;
+
+    static final byte NULL = 0;
+    static final byte TRUE = 1;
+    static final byte FALSE = 2;
+    static final byte INTEGRAL = 3;
+    static final byte FLOATING = 4;
+    static final byte BIG_INTEGER = 5;
+    static final byte BIG_DECIMAL = 6;
+    static final byte TEXT = 7;
+    static final byte LONG_TEXT = 8;
+    static final byte BINARY = 9;
+    static final byte ARRAY = 10;
+    static final byte OBJECT = 11;
+    static final byte RAW = 12;
+
+    // longest string whose modified utf-8 encoding is guaranteed to fit in writeUTF
+    private static final int MAX_UTF_CHARS = 65535 / 3;
+
+    private final DataOutput out;
+    private final Map<String, Integer> dictionary = new HashMap<>();
+
+    public CompactDataOutput(DataOutput out) {
+        this.out = out;
+    }
+
+    public void writeFormatVersion() throws IOException {
+        out.writeByte(FORMAT_VERSION);
+    }
+
+    @Override
+    public void writeUTF(String s) throws IOException {
+        Integer index = dictionary.get(s);
+        if (index == null) {
+            writeVarInt(0);
+            out.writeUTF(s);
+            dictionary.put(s, dictionary.size());
+        } else {
+            writeVarInt(index + 1);
+        }
+    }
+
+    public void writeVarInt(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    public void writeVarLong(long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.writeByte((int) zigzag);
+    }
+
+    public void writeTree(JsonNode node) throws IOException {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            out.writeByte(NULL);
+        } else if (node.isBoolean()) {
+            out.writeByte(node.booleanValue() ? TRUE : FALSE);
+        } else if (node.isInt() || node.isLong() || node.isShort()) {
+            out.writeByte(INTEGRAL);
+            writeVarLong(node.longValue());
+        } else if (node.isBigInteger()) {
+            out.writeByte(BIG_INTEGER);
+            writeUTF(node.bigIntegerValue().toString());
+        } else if (node.isBigDecimal()) {
+            out.writeByte(BIG_DECIMAL);
+            writeUTF(node.decimalValue().toString());
+        } else if (node.isFloatingPointNumber()) {
+            out.writeByte(FLOATING);
+            out.writeDouble(node.doubleValue());
+        } else if (node.isTextual()) {
+            writeText(node.textValue());
+        } else if (node.isBinary()) {
+            out.writeByte(BINARY);
+            writeBytes(node.binaryValue());
+        } else if (node.isArray()) {
+            out.writeByte(ARRAY);
+            writeVarInt(node.size());
+            for (JsonNode item : node) {
+                writeTree(item);
+            }
+        } else if (node.isObject()) {
+            out.writeByte(OBJECT);
+            writeVarInt(node.size());
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                writeUTF(field.getKey());
+                writeTree(field.getValue());
+            }
+        } else {
+            out.writeByte(RAW);
+            writeBytes(node.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writeText(String text) throws IOException {
+        if (text.length() > MAX_UTF_CHARS) {
+            out.writeByte(LONG_TEXT);
+            writeBytes(text.getBytes(StandardCharsets.UTF_8));
+        } else {
+            out.writeByte(TEXT);
+            writeUTF(text);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        writeVarInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+    }
+
+    @Override
+    public void write(byte[] b) throws IOException {
+        out.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+    }
+
+    @Override
+    public void writeBoolean(boolean v) throws IOException {
+        out.writeBoolean(v);
+    }
+
+    @Override
+    public void writeByte(int v) throws IOException {
+        out.writeByte(v);
+    }
+
+    @Override
+    public void writeShort(int v) throws IOException {
+        out.writeShort(v);
+    }
+
+    @Override
+    public void writeChar(int v) throws IOException {
+        out.writeChar(v);
+    }
+
+    @Override
+    public void writeInt(int v) throws IOException {
+        out.writeInt(v);
+    }
+
+    @Override
+    public void writeLong(long v) throws IOException {
+        out.writeLong(v);
+    }
+
+    @Override
+    public void writeFloat(float v) throws IOException {
+        out.writeFloat(v);
+    }
+
+    @Override
+    public void writeDouble(double v) throws IOException {
+        out.writeDouble(v);
+    }
+
+    @Override
+    public void writeBytes(String s) throws IOException {
+        out.writeBytes(s);
+    }
+
+    @Override
+    public void writeChars(String s) throws IOException {
+        out.writeChars(s);
+    }
+}
@@ -112,7 +112,9 @@ public class KogitoEventBodySerializationHelper {
         BYTE(KogitoEventBodySerializationHelper::writeByte, DataInput::readByte),
         BOOLEAN(KogitoEventBodySerializationHelper::writeBoolean, DataInput::readBoolean),
         FLOAT(KogitoEventBodySerializationHelper::writeFloat, DataInput::readFloat),
-        DOUBLE(KogitoEventBodySerializationHelper::writeDouble, DataInput::readDouble);
+        DOUBLE(KogitoEventBodySerializationHelper::writeDouble, DataInput::readDouble),
+        JSON_TREE(KogitoEventBodySerializationHelper::writeTree, KogitoEventBodySerializationHelper::readJsonTree),
+        DEFAULT_TREE(KogitoEventBodySerializationHelper::writeTree, KogitoEventBodySerializationHelper::readDefaultTree);
 
         final ObjectWriter writer;
         final ObjectReader reader;
@@ -157,6 +159,17 @@ public class KogitoEventBodySerializationHelper {
         static SerType fromObject(Object obj) {
             return obj == null ? NULL : fromType(obj.getClass());
         }
+
+        SerType compact() {
+            switch (this) {
+                case JSON:
+                    return JSON_TREE;
+                case DEFAULT:
+                    return DEFAULT_TREE;
+                default:
+                    return this;
+            }
+        }
     }
 
     private static void writeType(DataOutput out, SerType type) throws IOException {
@@ -169,6 +182,10 @@ public class KogitoEventBodySerializationHelper {
 
     public static void writeObject(DataOutput out, Object obj) throws IOException {
         SerType type = SerType.fromObject(obj);
+        if (out instanceof CompactDataOutput) {
+            // json values are written as typed trees rather than embedded json text
+            type = type.compact();
+        }
         writeType(out, type);
         type.writer().accept(out, obj);
     }
@@ -199,7 +216,7 @@ public class KogitoEventBodySerializationHelper {
     }
 
     private static void writeLong(DataOutput out, Object obj) throws IOException {
-        out.writeInt((Integer) obj);
+        out.writeLong((Long) obj);
     }
 
     private static void writeShort(DataOutput out, Object obj) throws IOException {
@@ -290,6 +307,25 @@ public class KogitoEventBodySerializationHelper {
         return ObjectMapperFactory.get().readValue(bytes, type);
     }
 
+    private static void writeTree(DataOutput out, Object obj) throws IOException {
+        ((CompactDataOutput) out).writeTree(obj instanceof JsonNode ? (JsonNode) obj : ObjectMapperFactory.get().valueToTree(obj));
+    }
+
+    private static Object readJsonTree(DataInput in) throws IOException {
+        return compactInput(in).readTree();
+    }
+
+    private static Object readDefaultTree(DataInput in) throws IOException {
+        return ObjectMapperFactory.get().treeToValue(compactInput(in).readTree(), Object.class);
+    }
+
+    private static CompactDataInput compactInput(DataInput in) throws IOException {
+        if (in instanceof CompactDataInput) {
+            return (CompactDataInput) in;
+        }
+        throw new IOException("Stream corrupted. Compact value found in a non compact stream");
+    }
+
     public static Date toDate(OffsetDateTime time) {
         return time == null ? null : Date.from(time.toInstant());
     }
@@ -25,7 +25,9 @@ import java.util.Set;
 public enum KogitoMarshallEventFlag {
     RETRIGGER(1),
     CLOUDEVENT_ID(2),
-    FUNCTION_ARGS(4);
+    FUNCTION_ARGS(4),
+    // string dictionary, variable length numbers and typed json values, see CompactDataOutput
+    COMPACT(8);
 
     private int value;
 
@@ -38,6 +38,7 @@ public abstract class AbstractMessageConsumer<M extends Model, D> {
 
     private String trigger;
     private EventDispatcher<M, D> eventDispatcher;
+    private MessageConsumerExecutor executor;
 
     protected void init(Application application,
             Process<M> process,
@@ -46,7 +47,19 @@ public abstract class AbstractMessageConsumer<M extends Model, D> {
             Class<D> dataClass,
             ProcessService processService,
             Set<String> correlations) {
+        init(application, process, trigger, eventReceiver, dataClass, processService, correlations, null);
+    }
+
+    protected void init(Application application,
+            Process<M> process,
+            String trigger,
+            EventReceiver eventReceiver,
+            Class<D> dataClass,
+            ProcessService processService,
+            Set<String> correlations,
+            MessageConsumerExecutor executor) {
         this.trigger = trigger;
+        this.executor = executor;
         this.eventDispatcher = new ProcessEventDispatcher<>(process, getModelConverter(), processService, correlations, getDataResolver());
         eventReceiver.subscribe(this::consume, dataClass);
         logger.info("Consumer for {} started", trigger);
@@ -62,7 +75,11 @@ public abstract class AbstractMessageConsumer<M extends Model, D> {
 
     private void consume(DataEvent<D> payload) {
         logger.trace("Received {} for trigger {}", payload, trigger);
-        eventDispatcher.dispatch(trigger, payload);
+        if (executor != null) {
+            executor.execute(() -> eventDispatcher.dispatch(trigger, payload));
+        } else {
+            eventDispatcher.dispatch(trigger, payload);
+        }
         logger.trace("Consume completed {} for trigger {}", payload, trigger);
     }
 
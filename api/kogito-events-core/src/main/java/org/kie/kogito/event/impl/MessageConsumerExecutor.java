@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.event.impl;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Engine wide limit on the messages being consumed at the same time, shared by every generated message consumer.
+ * <p>
+ * Messages are consumed on the thread that delivered them, so receivers still acknowledge a message only once it has
+ * been processed. When all the slots are taken, delivering threads wait for one, which holds the channel back. Up to
+ * <code>queueSize</code> threads can wait, further messages are rejected with a {@link RejectedExecutionException}
+ * and negatively acknowledged by the receiver. What a nack does is up to the channel: with the default
+ * <code>failure-strategy=fail</code> of the SmallRye Kafka connector, a single nack stops the channel.
+ */
+public class MessageConsumerExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageConsumerExecutor.class);
+
+    private final int parallelism;
+    private final int queueSize;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public MessageConsumerExecutor(int parallelism, int queueSize) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Message consumer parallelism must be at least 1, was " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.queueSize = Math.max(queueSize, 0);
+        this.permits = new Semaphore(parallelism, true);
+    }
+
+    public void execute(Runnable consumption) {
+        acquire();
+        try {
+            consumption.run();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (waiting.incrementAndGet() > queueSize) {
+            waiting.decrementAndGet();
+            reject("Message consumer queue is full, " + queueSize + " messages are already waiting", null);
+        }
+        try {
+            logger.trace("All {} message consumer slots are busy, waiting", parallelism);
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject("Interrupted while waiting for a message consumer slot", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private void reject(String message, InterruptedException cause) {
+        rejected.increment();
+        throw new RejectedExecutionException(message, cause);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * @return messages waiting for a slot
+     */
+    public int getQueueDepth() {
+        return waiting.get();
+    }
+
+    /**
+     * @return messages being consumed
+     */
+    public int getActiveCount() {
+        return parallelism - permits.availablePermits();
+    }
+
+    /**
+     * @return messages rejected since start
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
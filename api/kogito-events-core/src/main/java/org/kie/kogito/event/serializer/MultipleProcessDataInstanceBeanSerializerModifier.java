@@ -19,6 +19,7 @@
 package org.kie.kogito.event.serializer;
 
 import org.kie.kogito.event.process.MultipleProcessInstanceDataEvent;
+import org.kie.kogito.event.usertask.MultipleUserTaskInstanceDataEvent;
 
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -35,6 +36,9 @@ public class MultipleProcessDataInstanceBeanSerializerModifier extends BeanSeria
         if (beanDesc.getBeanClass().equals(MultipleProcessInstanceDataEvent.class)) {
             return new MultipleProcessInstanceDataEventSerializer((JsonSerializer<Object>) serializer);
         }
+        if (beanDesc.getBeanClass().equals(MultipleUserTaskInstanceDataEvent.class)) {
+            return new MultipleUserTaskInstanceDataEventSerializer((JsonSerializer<Object>) serializer);
+        }
         return serializer;
     }
 }
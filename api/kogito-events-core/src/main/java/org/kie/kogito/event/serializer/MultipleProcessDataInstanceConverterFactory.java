@@ -21,6 +21,7 @@ package org.kie.kogito.event.serializer;
 import java.io.IOException;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.Set;
 
 import org.kie.kogito.event.Converter;
 import org.kie.kogito.event.impl.JacksonTypeCloudEventDataConverter;
@@ -42,7 +43,8 @@ public class MultipleProcessDataInstanceConverterFactory {
 
     public static ToBytes<Collection<ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport>>> toCloudEvent(MultipleProcessInstanceDataEvent event, ObjectMapper objectMapper) {
         if (MultipleProcessInstanceDataEvent.BINARY_CONTENT_TYPE.equals(event.getDataContentType())) {
-            return event.isCompressed() ? compressedToBytes : binaryToBytes;
+            Set<KogitoMarshallEventFlag> flags = KogitoMarshallEventFlag.buildFlagsSet(event.getMarshallFlags());
+            return data -> serialize(data, event.isCompressed(), flags);
         } else {
             return objectMapper::writeValueAsBytes;
         }
@@ -66,16 +68,12 @@ public class MultipleProcessDataInstanceConverterFactory {
         return MultipleProcessInstanceDataEvent.getMarshallerFlags(event.getExtension(MultipleProcessInstanceDataEvent.MARSHALL_FLAGS));
     }
 
-    private static ToBytes<Collection<ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport>>> compressedToBytes = data -> serialize(data, true);
-
-    private static ToBytes<Collection<ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport>>> binaryToBytes = data -> serialize(data, false);
-
     private static Collection<ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport>> deserialize(CloudEventData data, boolean compress, Integer marshallerFlags) throws IOException {
         return MultipleProcessInstanceDataEventDeserializer.readFromBytes(Base64.getDecoder().decode(data.toBytes()), compress, KogitoMarshallEventFlag.buildFlagsSet(marshallerFlags));
     }
 
     private static byte[] serialize(Collection<ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport>> data,
-            boolean compress) throws IOException {
-        return Base64.getEncoder().encode(MultipleProcessInstanceDataEventSerializer.dataAsBytes(data, compress));
+            boolean compress, Set<KogitoMarshallEventFlag> flags) throws IOException {
+        return Base64.getEncoder().encode(MultipleProcessInstanceDataEventSerializer.dataAsBytes(data, compress, flags));
     }
 }
@@ -34,6 +34,7 @@ import java.util.function.Supplier;
 import java.util.zip.GZIPInputStream;
 
 import org.kie.kogito.event.process.CloudEventVisitor;
+import org.kie.kogito.event.process.CompactDataInput;
 import org.kie.kogito.event.process.KogitoMarshallEventFlag;
 import org.kie.kogito.event.process.KogitoMarshallEventSupport;
 import org.kie.kogito.event.process.MultipleProcessInstanceDataEvent;
@@ -118,13 +119,19 @@ public class MultipleProcessInstanceDataEventDeserializer extends JsonDeserializ
             logger.trace("Gzip compressed byte array");
             wrappedIn = new GZIPInputStream(wrappedIn);
         }
-        try (DataInputStream in = new DataInputStream(wrappedIn)) {
+        try (DataInputStream dataIn = new DataInputStream(wrappedIn)) {
+            DataInput in = dataIn;
+            if (flags.contains(KogitoMarshallEventFlag.COMPACT)) {
+                CompactDataInput compactIn = new CompactDataInput(dataIn);
+                compactIn.readFormatVersion();
+                in = compactIn;
+            }
             int size = readInt(in);
             logger.trace("Reading collection of size {}", size);
             Collection<ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport>> result = new ArrayList<>(size);
             List<ProcessInstanceDataEventExtensionRecord> infos = new ArrayList<>();
             while (size-- > 0) {
-                byte readInfo = in.readByte();
+                int readInfo = readInfoMarker(in);
                 logger.trace("Info ordinal is {}", readInfo);
                 ProcessInstanceDataEventExtensionRecord info;
                 if (readInfo == -1) {
@@ -145,7 +152,11 @@ public class MultipleProcessInstanceDataEventDeserializer extends JsonDeserializ
         }
     }
 
-    private static ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport> getCloudEvent(DataInputStream in, String type, ProcessInstanceDataEventExtensionRecord info,
+    private static int readInfoMarker(DataInput in) throws IOException {
+        return in instanceof CompactDataInput compactIn ? compactIn.readVarInt() - 1 : in.readByte();
+    }
+
+    private static ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport> getCloudEvent(DataInput in, String type, ProcessInstanceDataEventExtensionRecord info,
             Set<KogitoMarshallEventFlag> flags) throws IOException {
         switch (type) {
             case ProcessInstanceVariableDataEvent.VAR_TYPE:
@@ -167,7 +178,7 @@ public class MultipleProcessInstanceDataEventDeserializer extends JsonDeserializ
 
     private static <T extends ProcessInstanceDataEvent<V>, V extends KogitoMarshallEventSupport & CloudEventVisitor> T buildDataEvent(DataInput in, T cloudEvent, Supplier<V> bodySupplier,
             ProcessInstanceDataEventExtensionRecord info, Set<KogitoMarshallEventFlag> flags) throws IOException {
-        int delta = readInt(in);
+        long delta = in instanceof CompactDataInput compactIn ? compactIn.readVarLong() : readInt(in);
         logger.trace("Time delta is {}", delta);
         cloudEvent.setTime(info.getTime().plus(delta, ChronoUnit.MILLIS));
         KogitoDataEventSerializationHelper.readCloudEventAttrs(in, cloudEvent);
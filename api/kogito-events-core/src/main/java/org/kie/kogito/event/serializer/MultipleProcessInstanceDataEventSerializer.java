@@ -19,13 +19,18 @@
 package org.kie.kogito.event.serializer;
 
 import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.zip.GZIPOutputStream;
 
+import org.kie.kogito.event.process.CompactDataOutput;
+import org.kie.kogito.event.process.KogitoMarshallEventFlag;
 import org.kie.kogito.event.process.KogitoMarshallEventSupport;
 import org.kie.kogito.event.process.MultipleProcessInstanceDataEvent;
 import org.kie.kogito.event.process.ProcessInstanceDataEvent;
@@ -62,7 +67,7 @@ public class MultipleProcessInstanceDataEventSerializer extends JsonSerializer<M
             if (compress) {
                 gen.writeBooleanField(MultipleProcessInstanceDataEvent.COMPRESS_DATA, true);
             }
-            gen.writeBinaryField("data", dataAsBytes(value.getData(), compress));
+            gen.writeBinaryField("data", dataAsBytes(value.getData(), compress, KogitoMarshallEventFlag.buildFlagsSet(value.getMarshallFlags())));
             gen.writeNumberField(MultipleProcessInstanceDataEvent.MARSHALL_FLAGS, value.getMarshallFlags());
             gen.writeEndObject();
         } else {
@@ -71,8 +76,19 @@ public class MultipleProcessInstanceDataEventSerializer extends JsonSerializer<M
     }
 
     static byte[] dataAsBytes(Collection<ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport>> data, boolean compress) throws IOException {
+        return dataAsBytes(data, compress, EnumSet.noneOf(KogitoMarshallEventFlag.class));
+    }
+
+    static byte[] dataAsBytes(Collection<ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport>> data, boolean compress, Set<KogitoMarshallEventFlag> flags) throws IOException {
         ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
-        try (DataOutputStream out = new DataOutputStream(compress ? new GZIPOutputStream(bytesOut) : bytesOut)) {
+        try (DataOutputStream dataOut = new DataOutputStream(compress ? new GZIPOutputStream(bytesOut) : bytesOut)) {
+            DataOutput out = dataOut;
+            if (flags.contains(KogitoMarshallEventFlag.COMPACT)) {
+                CompactDataOutput compactOut = new CompactDataOutput(dataOut);
+                logger.trace("Writing compact format version {}", CompactDataOutput.FORMAT_VERSION);
+                compactOut.writeFormatVersion();
+                out = compactOut;
+            }
             logger.trace("Writing size {}", data.size());
             writeInt(out, data.size());
             Map<String, ProcessInstanceDataEventExtensionRecord> infos = new HashMap<>();
@@ -81,20 +97,26 @@ public class MultipleProcessInstanceDataEventSerializer extends JsonSerializer<M
                 ProcessInstanceDataEventExtensionRecord info = infos.get(key);
                 if (info == null) {
                     logger.trace("Writing marker byte -1");
-                    out.writeByte((byte) -1);
+                    writeInfoMarker(out, -1);
                     info = new ProcessInstanceDataEventExtensionRecord(infos.size(), cloudEvent);
                     logger.trace("Writing info", info);
                     info.writeEvent(out);
                     infos.put(key, info);
                 } else {
                     logger.trace("Writing marker byte {}", info.getOrdinal());
-                    out.writeByte((byte) info.getOrdinal());
+                    writeInfoMarker(out, info.getOrdinal());
                 }
                 logger.trace("Writing type {}", cloudEvent.getType());
                 out.writeUTF(cloudEvent.getType());
-                int timeDelta = cloudEvent.getTime().compareTo(info.getTime());
-                logger.trace("Writing time delta {}", timeDelta);
-                writeInt(out, timeDelta);
+                if (out instanceof CompactDataOutput compactOut) {
+                    long timeDelta = cloudEvent.getTime().toInstant().toEpochMilli() - info.getTime().toInstant().toEpochMilli();
+                    logger.trace("Writing time delta {}", timeDelta);
+                    compactOut.writeVarLong(timeDelta);
+                } else {
+                    int timeDelta = cloudEvent.getTime().compareTo(info.getTime());
+                    logger.trace("Writing time delta {}", timeDelta);
+                    writeInt(out, timeDelta);
+                }
                 logger.trace("Writing cloud event attrs {}", cloudEvent);
                 KogitoDataEventSerializationHelper.writeCloudEventAttrs(out, cloudEvent);
                 KogitoMarshallEventSupport itemData = cloudEvent.getData();
@@ -113,4 +135,13 @@ public class MultipleProcessInstanceDataEventSerializer extends JsonSerializer<M
         return bytesOut.toByteArray();
     }
 
+    private static void writeInfoMarker(DataOutput out, int ordinal) throws IOException {
+        if (out instanceof CompactDataOutput compactOut) {
+            // not limited to 127 process instances per batch
+            compactOut.writeVarInt(ordinal + 1);
+        } else {
+            out.writeByte((byte) ordinal);
+        }
+    }
+
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.event.serializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.zip.GZIPInputStream;
+
+import org.kie.kogito.event.process.CompactDataInput;
+import org.kie.kogito.event.process.MultipleProcessInstanceDataEvent;
+import org.kie.kogito.event.usertask.MultipleUserTaskInstanceDataEvent;
+import org.kie.kogito.event.usertask.UserTaskInstanceAssignmentDataEvent;
+import org.kie.kogito.event.usertask.UserTaskInstanceAssignmentEventBody;
+import org.kie.kogito.event.usertask.UserTaskInstanceAttachmentDataEvent;
+import org.kie.kogito.event.usertask.UserTaskInstanceAttachmentEventBody;
+import org.kie.kogito.event.usertask.UserTaskInstanceCommentDataEvent;
+import org.kie.kogito.event.usertask.UserTaskInstanceCommentEventBody;
+import org.kie.kogito.event.usertask.UserTaskInstanceDataEvent;
+import org.kie.kogito.event.usertask.UserTaskInstanceDeadlineDataEvent;
+import org.kie.kogito.event.usertask.UserTaskInstanceDeadlineEventBody;
+import org.kie.kogito.event.usertask.UserTaskInstanceStateDataEvent;
+import org.kie.kogito.event.usertask.UserTaskInstanceStateEventBody;
+import org.kie.kogito.event.usertask.UserTaskInstanceVariableDataEvent;
+import org.kie.kogito.event.usertask.UserTaskInstanceVariableEventBody;
+import org.kie.kogito.jackson.utils.ObjectMapperFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+
+import io.cloudevents.SpecVersion;
+
+import static org.kie.kogito.event.process.KogitoEventBodySerializationHelper.readObject;
+import static org.kie.kogito.event.process.KogitoEventBodySerializationHelper.readUTF;
+
+public class MultipleUserTaskInstanceDataEventDeserializer extends JsonDeserializer<MultipleUserTaskInstanceDataEvent> implements ResolvableDeserializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(MultipleUserTaskInstanceDataEventDeserializer.class);
+
+    private JsonDeserializer<Object> defaultDeserializer;
+
+    public MultipleUserTaskInstanceDataEventDeserializer(JsonDeserializer<Object> deserializer) {
+        this.defaultDeserializer = deserializer;
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        ((ResolvableDeserializer) defaultDeserializer).resolve(ctxt);
+    }
+
+    @Override
+    public MultipleUserTaskInstanceDataEvent deserialize(JsonParser p, DeserializationContext ctxt)
+            throws IOException, JacksonException {
+        JsonNode node = p.getCodec().readTree(p);
+        JsonNode dataContentType = node.get("datacontenttype");
+        if (dataContentType != null && MultipleProcessInstanceDataEvent.BINARY_CONTENT_TYPE.equals(dataContentType.asText())) {
+            MultipleUserTaskInstanceDataEvent event = new MultipleUserTaskInstanceDataEvent();
+            event.setDataContentType(dataContentType.asText());
+            event.setSource(URI.create(node.get("source").asText()));
+            event.setType(node.get("type").asText());
+            event.setSpecVersion(SpecVersion.parse(node.get("specversion").asText()));
+            event.setId(node.get("id").asText());
+            JsonNode data = node.get("data");
+            if (data != null) {
+                event.setData(readFromBytes(data.binaryValue(), isCompressed(node)));
+            }
+            return event;
+        } else {
+            JsonParser newParser = node.traverse(p.getCodec());
+            newParser.nextToken();
+            return (MultipleUserTaskInstanceDataEvent) defaultDeserializer.deserialize(newParser, ctxt);
+        }
+    }
+
+    private static boolean isCompressed(JsonNode node) {
+        JsonNode compress = node.get(MultipleProcessInstanceDataEvent.COMPRESS_DATA);
+        return compress != null && compress.isBoolean() ? compress.asBoolean() : false;
+    }
+
+    static Collection<UserTaskInstanceDataEvent<?>> readFromBytes(byte[] binaryValue, boolean compressed) throws IOException {
+        InputStream wrappedIn = new ByteArrayInputStream(binaryValue);
+        if (compressed) {
+            logger.trace("Gzip compressed byte array");
+            wrappedIn = new GZIPInputStream(wrappedIn);
+        }
+        try (DataInputStream dataIn = new DataInputStream(wrappedIn)) {
+            CompactDataInput in = new CompactDataInput(dataIn);
+            in.readFormatVersion();
+            int size = in.readVarInt();
+            logger.trace("Reading collection of size {}", size);
+            Collection<UserTaskInstanceDataEvent<?>> result = new ArrayList<>(size);
+            long[] previousTime = { 0 };
+            while (size-- > 0) {
+                String type = in.readUTF();
+                logger.trace("Type is {}", type);
+                UserTaskInstanceDataEvent<?> cloudEvent = getCloudEvent(in, type, previousTime);
+                cloudEvent.setType(type);
+                result.add(cloudEvent);
+                logger.trace("{} events remaining", size);
+            }
+            return result;
+        }
+    }
+
+    private static UserTaskInstanceDataEvent<?> getCloudEvent(CompactDataInput in, String type, long[] previousTime) throws IOException {
+        switch (type) {
+            case "UserTaskInstanceAssignmentDataEvent":
+                return buildDataEvent(in, new UserTaskInstanceAssignmentDataEvent(), UserTaskInstanceAssignmentEventBody.class, previousTime);
+            case "UserTaskInstanceAttachmentDataEvent":
+                return buildDataEvent(in, new UserTaskInstanceAttachmentDataEvent(), UserTaskInstanceAttachmentEventBody.class, previousTime);
+            case "UserTaskInstanceCommentDataEvent":
+                return buildDataEvent(in, new UserTaskInstanceCommentDataEvent(), UserTaskInstanceCommentEventBody.class, previousTime);
+            case "UserTaskInstanceDeadlineDataEvent":
+                return buildDataEvent(in, new UserTaskInstanceDeadlineDataEvent(), UserTaskInstanceDeadlineEventBody.class, previousTime);
+            case "UserTaskInstanceStateDataEvent":
+                return buildDataEvent(in, new UserTaskInstanceStateDataEvent(), UserTaskInstanceStateEventBody.class, previousTime);
+            case "UserTaskInstanceVariableDataEvent":
+                return buildDataEvent(in, new UserTaskInstanceVariableDataEvent(), UserTaskInstanceVariableEventBody.class, previousTime);
+            default:
+                throw new UnsupportedOperationException("Unrecognized event type " + type);
+        }
+    }
+
+    private static <T extends UserTaskInstanceDataEvent<V>, V> T buildDataEvent(CompactDataInput in, T cloudEvent, Class<V> bodyClass, long[] previousTime) throws IOException {
+        KogitoDataEventSerializationHelper.readCloudEventAttrs(in, cloudEvent);
+        String source = readUTF(in);
+        if (source != null) {
+            cloudEvent.setSource(URI.create(source));
+        }
+        if (in.readBoolean()) {
+            previousTime[0] += in.readVarLong();
+            logger.trace("Time is {}", previousTime[0]);
+            cloudEvent.setTime(Instant.ofEpochMilli(previousTime[0]).atOffset(ZoneOffset.UTC));
+        }
+        int extensions = in.readVarInt();
+        while (extensions-- > 0) {
+            String extensionName = in.readUTF();
+            cloudEvent.addExtensionAttribute(extensionName, readObject(in));
+        }
+        logger.trace("Cloud event before body {}", cloudEvent);
+        if (in.readBoolean()) {
+            cloudEvent.setData(ObjectMapperFactory.get().treeToValue(in.readTree(), bodyClass));
+        } else {
+            logger.trace("Data is null");
+        }
+        return cloudEvent;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.event.serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import org.kie.kogito.event.process.CompactDataOutput;
+import org.kie.kogito.event.process.MultipleProcessInstanceDataEvent;
+import org.kie.kogito.event.usertask.MultipleUserTaskInstanceDataEvent;
+import org.kie.kogito.event.usertask.UserTaskInstanceDataEvent;
+import org.kie.kogito.jackson.utils.ObjectMapperFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import static org.kie.kogito.event.process.KogitoEventBodySerializationHelper.writeObject;
+import static org.kie.kogito.event.process.KogitoEventBodySerializationHelper.writeUTF;
+
+public class MultipleUserTaskInstanceDataEventSerializer extends JsonSerializer<MultipleUserTaskInstanceDataEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(MultipleUserTaskInstanceDataEventSerializer.class);
+
+    private JsonSerializer<Object> defaultSerializer;
+
+    public MultipleUserTaskInstanceDataEventSerializer(JsonSerializer<Object> serializer) {
+        this.defaultSerializer = serializer;
+    }
+
+    @Override
+    public void serialize(MultipleUserTaskInstanceDataEvent value, JsonGenerator gen, SerializerProvider serializers)
+            throws IOException {
+        if (MultipleProcessInstanceDataEvent.BINARY_CONTENT_TYPE.equals(value.getDataContentType())) {
+            gen.writeStartObject();
+            gen.writeStringField("datacontenttype", value.getDataContentType());
+            gen.writeStringField("source", value.getSource().toString());
+            gen.writeStringField("id", value.getId());
+            gen.writeStringField("specversion", value.getSpecVersion().toString());
+            gen.writeStringField("type", value.getType());
+            boolean compress = value.isCompressed();
+            if (compress) {
+                gen.writeBooleanField(MultipleProcessInstanceDataEvent.COMPRESS_DATA, true);
+            }
+            gen.writeBinaryField("data", dataAsBytes(value.getData(), compress));
+            gen.writeEndObject();
+        } else {
+            defaultSerializer.serialize(value, gen, serializers);
+        }
+    }
+
+    static byte[] dataAsBytes(Collection<UserTaskInstanceDataEvent<?>> data, boolean compress) throws IOException {
+        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        try (DataOutputStream dataOut = new DataOutputStream(compress ? new GZIPOutputStream(bytesOut) : bytesOut)) {
+            CompactDataOutput out = new CompactDataOutput(dataOut);
+            logger.trace("Writing compact format version {}", CompactDataOutput.FORMAT_VERSION);
+            out.writeFormatVersion();
+            logger.trace("Writing size {}", data.size());
+            out.writeVarInt(data.size());
+            long previousTime = 0;
+            for (UserTaskInstanceDataEvent<?> cloudEvent : data) {
+                logger.trace("Writing type {}", cloudEvent.getType());
+                out.writeUTF(cloudEvent.getType());
+                KogitoDataEventSerializationHelper.writeCloudEventAttrs(out, cloudEvent);
+                writeUTF(out, cloudEvent.getSource() != null ? cloudEvent.getSource().toString() : null);
+                if (cloudEvent.getTime() != null) {
+                    long time = cloudEvent.getTime().toInstant().toEpochMilli();
+                    logger.trace("Writing time delta {}", time - previousTime);
+                    out.writeBoolean(true);
+                    out.writeVarLong(time - previousTime);
+                    previousTime = time;
+                } else {
+                    out.writeBoolean(false);
+                }
+                Set<String> extensionNames = cloudEvent.getExtensionNames();
+                logger.trace("Writing extensions {}", extensionNames);
+                out.writeVarInt(extensionNames.size());
+                for (String extensionName : extensionNames) {
+                    out.writeUTF(extensionName);
+                    writeObject(out, cloudEvent.getExtension(extensionName));
+                }
+                Object itemData = cloudEvent.getData();
+                if (itemData != null) {
+                    logger.trace("Writing cloud event body {}", itemData);
+                    out.writeBoolean(true);
+                    out.writeTree(ObjectMapperFactory.get().valueToTree(itemData));
+                } else {
+                    logger.trace("Writing data null boolean");
+                    out.writeBoolean(false);
+                }
+            }
+        }
+        return bytesOut.toByteArray();
+    }
+}
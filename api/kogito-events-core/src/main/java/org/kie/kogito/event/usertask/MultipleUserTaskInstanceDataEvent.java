@@ -21,6 +21,8 @@ package org.kie.kogito.event.usertask;
 import java.net.URI;
 import java.util.Collection;
 
+import org.kie.kogito.event.process.MultipleProcessInstanceDataEvent;
+
 public class MultipleUserTaskInstanceDataEvent extends UserTaskInstanceDataEvent<Collection<UserTaskInstanceDataEvent<?>>> {
 
     public static final String TYPE = "MultipleUserTaskInstanceDataEvent";
@@ -31,4 +33,12 @@ public class MultipleUserTaskInstanceDataEvent extends UserTaskInstanceDataEvent
     public MultipleUserTaskInstanceDataEvent(URI source, Collection<UserTaskInstanceDataEvent<?>> body) {
         super(TYPE, source, body);
     }
+
+    public boolean isCompressed() {
+        return MultipleProcessInstanceDataEvent.isCompressed(getExtension(MultipleProcessInstanceDataEvent.COMPRESS_DATA));
+    }
+
+    public void setCompressed(boolean compressed) {
+        addExtensionAttribute(MultipleProcessInstanceDataEvent.COMPRESS_DATA, compressed);
+    }
 }
@@ -35,7 +35,12 @@ import org.kie.kogito.event.AbstractDataEvent;
 import org.kie.kogito.event.DataEventFactory;
 import org.kie.kogito.event.cloudevents.CloudEventExtensionConstants;
 import org.kie.kogito.event.serializer.MultipleProcessDataInstanceConverterFactory;
+import org.kie.kogito.event.usertask.MultipleUserTaskInstanceDataEvent;
+import org.kie.kogito.event.usertask.UserTaskInstanceDataEvent;
 import org.kie.kogito.event.usertask.UserTaskInstanceStateDataEvent;
+import org.kie.kogito.event.usertask.UserTaskInstanceStateEventBody;
+import org.kie.kogito.event.usertask.UserTaskInstanceVariableDataEvent;
+import org.kie.kogito.event.usertask.UserTaskInstanceVariableEventBody;
 import org.kie.kogito.jackson.utils.JsonObjectUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -143,12 +148,24 @@ class ProcessEventsTest {
     @Test
     void multipleInstanceDataEvent() throws IOException {
         JsonNode expectedVarValue = OBJECT_MAPPER.createObjectNode().put("name", "John Doe");
-        processMultipleInstanceDataEvent(expectedVarValue, false, false, this::serializeAsStructured);
-        processMultipleInstanceDataEvent(expectedVarValue, true, false, this::serializeAsStructured);
-        processMultipleInstanceDataEvent(expectedVarValue, true, true, this::serializeAsStructured);
-        processMultipleInstanceDataEvent(expectedVarValue, false, false, this::serializeAsBinary);
-        processMultipleInstanceDataEvent(expectedVarValue, true, false, this::serializeAsBinary);
-        processMultipleInstanceDataEvent(expectedVarValue, true, true, this::serializeAsBinary);
+        processMultipleInstanceDataEvent(expectedVarValue, false, false, false, this::serializeAsStructured);
+        processMultipleInstanceDataEvent(expectedVarValue, true, false, false, this::serializeAsStructured);
+        processMultipleInstanceDataEvent(expectedVarValue, true, true, false, this::serializeAsStructured);
+        processMultipleInstanceDataEvent(expectedVarValue, true, false, true, this::serializeAsStructured);
+        processMultipleInstanceDataEvent(expectedVarValue, true, true, true, this::serializeAsStructured);
+        processMultipleInstanceDataEvent(expectedVarValue, false, false, false, this::serializeAsBinary);
+        processMultipleInstanceDataEvent(expectedVarValue, true, false, false, this::serializeAsBinary);
+        processMultipleInstanceDataEvent(expectedVarValue, true, true, false, this::serializeAsBinary);
+        processMultipleInstanceDataEvent(expectedVarValue, true, false, true, this::serializeAsBinary);
+        processMultipleInstanceDataEvent(expectedVarValue, true, true, true, this::serializeAsBinary);
+    }
+
+    @Test
+    void multipleInstanceDataEventCompactIsSmaller() throws IOException {
+        JsonNode expectedVarValue = OBJECT_MAPPER.createObjectNode().put("name", "John Doe");
+        int legacySize = OBJECT_MAPPER.writeValueAsBytes(buildMultipleInstanceDataEvent(expectedVarValue, true, false, false)).length;
+        int compactSize = OBJECT_MAPPER.writeValueAsBytes(buildMultipleInstanceDataEvent(expectedVarValue, true, false, true)).length;
+        assertThat(compactSize).isLessThan(legacySize);
     }
 
     private MultipleProcessInstanceDataEvent serializeAsStructured(MultipleProcessInstanceDataEvent event) throws IOException {
@@ -239,7 +256,15 @@ class ProcessEventsTest {
         T apply(T obj) throws IOException;
     }
 
-    private void processMultipleInstanceDataEvent(JsonNode expectedVarValue, boolean binary, boolean compress, CheckedUnaryOperator<MultipleProcessInstanceDataEvent> operator) throws IOException {
+    private void processMultipleInstanceDataEvent(JsonNode expectedVarValue, boolean binary, boolean compress, boolean compact, CheckedUnaryOperator<MultipleProcessInstanceDataEvent> operator)
+            throws IOException {
+        MultipleProcessInstanceDataEvent event = buildMultipleInstanceDataEvent(expectedVarValue, binary, compress, compact);
+        MultipleProcessInstanceDataEvent deserializedEvent = operator.apply(event);
+        assertThat(deserializedEvent.getData()).hasSize(event.getData().size());
+        assertMultipleIntance(deserializedEvent, expectedVarValue);
+    }
+
+    private MultipleProcessInstanceDataEvent buildMultipleInstanceDataEvent(JsonNode expectedVarValue, boolean binary, boolean compress, boolean compact) {
         ProcessInstanceStateDataEvent stateEvent = new ProcessInstanceStateDataEvent();
         setBaseEventValues(stateEvent, ProcessInstanceStateDataEvent.STATE_TYPE);
         stateEvent.setData(ProcessInstanceStateEventBody.create().eventDate(toDate(TIME)).eventType(EVENT_TYPE).eventUser(SUBJECT)
@@ -282,15 +307,16 @@ class ProcessEventsTest {
         MultipleProcessInstanceDataEvent event = new MultipleProcessInstanceDataEvent(SOURCE, Arrays.asList(stateEvent, varEvent, errorEvent, nodeEvent, slaEvent));
         if (binary) {
             event.setDataContentType(MultipleProcessInstanceDataEvent.BINARY_CONTENT_TYPE);
-            event.setMarshallFlags(KogitoMarshallEventFlag.buildFlags(EnumSet.allOf(KogitoMarshallEventFlag.class)));
+            EnumSet<KogitoMarshallEventFlag> flags = EnumSet.allOf(KogitoMarshallEventFlag.class);
+            if (!compact) {
+                flags.remove(KogitoMarshallEventFlag.COMPACT);
+            }
+            event.setMarshallFlags(KogitoMarshallEventFlag.buildFlags(flags));
         }
         if (compress) {
             event.setCompressed(compress);
         }
-
-        MultipleProcessInstanceDataEvent deserializedEvent = operator.apply(event);
-        assertThat(deserializedEvent.getData()).hasSize(event.getData().size());
-        assertMultipleIntance(deserializedEvent, expectedVarValue);
+        return event;
     }
 
     private void assertMultipleIntance(MultipleProcessInstanceDataEvent deserializedEvent, JsonNode expectedVarValue) {
@@ -417,6 +443,57 @@ class ProcessEventsTest {
                 EXTENSION_1, EXTENSION_2);
     }
 
+    @Test
+    void multipleUserTaskInstanceDataEvent() throws IOException {
+        JsonNode expectedVarValue = OBJECT_MAPPER.createObjectNode().put("name", "John Doe");
+        processMultipleUserTaskInstanceDataEvent(expectedVarValue, false, false);
+        processMultipleUserTaskInstanceDataEvent(expectedVarValue, true, false);
+        processMultipleUserTaskInstanceDataEvent(expectedVarValue, true, true);
+    }
+
+    private void processMultipleUserTaskInstanceDataEvent(JsonNode expectedVarValue, boolean binary, boolean compress) throws IOException {
+        UserTaskInstanceStateDataEvent stateEvent = new UserTaskInstanceStateDataEvent();
+        setBaseEventValues(stateEvent, "UserTaskInstanceStateDataEvent");
+        stateEvent.setKogitoUserTaskInstanceId(PROCESS_USER_TASK_INSTANCE_ID);
+        stateEvent.setKogitoUserTaskInstanceState(PROCESS_USER_TASK_INSTANCE_STATE);
+        stateEvent.setData(UserTaskInstanceStateEventBody.create().eventDate(toDate(TIME)).eventUser(SUBJECT).userTaskInstanceId(PROCESS_USER_TASK_INSTANCE_ID)
+                .userTaskName(NODE_NAME).state(PROCESS_USER_TASK_INSTANCE_STATE).processInstanceId(PROCESS_INSTANCE_ID).slaDueDate(toDate(TIME)).build());
+
+        UserTaskInstanceVariableDataEvent varEvent = new UserTaskInstanceVariableDataEvent();
+        setBaseEventValues(varEvent, "UserTaskInstanceVariableDataEvent");
+        varEvent.setKogitoUserTaskInstanceId(PROCESS_USER_TASK_INSTANCE_ID);
+        varEvent.setData(UserTaskInstanceVariableEventBody.create().eventDate(toDate(TIME)).eventUser(SUBJECT).userTaskInstanceId(PROCESS_USER_TASK_INSTANCE_ID)
+                .userTaskName(NODE_NAME).variableId(VARIABLE_NAME).variableName(VARIABLE_NAME).variableType("INPUT").variableValue(expectedVarValue).build());
+
+        MultipleUserTaskInstanceDataEvent event = new MultipleUserTaskInstanceDataEvent(SOURCE, Arrays.asList(stateEvent, varEvent));
+        if (binary) {
+            event.setDataContentType(MultipleProcessInstanceDataEvent.BINARY_CONTENT_TYPE);
+            event.setCompressed(compress);
+        }
+
+        MultipleUserTaskInstanceDataEvent deserializedEvent = OBJECT_MAPPER.readValue(OBJECT_MAPPER.writeValueAsBytes(event), MultipleUserTaskInstanceDataEvent.class);
+        assertThat(deserializedEvent.getData()).hasSize(2);
+        Iterator<UserTaskInstanceDataEvent<?>> iter = deserializedEvent.getData().iterator();
+
+        UserTaskInstanceStateDataEvent deserializedStateEvent = (UserTaskInstanceStateDataEvent) iter.next();
+        assertBaseEventValues(deserializedStateEvent, "UserTaskInstanceStateDataEvent");
+        assertThat(deserializedStateEvent.getKogitoUserTaskInstanceId()).isEqualTo(PROCESS_USER_TASK_INSTANCE_ID);
+        assertThat(deserializedStateEvent.getKogitoUserTaskInstanceState()).isEqualTo(PROCESS_USER_TASK_INSTANCE_STATE);
+        UserTaskInstanceStateEventBody stateBody = deserializedStateEvent.getData();
+        assertThat(stateBody.getEventDate()).isEqualTo(toDate(TIME));
+        assertThat(stateBody.getEventUser()).isEqualTo(SUBJECT);
+        assertThat(stateBody.getUserTaskName()).isEqualTo(NODE_NAME);
+        assertThat(stateBody.getState()).isEqualTo(PROCESS_USER_TASK_INSTANCE_STATE);
+        assertThat(stateBody.getSlaDueDate()).isEqualTo(toDate(TIME));
+
+        UserTaskInstanceVariableDataEvent deserializedVarEvent = (UserTaskInstanceVariableDataEvent) iter.next();
+        assertBaseEventValues(deserializedVarEvent, "UserTaskInstanceVariableDataEvent");
+        UserTaskInstanceVariableEventBody varBody = deserializedVarEvent.getData();
+        assertThat(varBody.getVariableName()).isEqualTo(VARIABLE_NAME);
+        assertThat(varBody.getVariableType()).isEqualTo("INPUT");
+        assertThat(JsonObjectUtils.fromValue(varBody.getVariableValue())).isEqualTo(expectedVarValue);
+    }
+
     @Test
     void variableInstanceDataEvent() throws Exception {
         ProcessInstanceVariableDataEvent event = new ProcessInstanceVariableDataEvent();
@@ -20,43 +20,92 @@ package org.kie.kogito.services.signal;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 import org.kie.api.runtime.process.EventListener;
 import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.SignalFactory;
+import org.kie.kogito.services.uow.UnitOfWorkExecutor;
 import org.kie.kogito.signal.ProcessInstanceResolver;
 import org.kie.kogito.signal.SignalManagerHub;
+import org.kie.kogito.uow.UnitOfWorkManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.synchronizedSet;
 
 public class DefaultSignalManagerHub implements SignalManagerHub {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultSignalManagerHub.class);
+
+    public static final int DEFAULT_BROADCAST_PAGE_SIZE = 100;
+    public static final int DEFAULT_BROADCAST_CONCURRENCY = 1;
+
     private Set<ProcessInstanceResolver<?>> workflowInstanceResolver = synchronizedSet(new HashSet<>());
     private ConcurrentMap<String, List<EventListener>> listeners = new ConcurrentHashMap<>();
 
+    private final UnitOfWorkManager unitOfWorkManager;
+    private final int pageSize;
+    private final int concurrency;
+    private volatile ExecutorService executor;
+    private volatile boolean shutdown;
+
+    public DefaultSignalManagerHub() {
+        this(null);
+    }
+
+    public DefaultSignalManagerHub(UnitOfWorkManager unitOfWorkManager) {
+        this(unitOfWorkManager, DEFAULT_BROADCAST_PAGE_SIZE, DEFAULT_BROADCAST_CONCURRENCY);
+    }
+
+    /**
+     * @param unitOfWorkManager used to deliver each signal in its own unit of work when <code>concurrency</code> is
+     *        greater than one. Without it, signals are delivered sequentially in the caller unit of work.
+     * @param pageSize maximum number of waiting instances loaded at once during a broadcast
+     * @param concurrency maximum number of waiting instances signalled at the same time
+     */
+    public DefaultSignalManagerHub(UnitOfWorkManager unitOfWorkManager, int pageSize, int concurrency) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Broadcast page size must be positive, was " + pageSize);
+        }
+        this.unitOfWorkManager = unitOfWorkManager;
+        this.pageSize = pageSize;
+        if (concurrency > 1 && unitOfWorkManager == null) {
+            LOGGER.warn("Broadcast concurrency {} ignored, a unit of work manager is required to isolate concurrent signals", concurrency);
+            this.concurrency = 1;
+        } else {
+            this.concurrency = Math.max(concurrency, 1);
+        }
+    }
+
     @Override
     public boolean accept(String eventType, Object event) {
         if (listeners.containsKey(eventType)) {
             return true;
         }
-        return workflowInstanceResolver.stream().map(e -> e.waitingForEvents(eventType)).flatMap(List::stream).count() > 0;
+        return resolvers().stream().anyMatch(e -> e.existsWaitingFor(eventType));
     }
 
     @Override
     public void signalEvent(String eventType, Object payload) {
         // we signal memory first
-        List<String> idList = new ArrayList<>();
+        Set<String> signalled = new HashSet<>();
         listeners.getOrDefault(eventType, emptyList()).forEach(eventListener -> {
             if (eventListener instanceof KogitoProcessInstance kogitoProcessInstance) {
-                idList.add(kogitoProcessInstance.getId());
+                signalled.add(kogitoProcessInstance.getId());
                 ProcessInstance<?> processInstance = kogitoProcessInstance.unwrap();
                 // this will enforce access to the lock mechanism logic.
                 processInstance.send(SignalFactory.of(eventType, payload));
@@ -65,13 +114,100 @@ public class DefaultSignalManagerHub implements SignalManagerHub {
             }
         });
 
-        var processInstancesWaiting = workflowInstanceResolver.stream()
-                .map(e -> e.waitingForEvents(eventType))
-                .flatMap(List::stream)
-                .filter(p -> !idList.contains(p.id()))
-                .toList();
+        // then the persisted instances, one page at a time so they are not all loaded at once
+        List<ProcessInstance<?>> page = new ArrayList<>(pageSize);
+        for (ProcessInstanceResolver<?> resolver : resolvers()) {
+            try (Stream<? extends ProcessInstance<?>> waiting = resolver.streamWaitingForEvents(eventType)) {
+                Iterator<? extends ProcessInstance<?>> iterator = waiting.iterator();
+                while (iterator.hasNext()) {
+                    ProcessInstance<?> processInstance = iterator.next();
+                    if (signalled.add(processInstance.id())) {
+                        page.add(processInstance);
+                    }
+                    if (page.size() == pageSize) {
+                        signalPage(page, eventType, payload);
+                    }
+                }
+            }
+            signalPage(page, eventType, payload);
+        }
+    }
+
+    private List<ProcessInstanceResolver<?>> resolvers() {
+        synchronized (workflowInstanceResolver) {
+            return new ArrayList<>(workflowInstanceResolver);
+        }
+    }
+
+    private void signalPage(List<ProcessInstance<?>> page, String eventType, Object payload) {
+        if (page.isEmpty()) {
+            return;
+        }
+        if (concurrency == 1) {
+            page.forEach(processInstance -> processInstance.send(SignalFactory.of(eventType, payload)));
+        } else {
+            List<Future<?>> deliveries = new ArrayList<>(page.size());
+            for (ProcessInstance<?> processInstance : page) {
+                deliveries.add(executor().submit(() -> UnitOfWorkExecutor.executeInUnitOfWork(unitOfWorkManager, () -> {
+                    processInstance.send(SignalFactory.of(eventType, payload));
+                    return null;
+                })));
+            }
+            awaitAll(deliveries, eventType);
+        }
+        page.clear();
+    }
+
+    private void awaitAll(List<Future<?>> deliveries, String eventType) {
+        RuntimeException failure = null;
+        for (Future<?> delivery : deliveries) {
+            try {
+                delivery.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while broadcasting event " + eventType, e);
+            } catch (ExecutionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException runtimeException ? runtimeException : new IllegalStateException(e.getCause());
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private ExecutorService executor() {
+        ExecutorService current = executor;
+        if (current == null || shutdown) {
+            synchronized (this) {
+                if (shutdown) {
+                    throw new IllegalStateException("Signal manager hub has been shut down");
+                }
+                if (executor == null) {
+                    executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+                        Thread thread = new Thread(runnable, "kogito-signal-broadcast");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+                current = executor;
+            }
+        }
+        return current;
+    }
 
-        processInstancesWaiting.forEach(eventListener -> eventListener.send(SignalFactory.of(eventType, payload)));
+    /**
+     * Stops the threads used to signal waiting instances concurrently. Concurrent broadcasts are rejected afterwards.
+     */
+    public synchronized void shutdown() {
+        shutdown = true;
+        if (executor != null) {
+            executor.shutdown();
+        }
     }
 
     @Override
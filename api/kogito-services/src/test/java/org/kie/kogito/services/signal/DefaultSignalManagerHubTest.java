@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.services.signal;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+import org.kie.kogito.signal.ProcessInstanceResolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DefaultSignalManagerHubTest {
+
+    @Test
+    public void testAcceptOnlyChecksExistence() {
+        ProcessInstanceResolver<Object> resolver = mock(ProcessInstanceResolver.class);
+        when(resolver.existsWaitingFor("event")).thenReturn(true);
+
+        DefaultSignalManagerHub hub = new DefaultSignalManagerHub();
+        hub.addProcessInstanceResolver(resolver);
+
+        assertThat(hub.accept("event", null)).isTrue();
+        assertThat(hub.accept("other", null)).isFalse();
+        verify(resolver, never()).waitingForEvents(any());
+        verify(resolver, never()).streamWaitingForEvents(any());
+    }
+
+    @Test
+    public void testBroadcastSignalsEachInstanceOnceAcrossPages() {
+        ProcessInstance<Object> first = instance("1");
+        ProcessInstance<Object> second = instance("2");
+        ProcessInstance<Object> third = instance("3");
+
+        ProcessInstanceResolver<Object> resolver = mock(ProcessInstanceResolver.class);
+        when(resolver.streamWaitingForEvents("event")).thenReturn(Stream.of(first, second, third));
+        ProcessInstanceResolver<Object> otherResolver = mock(ProcessInstanceResolver.class);
+        when(otherResolver.streamWaitingForEvents("event")).thenReturn(Stream.of(third));
+
+        DefaultSignalManagerHub hub = new DefaultSignalManagerHub(null, 2, 1);
+        hub.addProcessInstanceResolver(resolver);
+        hub.addProcessInstanceResolver(otherResolver);
+        hub.signalEvent("event", "payload");
+
+        verify(first, times(1)).send(any());
+        verify(second, times(1)).send(any());
+        verify(third, times(1)).send(any());
+    }
+
+    @Test
+    public void testConcurrentBroadcastRejectedAfterShutdown() {
+        ProcessInstance<Object> first = instance("1");
+        ProcessInstance<Object> second = instance("2");
+
+        ProcessInstanceResolver<Object> resolver = mock(ProcessInstanceResolver.class);
+        when(resolver.streamWaitingForEvents("event")).thenReturn(Stream.of(first, second), Stream.of(first, second));
+
+        DefaultSignalManagerHub hub = new DefaultSignalManagerHub(new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory()), 2, 2);
+        hub.addProcessInstanceResolver(resolver);
+        hub.signalEvent("event", "payload");
+        verify(first, times(1)).send(any());
+        verify(second, times(1)).send(any());
+
+        hub.shutdown();
+        assertThatThrownBy(() -> hub.signalEvent("event", "payload")).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static ProcessInstance<Object> instance(String id) {
+        ProcessInstance<Object> processInstance = mock(ProcessInstance.class);
+        when(processInstance.id()).thenReturn(id);
+        return processInstance;
+    }
+}
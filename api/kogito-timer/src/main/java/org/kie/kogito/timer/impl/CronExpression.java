@@ -20,13 +20,14 @@ package org.kie.kogito.timer.impl;
 
 import java.io.Serializable;
 import java.text.ParseException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
-import java.util.SortedSet;
+import java.util.NoSuchElementException;
 import java.util.StringTokenizer;
 import java.util.TimeZone;
 import java.util.TreeSet;
@@ -206,6 +207,8 @@ public class CronExpression implements Serializable, Cloneable {
     protected static final int NO_SPEC_INT = 98; // '?'
     protected static final Integer ALL_SPEC = ALL_SPEC_INT;
     protected static final Integer NO_SPEC = NO_SPEC_INT;
+    private static final long NO_SPEC_BIT = 1L << 62;
+    private static final long ALL_SPEC_BIT = 1L << 63;
 
     protected static final Map monthMap = new HashMap(20);
     protected static final Map dayMap = new HashMap(60);
@@ -248,6 +251,16 @@ public class CronExpression implements Serializable, Cloneable {
     protected transient boolean nearestWeekday = false;
     protected transient boolean expressionParsed = false;
 
+    // bitmask views of the parsed sets, so computing fire times neither boxes nor walks tree sets.
+    // Bit n stands for value n, while the '?' and '*' markers take the two highest bits.
+    private transient long secondsMask;
+    private transient long minutesMask;
+    private transient long hoursMask;
+    private transient long daysOfMonthMask;
+    private transient long monthsMask;
+    private transient long daysOfWeekMask;
+    private transient int[] yearValues;
+
     /**
      * Constructs a new <CODE>CronExpression</CODE> based on the specified
      * parameter.
@@ -466,6 +479,7 @@ public class CronExpression implements Serializable, Cloneable {
                 throw new ParseException(
                         "Support for specifying both or none of day-of-week AND a day-of-month parameters is not implemented.", 0);
             }
+            buildMasks();
         } catch (ParseException pe) {
             throw pe;
         } catch (Exception e) {
@@ -674,8 +688,7 @@ public class CronExpression implements Serializable, Cloneable {
             } else {
                 throw new ParseException("'L' option is not valid here. (pos=" + i + ")", i);
             }
-            TreeSet set = getSet(type);
-            set.add(val);
+            addToSet(val, -1, 0, type);
             i++;
             return i;
         }
@@ -686,8 +699,7 @@ public class CronExpression implements Serializable, Cloneable {
             } else {
                 throw new ParseException("'W' option is not valid here. (pos=" + i + ")", i);
             }
-            TreeSet set = getSet(type);
-            set.add(val);
+            addToSet(val, -1, 0, type);
             i++;
             return i;
         }
@@ -708,8 +720,7 @@ public class CronExpression implements Serializable, Cloneable {
                         i);
             }
 
-            TreeSet set = getSet(type);
-            set.add(val);
+            addToSet(val, -1, 0, type);
             i++;
             return i;
         }
@@ -1134,18 +1145,18 @@ public class CronExpression implements Serializable, Cloneable {
                 return null;
             }
 
-            SortedSet st = null;
+            int next;
             int t = 0;
 
             int sec = cl.get(Calendar.SECOND);
             int min = cl.get(Calendar.MINUTE);
 
             // get second.................................................
-            st = seconds.tailSet(sec);
-            if (!st.isEmpty()) {
-                sec = (Integer) st.first();
+            next = nextValue(secondsMask, sec);
+            if (next != -1) {
+                sec = next;
             } else {
-                sec = (Integer) seconds.first();
+                sec = firstValue(secondsMask);
                 min++;
                 cl.set(Calendar.MINUTE, min);
             }
@@ -1156,12 +1167,12 @@ public class CronExpression implements Serializable, Cloneable {
             t = -1;
 
             // get minute.................................................
-            st = minutes.tailSet(min);
-            if (!st.isEmpty()) {
+            next = nextValue(minutesMask, min);
+            if (next != -1) {
                 t = min;
-                min = (Integer) st.first();
+                min = next;
             } else {
-                min = (Integer) minutes.first();
+                min = firstValue(minutesMask);
                 hr++;
             }
             if (min != t) {
@@ -1177,12 +1188,12 @@ public class CronExpression implements Serializable, Cloneable {
             t = -1;
 
             // get hour...................................................
-            st = hours.tailSet(hr);
-            if (!st.isEmpty()) {
+            next = nextValue(hoursMask, hr);
+            if (next != -1) {
                 t = hr;
-                hr = (Integer) st.first();
+                hr = next;
             } else {
-                hr = (Integer) hours.first();
+                hr = firstValue(hoursMask);
                 day++;
             }
             if (hr != t) {
@@ -1202,10 +1213,10 @@ public class CronExpression implements Serializable, Cloneable {
             int tmon = mon;
 
             // get day...................................................
-            boolean dayOfMSpec = !daysOfMonth.contains(NO_SPEC);
-            boolean dayOfWSpec = !daysOfWeek.contains(NO_SPEC);
+            boolean dayOfMSpec = (daysOfMonthMask & NO_SPEC_BIT) == 0;
+            boolean dayOfWSpec = (daysOfWeekMask & NO_SPEC_BIT) == 0;
             if (dayOfMSpec && !dayOfWSpec) { // get day by day of month rule
-                st = daysOfMonth.tailSet(day);
+                next = nextValue(daysOfMonthMask, day);
                 if (lastdayOfMonth) {
                     if (!nearestWeekday) {
                         t = day;
@@ -1248,7 +1259,7 @@ public class CronExpression implements Serializable, Cloneable {
                     }
                 } else if (nearestWeekday) {
                     t = day;
-                    day = (Integer) daysOfMonth.first();
+                    day = firstValue(daysOfMonthMask);
 
                     Calendar tcal = Calendar.getInstance(getTimeZone());
                     tcal.set(Calendar.SECOND, 0);
@@ -1278,20 +1289,20 @@ public class CronExpression implements Serializable, Cloneable {
                     tcal.set(Calendar.MONTH, mon - 1);
                     Date nTime = tcal.getTime();
                     if (nTime.before(afterTime)) {
-                        day = (Integer) daysOfMonth.first();
+                        day = firstValue(daysOfMonthMask);
                         mon++;
                     }
-                } else if (!st.isEmpty()) {
+                } else if (next != -1) {
                     t = day;
-                    day = (Integer) st.first();
+                    day = next;
                     // make sure we don't over-run a short month, such as february
                     int lastDay = getLastDayOfMonth(mon, cl.get(Calendar.YEAR));
                     if (day > lastDay) {
-                        day = (Integer) daysOfMonth.first();
+                        day = firstValue(daysOfMonthMask);
                         mon++;
                     }
                 } else {
-                    day = (Integer) daysOfMonth.first();
+                    day = firstValue(daysOfMonthMask);
                     mon++;
                 }
 
@@ -1308,7 +1319,7 @@ public class CronExpression implements Serializable, Cloneable {
             } else if (dayOfWSpec && !dayOfMSpec) { // get day by day of week rule
                 if (lastdayOfWeek) { // are we looking for the last XXX day of
                     // the month?
-                    int dow = (Integer) daysOfWeek.first(); // desired
+                    int dow = firstValue(daysOfWeekMask); // desired
                     // d-o-w
                     int cDow = cl.get(Calendar.DAY_OF_WEEK); // current d-o-w
                     int daysToAdd = 0;
@@ -1351,7 +1362,7 @@ public class CronExpression implements Serializable, Cloneable {
 
                 } else if (nthdayOfWeek != 0) {
                     // are we looking for the Nth XXX day in the month?
-                    int dow = (Integer) daysOfWeek.first(); // desired
+                    int dow = firstValue(daysOfWeekMask); // desired
                     // d-o-w
                     int cDow = cl.get(Calendar.DAY_OF_WEEK); // current d-o-w
                     int daysToAdd = 0;
@@ -1395,11 +1406,11 @@ public class CronExpression implements Serializable, Cloneable {
                     }
                 } else {
                     int cDow = cl.get(Calendar.DAY_OF_WEEK); // current d-o-w
-                    int dow = (Integer) daysOfWeek.first(); // desired
+                    int dow = firstValue(daysOfWeekMask); // desired
                     // d-o-w
-                    st = daysOfWeek.tailSet(cDow);
-                    if (!st.isEmpty()) {
-                        dow = (Integer) st.first();
+                    next = nextValue(daysOfWeekMask, cDow);
+                    if (next != -1) {
+                        dow = next;
                     }
 
                     int daysToAdd = 0;
@@ -1452,12 +1463,12 @@ public class CronExpression implements Serializable, Cloneable {
             }
 
             // get month...................................................
-            st = months.tailSet(mon);
-            if (!st.isEmpty()) {
+            next = nextValue(monthsMask, mon);
+            if (next != -1) {
                 t = mon;
-                mon = (Integer) st.first();
+                mon = next;
             } else {
-                mon = (Integer) months.first();
+                mon = firstValue(monthsMask);
                 year++;
             }
             if (mon != t) {
@@ -1478,10 +1489,10 @@ public class CronExpression implements Serializable, Cloneable {
             year = cl.get(Calendar.YEAR);
 
             // get year...................................................
-            st = years.tailSet(year);
-            if (!st.isEmpty()) {
+            next = nextYear(year);
+            if (next != -1) {
                 t = year;
-                year = (Integer) st.first();
+                year = next;
             } else {
                 return null; // ran out of years...
             }
@@ -1505,6 +1516,72 @@ public class CronExpression implements Serializable, Cloneable {
         return cl.getTime();
     }
 
+    private void buildMasks() {
+        secondsMask = toMask(seconds);
+        minutesMask = toMask(minutes);
+        hoursMask = toMask(hours);
+        daysOfMonthMask = toMask(daysOfMonth);
+        monthsMask = toMask(months);
+        daysOfWeekMask = toMask(daysOfWeek);
+        yearValues = new int[years.size()];
+        int i = 0;
+        for (Object year : years) {
+            yearValues[i++] = (Integer) year;
+        }
+    }
+
+    private static long toMask(TreeSet set) {
+        long mask = 0L;
+        for (Object value : set) {
+            int v = (Integer) value;
+            if (v == NO_SPEC_INT) {
+                mask |= NO_SPEC_BIT;
+            } else if (v == ALL_SPEC_INT) {
+                mask |= ALL_SPEC_BIT;
+            } else {
+                mask |= 1L << v;
+            }
+        }
+        return mask;
+    }
+
+    private static int valueOf(int bit) {
+        switch (bit) {
+            case 62:
+                return NO_SPEC_INT;
+            case 63:
+                return ALL_SPEC_INT;
+            default:
+                return bit;
+        }
+    }
+
+    /**
+     * Equivalent of <code>set.tailSet(from).first()</code>, returning -1 when there is no such value
+     */
+    private static int nextValue(long mask, int from) {
+        long candidates = mask & (-1L << from);
+        return candidates == 0L ? -1 : valueOf(Long.numberOfTrailingZeros(candidates));
+    }
+
+    /**
+     * Equivalent of <code>set.first()</code>
+     */
+    private static int firstValue(long mask) {
+        if (mask == 0L) {
+            throw new NoSuchElementException();
+        }
+        return valueOf(Long.numberOfTrailingZeros(mask));
+    }
+
+    private int nextYear(int from) {
+        int index = Arrays.binarySearch(yearValues, from);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return index < yearValues.length ? yearValues[index] : -1;
+    }
+
     /**
      * Advance the calendar to the particular hour paying particular attention
      * to daylight saving problems.
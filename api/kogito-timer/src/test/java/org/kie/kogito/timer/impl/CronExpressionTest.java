@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.timer.impl;
+
+import java.text.ParseException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CronExpressionTest {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    @ParameterizedTest
+    @MethodSource("nextValidTimeParams")
+    void nextValidTimeAfter(String expression, String after, String expected) throws ParseException {
+        CronExpression cronExpression = new CronExpression(expression);
+        cronExpression.setTimeZone(UTC);
+        Date next = cronExpression.getNextValidTimeAfter(Date.from(OffsetDateTime.parse(after).toInstant()));
+        if (expected == null) {
+            assertThat(next).isNull();
+        } else {
+            assertThat(next).isEqualTo(OffsetDateTime.parse(expected).toInstant());
+        }
+    }
+
+    static Stream<Arguments> nextValidTimeParams() {
+        return Stream.of(
+                Arguments.of("0 0/5 * ? * MON-FRI", "2024-03-08T23:58:00Z", "2024-03-11T00:00:00Z"),
+                Arguments.of("0 15 10 L * ?", "2024-02-10T00:00:00Z", "2024-02-29T10:15:00Z"),
+                Arguments.of("0 0 12 LW * ?", "2024-03-01T00:00:00Z", "2024-03-29T12:00:00Z"),
+                Arguments.of("0 0 9 15W * ?", "2024-06-01T00:00:00Z", "2024-06-14T09:00:00Z"),
+                Arguments.of("30 0 9 ? * 6#3", "2024-01-01T00:00:00Z", "2024-01-19T09:00:30Z"),
+                Arguments.of("0 0 8 ? * 2L", "2024-01-01T00:00:00Z", "2024-01-29T08:00:00Z"),
+                Arguments.of("0 0 22-2 * * ?", "2024-01-01T03:00:00Z", "2024-01-01T22:00:00Z"),
+                Arguments.of("0 0 0 1 JAN ? 2030", "2024-01-01T00:00:00Z", "2030-01-01T00:00:00Z"),
+                Arguments.of("0 0 0 1 JAN ? 2020", "2024-01-01T00:00:00Z", null));
+    }
+
+    @Test
+    void rejectsOutOfRangeModifiedValues() {
+        assertThatThrownBy(() -> new CronExpression("0 0 0 70W * ?")).isInstanceOf(ParseException.class);
+        assertThatThrownBy(() -> new CronExpression("0 0 0 ? * 9L")).isInstanceOf(ParseException.class);
+        assertThatThrownBy(() -> new CronExpression("0 0 0 ? * 8#2")).isInstanceOf(ParseException.class);
+    }
+
+    @Test
+    void nextValidTimeAfterMatchesBruteForce() throws ParseException {
+        Random random = new Random(42);
+        for (int run = 0; run < 300; run++) {
+            TreeSet<Integer> seconds = values(random, 0, 59);
+            TreeSet<Integer> minutes = values(random, 0, 59);
+            TreeSet<Integer> hours = values(random, 0, 23);
+            TreeSet<Integer> months = values(random, 1, 12);
+            boolean byDayOfMonth = random.nextBoolean();
+            // days up to 28 so every selected month has a match
+            TreeSet<Integer> days = byDayOfMonth ? values(random, 1, 28) : values(random, 1, 7);
+            TreeSet<Integer> years = random.nextBoolean() ? values(random, 2020, 2035) : null;
+
+            String expression = String.join(" ", list(seconds), list(minutes), list(hours),
+                    byDayOfMonth ? list(days) : "?", list(months), byDayOfMonth ? "?" : list(days)) + (years == null ? "" : " " + list(years));
+            CronExpression cronExpression = new CronExpression(expression);
+            cronExpression.setTimeZone(UTC);
+
+            LocalDateTime after = LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(random.nextInt(5 * 365 * 86400));
+            Date next = cronExpression.getNextValidTimeAfter(Date.from(after.toInstant(ZoneOffset.UTC)));
+            LocalDateTime expected = bruteForce(after, seconds, minutes, hours, months, byDayOfMonth, days, years);
+
+            assertThat(next == null ? null : LocalDateTime.ofInstant(next.toInstant(), ZoneOffset.UTC)).as(expression + " after " + after).isEqualTo(expected);
+        }
+    }
+
+    private static LocalDateTime bruteForce(LocalDateTime after, TreeSet<Integer> seconds, TreeSet<Integer> minutes, TreeSet<Integer> hours,
+            TreeSet<Integer> months, boolean byDayOfMonth, TreeSet<Integer> days, TreeSet<Integer> years) {
+        LocalDate lastDay = LocalDate.of(years == null ? after.getYear() + 2 : years.last(), 12, 31);
+        for (LocalDate date = after.toLocalDate(); !date.isAfter(lastDay); date = date.plusDays(1)) {
+            int day = byDayOfMonth ? date.getDayOfMonth() : cronDayOfWeek(date.getDayOfWeek());
+            if (!months.contains(date.getMonthValue()) || !days.contains(day) || (years != null && !years.contains(date.getYear()))) {
+                continue;
+            }
+            for (int hour : hours) {
+                for (int minute : minutes) {
+                    for (int second : seconds) {
+                        LocalDateTime candidate = date.atTime(hour, minute, second);
+                        if (candidate.isAfter(after)) {
+                            return candidate;
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int cronDayOfWeek(DayOfWeek dayOfWeek) {
+        // cron counts from SUN = 1
+        return dayOfWeek.getValue() % 7 + 1;
+    }
+
+    private static TreeSet<Integer> values(Random random, int min, int max) {
+        TreeSet<Integer> values = new TreeSet<>();
+        int count = 1 + random.nextInt(4);
+        for (int i = 0; i < count; i++) {
+            values.add(min + random.nextInt(max - min + 1));
+        }
+        return values;
+    }
+
+    private static String list(TreeSet<Integer> values) {
+        return values.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
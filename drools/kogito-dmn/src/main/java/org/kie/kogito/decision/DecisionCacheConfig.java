@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.decision;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configuration of the per-model decision result cache.
+ * The cache is disabled unless a positive maximum size is provided.
+ */
+public final class DecisionCacheConfig {
+
+    public static final String MAX_SIZE_PROPERTY = "kogito.decisions.cache.max-size";
+    public static final String TTL_MILLIS_PROPERTY = "kogito.decisions.cache.ttl-millis";
+
+    public static final long DEFAULT_TTL_MILLIS = 600_000L;
+
+    private static final DecisionCacheConfig DISABLED = new DecisionCacheConfig(0, Duration.ofMillis(DEFAULT_TTL_MILLIS));
+
+    private final int maxSize;
+    private final Duration timeToLive;
+
+    private DecisionCacheConfig(int maxSize, Duration timeToLive) {
+        this.maxSize = maxSize;
+        this.timeToLive = Objects.requireNonNull(timeToLive);
+    }
+
+    public static DecisionCacheConfig disabled() {
+        return DISABLED;
+    }
+
+    public static DecisionCacheConfig of(int maxSize, long timeToLiveMillis) {
+        return of(maxSize, Duration.ofMillis(timeToLiveMillis));
+    }
+
+    public static DecisionCacheConfig of(int maxSize, Duration timeToLive) {
+        return maxSize > 0 ? new DecisionCacheConfig(maxSize, timeToLive) : DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public Duration timeToLive() {
+        return timeToLive;
+    }
+
+    @Override
+    public String toString() {
+        return "DecisionCacheConfig [maxSize=" + maxSize + ", timeToLive=" + timeToLive + "]";
+    }
+}
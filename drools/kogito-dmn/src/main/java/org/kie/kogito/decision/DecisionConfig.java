@@ -24,4 +24,15 @@ public interface DecisionConfig extends KogitoConfig {
 
     DecisionEventListenerConfig decisionEventListeners();
 
+    default DecisionCacheConfig decisionCache() {
+        return DecisionCacheConfig.disabled();
+    }
+
+    /**
+     * Number of threads evaluating the inputs of bulk requests, see {@link org.kie.kogito.dmn.BulkEvaluationExecutor}
+     */
+    default int bulkParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
 }
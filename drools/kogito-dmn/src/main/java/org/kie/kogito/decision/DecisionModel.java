@@ -18,12 +18,15 @@
  */
 package org.kie.kogito.decision;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.kie.dmn.api.core.DMNContext;
 import org.kie.dmn.api.core.DMNModel;
 import org.kie.dmn.api.core.DMNResult;
 import org.kie.dmn.api.core.FEELPropertyAccessible;
+import org.kie.kogito.dmn.BulkEvaluationExecutor;
 
 public interface DecisionModel {
 
@@ -37,4 +40,24 @@ public interface DecisionModel {
 
     DMNModel getDMNModel();
 
+    /**
+     * Evaluates all the given contexts against this model on the given executor, usually the {@link BulkEvaluationExecutor}
+     * configured for the application.
+     *
+     * @return the results, in the same order as the given contexts
+     */
+    default List<DMNResult> bulkEvaluateAll(List<DMNContext> contexts, Executor executor) {
+        return BulkEvaluationExecutor.map(executor, contexts, this::evaluateAll);
+    }
+
+    /**
+     * Evaluates the given decision service for all the given contexts on the given executor, usually the
+     * {@link BulkEvaluationExecutor} configured for the application.
+     *
+     * @return the results, in the same order as the given contexts
+     */
+    default List<DMNResult> bulkEvaluateDecisionService(List<DMNContext> contexts, String decisionServiceName, Executor executor) {
+        return BulkEvaluationExecutor.map(executor, contexts, context -> evaluateDecisionService(context, decisionServiceName));
+    }
+
 }
@@ -24,17 +24,26 @@ import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
 import org.kie.dmn.core.compiler.DMNProfile;
 import org.kie.kogito.Application;
 import org.kie.kogito.ExecutionIdSupplier;
 import org.kie.kogito.KogitoGAV;
 import org.kie.kogito.config.ConfigBean;
+import org.kie.kogito.decision.DecisionCacheConfig;
 import org.kie.kogito.decision.DecisionConfig;
 import org.kie.kogito.decision.DecisionModel;
 import org.kie.kogito.decision.DecisionModels;
@@ -46,10 +55,17 @@ public abstract class AbstractDecisionModels implements DecisionModels {
     public static final String DMN_MODEL_PATHS_FILE = "dmnModelPaths.txt";
     private static final Logger LOG = LoggerFactory.getLogger(AbstractDecisionModels.class);
     private static final boolean CAN_PLATFORM_CLASSLOAD = org.kie.dmn.feel.util.ClassLoaderUtil.CAN_PLATFORM_CLASSLOAD;
-    private static DMNRuntime dmnRuntime = null;
+    private static final String BACKGROUND_INIT_THREAD_NAME = "kogito-dmn-runtime-init";
+    private static volatile CompletableFuture<DMNRuntime> dmnRuntime = null;
+    // listeners already attached to the current runtime, so that every container instance does not add them again
+    private static final Set<DMNRuntimeEventListener> registeredListeners = ConcurrentHashMap.newKeySet();
+    // overridden by tests to control when the background compilation runs
+    static Executor backgroundInitExecutor = AbstractDecisionModels::startInitThread;
     private static ExecutionIdSupplier execIdSupplier = null;
     private static BiFunction<DecisionModel, KogitoGAV, DecisionModel> decisionModelTransformer = null;
     private KogitoGAV gav = KogitoGAV.EMPTY_GAV;
+    private DecisionCacheConfig decisionCacheConfig = DecisionCacheConfig.disabled();
+    private final Map<String, DecisionResultCache> decisionResultCaches = new ConcurrentHashMap<>();
 
     /**
      *
@@ -63,16 +79,99 @@ public abstract class AbstractDecisionModels implements DecisionModels {
             Set<DMNProfile> customDMNProfiles,
             boolean enableRuntimeTypeCheckOption,
             URL modelPathsUrl) {
+        init(executionIdSupplier, decisionModelTransformerInit, customDMNProfiles, enableRuntimeTypeCheckOption, modelPathsUrl, false);
+    }
+
+    /**
+     *
+     * @param executionIdSupplier
+     * @param decisionModelTransformerInit
+     * @param customDMNProfiles
+     * @param enableRuntimeTypeCheckOption
+     * @param modelPathsUrl
+     * @param backgroundInitialization when <code>true</code> the DMN models are parsed and compiled on a background thread,
+     *        so that class initialization does not block the rest of application startup, which runs alongside the compilation;
+     *        nothing is compiled ahead of time, readiness and the first access to a decision model wait for the compilation
+     *        to complete
+     */
+    protected static void init(ExecutionIdSupplier executionIdSupplier,
+            BiFunction<DecisionModel, KogitoGAV, DecisionModel> decisionModelTransformerInit,
+            Set<DMNProfile> customDMNProfiles,
+            boolean enableRuntimeTypeCheckOption,
+            URL modelPathsUrl,
+            boolean backgroundInitialization) {
         DMNKogitoCallbacks.beforeAbstractDecisionModelsInit();
         Map<String, String> modelPaths = getModelPaths(modelPathsUrl);
-        dmnRuntime = DMNKogito.createGenericDMNRuntime(customDMNProfiles, enableRuntimeTypeCheckOption, modelPaths);
         execIdSupplier = executionIdSupplier;
         decisionModelTransformer = decisionModelTransformerInit;
-        DMNKogitoCallbacks.afterAbstractDecisionModelsInit(dmnRuntime);
+        registeredListeners.clear();
+        if (backgroundInitialization) {
+            dmnRuntime = CompletableFuture.supplyAsync(() -> createDMNRuntime(customDMNProfiles, enableRuntimeTypeCheckOption, modelPaths), backgroundInitExecutor);
+        } else {
+            dmnRuntime = CompletableFuture.completedFuture(createDMNRuntime(customDMNProfiles, enableRuntimeTypeCheckOption, modelPaths));
+        }
+    }
+
+    private static DMNRuntime createDMNRuntime(Set<DMNProfile> customDMNProfiles, boolean enableRuntimeTypeCheckOption, Map<String, String> modelPaths) {
+        long start = System.nanoTime();
+        try {
+            DMNRuntime runtime = DMNKogito.createGenericDMNRuntime(customDMNProfiles, enableRuntimeTypeCheckOption, modelPaths);
+            LOG.debug("DMNRuntime with {} model(s) initialized in {} ms", runtime.getModels().size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            DMNKogitoCallbacks.afterAbstractDecisionModelsInit(runtime);
+            return runtime;
+        } catch (RuntimeException e) {
+            LOG.error("Error initializing DMNRuntime", e);
+            throw e;
+        }
+    }
+
+    private static void startInitThread(Runnable task) {
+        Thread thread = new Thread(task, BACKGROUND_INIT_THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Tells whether the DMN runtime can be handed out without waiting, to be used by readiness checks when the runtime is
+     * compiled in the background. It is <code>true</code> as well when no decision models container has been initialized.
+     */
+    public static boolean isDMNRuntimeReady() {
+        CompletableFuture<DMNRuntime> runtime = dmnRuntime;
+        return runtime == null || (runtime.isDone() && !runtime.isCompletedExceptionally());
+    }
+
+    /**
+     * @return the error thrown while building the DMN runtime, if any
+     */
+    public static Optional<Throwable> getDMNRuntimeFailure() {
+        CompletableFuture<DMNRuntime> runtime = dmnRuntime;
+        if (runtime == null || !runtime.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        Throwable error = runtime.handle((result, e) -> e).join();
+        return Optional.of(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+    }
+
+    static DMNRuntime getDMNRuntime() {
+        try {
+            return dmnRuntime.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 
     public DecisionModel getDecisionModel(String namespace, String name) {
-        DecisionModel model = new DmnDecisionModel(dmnRuntime, namespace, name, execIdSupplier);
+        DmnDecisionModel dmnDecisionModel = new DmnDecisionModel(getDMNRuntime(), namespace, name, execIdSupplier);
+        DecisionModel model = dmnDecisionModel;
+        // results cannot be shared when each evaluation has to be traced with its own execution id
+        if (decisionCacheConfig.isEnabled() && execIdSupplier == null) {
+            DecisionResultCache cache = decisionResultCaches.computeIfAbsent(namespace + '#' + name,
+                    key -> new DecisionResultCache(dmnDecisionModel.getDMNModel(), decisionCacheConfig));
+            model = new CachedDecisionModel(dmnDecisionModel, cache);
+        }
         return decisionModelTransformer == null
                 ? model
                 : decisionModelTransformer.apply(model, gav);
@@ -87,7 +186,18 @@ public abstract class AbstractDecisionModels implements DecisionModels {
     }
 
     protected void initApplication(Application app) {
-        app.config().get(DecisionConfig.class).decisionEventListeners().listeners().forEach(dmnRuntime::addListener);
+        DecisionConfig decisionConfig = app.config().get(DecisionConfig.class);
+        List<DMNRuntimeEventListener> listeners = decisionConfig.decisionEventListeners().listeners().stream()
+                .filter(registeredListeners::add)
+                .collect(Collectors.toList());
+        if (!listeners.isEmpty()) {
+            // listeners are registered as soon as the runtime is available, before it is handed out to any decision model
+            dmnRuntime = dmnRuntime.thenApply(runtime -> {
+                listeners.forEach(runtime::addListener);
+                return runtime;
+            });
+        }
+        decisionCacheConfig = decisionConfig.decisionCache();
         gav = app.config().get(ConfigBean.class).getGav().orElse(KogitoGAV.EMPTY_GAV);
     }
 
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.dmn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.kie.kogito.decision.DecisionConfig;
+
+/**
+ * Bounded executor running bulk decision evaluations, so that they do not compete with the rest of the JVM on the
+ * common fork join pool. Its size comes from {@link DecisionConfig#bulkParallelism()}, configured with
+ * <code>kogito.decisions.bulk.parallelism</code> (number of available processors by default), one executor being shared
+ * by every application using the same size; when all its threads are busy and its queue is full, the caller evaluates
+ * the item itself, which throttles the producer of the bulk.
+ */
+public final class BulkEvaluationExecutor implements Executor {
+
+    public static final String PARALLELISM_PROPERTY = "kogito.decisions.bulk.parallelism";
+
+    private static final Map<Integer, BulkEvaluationExecutor> EXECUTORS = new ConcurrentHashMap<>();
+
+    private final int parallelism;
+    private final ThreadPoolExecutor delegate;
+
+    BulkEvaluationExecutor(int parallelism) {
+        this.parallelism = parallelism;
+        this.delegate = new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(parallelism * 4), new DaemonThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.delegate.allowCoreThreadTimeOut(true);
+    }
+
+    public static BulkEvaluationExecutor of(DecisionConfig decisionConfig) {
+        return of(decisionConfig.bulkParallelism());
+    }
+
+    /**
+     * @param parallelism number of threads, the number of available processors when not positive
+     */
+    public static BulkEvaluationExecutor of(int parallelism) {
+        return EXECUTORS.computeIfAbsent(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(), BulkEvaluationExecutor::new);
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(command);
+    }
+
+    /**
+     * Applies the given function to every item on this executor.
+     *
+     * @return the results, in the same order as the given items
+     */
+    public <T, R> List<R> map(List<T> items, Function<T, R> function) {
+        return map(this, items, function);
+    }
+
+    /**
+     * Applies the given function to every item on the given executor.
+     *
+     * @return the results, in the same order as the given items
+     */
+    public static <T, R> List<R> map(Executor executor, List<T> items, Function<T, R> function) {
+        List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+        items.forEach(item -> futures.add(CompletableFuture.supplyAsync(() -> function.apply(item), executor)));
+        List<R> results = new ArrayList<>(items.size());
+        try {
+            futures.forEach(future -> results.add(future.join()));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "kogito-decision-bulk-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
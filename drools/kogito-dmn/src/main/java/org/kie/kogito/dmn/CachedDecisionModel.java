@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.dmn;
+
+import java.util.Map;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.FEELPropertyAccessible;
+import org.kie.kogito.decision.DecisionModel;
+
+/**
+ * {@link DecisionModel} serving repeated evaluations of the same inputs from a {@link DecisionResultCache}.
+ */
+public class CachedDecisionModel implements DecisionModel {
+
+    private final DecisionModel originalModel;
+    private final DecisionResultCache cache;
+
+    public CachedDecisionModel(DecisionModel originalModel, DecisionResultCache cache) {
+        this.originalModel = originalModel;
+        this.cache = cache;
+    }
+
+    @Override
+    public DMNContext newContext(Map<String, Object> inputSet) {
+        return originalModel.newContext(inputSet);
+    }
+
+    @Override
+    public DMNContext newContext(FEELPropertyAccessible inputSet) {
+        return originalModel.newContext(inputSet);
+    }
+
+    @Override
+    public DMNResult evaluateAll(DMNContext context) {
+        return cache.evaluate(context, null, () -> originalModel.evaluateAll(context));
+    }
+
+    @Override
+    public DMNResult evaluateDecisionService(DMNContext context, String decisionServiceName) {
+        return cache.evaluate(context, decisionServiceName, () -> originalModel.evaluateDecisionService(context, decisionServiceName));
+    }
+
+    @Override
+    public DMNModel getDMNModel() {
+        return originalModel.getDMNModel();
+    }
+
+    public DecisionResultCache getCache() {
+        return cache;
+    }
+}
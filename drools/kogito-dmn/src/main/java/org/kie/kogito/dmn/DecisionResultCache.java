@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.dmn;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.chrono.ChronoPeriod;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.FEELPropertyAccessible;
+import org.kie.dmn.feel.runtime.FEELFunction;
+import org.kie.dmn.feel.runtime.Range;
+import org.kie.dmn.model.api.DMNModelInstrumentedBase;
+import org.kie.dmn.model.api.LiteralExpression;
+import org.kie.dmn.model.api.UnaryTests;
+import org.kie.kogito.decision.DecisionCacheConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded, time limited cache of the results of a single DMN model, keyed by the input values of the evaluation.
+ * <p>
+ * Models invoking non-deterministic built-in functions (<code>now()</code>, <code>today()</code>) are never cached;
+ * neither are results carrying error messages.
+ * <p>
+ * Inputs and results are cached as deep immutable copies, so that callers can neither corrupt a key by mutating their
+ * inputs later on nor see each other's changes to a result: every hit returns its own {@link DMNResult}. Evaluations whose
+ * inputs or results contain values without value semantics (plain objects, which usually do not implement
+ * <code>equals</code>) are not cached.
+ */
+public class DecisionResultCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DecisionResultCache.class);
+    private static final Pattern NON_DETERMINISTIC_FUNCTION = Pattern.compile("\\b(now|today)\\s*\\(");
+
+    private final int maxSize;
+    private final long timeToLiveNanos;
+    private final boolean bypassed;
+    private final Map<Key, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder savedTimeNanos = new LongAdder();
+
+    public DecisionResultCache(DMNModel dmnModel, DecisionCacheConfig config) {
+        this.maxSize = config.maxSize();
+        this.timeToLiveNanos = config.timeToLive().toNanos();
+        this.bypassed = !isDeterministic(dmnModel);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        if (bypassed) {
+            LOG.info("DMN model {} uses non-deterministic functions, its results will not be cached", dmnModel.getName());
+        }
+    }
+
+    public DMNResult evaluate(DMNContext context, String decisionServiceName, Supplier<DMNResult> evaluation) {
+        if (bypassed) {
+            return evaluation.get();
+        }
+        Object inputs = immutableCopy(context.getAll(), true);
+        if (inputs == NOT_COPYABLE) {
+            return evaluation.get();
+        }
+        Key key = new Key(decisionServiceName, inputs);
+        long now = System.nanoTime();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && now - entry.createdAt > timeToLiveNanos) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+        if (entry != null) {
+            hits.increment();
+            savedTimeNanos.add(entry.evaluationNanos);
+            return entry.result.copy();
+        }
+        misses.increment();
+        DMNResult result = evaluation.get();
+        long end = System.nanoTime();
+        if (!result.hasErrors()) {
+            DecisionResultSnapshot snapshot = DecisionResultSnapshot.of(result);
+            if (snapshot != null) {
+                synchronized (entries) {
+                    entries.put(key, new Entry(snapshot, end, end - now));
+                }
+            }
+        }
+        return result;
+    }
+
+    public boolean isBypassed() {
+        return bypassed;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRatio() {
+        long h = getHits();
+        long total = h + getMisses();
+        return total == 0 ? 0d : (double) h / total;
+    }
+
+    public long getSavedTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(savedTimeNanos.sum());
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    static boolean isDeterministic(DMNModel dmnModel) {
+        if (dmnModel.getDefinitions() == null) {
+            return true;
+        }
+        Deque<DMNModelInstrumentedBase> toVisit = new ArrayDeque<>();
+        toVisit.push(dmnModel.getDefinitions());
+        while (!toVisit.isEmpty()) {
+            DMNModelInstrumentedBase current = toVisit.pop();
+            String text = null;
+            if (current instanceof LiteralExpression) {
+                text = ((LiteralExpression) current).getText();
+            } else if (current instanceof UnaryTests) {
+                text = ((UnaryTests) current).getText();
+            }
+            if (text != null && NON_DETERMINISTIC_FUNCTION.matcher(text).find()) {
+                return false;
+            }
+            current.getChildren().forEach(toVisit::push);
+        }
+        return true;
+    }
+
+    static final Object NOT_COPYABLE = new Object();
+
+    /**
+     * Returns a deep immutable copy of the given value, or {@link #NOT_COPYABLE} when the value (or any nested one) has no
+     * value semantics. Strongly typed inputs are compared through their FEEL properties when <code>input</code> is set.
+     */
+    static Object immutableCopy(Object value, boolean input) {
+        if (value == null || isImmutable(value)) {
+            return value;
+        }
+        if (input && value instanceof FEELPropertyAccessible) {
+            return immutableCopy(((FEELPropertyAccessible) value).allFEELProperties(), true);
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                Object copiedKey = immutableCopy(entry.getKey(), input);
+                Object copiedValue = immutableCopy(entry.getValue(), input);
+                if (copiedKey == NOT_COPYABLE || copiedValue == NOT_COPYABLE) {
+                    return NOT_COPYABLE;
+                }
+                copy.put(copiedKey, copiedValue);
+            }
+            return Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof Collection) {
+            Collection<Object> copy = value instanceof Set ? new LinkedHashSet<>() : new ArrayList<>();
+            for (Object item : (Collection<?>) value) {
+                Object copiedItem = immutableCopy(item, input);
+                if (copiedItem == NOT_COPYABLE) {
+                    return NOT_COPYABLE;
+                }
+                copy.add(copiedItem);
+            }
+            return copy instanceof Set ? Collections.unmodifiableSet((Set<Object>) copy) : Collections.unmodifiableList((List<Object>) copy);
+        }
+        return NOT_COPYABLE;
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Character || value instanceof Enum
+                || value instanceof BigDecimal || value instanceof BigInteger || value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte || value instanceof Double || value instanceof Float
+                || value.getClass().getName().startsWith("java.time.") || value instanceof ChronoPeriod
+                || value instanceof Range || value instanceof FEELFunction;
+    }
+
+    private record Key(String decisionServiceName, Object inputs) {
+    }
+
+    private record Entry(DecisionResultSnapshot result, long createdAt, long evaluationNanos) {
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.dmn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNDecisionResult;
+import org.kie.dmn.api.core.DMNMessage;
+import org.kie.dmn.api.core.DMNMessage.Severity;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.core.internal.utils.MapBackedDMNContext;
+
+import static org.kie.kogito.dmn.DecisionResultCache.NOT_COPYABLE;
+import static org.kie.kogito.dmn.DecisionResultCache.immutableCopy;
+
+/**
+ * Immutable copy of a {@link DMNResult} kept by {@link DecisionResultCache}. Every copy handed out owns its context,
+ * while context values and decision results are deep immutable and shared.
+ */
+class DecisionResultSnapshot implements DMNResult {
+
+    private final Map<String, Object> context;
+    private final List<DMNMessage> messages;
+    private final List<DMNDecisionResult> decisionResults;
+    private final DMNContext dmnContext;
+
+    private DecisionResultSnapshot(Map<String, Object> context, List<DMNMessage> messages, List<DMNDecisionResult> decisionResults) {
+        this.context = context;
+        this.messages = messages;
+        this.decisionResults = decisionResults;
+        this.dmnContext = MapBackedDMNContext.of(new LinkedHashMap<>(context));
+    }
+
+    /**
+     * @return the snapshot of the given result, or <code>null</code> when it holds values without value semantics
+     */
+    @SuppressWarnings("unchecked")
+    static DecisionResultSnapshot of(DMNResult result) {
+        Object context = immutableCopy(result.getContext().getAll(), false);
+        if (context == NOT_COPYABLE) {
+            return null;
+        }
+        List<DMNDecisionResult> decisionResults = new ArrayList<>();
+        for (DMNDecisionResult decisionResult : result.getDecisionResults()) {
+            Object value = immutableCopy(decisionResult.getResult(), false);
+            if (value == NOT_COPYABLE) {
+                return null;
+            }
+            decisionResults.add(new DecisionResult(decisionResult, value));
+        }
+        return new DecisionResultSnapshot((Map<String, Object>) context, Collections.unmodifiableList(new ArrayList<>(result.getMessages())),
+                Collections.unmodifiableList(decisionResults));
+    }
+
+    DMNResult copy() {
+        return new DecisionResultSnapshot(context, messages, decisionResults);
+    }
+
+    @Override
+    public DMNContext getContext() {
+        return dmnContext;
+    }
+
+    @Override
+    public List<DMNMessage> getMessages() {
+        return messages;
+    }
+
+    @Override
+    public List<DMNMessage> getMessages(Severity... sevs) {
+        return messages.stream().filter(m -> Stream.of(sevs).anyMatch(s -> s == m.getSeverity())).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean hasErrors() {
+        return messages.stream().anyMatch(m -> m.getSeverity() == Severity.ERROR);
+    }
+
+    @Override
+    public List<DMNDecisionResult> getDecisionResults() {
+        return decisionResults;
+    }
+
+    @Override
+    public DMNDecisionResult getDecisionResultByName(String name) {
+        return decisionResults.stream().filter(dr -> dr.getDecisionName().equals(name)).findFirst().orElse(null);
+    }
+
+    @Override
+    public DMNDecisionResult getDecisionResultById(String id) {
+        return decisionResults.stream().filter(dr -> dr.getDecisionId().equals(id)).findFirst().orElse(null);
+    }
+
+    private static class DecisionResult implements DMNDecisionResult {
+
+        private final String decisionId;
+        private final String decisionName;
+        private final DecisionEvaluationStatus status;
+        private final Object result;
+        private final List<DMNMessage> messages;
+
+        private DecisionResult(DMNDecisionResult decisionResult, Object result) {
+            this.decisionId = decisionResult.getDecisionId();
+            this.decisionName = decisionResult.getDecisionName();
+            this.status = decisionResult.getEvaluationStatus();
+            this.result = result;
+            this.messages = Collections.unmodifiableList(new ArrayList<>(decisionResult.getMessages()));
+        }
+
+        @Override
+        public String getDecisionId() {
+            return decisionId;
+        }
+
+        @Override
+        public String getDecisionName() {
+            return decisionName;
+        }
+
+        @Override
+        public DecisionEvaluationStatus getEvaluationStatus() {
+            return status;
+        }
+
+        @Override
+        public Object getResult() {
+            return result;
+        }
+
+        public List<DMNMessage> getMessages() {
+            return messages;
+        }
+
+        @Override
+        public boolean hasErrors() {
+            return messages.stream().anyMatch(m -> m.getSeverity() == Severity.ERROR);
+        }
+
+        @Override
+        public String toString() {
+            return "DecisionResult [decisionId=" + decisionId + ", decisionName=" + decisionName + ", status=" + status + ", result=" + result + "]";
+        }
+    }
+}
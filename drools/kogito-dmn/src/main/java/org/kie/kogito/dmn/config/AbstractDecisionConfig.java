@@ -25,6 +25,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.kogito.decision.DecisionCacheConfig;
 import org.kie.kogito.decision.DecisionEventListenerConfig;
 
 import static java.util.stream.Collectors.toList;
@@ -32,11 +33,30 @@ import static java.util.stream.Collectors.toList;
 public abstract class AbstractDecisionConfig implements org.kie.kogito.decision.DecisionConfig {
 
     private final DecisionEventListenerConfig decisionEventListener;
+    private final DecisionCacheConfig decisionCache;
+    private final int bulkParallelism;
 
     protected AbstractDecisionConfig(
             Iterable<DecisionEventListenerConfig> decisionEventListenerConfigs,
             Iterable<DMNRuntimeEventListener> dmnRuntimeEventListeners) {
+        this(decisionEventListenerConfigs, dmnRuntimeEventListeners, DecisionCacheConfig.disabled());
+    }
+
+    protected AbstractDecisionConfig(
+            Iterable<DecisionEventListenerConfig> decisionEventListenerConfigs,
+            Iterable<DMNRuntimeEventListener> dmnRuntimeEventListeners,
+            DecisionCacheConfig decisionCache) {
+        this(decisionEventListenerConfigs, dmnRuntimeEventListeners, decisionCache, 0);
+    }
+
+    protected AbstractDecisionConfig(
+            Iterable<DecisionEventListenerConfig> decisionEventListenerConfigs,
+            Iterable<DMNRuntimeEventListener> dmnRuntimeEventListeners,
+            DecisionCacheConfig decisionCache,
+            int bulkParallelism) {
         this.decisionEventListener = extractDecisionEventListenerConfig(decisionEventListenerConfigs, dmnRuntimeEventListeners);
+        this.decisionCache = decisionCache;
+        this.bulkParallelism = bulkParallelism;
     }
 
     @Override
@@ -44,6 +64,16 @@ public abstract class AbstractDecisionConfig implements org.kie.kogito.decision.
         return decisionEventListener;
     }
 
+    @Override
+    public DecisionCacheConfig decisionCache() {
+        return decisionCache;
+    }
+
+    @Override
+    public int bulkParallelism() {
+        return bulkParallelism > 0 ? bulkParallelism : org.kie.kogito.decision.DecisionConfig.super.bulkParallelism();
+    }
+
     private DecisionEventListenerConfig extractDecisionEventListenerConfig(
             Iterable<DecisionEventListenerConfig> decisionEventListenerConfigs,
             Iterable<DMNRuntimeEventListener> dmnRuntimeEventListeners) {
@@ -18,15 +18,22 @@
  */
 package org.kie.kogito.dmn.config;
 
+import org.kie.kogito.decision.DecisionCacheConfig;
 import org.kie.kogito.decision.DecisionConfig;
 import org.kie.kogito.decision.DecisionEventListenerConfig;
 
 public class StaticDecisionConfig implements DecisionConfig {
 
     private final DecisionEventListenerConfig decisionEventListenerConfig;
+    private final DecisionCacheConfig decisionCacheConfig;
 
-    public StaticDecisionConfig(DecisionEventListenerConfig decisionEventListenerConfig) {
+    public StaticDecisionConfig(DecisionEventListenerConfig decisionEventListenerConfig, DecisionCacheConfig decisionCacheConfig) {
         this.decisionEventListenerConfig = decisionEventListenerConfig;
+        this.decisionCacheConfig = decisionCacheConfig;
+    }
+
+    public StaticDecisionConfig(DecisionEventListenerConfig decisionEventListenerConfig) {
+        this(decisionEventListenerConfig, DecisionCacheConfig.disabled());
     }
 
     public StaticDecisionConfig() {
@@ -38,4 +45,9 @@ public class StaticDecisionConfig implements DecisionConfig {
         return decisionEventListenerConfig;
     }
 
+    @Override
+    public DecisionCacheConfig decisionCache() {
+        return decisionCacheConfig;
+    }
+
 }
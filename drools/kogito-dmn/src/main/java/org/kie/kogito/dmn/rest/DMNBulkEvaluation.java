@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.dmn.rest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.kogito.decision.DecisionModel;
+import org.kie.kogito.dmn.BulkEvaluationExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Internal Utility class.<br/>
+ * Used by the generated bulk endpoints to evaluate a newline delimited JSON stream of inputs.
+ * <p>
+ * Inputs are read and evaluated in batches: the next batch is read only once the results of the previous one
+ * have been written, so a slow client throttles the evaluation instead of piling up results in memory.
+ * Every input produces exactly one output line, either the {@link KogitoDMNResult} or an error object when
+ * the line cannot be parsed or its evaluation fails. Every input is evaluated once, on the given executor, usually the
+ * {@link BulkEvaluationExecutor} configured for the application.
+ */
+public class DMNBulkEvaluation {
+
+    public static final String NDJSON = "application/x-ndjson";
+    /**
+     * Path of the bulk endpoints, relative to the model resource, or to <code>/{name}</code> for decision services.
+     * Decision services are exposed as <code>/{name}</code> and <code>/{name}/dmnresult</code>, so this path cannot
+     * collide with any of them.
+     */
+    public static final String PATH = "/dmnresult/bulk";
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private static final Logger LOG = LoggerFactory.getLogger(DMNBulkEvaluation.class);
+    private static final TypeReference<Map<String, Object>> INPUT_TYPE = new TypeReference<>() {
+    };
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * @param decisionServiceName the decision service to evaluate, or <code>null</code> to evaluate the whole model
+     */
+    public static void evaluate(DecisionModel decision, String decisionServiceName, Executor executor, InputStream input, OutputStream output, ObjectMapper objectMapper)
+            throws IOException {
+        evaluate(decision, decisionServiceName, executor, input, output, objectMapper, DEFAULT_BATCH_SIZE);
+    }
+
+    public static void evaluate(DecisionModel decision, String decisionServiceName, Executor executor, InputStream input, OutputStream output, ObjectMapper objectMapper,
+            int batchSize) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<Item> batch = new ArrayList<>(batchSize);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            batch.add(parse(decision, decisionServiceName, line, lineNumber, objectMapper));
+            if (batch.size() == batchSize) {
+                writeBatch(decision, decisionServiceName, executor, batch, output, objectMapper);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(decision, decisionServiceName, executor, batch, output, objectMapper);
+        }
+    }
+
+    private static Item parse(DecisionModel decision, String decisionServiceName, String line, long lineNumber, ObjectMapper objectMapper) {
+        try {
+            Map<String, Object> variables = objectMapper.readValue(line, INPUT_TYPE);
+            DMNContext context = decisionServiceName == null
+                    ? DMNJSONUtils.ctx(decision, variables)
+                    : DMNJSONUtils.ctx(decision, variables, decisionServiceName);
+            return new Item(lineNumber, context, null);
+        } catch (IOException | RuntimeException e) {
+            LOG.debug("Unable to read bulk input at line {}", lineNumber, e);
+            return new Item(lineNumber, null, "Invalid input: " + e.getMessage());
+        }
+    }
+
+    private static void writeBatch(DecisionModel decision, String decisionServiceName, Executor executor, List<Item> batch, OutputStream output, ObjectMapper objectMapper)
+            throws IOException {
+        List<CompletableFuture<Void>> evaluations = new ArrayList<>(batch.size());
+        for (Item item : batch) {
+            if (item.context != null) {
+                // failures are caught per item, so that only the failing inputs are reported
+                evaluations.add(CompletableFuture.runAsync(() -> evaluateSingle(decision, decisionServiceName, item), executor));
+            }
+        }
+        evaluations.forEach(CompletableFuture::join);
+        for (Item item : batch) {
+            Object line = item.result != null
+                    ? new KogitoDMNResult(decision.getDMNModel().getNamespace(), decision.getDMNModel().getName(), item.result)
+                    : Map.of("line", item.lineNumber, "error", item.error);
+            output.write(objectMapper.writeValueAsBytes(line));
+            output.write(NEW_LINE);
+        }
+        output.flush();
+    }
+
+    private static void evaluateSingle(DecisionModel decision, String decisionServiceName, Item item) {
+        try {
+            item.result = decisionServiceName == null
+                    ? decision.evaluateAll(item.context)
+                    : decision.evaluateDecisionService(item.context, decisionServiceName);
+        } catch (RuntimeException | StackOverflowError | LinkageError e) {
+            // errors raised by a single input (a too deep FEEL recursion, a class failing to load for its types) do not
+            // fail the other inputs, the JVM being still usable; other errors abort the whole bulk
+            LOG.debug("Error evaluating bulk input at line {}", item.lineNumber, e);
+            item.error = "Evaluation error: " + e.getMessage();
+        }
+    }
+
+    private static class Item {
+
+        private final long lineNumber;
+        private final DMNContext context;
+        private volatile String error;
+        private volatile DMNResult result;
+
+        private Item(long lineNumber, DMNContext context, String error) {
+            this.lineNumber = lineNumber;
+            this.context = context;
+            this.error = error;
+        }
+    }
+
+    private DMNBulkEvaluation() {
+        // intentionally private.
+    }
+}
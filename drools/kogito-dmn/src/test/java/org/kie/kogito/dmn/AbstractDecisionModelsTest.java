@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.dmn;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kie.dmn.api.core.event.BeforeEvaluateAllEvent;
+import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.kogito.Addons;
+import org.kie.kogito.Application;
+import org.kie.kogito.StaticApplication;
+import org.kie.kogito.StaticConfig;
+import org.kie.kogito.config.StaticConfigBean;
+import org.kie.kogito.decision.DecisionModel;
+import org.kie.kogito.dmn.config.CachedDecisionEventListenerConfig;
+import org.kie.kogito.dmn.config.StaticDecisionConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AbstractDecisionModelsTest {
+
+    private static final String TRAFFIC_VIOLATION_NS = "https://github.com/kiegroup/drools/kie-dmn/_A4BCA8B8-CF08-433F-93B2-A2598F19ECFF";
+    private static final String TRAFFIC_VIOLATION_NAME = "Traffic Violation";
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void waitForRuntime() {
+        // do not leave a background compilation running into the next test
+        try {
+            AbstractDecisionModels.getDMNRuntime();
+        } catch (RuntimeException e) {
+            // failure already asserted by the test
+        }
+    }
+
+    @Test
+    void backgroundInitializationReportsReadiness() throws IOException {
+        TestDecisionModels.initialize(modelPaths("/TrafficViolation.dmn"), true);
+
+        DecisionModel decisionModel = new TestDecisionModels().getDecisionModel(TRAFFIC_VIOLATION_NS, TRAFFIC_VIOLATION_NAME);
+
+        assertThat(decisionModel.getDMNModel().getName()).isEqualTo(TRAFFIC_VIOLATION_NAME);
+        assertThat(AbstractDecisionModels.isDMNRuntimeReady()).isTrue();
+        assertThat(AbstractDecisionModels.getDMNRuntimeFailure()).isEmpty();
+    }
+
+    @Test
+    void backgroundInitializationFailureIsReported() throws IOException {
+        TestDecisionModels.initialize(modelPaths("/Missing.dmn"), true);
+
+        assertThatThrownBy(() -> new TestDecisionModels().getDecisionModel(TRAFFIC_VIOLATION_NS, TRAFFIC_VIOLATION_NAME)).isInstanceOf(IllegalStateException.class);
+        assertThat(AbstractDecisionModels.isDMNRuntimeReady()).isFalse();
+        assertThat(AbstractDecisionModels.getDMNRuntimeFailure()).containsInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void backgroundInitializationDoesNotBlockInit() throws IOException {
+        List<Runnable> compilations = new ArrayList<>();
+        Executor executor = AbstractDecisionModels.backgroundInitExecutor;
+        AbstractDecisionModels.backgroundInitExecutor = compilations::add;
+        try {
+            TestDecisionModels.initialize(modelPaths("/TrafficViolation.dmn"), true);
+
+            // init returned while the compilation has not even started
+            assertThat(compilations).hasSize(1);
+            assertThat(AbstractDecisionModels.isDMNRuntimeReady()).isFalse();
+
+            compilations.get(0).run();
+
+            assertThat(AbstractDecisionModels.isDMNRuntimeReady()).isTrue();
+            assertThat(new TestDecisionModels().getDecisionModel(TRAFFIC_VIOLATION_NS, TRAFFIC_VIOLATION_NAME).getDMNModel().getName()).isEqualTo(TRAFFIC_VIOLATION_NAME);
+        } finally {
+            AbstractDecisionModels.backgroundInitExecutor = executor;
+        }
+    }
+
+    @Test
+    void listenersAreRegisteredOnce() throws IOException {
+        AtomicInteger evaluations = new AtomicInteger();
+        DMNRuntimeEventListener listener = new DMNRuntimeEventListener() {
+            @Override
+            public void beforeEvaluateAll(BeforeEvaluateAllEvent event) {
+                evaluations.incrementAndGet();
+            }
+        };
+        Application application = new StaticApplication(new StaticConfig(Addons.EMTPY,
+                new StaticDecisionConfig(new CachedDecisionEventListenerConfig(List.of(listener))), new StaticConfigBean()));
+        TestDecisionModels.initialize(modelPaths("/TrafficViolation.dmn"), true);
+
+        // one container per injection point shares the same runtime
+        new TestDecisionModels(application);
+        DecisionModel decisionModel = new TestDecisionModels(application).getDecisionModel(TRAFFIC_VIOLATION_NS, TRAFFIC_VIOLATION_NAME);
+        decisionModel.evaluateAll(decisionModel.newContext(Map.of()));
+
+        assertThat(evaluations).hasValue(1);
+    }
+
+    private URL modelPaths(String modelPath) throws IOException {
+        Path file = tempDir.resolve(AbstractDecisionModels.DMN_MODEL_PATHS_FILE);
+        Files.writeString(file, modelPath + ":UTF-8");
+        return file.toUri().toURL();
+    }
+
+    private static class TestDecisionModels extends AbstractDecisionModels {
+
+        TestDecisionModels() {
+        }
+
+        TestDecisionModels(Application application) {
+            super(application);
+        }
+
+        static void initialize(URL modelPaths, boolean backgroundInitialization) {
+            init(null, null, Collections.emptySet(), false, modelPaths, backgroundInitialization);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.dmn;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.kie.dmn.api.core.DMNDecisionResult;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.kogito.decision.DecisionCacheConfig;
+import org.kie.kogito.decision.DecisionModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.dmn.DecisionTestUtils.DECISION_SERVICE_NODE_NAME;
+import static org.kie.kogito.dmn.DecisionTestUtils.MODEL_NAME;
+import static org.kie.kogito.dmn.DecisionTestUtils.MODEL_NAMESPACE;
+import static org.kie.kogito.dmn.DecisionTestUtils.createDMNRuntime;
+import static org.kie.kogito.dmn.DecisionTestUtils.getEvaluateAllContext;
+import static org.kie.kogito.dmn.DecisionTestUtils.getEvaluateAllContextForError;
+import static org.kie.kogito.dmn.DecisionTestUtils.getEvaluateAllContextForWarning;
+import static org.kie.kogito.dmn.DecisionTestUtils.getEvaluateDecisionServiceContext;
+
+class DecisionResultCacheTest {
+
+    private static final String DRIVER_KEY = "Driver";
+
+    @Test
+    void testRepeatedInputsAreServedFromCache() {
+        CachedDecisionModel model = cachedModel(DecisionCacheConfig.of(10, Duration.ofMinutes(1)));
+        DecisionResultCache cache = model.getCache();
+        assertThat(cache.isBypassed()).isFalse();
+
+        DMNResult first = model.evaluateAll(model.newContext(getEvaluateAllContext()));
+        DMNResult second = model.evaluateAll(model.newContext(getEvaluateAllContext()));
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getDecisionResults()).extracting(DMNDecisionResult::getResult)
+                .containsExactlyInAnyOrderElementsOf(first.getDecisionResults().stream().map(DMNDecisionResult::getResult).toList());
+        DMNResult other = model.evaluateAll(model.newContext(getEvaluateAllContextForWarning()));
+        assertThat(other).isNotSameAs(first);
+
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testCachedResultsAreNotShared() {
+        CachedDecisionModel model = cachedModel(DecisionCacheConfig.of(10, Duration.ofMinutes(1)));
+        model.evaluateAll(model.newContext(getEvaluateAllContext()));
+
+        DMNResult hit = model.evaluateAll(model.newContext(getEvaluateAllContext()));
+        hit.getContext().set(DRIVER_KEY, "changed");
+        DMNResult otherHit = model.evaluateAll(model.newContext(getEvaluateAllContext()));
+
+        assertThat(otherHit.getContext().get(DRIVER_KEY)).isNotEqualTo("changed");
+        assertThat(model.getCache().getHits()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMutatingInputsDoesNotCorruptTheKey() {
+        CachedDecisionModel model = cachedModel(DecisionCacheConfig.of(10, Duration.ofMinutes(1)));
+        Map<String, Object> inputs = getEvaluateAllContext();
+        model.evaluateAll(model.newContext(inputs));
+        ((Map<String, Object>) inputs.get(DRIVER_KEY)).put("Points", 20);
+
+        model.evaluateAll(model.newContext(inputs));
+        model.evaluateAll(model.newContext(getEvaluateAllContext()));
+
+        assertThat(model.getCache().getMisses()).isEqualTo(2);
+        assertThat(model.getCache().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void testInputsWithoutValueSemanticsAreNotCached() {
+        CachedDecisionModel model = cachedModel(DecisionCacheConfig.of(10, Duration.ofMinutes(1)));
+        Map<String, Object> inputs = getEvaluateAllContext();
+        inputs.put("unused", new Object());
+
+        model.evaluateAll(model.newContext(inputs));
+        model.evaluateAll(model.newContext(inputs));
+
+        assertThat(model.getCache().size()).isZero();
+        assertThat(model.getCache().getHits()).isZero();
+    }
+
+    @Test
+    void testDecisionServiceIsPartOfTheKey() {
+        CachedDecisionModel model = cachedModel(DecisionCacheConfig.of(10, Duration.ofMinutes(1)));
+        DMNResult all = model.evaluateAll(model.newContext(getEvaluateDecisionServiceContext()));
+        DMNResult service = model.evaluateDecisionService(model.newContext(getEvaluateDecisionServiceContext()), DECISION_SERVICE_NODE_NAME);
+        assertThat(service).isNotSameAs(all);
+        assertThat(model.getCache().getHits()).isZero();
+    }
+
+    @Test
+    void testResultsWithErrorsAreNotCached() {
+        CachedDecisionModel model = cachedModel(DecisionCacheConfig.of(10, Duration.ofMinutes(1)));
+        DMNResult result = model.evaluateAll(model.newContext(getEvaluateAllContextForError()));
+        assertThat(result.hasErrors()).isTrue();
+        assertThat(model.getCache().size()).isZero();
+    }
+
+    @Test
+    void testEvictionAndExpiration() {
+        CachedDecisionModel bounded = cachedModel(DecisionCacheConfig.of(1, Duration.ofMinutes(1)));
+        bounded.evaluateAll(bounded.newContext(getEvaluateAllContext()));
+        bounded.evaluateAll(bounded.newContext(getEvaluateAllContextForWarning()));
+        assertThat(bounded.getCache().size()).isEqualTo(1);
+
+        CachedDecisionModel expiring = cachedModel(DecisionCacheConfig.of(10, Duration.ZERO));
+        expiring.evaluateAll(expiring.newContext(getEvaluateAllContext()));
+        expiring.evaluateAll(expiring.newContext(getEvaluateAllContext()));
+        assertThat(expiring.getCache().getHits()).isZero();
+    }
+
+    @Test
+    void testDisabledConfig() {
+        assertThat(DecisionCacheConfig.of(0, Duration.ofMinutes(1)).isEnabled()).isFalse();
+        assertThat(DecisionCacheConfig.disabled().isEnabled()).isFalse();
+    }
+
+    private static CachedDecisionModel cachedModel(DecisionCacheConfig config) {
+        DecisionModel model = new DmnDecisionModel(createDMNRuntime(), MODEL_NAMESPACE, MODEL_NAME);
+        return new CachedDecisionModel(model, new DecisionResultCache(model.getDMNModel(), config));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.dmn.rest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.kogito.decision.DecisionConfig;
+import org.kie.kogito.decision.DecisionModel;
+import org.kie.kogito.dmn.BulkEvaluationExecutor;
+import org.kie.kogito.dmn.DmnDecisionModel;
+import org.kie.kogito.dmn.config.StaticDecisionConfig;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.dmn.DecisionTestUtils.MAPPER;
+import static org.kie.kogito.dmn.DecisionTestUtils.MODEL_NAME;
+import static org.kie.kogito.dmn.DecisionTestUtils.MODEL_NAMESPACE;
+import static org.kie.kogito.dmn.DecisionTestUtils.createDMNRuntime;
+import static org.kie.kogito.dmn.DecisionTestUtils.getEvaluateAllContext;
+import static org.kie.kogito.dmn.DecisionTestUtils.getEvaluateAllContextForWarning;
+
+class DMNBulkEvaluationTest {
+
+    private final DecisionModel decisionModel = new DmnDecisionModel(createDMNRuntime(), MODEL_NAMESPACE, MODEL_NAME);
+    private final BulkEvaluationExecutor executor = BulkEvaluationExecutor.of(new StaticDecisionConfig());
+
+    @Test
+    void testParallelismIsTakenFromDecisionConfig() {
+        DecisionConfig decisionConfig = new StaticDecisionConfig() {
+            @Override
+            public int bulkParallelism() {
+                return 3;
+            }
+        };
+
+        assertThat(BulkEvaluationExecutor.of(decisionConfig).parallelism()).isEqualTo(3);
+        assertThat(BulkEvaluationExecutor.of(decisionConfig)).isSameAs(BulkEvaluationExecutor.of(3));
+        assertThat(BulkEvaluationExecutor.of(0).parallelism()).isEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    void testBulkEvaluateAllKeepsOrder() {
+        List<DMNContext> contexts = IntStream.range(0, 20)
+                .mapToObj(i -> decisionModel.newContext(i % 2 == 0 ? getEvaluateAllContext() : getEvaluateAllContextForWarning()))
+                .collect(Collectors.toList());
+        List<DMNResult> results = decisionModel.bulkEvaluateAll(contexts, executor);
+        assertThat(results).hasSize(contexts.size());
+        for (int i = 0; i < results.size(); i++) {
+            DMNResult expected = decisionModel.evaluateAll(contexts.get(i));
+            assertThat(results.get(i).getDecisionResultByName("Fine").getResult())
+                    .isEqualTo(expected.getDecisionResultByName("Fine").getResult());
+        }
+    }
+
+    @Test
+    void testInvalidLinesAreIsolated() throws IOException {
+        String input = MAPPER.writeValueAsString(getEvaluateAllContext()) + "\n"
+                + "not json\n"
+                + "\n"
+                + MAPPER.writeValueAsString(getEvaluateAllContextForWarning()) + "\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        DMNBulkEvaluation.evaluate(decisionModel, null, executor, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output, MAPPER, 2);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(MAPPER.readTree(lines[0]).has("decisionResults")).isTrue();
+        JsonNode error = MAPPER.readTree(lines[1]);
+        assertThat(error.get("line").asLong()).isEqualTo(2);
+        assertThat(error.get("error").asText()).startsWith("Invalid input");
+        assertThat(MAPPER.readTree(lines[2]).has("decisionResults")).isTrue();
+    }
+
+    @Test
+    void testFailingEvaluationIsIsolated() throws IOException {
+        AtomicInteger evaluations = new AtomicInteger();
+        DecisionModel failing = new DmnDecisionModel(createDMNRuntime(), MODEL_NAMESPACE, MODEL_NAME) {
+            @Override
+            public DMNResult evaluateAll(DMNContext context) {
+                evaluations.incrementAndGet();
+                if (context.isDefined("Fail")) {
+                    throw new IllegalStateException("boom");
+                }
+                if (context.isDefined("Overflow")) {
+                    throw new StackOverflowError("too deep");
+                }
+                return super.evaluateAll(context);
+            }
+        };
+        String input = MAPPER.writeValueAsString(getEvaluateAllContext()) + "\n"
+                + MAPPER.writeValueAsString(Map.of("Fail", true)) + "\n"
+                + MAPPER.writeValueAsString(Map.of("Overflow", true)) + "\n"
+                + MAPPER.writeValueAsString(getEvaluateAllContextForWarning()) + "\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        DMNBulkEvaluation.evaluate(failing, null, executor, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output, MAPPER, 3);
+
+        assertThat(evaluations).hasValue(4);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(MAPPER.readTree(lines[0]).has("decisionResults")).isTrue();
+        JsonNode error = MAPPER.readTree(lines[1]);
+        assertThat(error.get("line").asLong()).isEqualTo(2);
+        assertThat(error.get("error").asText()).isEqualTo("Evaluation error: boom");
+        assertThat(MAPPER.readTree(lines[2]).get("error").asText()).isEqualTo("Evaluation error: too deep");
+        assertThat(MAPPER.readTree(lines[3]).has("decisionResults")).isTrue();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.drools.core.session;
+
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of interchangeable {@link KieSession}s created by the same factory.
+ * <p>
+ * Sessions are reset when released: pending activations are cleared and the remaining facts deleted, so the next
+ * borrower gets an empty working memory while keeping the listeners registered by the factory. At most
+ * {@code maxSize} idle sessions are retained, sessions released on a full pool (or that fail to reset) are disposed.
+ * Once shut down, the pool disposes its idle sessions and every session released afterwards.
+ * Pools are created through {@link KieSessionPools} so that their utilization can be observed.
+ */
+public class KieSessionPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KieSessionPool.class);
+
+    private final String name;
+    private final Supplier<? extends KieSession> factory;
+    private final int maxSize;
+    private final BlockingQueue<KieSession> idle;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+    private volatile boolean shutdown;
+
+    KieSessionPool(String name, Supplier<? extends KieSession> factory, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive, was " + maxSize);
+        }
+        this.name = name;
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.idle = new ArrayBlockingQueue<>(maxSize);
+    }
+
+    public KieSession acquire() {
+        KieSession session = idle.poll();
+        if (session == null) {
+            session = factory.get();
+            created.incrementAndGet();
+        } else {
+            reused.incrementAndGet();
+        }
+        active.incrementAndGet();
+        return session;
+    }
+
+    public void release(KieSession session) {
+        active.decrementAndGet();
+        if (shutdown || !reset(session) || !idle.offer(session)) {
+            discarded.incrementAndGet();
+            session.dispose();
+        } else if (shutdown) {
+            // released while shutting down, not left idle
+            disposeIdle();
+        }
+    }
+
+    public void shutdown() {
+        shutdown = true;
+        disposeIdle();
+    }
+
+    private void disposeIdle() {
+        KieSession session;
+        while ((session = idle.poll()) != null) {
+            session.dispose();
+        }
+    }
+
+    private boolean reset(KieSession session) {
+        try {
+            session.getAgenda().clear();
+            for (FactHandle handle : new ArrayList<>(session.getFactHandles())) {
+                session.delete(handle);
+            }
+            return true;
+        } catch (RuntimeException e) {
+            LOGGER.warn("Unable to reset session of pool {}, it will be disposed", name, e);
+            return false;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getIdle() {
+        return idle.size();
+    }
+
+    public int getActive() {
+        return active.get();
+    }
+
+    public long getCreated() {
+        return created.get();
+    }
+
+    public long getReused() {
+        return reused.get();
+    }
+
+    public long getDiscarded() {
+        return discarded.get();
+    }
+}
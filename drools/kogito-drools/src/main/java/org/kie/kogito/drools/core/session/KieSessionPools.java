@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.drools.core.session;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import org.kie.api.runtime.KieSession;
+
+/**
+ * Creates {@link KieSessionPool}s and tracks them for the registered {@link KieSessionPoolListener}s.
+ * <p>
+ * Pools are only weakly referenced, so they are collected together with the process definitions owning them.
+ * Listeners are replayed the pools created before their registration.
+ */
+public final class KieSessionPools {
+
+    private static final Set<KieSessionPool> POOLS = Collections.newSetFromMap(new WeakHashMap<>());
+    private static final List<KieSessionPoolListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private KieSessionPools() {
+    }
+
+    public static KieSessionPool create(String name, Supplier<? extends KieSession> factory, int maxSize) {
+        KieSessionPool pool = new KieSessionPool(name, factory, maxSize);
+        synchronized (POOLS) {
+            POOLS.add(pool);
+            LISTENERS.forEach(listener -> listener.poolCreated(pool));
+        }
+        return pool;
+    }
+
+    public static void addListener(KieSessionPoolListener listener) {
+        synchronized (POOLS) {
+            LISTENERS.add(listener);
+            new ArrayList<>(POOLS).forEach(listener::poolCreated);
+        }
+    }
+
+    public static void removeListener(KieSessionPoolListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Shuts down every pool created so far, to be called when the application stops.
+     */
+    public static void shutdown() {
+        List<KieSessionPool> pools;
+        synchronized (POOLS) {
+            pools = new ArrayList<>(POOLS);
+        }
+        pools.forEach(KieSessionPool::shutdown);
+    }
+}
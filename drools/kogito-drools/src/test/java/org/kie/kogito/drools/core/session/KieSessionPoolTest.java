@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.drools.core.session;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.Agenda;
+import org.kie.api.runtime.rule.FactHandle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KieSessionPoolTest {
+
+    @Test
+    void testAcquireCreatesThenReuses() {
+        KieSession session = mockSession();
+        KieSessionPool pool = new KieSessionPool("acquire", () -> session, 2);
+
+        KieSession acquired = pool.acquire();
+        assertThat(acquired).isSameAs(session);
+        assertThat(pool.getActive()).isEqualTo(1);
+        assertThat(pool.getCreated()).isEqualTo(1);
+
+        pool.release(acquired);
+        assertThat(pool.getActive()).isZero();
+        assertThat(pool.getIdle()).isEqualTo(1);
+
+        assertThat(pool.acquire()).isSameAs(session);
+        assertThat(pool.getReused()).isEqualTo(1);
+        assertThat(pool.getIdle()).isZero();
+    }
+
+    @Test
+    void testReleaseResetsSession() {
+        KieSession session = mockSession();
+        FactHandle first = mock(FactHandle.class);
+        FactHandle second = mock(FactHandle.class);
+        when(session.getFactHandles()).thenReturn(List.of(first, second));
+        KieSessionPool pool = new KieSessionPool("reset", () -> session, 1);
+
+        pool.release(pool.acquire());
+
+        verify(session.getAgenda()).clear();
+        verify(session).delete(first);
+        verify(session).delete(second);
+        verify(session, never()).dispose();
+    }
+
+    @Test
+    void testReleaseOnFullPoolDisposes() {
+        KieSession first = mockSession();
+        KieSession second = mockSession();
+        KieSessionPool pool = new KieSessionPool("full", sequence(first, second), 1);
+
+        KieSession a = pool.acquire();
+        KieSession b = pool.acquire();
+        pool.release(a);
+        pool.release(b);
+
+        verify(first, never()).dispose();
+        verify(second).dispose();
+        assertThat(pool.getActive()).isZero();
+        assertThat(pool.getIdle()).isEqualTo(1);
+        assertThat(pool.getDiscarded()).isEqualTo(1);
+    }
+
+    @Test
+    void testSessionFailingToResetIsDisposed() {
+        KieSession session = mockSession();
+        FactHandle handle = mock(FactHandle.class);
+        when(session.getFactHandles()).thenReturn(List.of(handle));
+        doThrow(new IllegalStateException("broken")).when(session).delete(handle);
+        KieSession fresh = mockSession();
+        KieSessionPool pool = new KieSessionPool("broken", sequence(session, fresh), 1);
+
+        pool.release(pool.acquire());
+
+        verify(session).dispose();
+        assertThat(pool.getActive()).isZero();
+        assertThat(pool.getIdle()).isZero();
+        assertThat(pool.getDiscarded()).isEqualTo(1);
+        assertThat(pool.acquire()).isSameAs(fresh);
+    }
+
+    @Test
+    void testFailingFactoryDoesNotLeak() {
+        KieSessionPool pool = new KieSessionPool("failing", () -> {
+            throw new IllegalStateException("no session");
+        }, 1);
+
+        assertThatThrownBy(pool::acquire).isInstanceOf(IllegalStateException.class);
+        assertThat(pool.getActive()).isZero();
+        assertThat(pool.getCreated()).isZero();
+    }
+
+    @Test
+    void testShutdownDisposesIdleSessions() {
+        KieSession session = mockSession();
+        KieSessionPool pool = new KieSessionPool("shutdown", () -> session, 1);
+        pool.release(pool.acquire());
+
+        pool.shutdown();
+
+        verify(session).dispose();
+        assertThat(pool.getIdle()).isZero();
+    }
+
+    @Test
+    void testSessionReleasedAfterShutdownIsDisposed() {
+        KieSession session = mockSession();
+        KieSessionPool pool = KieSessionPools.create("shutdown-all", () -> session, 1);
+        KieSession acquired = pool.acquire();
+
+        KieSessionPools.shutdown();
+        pool.release(acquired);
+
+        verify(session).dispose();
+        assertThat(pool.getIdle()).isZero();
+        assertThat(pool.getDiscarded()).isEqualTo(1);
+    }
+
+    @Test
+    void testPoolSizeMustBePositive() {
+        assertThatThrownBy(() -> new KieSessionPool("invalid", KieSessionPoolTest::mockSession, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Supplier<KieSession> sequence(KieSession... sessions) {
+        int[] next = { 0 };
+        return () -> sessions[next[0]++];
+    }
+
+    private static KieSession mockSession() {
+        KieSession session = mock(KieSession.class);
+        Agenda agenda = mock(Agenda.class);
+        when(session.getAgenda()).thenReturn(agenda);
+        return session;
+    }
+}
@@ -18,6 +18,8 @@
  */
 package org.jbpm.bpmn2.rule;
 
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAmount;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -32,6 +34,7 @@ import org.kie.dmn.api.core.DMNContext;
 import org.kie.dmn.api.core.DMNMessage;
 import org.kie.dmn.api.core.DMNResult;
 import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.FEELPropertyAccessible;
 import org.kie.dmn.feel.lang.impl.JavaBackedType;
 import org.kie.dmn.feel.lang.types.BuiltInType;
 import org.kie.kogito.decision.DecisionModel;
@@ -41,6 +44,20 @@ public class DecisionRuleTypeEngineImpl implements DecisionRuleTypeEngine {
 
     private final JsonResolver jsonResolver = new JsonResolver();
 
+    // whether values of a class can be handed over to the DMN runtime as they are, without a json round trip
+    private final ClassValue<Boolean> dmnNativeTypes = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return String.class.equals(type)
+                    || Boolean.class.equals(type)
+                    || Number.class.isAssignableFrom(type)
+                    || TemporalAccessor.class.isAssignableFrom(type)
+                    || TemporalAmount.class.isAssignableFrom(type)
+                    || FEELPropertyAccessible.class.isAssignableFrom(type)
+                    || isDMNAnnotatedClass(type);
+        }
+    };
+
     @Override
     public void evaluate(RuleSetNodeInstance rsni, String inputNamespace, String inputModel, String decision) {
         String namespace = rsni.resolveExpression(inputNamespace);
@@ -64,30 +81,33 @@ public class DecisionRuleTypeEngineImpl implements DecisionRuleTypeEngine {
 
             throw new RuntimeException("DMN result errors:: " + errors);
         }
-        //Output Binding
-        Map<String, Object> outputSet = dmnResult.getContext().getAll();
-        NodeIoHelper.processOutputs(rsni, outputSet::get, rsni::getVariable);
+        //Output Binding, outputs are read straight from the result context
+        DMNContext outputContext = dmnResult.getContext();
+        NodeIoHelper.processOutputs(rsni, outputContext::get, rsni::getVariable);
 
         rsni.triggerCompleted();
     }
 
     Map<String, Object> getDMNAnnotatedAdjustedMap(RuleSetNodeInstance rsni) {
-        // Get inputs
-        Map<String, Object> inputs = getInputs(rsni);
-        // resolve inputs with the JsonResolver' objectMapper
-        Map<String, Object> jsonResolvedInputs = jsonResolver.resolveAll(inputs);
-        return getDMNAnnotatedAdjustedMap(inputs, jsonResolvedInputs);
+        return getDMNAnnotatedAdjustedMap(getInputs(rsni));
     }
 
-    Map<String, Object> getDMNAnnotatedAdjustedMap(Map<String, Object> rsniInputs, Map<String, Object> jsonResolvedInputs) {
-        Map<String, Object> toReturn = new HashMap<>(jsonResolvedInputs);
-        // Retrieving DMN-annotated inputs
-        Map<String, Object> dmnAnnotatedBeans = rsniInputs.entrySet()
-                .stream()
-                .filter(entry -> isDMNAnnotatedBean(entry.getValue()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        // replacing/adding DMN-annotated beans inside returned Map
-        toReturn.putAll(dmnAnnotatedBeans);
+    /**
+     * Binds the task inputs to DMN inputs: values the DMN runtime understands natively (strings, numbers, booleans,
+     * temporals, DMN-annotated beans) are bound as they are, only the remaining ones are resolved with the
+     * JsonResolver' objectMapper.
+     */
+    Map<String, Object> getDMNAnnotatedAdjustedMap(Map<String, Object> rsniInputs) {
+        Map<String, Object> toReturn = new HashMap<>(rsniInputs);
+        Map<String, Object> toResolve = new HashMap<>();
+        for (Map.Entry<String, Object> entry : rsniInputs.entrySet()) {
+            if (entry.getValue() != null && !dmnNativeTypes.get(entry.getValue().getClass())) {
+                toResolve.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (!toResolve.isEmpty()) {
+            toReturn.putAll(jsonResolver.resolveAll(toResolve));
+        }
         return toReturn;
     }
 
@@ -36,25 +36,30 @@ public class RuleFlowGroupRuleTypeEngineImpl implements RuleFlowGroupRuleTypeEng
     public void evaluate(RuleSetNodeInstance rsni, String ruleFlowGroup) {
         rsni.setRuleFlowGroup(ruleFlowGroup);
 
-        KieRuntime kruntime = getKieRuntime(rsni);
-        Map<String, Object> inputs = getInputs(rsni);
-        //proceed
-        for (Map.Entry<String, Object> entry : inputs.entrySet()) {
-            if (FIRE_RULE_LIMIT_PARAMETER.equals(entry.getKey())) {
-                // don't put control parameter for fire limit into working memory
-                continue;
-            }
+        // kept on the node instance, so that a wait state completes on the session holding its facts
+        KieRuntime kruntime = rsni.getKieRuntime();
+        boolean waiting = false;
+        try {
+            Map<String, Object> inputs = getInputs(rsni);
+            //proceed
+            for (Map.Entry<String, Object> entry : inputs.entrySet()) {
+                if (FIRE_RULE_LIMIT_PARAMETER.equals(entry.getKey())) {
+                    // don't put control parameter for fire limit into working memory
+                    continue;
+                }
 
-            String inputKey = rsni.getRuleFlowGroup() + "_" + rsni.getProcessInstance().getStringId() + "_" + entry.getKey();
+                String inputKey = rsni.getRuleFlowGroup() + "_" + rsni.getProcessInstance().getStringId() + "_" + entry.getKey();
 
-            rsni.addFact(inputKey, kruntime.insert(entry.getValue()));
-        }
+                rsni.addFact(inputKey, kruntime.insert(entry.getValue()));
+            }
 
-        if (rsni.actAsWaitState()) {
-            rsni.addRuleSetListener();
-            ((InternalAgenda) kruntime.getAgenda())
-                    .activateRuleFlowGroup(rsni.getRuleFlowGroup(), rsni.getProcessInstance().getStringId(), rsni.getUniqueId());
-        } else {
+            if (rsni.actAsWaitState()) {
+                rsni.addRuleSetListener();
+                ((InternalAgenda) kruntime.getAgenda())
+                        .activateRuleFlowGroup(rsni.getRuleFlowGroup(), rsni.getProcessInstance().getStringId(), rsni.getUniqueId());
+                waiting = true;
+                return;
+            }
             int fireLimit = DEFAULT_FIRE_RULE_LIMIT;
             WorkflowProcessInstance processInstance = rsni.getProcessInstance();
 
@@ -72,11 +77,13 @@ public class RuleFlowGroupRuleTypeEngineImpl implements RuleFlowGroupRuleTypeEng
 
             rsni.removeEventListeners();
             rsni.retractFacts(kruntime);
-            rsni.triggerCompleted();
-            if (kruntime instanceof KieSession) {
-                ((KieSession) kruntime).dispose();
+        } finally {
+            if (!waiting) {
+                // a pooled session is reset and handed over to the next execution of this node
+                rsni.releaseKieRuntime();
             }
         }
+        rsni.triggerCompleted();
     }
 
 }
@@ -18,6 +18,8 @@
  */
 package org.jbpm.bpmn2.rule;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -47,12 +49,29 @@ class DecisionRuleTypeEngineImplTest {
         rsniInputs.put("dmnAnnotated", dmnAnnotated);
         NOTDMNAnnotated notDMNAnnotated = new NOTDMNAnnotated("first", "last");
         rsniInputs.put("notDMNAnnotated", notDMNAnnotated);
-        Map<String, Object> jsonResolvedInputs = JSON_RESOLVER.resolveAll(rsniInputs);
-        Map<String, Object> retrieved = DECISION_RULE_TYPE_ENGINE.getDMNAnnotatedAdjustedMap(rsniInputs, jsonResolvedInputs);
+        Map<String, Object> retrieved = DECISION_RULE_TYPE_ENGINE.getDMNAnnotatedAdjustedMap(rsniInputs);
         assertThat(retrieved)
                 .containsEntry("SOMETHING", "true")
                 .containsEntry("dmnAnnotated", dmnAnnotated);
-        assertThat(retrieved.get("notDMNAnnotated")).isInstanceOf(Map.class);
+        assertThat(retrieved.get("notDMNAnnotated")).isInstanceOf(Map.class)
+                .isEqualTo(JSON_RESOLVER.resolveAll(Map.of("notDMNAnnotated", notDMNAnnotated)).get("notDMNAnnotated"));
+    }
+
+    @Test
+    void getDMNAnnotatedAdjustedMapBindsNativeTypesAsTheyAre() {
+        Map<String, Object> rsniInputs = new HashMap<>();
+        BigDecimal amount = new BigDecimal("1000.50");
+        LocalDate date = LocalDate.of(2024, 2, 29);
+        rsniInputs.put("amount", amount);
+        rsniInputs.put("date", date);
+        rsniInputs.put("approved", Boolean.TRUE);
+        rsniInputs.put("missing", null);
+        Map<String, Object> retrieved = DECISION_RULE_TYPE_ENGINE.getDMNAnnotatedAdjustedMap(rsniInputs);
+        assertThat(retrieved.get("amount")).isSameAs(amount);
+        assertThat(retrieved.get("date")).isSameAs(date);
+        assertThat(retrieved)
+                .containsEntry("approved", Boolean.TRUE)
+                .containsEntry("missing", null);
     }
 
     @Test
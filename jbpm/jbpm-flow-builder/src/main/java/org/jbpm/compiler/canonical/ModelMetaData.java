@@ -20,6 +20,7 @@ package org.jbpm.compiler.canonical;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -28,6 +29,7 @@ import java.util.function.Consumer;
 
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.jbpm.process.core.context.variable.Variable;
+import org.kie.kogito.ModelBinder;
 import org.kie.kogito.codegen.Generated;
 import org.kie.kogito.codegen.VariableInfo;
 import org.kie.kogito.internal.process.runtime.KogitoWorkflowProcess;
@@ -37,6 +39,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.Modifier;
 import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.BodyDeclaration;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.FieldDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
@@ -47,6 +50,7 @@ import com.github.javaparser.ast.expr.CastExpr;
 import com.github.javaparser.ast.expr.EnclosedExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
 import com.github.javaparser.ast.expr.MemberValuePair;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.Name;
@@ -58,15 +62,23 @@ import com.github.javaparser.ast.expr.StringLiteralExpr;
 import com.github.javaparser.ast.expr.ThisExpr;
 import com.github.javaparser.ast.expr.VariableDeclarationExpr;
 import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.IfStmt;
 import com.github.javaparser.ast.stmt.ReturnStmt;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.ast.type.VoidType;
 
 import static com.github.javaparser.StaticJavaParser.parse;
+import static com.github.javaparser.StaticJavaParser.parseType;
 import static org.drools.util.StringUtils.ucFirst;
 import static org.kie.kogito.internal.utils.ConversionUtils.sanitizeClassName;
 
 public class ModelMetaData {
 
+    public static final String BINDER_FIELD = "BINDER";
+    private static final String MODEL = "model";
+    private static final String VALUES = "values";
+
     private final String processId;
     private final String packageName;
     private final String modelClassSimpleName;
@@ -234,9 +246,96 @@ public class ModelMetaData {
         toMapBody.addStatement(new ReturnStmt(new NameExpr("params")));
         toMapMethod.ifPresent(methodDeclaration -> methodDeclaration.setBody(toMapBody));
 
+        addModelBinder(modelClass);
+
         return compilationUnit;
     }
 
+    /**
+     * Adds a static {@link ModelBinder} to the model, copying the variables through direct field access, and makes the
+     * map based methods of the model use it instead of the reflective defaults.
+     */
+    private void addModelBinder(ClassOrInterfaceDeclaration modelClass) {
+        BlockStmt toMapBody = new BlockStmt();
+        toMapBody.addStatement(new AssignExpr(new VariableDeclarationExpr(mapType(), "params"),
+                new ObjectCreationExpr(null, new ClassOrInterfaceType(null, LinkedHashMap.class.getCanonicalName() + "<>"),
+                        NodeList.nodeList(new IntegerLiteralExpr(String.valueOf(variableScope.getTypes().size() * 4 / 3 + 1)))),
+                AssignExpr.Operator.ASSIGN));
+        BlockStmt fromMapBody = new BlockStmt();
+        for (Variable variable : variableScope.getTypes().values()) {
+            String name = variable.getName();
+            String field = variable.getSanitizedName();
+            toMapBody.addStatement(new MethodCallExpr(new NameExpr("params"), "put")
+                    .addArgument(new StringLiteralExpr(name))
+                    .addArgument(new FieldAccessExpr(new NameExpr(MODEL), field)));
+            fromMapBody.addStatement(new IfStmt()
+                    .setCondition(new MethodCallExpr(new NameExpr(VALUES), "containsKey").addArgument(new StringLiteralExpr(name)))
+                    .setThenStmt(new BlockStmt().addStatement(new AssignExpr(new FieldAccessExpr(new NameExpr(MODEL), field),
+                            new CastExpr(parseType(variable.getType().getStringType()),
+                                    new MethodCallExpr(new NameExpr(VALUES), "get").addArgument(new StringLiteralExpr(name))),
+                            AssignExpr.Operator.ASSIGN))));
+        }
+        toMapBody.addStatement(new ReturnStmt(new NameExpr("params")));
+
+        BlockStmt setIdBody = new BlockStmt();
+        if (modelClass.findFirst(MethodDeclaration.class, md -> md.getNameAsString().equals("getId")).isPresent()) {
+            setIdBody.addStatement(new MethodCallExpr(new NameExpr(MODEL), "setId").addArgument(new NameExpr("id")));
+        }
+
+        NodeList<BodyDeclaration<?>> binderBody = NodeList.nodeList(
+                binderMethod("toMap", mapType(), toMapBody)
+                        .addParameter(modelType(), MODEL),
+                binderMethod("fromMap", new VoidType(), fromMapBody)
+                        .addParameter(modelType(), MODEL)
+                        .addParameter(mapType(), VALUES),
+                binderMethod("setId", new VoidType(), setIdBody)
+                        .addParameter(modelType(), MODEL)
+                        .addParameter(String.class.getSimpleName(), "id"));
+        modelClass.addMember(new FieldDeclaration()
+                .addVariable(new VariableDeclarator(binderType(), BINDER_FIELD,
+                        new ObjectCreationExpr(null, binderType(), null, NodeList.nodeList(), binderBody)))
+                .addModifier(Modifier.Keyword.PUBLIC, Modifier.Keyword.STATIC, Modifier.Keyword.FINAL));
+
+        if (modelClass.getMethodsByName("toMap").isEmpty()) {
+            modelClass.addMember(binderMethod("toMap", mapType(), new BlockStmt()
+                    .addStatement(new ReturnStmt(new MethodCallExpr(new NameExpr(BINDER_FIELD), "toMap").addArgument(new ThisExpr())))));
+        }
+        if (modelClass.getMethodsByName("fromMap").isEmpty()) {
+            modelClass.addMember(binderMethod("fromMap", new VoidType(), new BlockStmt()
+                    .addStatement(new MethodCallExpr(new NameExpr(BINDER_FIELD), "setId").addArgument(new ThisExpr()).addArgument(new NameExpr("id")))
+                    .addStatement(new MethodCallExpr(new NameExpr(BINDER_FIELD), "fromMap").addArgument(new ThisExpr()).addArgument(new NameExpr("params"))))
+                    .addParameter(String.class.getSimpleName(), "id")
+                    .addParameter(mapType(), "params"));
+        }
+        if (modelClass.getMethodsByName("update").isEmpty()) {
+            modelClass.addMember(binderMethod("update", new VoidType(), new BlockStmt()
+                    .addStatement(new MethodCallExpr(new NameExpr(BINDER_FIELD), "fromMap").addArgument(new ThisExpr()).addArgument(new NameExpr("params"))))
+                    .addParameter(mapType(), "params"));
+        }
+    }
+
+    private static MethodDeclaration binderMethod(String name, Type type, BlockStmt body) {
+        return new MethodDeclaration()
+                .setModifiers(Modifier.Keyword.PUBLIC)
+                .setName(name)
+                .setType(type)
+                .setBody(body)
+                .addMarkerAnnotation(Override.class);
+    }
+
+    private ClassOrInterfaceType modelType() {
+        return new ClassOrInterfaceType(null, modelClassSimpleName);
+    }
+
+    private ClassOrInterfaceType binderType() {
+        return new ClassOrInterfaceType(null, new SimpleName(ModelBinder.class.getCanonicalName()), NodeList.nodeList(modelType()));
+    }
+
+    private static ClassOrInterfaceType mapType() {
+        return new ClassOrInterfaceType(null, new SimpleName(Map.class.getSimpleName()),
+                NodeList.nodeList(new ClassOrInterfaceType(null, String.class.getSimpleName()), new ClassOrInterfaceType(null, Object.class.getSimpleName())));
+    }
+
     private void applyValidation(FieldDeclaration fd, List<String> tags) {
 
         if (supportsValidation) {
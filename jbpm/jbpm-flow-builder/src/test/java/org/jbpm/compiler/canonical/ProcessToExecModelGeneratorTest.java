@@ -32,6 +32,10 @@ import org.kie.api.definition.process.WorkflowProcess;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class ProcessToExecModelGeneratorTest {
@@ -199,4 +203,39 @@ public class ProcessToExecModelGeneratorTest {
         ProcessMetaData processMetadata = ProcessToExecModelGenerator.INSTANCE.generate(process);
         assertThat(processMetadata).as("Dumper should return non null class for process").isNotNull();
     }
+
+    @Test
+    public void testModelBinderGeneration() {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("demo.orders");
+        factory
+                .variable("order", new ObjectDataType("com.myspace.demo.Order"))
+                .variable("approver", new StringDataType())
+                .name("orders")
+                .packageName("com.myspace.demo")
+                .dynamic(false)
+                .version("1.0")
+                .startNode(one)
+                .name("start")
+                .done()
+                .endNode(two)
+                .name("end")
+                .terminate(false)
+                .done()
+                .connection(one, two);
+
+        WorkflowProcess process = factory.validate().getProcess();
+
+        CompilationUnit model = ProcessToExecModelGenerator.INSTANCE.generateModel(process).generateUnit();
+        ClassOrInterfaceDeclaration modelClass = model.getClassByName("OrdersModel").orElseThrow();
+
+        FieldDeclaration binder = modelClass.getFieldByName(ModelMetaData.BINDER_FIELD).orElseThrow();
+        assertThat(binder.isStatic()).isTrue();
+        String binderCode = binder.toString();
+        assertThat(binderCode).contains("params.put(\"order\", model.order)", "params.put(\"approver\", model.approver)",
+                "model.order = (com.myspace.demo.Order) values.get(\"order\")", "model.setId(id)");
+        assertThat(modelClass.getMethodsByName("toMap")).hasSize(1);
+        assertThat(modelClass.getMethodsByName("fromMap")).hasSize(1);
+        assertThat(modelClass.getMethodsByName("update")).hasSize(1);
+        assertThat(model.toString()).doesNotContain("getDeclaredFields");
+    }
 }
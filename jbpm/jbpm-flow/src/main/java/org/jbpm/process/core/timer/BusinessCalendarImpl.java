@@ -19,16 +19,21 @@
 package org.jbpm.process.core.timer;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Objects;
 import java.util.TimeZone;
 import java.util.regex.Matcher;
+import java.util.stream.IntStream;
 
 import org.jbpm.util.PatternConstants;
 import org.kie.kogito.calendar.BusinessCalendar;
@@ -66,6 +71,7 @@ public class BusinessCalendarImpl implements BusinessCalendar {
     private static final Logger logger = LoggerFactory.getLogger(BusinessCalendarImpl.class);
 
     private static final long HOUR_IN_MILLIS = 60 * 60 * 1000;
+    private static final long WEEK_IN_MILLIS = 7 * 24 * HOUR_IN_MILLIS;
 
     private final int daysPerWeek;
     private final int hoursInDay;
@@ -74,7 +80,9 @@ public class BusinessCalendarImpl implements BusinessCalendar {
     private final String timezone;
 
     private final List<TimePeriod> holidays;
+    private final HolidayIndex holidayIndex;
     private final List<Integer> weekendDays;
+    private final int workingDaysInWeek;
 
     /**
      * Testing calendar used only for testing purposes
@@ -117,6 +125,8 @@ public class BusinessCalendarImpl implements BusinessCalendar {
         startHour = calendarBean.getStartHour();
         endHour = calendarBean.getEndHour();
         hoursInDay = calendarBean.getHoursInDay();
+        holidayIndex = new HolidayIndex(holidays);
+        workingDaysInWeek = (int) IntStream.rangeClosed(Calendar.SUNDAY, Calendar.SATURDAY).filter(day -> isWorkingDay(weekendDays, day)).count();
         this.testingCalendar = testingCalendar;
         logger.debug("\tholidays: {},\n\tweekendDays: {},\n\tdaysPerWeek: {},\n\ttimezone: {},\n\tstartHour: {},\n\tendHour: {},\n\thoursInDay: {}",
                 holidays, weekendDays, daysPerWeek, timezone, startHour, endHour, hoursInDay);
@@ -131,8 +141,10 @@ public class BusinessCalendarImpl implements BusinessCalendar {
         timeExpression = adoptISOFormat(timeExpression);
 
         Date calculatedDate = calculateBusinessTimeAsDate(timeExpression);
-        logger.debug("calculatedDate: {}, currentTime: {}, timeExpression: {}, Difference: {} ms",
-                calculatedDate, new Date(getCurrentTime()), timeExpression, calculatedDate.getTime() - getCurrentTime());
+        if (logger.isDebugEnabled()) {
+            logger.debug("calculatedDate: {}, currentTime: {}, timeExpression: {}, Difference: {} ms",
+                    calculatedDate, new Date(getCurrentTime()), timeExpression, calculatedDate.getTime() - getCurrentTime());
+        }
 
         return (calculatedDate.getTime() - getCurrentTime());
     }
@@ -170,7 +182,7 @@ public class BusinessCalendarImpl implements BusinessCalendar {
         int time = 0;
 
         Calendar calendar = getCalendar();
-        logger.trace("calendar selected for business calendar: {}", calendar.getTime());
+        traceCalendar("calendar selected for business calendar: {}", calendar);
         if (timezone != null) {
             calendar.setTimeZone(TimeZone.getTimeZone(timezone));
         }
@@ -189,31 +201,24 @@ public class BusinessCalendarImpl implements BusinessCalendar {
         int numberOfDays = hours / hoursInDay;
         logger.trace("numberOfDays: {}", numberOfDays);
         if (numberOfDays > 0) {
-            for (int i = 0; i < numberOfDays; i++) {
-                calendar.add(Calendar.DAY_OF_YEAR, 1);
-                boolean resetTime = false;
-                rollCalendarToNextWorkingDayIfCurrentDayIsNonWorking(calendar, weekendDays, resetTime);
-                logger.trace("calendar after rolling to next working day: {} when number of days > 0", calendar.getTime());
-                rollCalendarAfterHolidays(calendar, holidays, weekendDays, hours > 0 || min > 0);
-                logger.trace("calendar after holidays when number of days > 0: {}", calendar.getTime());
-            }
+            addWorkingDays(calendar, numberOfDays, hours > 0 || min > 0);
         }
         int currentCalHour = calendar.get(Calendar.HOUR_OF_DAY);
         boolean resetMinuteSecond = currentCalHour >= endHour || currentCalHour < startHour;
         rollCalendarToWorkingHour(calendar, resetMinuteSecond);
-        logger.trace("calendar after rolling to working hour: {}", calendar.getTime());
+        traceCalendar("calendar after rolling to working hour: {}", calendar);
 
         // calculate remaining hours
         time = hours - (numberOfDays * hoursInDay);
         calendar.add(Calendar.HOUR, time);
-        logger.trace("calendar after adding time {}: {}", time, calendar.getTime());
+        traceCalendar("calendar after adding time {}: {}", time, calendar);
         boolean resetTime = true;
         rollCalendarToNextWorkingDayIfCurrentDayIsNonWorking(calendar, weekendDays, resetTime);
-        logger.trace("calendar after rolling to next working day: {}", calendar.getTime());
-        rollCalendarAfterHolidays(calendar, holidays, weekendDays, hours > 0 || min > 0);
-        logger.trace("calendar after holidays: {}", calendar.getTime());
+        traceCalendar("calendar after rolling to next working day: {}", calendar);
+        rollCalendarAfterHolidays(calendar, holidayIndex, weekendDays, hours > 0 || min > 0);
+        traceCalendar("calendar after holidays: {}", calendar);
         rollCalendarToWorkingHour(calendar, false);
-        logger.trace("calendar after rolling to working hour: {}", calendar.getTime());
+        traceCalendar("calendar after rolling to working hour: {}", calendar);
 
         // calculate minutes
         int numberOfHours = min / 60;
@@ -230,22 +235,72 @@ public class BusinessCalendarImpl implements BusinessCalendar {
             sec = sec - (numberOfMinutes * 60);
         }
         calendar.add(Calendar.SECOND, sec);
-        logger.trace("calendar after adding {} hour, {} minutes and {} seconds: {}", numberOfHours, numberOfMinutes, sec, calendar.getTime());
+        if (logger.isTraceEnabled()) {
+            logger.trace("calendar after adding {} hour, {} minutes and {} seconds: {}", numberOfHours, numberOfMinutes, sec, calendar.getTime());
+        }
 
         rollCalendarToWorkingHour(calendar, false);
-        logger.trace("calendar after rolling to next working day: {}", calendar.getTime());
+        traceCalendar("calendar after rolling to next working day: {}", calendar);
 
         // take under consideration weekend
         resetTime = false;
         rollCalendarToNextWorkingDayIfCurrentDayIsNonWorking(calendar, weekendDays, resetTime);
-        logger.trace("calendar after rolling to next working day: {}", calendar.getTime());
+        traceCalendar("calendar after rolling to next working day: {}", calendar);
         // take under consideration holidays
-        rollCalendarAfterHolidays(calendar, holidays, weekendDays, resetTime);
-        logger.trace("calendar after holidays: {}", calendar.getTime());
+        rollCalendarAfterHolidays(calendar, holidayIndex, weekendDays, resetTime);
+        traceCalendar("calendar after holidays: {}", calendar);
 
         return calendar.getTime();
     }
 
+    /**
+     * Moves the given <code>Calendar</code> forward by <code>numberOfDays</code> working days, skipping weekend days and
+     * holidays one day at a time.
+     *
+     * Whole weeks before the next holiday are added in one step, since moving a working day forward by as many
+     * working days as a week has lands on the same week day one week later.
+     *
+     * @param calendar
+     * @param numberOfDays
+     * @param resetTime passed to the holiday roll
+     */
+    void addWorkingDays(Calendar calendar, int numberOfDays, boolean resetTime) {
+        int remainingDays = numberOfDays;
+        while (remainingDays > 0) {
+            int weeks = weeksToSkip(calendar, remainingDays);
+            if (weeks > 0) {
+                calendar.add(Calendar.WEEK_OF_YEAR, weeks);
+                remainingDays -= weeks * workingDaysInWeek;
+                traceCalendar("calendar after skipping {} weeks: {}", weeks, calendar);
+            } else {
+                calendar.add(Calendar.DAY_OF_YEAR, 1);
+                rollCalendarToNextWorkingDayIfCurrentDayIsNonWorking(calendar, weekendDays, false);
+                traceCalendar("calendar after rolling to next working day: {} when number of days > 0", calendar);
+                rollCalendarAfterHolidays(calendar, holidayIndex, weekendDays, resetTime);
+                traceCalendar("calendar after holidays when number of days > 0: {}", calendar);
+                remainingDays--;
+            }
+        }
+    }
+
+    /**
+     * Number of whole weeks that can be added to the given working day <code>Calendar</code> without reaching a holiday
+     * or a time zone offset transition, where adding days one at a time could shift the time of the day.
+     */
+    private int weeksToSkip(Calendar calendar, int remainingDays) {
+        if (workingDaysInWeek == 0 || remainingDays < workingDaysInWeek || !isWorkingDay(weekendDays, calendar.get(Calendar.DAY_OF_WEEK))) {
+            return 0;
+        }
+        long current = calendar.getTimeInMillis();
+        long limit = holidayIndex.nextHolidayStart(current);
+        ZoneOffsetTransition transition = calendar.getTimeZone().toZoneId().getRules().nextTransition(Instant.ofEpochMilli(current));
+        if (transition != null) {
+            limit = Math.min(limit, transition.getInstant().toEpochMilli());
+        }
+        long weeksBeforeLimit = limit == Long.MAX_VALUE ? Long.MAX_VALUE : (limit - 1 - current) / WEEK_IN_MILLIS;
+        return (int) Math.min(remainingDays / workingDaysInWeek, Math.max(weeksBeforeLimit, 0));
+    }
+
     /**
      * Indirection used only for testing purposes
      * 
@@ -269,7 +324,7 @@ public class BusinessCalendarImpl implements BusinessCalendar {
      * @param resetMinuteSecond if <code>true</code>, set minutes and seconds to 0
      */
     protected void rollCalendarToWorkingHour(Calendar toRoll, boolean resetMinuteSecond) {
-        logger.trace("toRoll: {}", toRoll.getTime());
+        traceCalendar("toRoll: {}", toRoll);
         if (startHour < endHour) {
             rollCalendarToDailyWorkingHour(toRoll, startHour, endHour);
         } else {
@@ -289,7 +344,7 @@ public class BusinessCalendarImpl implements BusinessCalendar {
      * @param endHour
      */
     static void rollCalendarToDailyWorkingHour(Calendar toRoll, int startHour, int endHour) {
-        logger.trace("toRoll: {}", toRoll.getTime());
+        traceCalendar("toRoll: {}", toRoll);
         logger.trace("startHour: {}", startHour);
         logger.trace("endHour: {}", endHour);
         int currentCalHour = toRoll.get(Calendar.HOUR_OF_DAY);
@@ -300,7 +355,7 @@ public class BusinessCalendarImpl implements BusinessCalendar {
         } else if (currentCalHour < startHour) {
             toRoll.add(Calendar.HOUR_OF_DAY, startHour - currentCalHour);
         }
-        logger.trace("calendar after rolling to daily working hour: {}", toRoll.getTime());
+        traceCalendar("calendar after rolling to daily working hour: {}", toRoll);
     }
 
     /**
@@ -311,7 +366,7 @@ public class BusinessCalendarImpl implements BusinessCalendar {
      * @param endHour
      */
     static void rollCalendarToNightlyWorkingHour(Calendar toRoll, int startHour, int endHour) {
-        logger.trace("toRoll: {}", toRoll.getTime());
+        traceCalendar("toRoll: {}", toRoll);
         logger.trace("startHour: {}", startHour);
         logger.trace("endHour: {}", endHour);
         int currentCalHour = toRoll.get(Calendar.HOUR_OF_DAY);
@@ -338,37 +393,34 @@ public class BusinessCalendarImpl implements BusinessCalendar {
      * @param resetTime
      */
     static void rollCalendarAfterHolidays(Calendar toRoll, List<TimePeriod> holidays, List<Integer> weekendDays, boolean resetTime) {
-        logger.trace("toRoll: {}", toRoll.getTime());
+        rollCalendarAfterHolidays(toRoll, new HolidayIndex(holidays), weekendDays, resetTime);
+    }
+
+    static void rollCalendarAfterHolidays(Calendar toRoll, HolidayIndex holidays, List<Integer> weekendDays, boolean resetTime) {
+        traceCalendar("toRoll: {}", toRoll);
         logger.trace("holidays: {}", holidays);
         logger.trace("weekendDays: {}", weekendDays);
         logger.trace("resetTime: {}", resetTime);
-        if (!holidays.isEmpty()) {
-            Date current = toRoll.getTime();
-            for (TimePeriod holiday : holidays) {
-                // check each holiday if it overlaps current date and break after first match
-                if (current.after(holiday.getFrom()) && current.before(holiday.getTo())) {
-
-                    Calendar lastHolidayDayTime = new GregorianCalendar();
-                    lastHolidayDayTime.setTime(holiday.getTo());
+        long current = toRoll.getTimeInMillis();
+        TimePeriod holiday = holidays.containing(current);
+        if (holiday != null) {
+            Calendar lastHolidayDayTime = new GregorianCalendar();
+            lastHolidayDayTime.setTime(holiday.getTo());
 
-                    Calendar currentDayTmp = new GregorianCalendar();
-                    currentDayTmp.setTime(current);
-                    currentDayTmp.set(Calendar.HOUR_OF_DAY, 0);
-                    currentDayTmp.set(Calendar.MINUTE, 0);
-                    currentDayTmp.set(Calendar.SECOND, 0);
-                    currentDayTmp.set(Calendar.MILLISECOND, 0);
+            Calendar currentDayTmp = new GregorianCalendar();
+            currentDayTmp.setTimeInMillis(current);
+            currentDayTmp.set(Calendar.HOUR_OF_DAY, 0);
+            currentDayTmp.set(Calendar.MINUTE, 0);
+            currentDayTmp.set(Calendar.SECOND, 0);
+            currentDayTmp.set(Calendar.MILLISECOND, 0);
 
-                    long difference = lastHolidayDayTime.getTimeInMillis() - currentDayTmp.getTimeInMillis();
-                    int dayDifference = (int) Math.ceil(difference / (HOUR_IN_MILLIS * 24d));
+            long difference = lastHolidayDayTime.getTimeInMillis() - currentDayTmp.getTimeInMillis();
+            int dayDifference = (int) Math.ceil(difference / (HOUR_IN_MILLIS * 24d));
 
-                    toRoll.add(Calendar.DAY_OF_MONTH, dayDifference);
+            toRoll.add(Calendar.DAY_OF_MONTH, dayDifference);
 
-                    rollCalendarToNextWorkingDayIfCurrentDayIsNonWorking(toRoll, weekendDays, resetTime);
-                    break;
-                }
-            }
+            rollCalendarToNextWorkingDayIfCurrentDayIsNonWorking(toRoll, weekendDays, resetTime);
         }
-
     }
 
     /**
@@ -380,7 +432,7 @@ public class BusinessCalendarImpl implements BusinessCalendar {
      * @param resetTime
      */
     static void rollCalendarToNextWorkingDayIfCurrentDayIsNonWorking(Calendar toRoll, List<Integer> weekendDays, boolean resetTime) {
-        logger.trace("toRoll: {}", toRoll.getTime());
+        traceCalendar("toRoll: {}", toRoll);
         logger.trace("weekendDays: {}", weekendDays);
         logger.trace("resetTime: {}", resetTime);
         int dayOfTheWeek = toRoll.get(Calendar.DAY_OF_WEEK);
@@ -398,6 +450,21 @@ public class BusinessCalendarImpl implements BusinessCalendar {
         logger.trace("dayOfTheWeek after rolling calendar: {}", dayOfTheWeek);
     }
 
+    /**
+     * Trace logging of a <code>Calendar</code>, without creating its <code>Date</code> when tracing is disabled
+     */
+    private static void traceCalendar(String message, Calendar calendar) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(message, calendar.getTime());
+        }
+    }
+
+    private static void traceCalendar(String message, Object argument, Calendar calendar) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(message, argument, calendar.getTime());
+        }
+    }
+
     static boolean isWorkingDay(List<Integer> weekendDays, int day) {
         logger.trace("weekendDays: {}", weekendDays);
         logger.trace("day: {}", day);
@@ -516,4 +583,83 @@ public class BusinessCalendarImpl implements BusinessCalendar {
         }
     }
 
+    /**
+     * Holidays sorted by start, used to find the holiday containing a given instant with a binary search
+     * instead of scanning the whole list.
+     *
+     * When holidays overlap, the one that comes first in the configured list wins, as it did with the linear scan.
+     */
+    static class HolidayIndex {
+
+        private final TimePeriod[] periods;
+        private final int[] positions;
+        private final long[] from;
+        private final long[] to;
+        // highest end of the periods up to each index, to stop the backward scan early
+        private final long[] maxTo;
+
+        HolidayIndex(List<TimePeriod> holidays) {
+            Integer[] order = IntStream.range(0, holidays.size()).boxed().toArray(Integer[]::new);
+            Arrays.sort(order, Comparator.comparingLong(i -> holidays.get(i).getFrom().getTime()));
+            int size = order.length;
+            periods = new TimePeriod[size];
+            positions = new int[size];
+            from = new long[size];
+            to = new long[size];
+            maxTo = new long[size];
+            for (int i = 0; i < size; i++) {
+                periods[i] = holidays.get(order[i]);
+                positions[i] = order[i];
+                from[i] = periods[i].getFrom().getTime();
+                to[i] = periods[i].getTo().getTime();
+                maxTo[i] = i == 0 ? to[i] : Math.max(maxTo[i - 1], to[i]);
+            }
+        }
+
+        /**
+         * @return the holiday strictly containing the given instant, or <code>null</code>
+         */
+        TimePeriod containing(long instant) {
+            TimePeriod found = null;
+            int foundPosition = Integer.MAX_VALUE;
+            for (int i = lastStartingBefore(instant); i >= 0 && maxTo[i] > instant; i--) {
+                if (to[i] > instant && positions[i] < foundPosition) {
+                    found = periods[i];
+                    foundPosition = positions[i];
+                }
+            }
+            return found;
+        }
+
+        /**
+         * @return <code>instant</code> itself when a holiday is in progress, otherwise the start of the next holiday,
+         *         or <code>Long.MAX_VALUE</code> when there is none
+         */
+        long nextHolidayStart(long instant) {
+            int i = lastStartingBefore(instant);
+            if (i >= 0 && maxTo[i] > instant) {
+                return instant;
+            }
+            return i + 1 < from.length ? from[i + 1] : Long.MAX_VALUE;
+        }
+
+        private int lastStartingBefore(long instant) {
+            int low = 0;
+            int high = from.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (from[mid] < instant) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(periods);
+        }
+    }
 }
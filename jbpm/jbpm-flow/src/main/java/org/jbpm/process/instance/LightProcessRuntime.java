@@ -19,9 +19,12 @@
 package org.jbpm.process.instance;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.drools.base.definitions.rule.impl.RuleImpl;
 import org.drools.core.common.InternalKnowledgeRuntime;
@@ -63,9 +66,19 @@ public class LightProcessRuntime extends AbstractProcessRuntime {
     private ProcessInstanceManager processInstanceManager;
     private final KogitoWorkItemManager workItemManager;
     private UnitOfWorkManager unitOfWorkManager;
+    private final Map<String, List<EventListener>> startProcessEventListeners = new ConcurrentHashMap<>();
+    private final boolean subscribeStartEvents;
 
     public static LightProcessRuntime of(Application app, Collection<Process> process, ProcessRuntimeServiceProvider services) {
-        return new LightProcessRuntime(new LightProcessRuntimeContext(process), services, app);
+        return of(app, process, services, true);
+    }
+
+    /**
+     * @param subscribeStartEvents whether the start event listeners are added to the signal manager. When they are not,
+     *        start events are only delivered through {@link #signalStartProcessEvent(String, Object)}.
+     */
+    public static LightProcessRuntime of(Application app, Collection<Process> process, ProcessRuntimeServiceProvider services, boolean subscribeStartEvents) {
+        return new LightProcessRuntime(new LightProcessRuntimeContext(process), services, app, subscribeStartEvents);
     }
 
     protected LightProcessRuntime(ProcessRuntimeContext runtimeContext, ProcessRuntimeServiceProvider services) {
@@ -73,7 +86,12 @@ public class LightProcessRuntime extends AbstractProcessRuntime {
     }
 
     protected LightProcessRuntime(ProcessRuntimeContext runtimeContext, ProcessRuntimeServiceProvider services, Application application) {
+        this(runtimeContext, services, application, true);
+    }
+
+    protected LightProcessRuntime(ProcessRuntimeContext runtimeContext, ProcessRuntimeServiceProvider services, Application application, boolean subscribeStartEvents) {
         super(application);
+        this.subscribeStartEvents = subscribeStartEvents;
         this.unitOfWorkManager = services.getUnitOfWorkManager();
         this.knowledgeRuntime = new DummyKnowledgeRuntime(this);
         this.runtimeContext = runtimeContext;
@@ -201,6 +219,15 @@ public class LightProcessRuntime extends AbstractProcessRuntime {
         for (Process process : runtimeContext.getProcesses()) {
             removeProcessEventListener(process);
         }
+        startProcessEventListeners.clear();
+    }
+
+    /**
+     * Delivers an event only to the start event listeners of the processes of this runtime,
+     * without going through the signal manager.
+     */
+    public void signalStartProcessEvent(String type, Object event) {
+        startProcessEventListeners.getOrDefault(type, Collections.emptyList()).forEach(listener -> listener.signalEvent(type, event));
     }
 
     private void removeProcessEventListener(Process process) {
@@ -229,7 +256,10 @@ public class LightProcessRuntime extends AbstractProcessRuntime {
                                     }
                                 }
                                 StartProcessEventListener listener = new StartProcessEventListener(startNode, trigger, process.getId(), filters);
-                                signalManager.addEventListener(type, listener);
+                                if (subscribeStartEvents) {
+                                    signalManager.addEventListener(type, listener);
+                                }
+                                startProcessEventListeners.computeIfAbsent(type, k -> new CopyOnWriteArrayList<>()).add(listener);
                                 ruleFlowProcess.getRuntimeMetaData().put("StartProcessEventType", type);
                                 ruleFlowProcess.getRuntimeMetaData().put("StartProcessEventListener", listener);
                             }
@@ -18,13 +18,19 @@
  */
 package org.jbpm.process.instance;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -45,6 +51,9 @@ import static java.util.Collections.emptyMap;
 
 public class LightWorkItemManager implements InternalKogitoWorkItemManager {
 
+    // actions requested by a handler while its activation runs off the thread owning the process instance
+    private static final ThreadLocal<List<Runnable>> DEFERRED = new ThreadLocal<>();
+
     private Map<String, InternalKogitoWorkItem> workItems = new ConcurrentHashMap<>();
     private Map<String, KogitoWorkItemHandler> workItemHandlers = new HashMap<>();
 
@@ -95,6 +104,74 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
         transitionWorkItem(workItem, transition, true);
     }
 
+    /**
+     * Starts the given work item running the handler activation on the given executor.
+     * The returned future completes with the continuation applying the outcome of the activation, which must be run
+     * by the thread owning the process instance. Failures of the activation are rethrown when running the continuation.
+     * <p>
+     * Only the handler code runs on the executor. Calls the handler makes back into this manager from the executor
+     * thread (completing, aborting, retrying or transitioning work items, signalling) do not touch the process instance
+     * there: they are recorded and replayed by the continuation, after the outcome of the activation has been applied.
+     * Handlers completing from any other thread must go through the process instance, which serializes access to it.
+     */
+    public CompletableFuture<Runnable> internalExecuteWorkItem(InternalKogitoWorkItem workItem, Executor executor) {
+        internalAddWorkItem(workItem);
+        KogitoWorkItemHandler handler = getWorkItemHandler(workItem);
+        WorkItemTransition transition = handler.startingTransition(Collections.emptyMap());
+        this.eventSupport.fireBeforeWorkItemTransition(workItem.getProcessInstance(), workItem, transition, null);
+        return CompletableFuture.supplyAsync(() -> activate(handler, workItem, transition), executor)
+                .handle((activation, error) -> () -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        throw cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
+                    }
+                    continueTransition(handler, workItem, transition, activation.nextTransition(), true);
+                    activation.deferred().forEach(Runnable::run);
+                });
+    }
+
+    /**
+     * Aborts a work item started by {@link #internalExecuteWorkItem(InternalKogitoWorkItem, Executor)} whose activation
+     * outcome has not been applied yet. The handler cannot be interrupted, so this waits for the activation to finish,
+     * discards its outcome along with the calls it made back into this manager, then aborts the work item through its
+     * handler, firing the usual transition events.
+     */
+    public void internalAbortActivatingWorkItem(InternalKogitoWorkItem workItem, CompletableFuture<Runnable> activation) {
+        try {
+            activation.join();
+        } catch (CompletionException | CancellationException e) {
+            // the work item is aborted anyway, the handler gets the chance to clean up whatever it started
+        }
+        if (workItems.containsKey(workItem.getStringId())) {
+            internalAbortWorkItem(workItem.getStringId());
+        }
+    }
+
+    private Activation activate(KogitoWorkItemHandler handler, InternalKogitoWorkItem workItem, WorkItemTransition transition) {
+        List<Runnable> deferred = new ArrayList<>();
+        DEFERRED.set(deferred);
+        try {
+            return new Activation(handler.transitionToPhase(this, workItem, transition), deferred);
+        } finally {
+            DEFERRED.remove();
+        }
+    }
+
+    /**
+     * Records the given action when the current thread is running a concurrent activation, so the owning thread applies it.
+     */
+    private static boolean defer(Runnable action) {
+        List<Runnable> deferred = DEFERRED.get();
+        if (deferred == null) {
+            return false;
+        }
+        deferred.add(action);
+        return true;
+    }
+
+    private record Activation(Optional<WorkItemTransition> nextTransition, List<Runnable> deferred) {
+    }
+
     public KogitoWorkItemHandler getWorkItemHandler(String workItemId) throws KogitoWorkItemHandlerNotFoundException {
         InternalKogitoWorkItem workItem = workItems.get(workItemId);
         if (workItem == null) {
@@ -113,6 +190,9 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
 
     @Override
     public void internalAbortWorkItem(String workItemId) {
+        if (defer(() -> internalAbortWorkItem(workItemId))) {
+            return;
+        }
         InternalKogitoWorkItem workItem = getWorkItem(workItemId);
         KogitoWorkItemHandler handler = getWorkItemHandler(workItem);
         transitionWorkItem(workItem, handler.abortTransition(workItem.getPhaseStatus()), false);
@@ -120,6 +200,9 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
 
     @Override
     public void retryWorkItem(String workItemId, Map<String, Object> params) {
+        if (defer(() -> retryWorkItem(workItemId, params))) {
+            return;
+        }
         InternalKogitoWorkItem workItem = workItems.get(workItemId);
 
         if (workItem == null) {
@@ -139,6 +222,9 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
 
     @Override
     public void completeWorkItem(String workItemId, Map<String, Object> data, Policy... policies) {
+        if (defer(() -> completeWorkItem(workItemId, data, policies))) {
+            return;
+        }
         InternalKogitoWorkItem workItem = getWorkItem(workItemId);
         KogitoWorkItemHandler handler = getWorkItemHandler(workItem);
         transitionWorkItem(workItem, handler.completeTransition(workItem.getPhaseStatus(), data, policies), false);
@@ -150,6 +236,9 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
 
     @Override
     public void abortWorkItem(String workItemId, Policy... policies) {
+        if (defer(() -> abortWorkItem(workItemId, policies))) {
+            return;
+        }
         InternalKogitoWorkItem workItem = getWorkItem(workItemId);
         KogitoWorkItemHandler handler = getWorkItemHandler(workItemId);
         transitionWorkItem(workItem, handler.abortTransition(workItem.getPhaseStatus(), policies), false);
@@ -171,12 +260,18 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
 
     @Override
     public void internalCompleteWorkItem(InternalKogitoWorkItem workItem) {
+        if (defer(() -> internalCompleteWorkItem(workItem))) {
+            return;
+        }
         KogitoWorkItemHandler handler = getWorkItemHandler(workItem);
         transitionWorkItem(workItem.getStringId(), handler.completeTransition(workItem.getPhaseStatus(), emptyMap()));
     }
 
     @Override
     public void transitionWorkItem(String workItemId, WorkItemTransition transition) {
+        if (defer(() -> transitionWorkItem(workItemId, transition))) {
+            return;
+        }
         InternalKogitoWorkItem workItem = getWorkItem(workItemId);
         transitionWorkItem(workItem, transition, true);
     }
@@ -193,9 +288,17 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
             throw new KogitoWorkItemHandlerNotFoundException(workItem.getName());
         }
 
+        this.eventSupport.fireBeforeWorkItemTransition(workItem.getProcessInstance(), workItem, transition, null);
+        Optional<WorkItemTransition> nextTransition = handler.transitionToPhase(this, workItem, transition);
+        continueTransition(handler, workItem, transition, nextTransition, signal);
+    }
+
+    private void continueTransition(KogitoWorkItemHandler handler, InternalKogitoWorkItem workItem, WorkItemTransition transition, Optional<WorkItemTransition> nextTransition,
+            boolean signal) {
+        WorkItemTransition lastTransition = transition;
         KogitoProcessInstance processInstance = processInstanceManager.getProcessInstance(workItem.getProcessInstanceStringId());
-        WorkItemTransition lastTransition = null;
-        Optional<WorkItemTransition> nextTransition = Optional.of(transition);
+        processInstance.signalEvent("workItemTransition", transition);
+        this.eventSupport.fireAfterWorkItemTransition(workItem.getProcessInstance(), workItem, lastTransition, null);
         while (nextTransition.isPresent()) {
             lastTransition = nextTransition.get();
             this.eventSupport.fireBeforeWorkItemTransition(workItem.getProcessInstance(), workItem, lastTransition, null);
@@ -230,11 +333,17 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
 
     @Override
     public void signalEvent(String type, Object event) {
+        if (defer(() -> signalEvent(type, event))) {
+            return;
+        }
         this.signalManager.signalEvent(type, event);
     }
 
     @Override
     public void signalEvent(String type, Object event, String processInstanceId) {
+        if (defer(() -> signalEvent(type, event, processInstanceId))) {
+            return;
+        }
         this.signalManager.signalEvent(processInstanceId, type, event);
     }
 
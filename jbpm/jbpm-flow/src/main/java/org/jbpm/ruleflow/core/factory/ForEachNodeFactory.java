@@ -121,4 +121,9 @@ public class ForEachNodeFactory<T extends RuleFlowNodeContainerFactory<T, ?>> ex
         getForEachNode().setSequential(sequential);
         return this;
     }
+
+    public ForEachNodeFactory<T> concurrent(boolean concurrent) {
+        getForEachNode().setConcurrent(concurrent);
+        return this;
+    }
 }
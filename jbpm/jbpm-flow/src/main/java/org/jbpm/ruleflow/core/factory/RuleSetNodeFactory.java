@@ -28,7 +28,9 @@ import org.jbpm.workflow.core.node.RuleUnitFactory;
 import org.jbpm.workflow.instance.rule.RuleType;
 import org.kie.api.definition.process.WorkflowElementIdentifier;
 import org.kie.api.runtime.KieRuntime;
+import org.kie.api.runtime.KieSession;
 import org.kie.kogito.decision.DecisionModel;
+import org.kie.kogito.drools.core.session.KieSessionPools;
 
 import static org.jbpm.workflow.instance.rule.RuleType.DMN_LANG;
 import static org.jbpm.workflow.instance.rule.RuleType.DRL_LANG;
@@ -39,6 +41,9 @@ public class RuleSetNodeFactory<T extends RuleFlowNodeContainerFactory<T, ?>> ex
     public static final String METHOD_DECISION = "decision";
     public static final String METHOD_PARAMETER = "parameter";
 
+    // maximum number of idle sessions kept per rule flow group node, pooling is disabled when not positive
+    public static final String SESSION_POOL_SIZE_PROPERTY = "org.jbpm.rule.task.session.pool.size";
+
     public RuleSetNodeFactory(T nodeContainerFactory, NodeContainer nodeContainer, WorkflowElementIdentifier id) {
         super(nodeContainerFactory, nodeContainer, new RuleSetNode(), id);
     }
@@ -63,6 +68,11 @@ public class RuleSetNodeFactory<T extends RuleFlowNodeContainerFactory<T, ?>> ex
         getRuleSetNode().setRuleType(RuleType.ruleFlowGroup(ruleFlowGroup));
         getRuleSetNode().setLanguage(DRL_LANG);
         getRuleSetNode().setKieRuntime(supplier);
+        int poolSize = Integer.getInteger(SESSION_POOL_SIZE_PROPERTY, 0);
+        if (poolSize > 0) {
+            getRuleSetNode().setKieSessionPool(KieSessionPools.create(ruleFlowGroup + "_" + getRuleSetNode().getId().toExternalFormat(),
+                    () -> (KieSession) supplier.get(), poolSize));
+        }
         return this;
     }
 
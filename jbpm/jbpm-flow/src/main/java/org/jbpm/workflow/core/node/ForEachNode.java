@@ -28,6 +28,7 @@ import org.jbpm.process.core.context.variable.VariableScope;
 import org.jbpm.process.core.datatype.DataType;
 import org.jbpm.process.instance.impl.Action;
 import org.jbpm.process.instance.impl.ReturnValueEvaluator;
+import org.jbpm.ruleflow.core.Metadata;
 import org.jbpm.ruleflow.core.WorkflowElementIdentifierFactory;
 import org.jbpm.workflow.core.Node;
 import org.jbpm.workflow.core.impl.ConnectionImpl;
@@ -373,6 +374,18 @@ public class ForEachNode extends CompositeContextNode {
         this.getMultiInstanceSpecification().setSequential(sequential);
     }
 
+    /**
+     * Parallel multi instances flagged as concurrent run the activation of the work items of their iterations
+     * on a separate executor instead of one after the other on the thread owning the process instance.
+     */
+    public boolean isConcurrent() {
+        return !isSequential() && Boolean.parseBoolean(String.valueOf(getMetaData().get(Metadata.CUSTOM_CONCURRENT)));
+    }
+
+    public void setConcurrent(boolean concurrent) {
+        setMetaData(Metadata.CUSTOM_CONCURRENT, Boolean.toString(concurrent));
+    }
+
     public boolean hasCompletionCondition() {
         return completionConditionExpression != null;
     }
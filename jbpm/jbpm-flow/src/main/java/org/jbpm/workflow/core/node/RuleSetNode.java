@@ -35,6 +35,7 @@ import org.kie.api.definition.process.Connection;
 import org.kie.api.definition.process.NodeType;
 import org.kie.api.runtime.KieRuntime;
 import org.kie.kogito.decision.DecisionModel;
+import org.kie.kogito.drools.core.session.KieSessionPool;
 
 import static org.jbpm.workflow.instance.WorkflowProcessParameters.WORKFLOW_PARAM_MULTIPLE_CONNECTIONS;
 import static org.jbpm.workflow.instance.rule.RuleType.DRL_LANG;
@@ -57,6 +58,7 @@ public class RuleSetNode extends StateBasedNode implements ContextContainer {
 
     private Supplier<DecisionModel> decisionModel;
     private Supplier<KieRuntime> kieRuntime;
+    private KieSessionPool kieSessionPool;
     private RuleUnitFactory<RuleUnitData> ruleUnitFactory;
 
     public RuleSetNode() {
@@ -103,6 +105,18 @@ public class RuleSetNode extends StateBasedNode implements ContextContainer {
         this.kieRuntime = kieRuntime;
     }
 
+    public KieSessionPool getKieSessionPool() {
+        return kieSessionPool;
+    }
+
+    /**
+     * Pool the sessions of this node are borrowed from, used instead of {@link #getKieRuntime()} when the node
+     * does not act as a wait state
+     */
+    public void setKieSessionPool(KieSessionPool kieSessionPool) {
+        this.kieSessionPool = kieSessionPool;
+    }
+
     @Override
     public void validateAddIncomingConnection(final String type, final Connection connection) {
         super.validateAddIncomingConnection(type, connection);
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbpm.workflow.instance.node;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded executor used by concurrent multi instance activities to run the activation of their work items.
+ * Virtual threads are used when the running JVM provides them, a fixed pool of daemon threads otherwise.
+ * The number of activations running at the same time is limited by the application configuration, see
+ * {@link org.kie.kogito.config.ConfigBean#multiInstanceConcurrency()}, one executor being shared by every process
+ * using the same limit.
+ * Only the handler code runs here, the process instance is only mutated by the thread owning it
+ * (see {@link org.jbpm.process.instance.LightWorkItemManager#internalExecuteWorkItem(org.kie.kogito.process.workitems.InternalKogitoWorkItem, Executor)}).
+ */
+public final class ConcurrentMultiInstanceExecutor implements Executor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentMultiInstanceExecutor.class);
+
+    private static final Map<Integer, ConcurrentMultiInstanceExecutor> EXECUTORS = new ConcurrentHashMap<>();
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+
+    ConcurrentMultiInstanceExecutor(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Multi instance concurrency must be at least 1, was " + concurrency);
+        }
+        this.permits = new Semaphore(concurrency);
+        this.delegate = newExecutorService(concurrency);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for a free slot to run " + command, e);
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private static ExecutorService newExecutorService(int concurrency) {
+        try {
+            ExecutorService executorService = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            logger.debug("Concurrent multi instance activations run on virtual threads, concurrency {}", concurrency);
+            return executorService;
+        } catch (ReflectiveOperationException e) {
+            logger.debug("Virtual threads not available, concurrent multi instance activations run on {} platform threads", concurrency);
+            return Executors.newFixedThreadPool(concurrency, new DaemonThreadFactory());
+        }
+    }
+
+    public static ConcurrentMultiInstanceExecutor of(int concurrency) {
+        return EXECUTORS.computeIfAbsent(concurrency, ConcurrentMultiInstanceExecutor::new);
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "jbpm-multi-instance-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.stream.Collectors;
 
 import org.jbpm.process.core.ContextContainer;
@@ -46,6 +48,7 @@ import org.jbpm.workflow.core.node.ForEachNode.ForEachJoinNode;
 import org.jbpm.workflow.core.node.ForEachNode.ForEachSplitNode;
 import org.jbpm.workflow.instance.NodeInstance;
 import org.jbpm.workflow.instance.NodeInstanceContainer;
+import org.jbpm.workflow.instance.WorkflowRuntimeException;
 import org.jbpm.workflow.instance.impl.MVELProcessHelper;
 import org.jbpm.workflow.instance.impl.NodeInstanceImpl;
 import org.jbpm.workflow.instance.impl.NodeInstanceResolverFactory;
@@ -70,6 +73,8 @@ public class ForEachNodeInstance extends CompositeContextNodeInstance {
     private int executedInstances;
     boolean hasAsyncInstances;
 
+    private transient List<WorkItemNodeInstance> pendingActivations;
+
     public ForEachNode getForEachNode() {
         return (ForEachNode) getNode();
     }
@@ -141,6 +146,37 @@ public class ForEachNodeInstance extends CompositeContextNodeInstance {
         return getForEachNode().isSequential() || hasAsyncInstances;
     }
 
+    boolean isCollectingActivations() {
+        return pendingActivations != null;
+    }
+
+    void addPendingActivation(WorkItemNodeInstance nodeInstance) {
+        pendingActivations.add(nodeInstance);
+    }
+
+    /**
+     * Joins the work item activations started by the iterations of a concurrent multi instance, applying them
+     * in completion order. Activations whose node instance is cancelled meanwhile (for instance because the
+     * completion condition has been met) are discarded without waiting for them.
+     */
+    private void joinPendingActivations(List<WorkItemNodeInstance> activations) {
+        BlockingQueue<WorkItemNodeInstance> completed = new LinkedBlockingQueue<>();
+        activations.forEach(nodeInstance -> nodeInstance.getPendingActivation().whenComplete((continuation, error) -> completed.add(nodeInstance)));
+        while (activations.stream().anyMatch(WorkItemNodeInstance::hasPendingActivation)) {
+            WorkItemNodeInstance nodeInstance;
+            try {
+                nodeInstance = completed.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WorkflowRuntimeException(this, getProcessInstance(), "Interrupted while waiting for multi-instance activations", e);
+            }
+            if (nodeInstance.hasPendingActivation()) {
+                logger.debug("Resuming [{}] in concurrent multi-instance loop.", nodeInstance.getNodeId());
+                nodeInstance.resumeActivation();
+            }
+        }
+    }
+
     public class ForEachSplitNodeInstance extends NodeInstanceImpl implements ContextableInstance {
 
         private static final long serialVersionUID = 510l;
@@ -168,15 +204,31 @@ public class ForEachNodeInstance extends CompositeContextNodeInstance {
                     nodeInstances.add(nodeInstance);
                 }
 
-                for (NodeInstance nodeInstance : nodeInstances) {
-                    logger.debug("Triggering [{}] in multi-instance loop.", nodeInstance.getNodeId());
-                    nodeInstance.trigger(this, getForEachSplitNode().getTo().getToType());
-
-                    //this is required because Parallel instances execution does not work with async, so it fallbacks to sequential
-                    hasAsyncInstances = checkAsyncInstance(nodeInstance);
-                    if (isSequential()) {
-                        // for sequential mode trigger only first item from the list
-                        break;
+                List<WorkItemNodeInstance> activations = new ArrayList<>();
+                if (getForEachNode().isConcurrent()) {
+                    pendingActivations = activations;
+                }
+                boolean joined = false;
+                try {
+                    for (NodeInstance nodeInstance : nodeInstances) {
+                        logger.debug("Triggering [{}] in multi-instance loop.", nodeInstance.getNodeId());
+                        nodeInstance.trigger(this, getForEachSplitNode().getTo().getToType());
+
+                        //this is required because Parallel instances execution does not work with async, so it fallbacks to sequential
+                        hasAsyncInstances = checkAsyncInstance(nodeInstance);
+                        if (isSequential()) {
+                            // for sequential mode trigger only first item from the list
+                            break;
+                        }
+                    }
+                    pendingActivations = null;
+                    joinPendingActivations(activations);
+                    joined = true;
+                } finally {
+                    pendingActivations = null;
+                    if (!joined) {
+                        // an iteration failed, the activations already started are not left running unattended
+                        activations.stream().filter(WorkItemNodeInstance::hasPendingActivation).forEach(WorkItemNodeInstance::abortActivation);
                     }
                 }
 
@@ -40,6 +40,12 @@ public class HumanTaskNodeInstance extends WorkItemNodeInstance {
         return (HumanTaskNode) getNode();
     }
 
+    @Override
+    protected boolean supportsConcurrentActivation() {
+        // user task creation is not remote work, it stays on the thread owning the process instance
+        return false;
+    }
+
     @Override
     protected InternalKogitoWorkItem createWorkItem(WorkItemNode workItemNode) {
         InternalKogitoWorkItem workItem = super.createWorkItem(workItemNode);
@@ -41,9 +41,11 @@ import org.jbpm.workflow.core.node.RuleSetNode;
 import org.jbpm.workflow.instance.WorkflowRuntimeException;
 import org.jbpm.workflow.instance.rule.RuleType;
 import org.kie.api.runtime.KieRuntime;
+import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.process.EventListener;
 import org.kie.api.runtime.rule.FactHandle;
 import org.kie.internal.runtime.StatefulKnowledgeSession;
+import org.kie.kogito.drools.core.session.KieSessionPool;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstance;
 
 /**
@@ -59,6 +61,11 @@ public class RuleSetNodeInstance extends StateBasedNodeInstance implements Event
     private Map<String, FactHandle> factHandles = new HashMap<>();
     private String ruleFlowGroup;
 
+    // session the facts of this node instance live in, kept until it completes or is cancelled
+    private transient KieRuntime kieRuntime;
+    private transient KieSessionPool kieSessionPool;
+    private transient boolean disposeKieRuntime;
+
     // NOTE: ContextInstances are not persisted as current functionality (exception scope) does not require it
     private Map<String, List<ContextInstance>> subContextInstances = new HashMap<>();
 
@@ -130,18 +137,60 @@ public class RuleSetNodeInstance extends StateBasedNodeInstance implements Event
         if (actAsWaitState()) {
             ((InternalAgenda) getProcessInstance().getKnowledgeRuntime().getAgenda()).getAgendaGroupsManager().deactivateRuleFlowGroup(getRuleFlowGroup());
         }
+        releaseKieRuntime();
     }
 
     @Override
     public void signalEvent(String type, Object event) {
         if (getRuleSetEventType().equals(type)) {
             removeEventListeners();
-            KieRuntime kruntime = Optional.ofNullable(getRuleSetNode().getKieRuntime()).orElse(() -> getProcessInstance().getKnowledgeRuntime()).get();
-            retractFacts(kruntime);
+            try {
+                retractFacts(getKieRuntime());
+            } finally {
+                releaseKieRuntime();
+            }
             triggerCompleted();
         }
     }
 
+    /**
+     * Returns the session this node instance evaluates its rules in, borrowing it from the node pool the first time
+     * when the node does not act as a wait state. The same session is returned until {@link #releaseKieRuntime()}.
+     */
+    public KieRuntime getKieRuntime() {
+        if (kieRuntime == null) {
+            boolean waitState = actAsWaitState();
+            KieSessionPool pool = waitState ? null : getRuleSetNode().getKieSessionPool();
+            if (pool != null) {
+                kieRuntime = pool.acquire();
+                kieSessionPool = pool;
+            } else {
+                kieRuntime = Optional.ofNullable(getRuleSetNode().getKieRuntime()).orElse(() -> getProcessInstance().getKnowledgeRuntime()).get();
+                disposeKieRuntime = !waitState && kieRuntime instanceof KieSession;
+            }
+        }
+        return kieRuntime;
+    }
+
+    /**
+     * Gives back the session returned by {@link #getKieRuntime()}: a pooled session is reset and returned to its pool,
+     * a session created for this node instance is disposed. Does nothing when no session is held.
+     */
+    public void releaseKieRuntime() {
+        KieRuntime runtime = kieRuntime;
+        if (runtime == null) {
+            return;
+        }
+        kieRuntime = null;
+        if (kieSessionPool != null) {
+            kieSessionPool.release((KieSession) runtime);
+        } else if (disposeKieRuntime) {
+            ((KieSession) runtime).dispose();
+        }
+        kieSessionPool = null;
+        disposeKieRuntime = false;
+    }
+
     public void addFact(String key, FactHandle handle) {
         factHandles.put(key, handle);
     }
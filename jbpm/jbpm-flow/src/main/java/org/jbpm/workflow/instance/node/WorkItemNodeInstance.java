@@ -30,6 +30,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import org.jbpm.process.core.Context;
@@ -42,6 +44,7 @@ import org.jbpm.process.instance.ContextInstance;
 import org.jbpm.process.instance.ContextInstanceContainer;
 import org.jbpm.process.instance.InternalProcessRuntime;
 import org.jbpm.process.instance.KogitoProcessContextImpl;
+import org.jbpm.process.instance.LightWorkItemManager;
 import org.jbpm.process.instance.ProcessInstance;
 import org.jbpm.process.instance.context.exception.ExceptionScopeInstance;
 import org.jbpm.process.instance.context.variable.VariableScopeInstance;
@@ -57,7 +60,10 @@ import org.kie.api.runtime.EnvironmentName;
 import org.kie.api.runtime.process.EventListener;
 import org.kie.api.runtime.process.ProcessWorkItemHandlerException;
 import org.kie.api.runtime.process.WorkItem;
+import org.kie.kogito.Application;
 import org.kie.kogito.Model;
+import org.kie.kogito.config.ConfigBean;
+import org.kie.kogito.config.StaticConfigBean;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstance;
 import org.kie.kogito.internal.process.runtime.KogitoProcessRuntime;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItemNodeInstance;
@@ -100,6 +106,8 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
 
     private int triggerCount = 0;
 
+    private transient CompletableFuture<Runnable> pendingActivation;
+
     protected WorkItemNode getWorkItemNode() {
         return (WorkItemNode) getNode();
     }
@@ -158,14 +166,89 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
             parameters.forEach(workItem::setParameter);
         }
 
-        processWorkItemHandler(() -> ((InternalKogitoWorkItemManager) InternalProcessRuntime.asKogitoProcessRuntime(getProcessInstance().getKnowledgeRuntime()).getKogitoWorkItemManager())
-                .internalExecuteWorkItem(workItem));
+        InternalKogitoWorkItemManager workItemManager =
+                (InternalKogitoWorkItemManager) InternalProcessRuntime.asKogitoProcessRuntime(getProcessInstance().getKnowledgeRuntime()).getKogitoWorkItemManager();
+        ForEachNodeInstance concurrentMultiInstance = workItemNode.isWaitForCompletion() && workItemManager instanceof LightWorkItemManager ? getConcurrentMultiInstance() : null;
+        if (concurrentMultiInstance != null) {
+            // activation runs on the multi instance executor, outcome is applied once the multi instance joins its iterations
+            this.workItemId = workItem.getStringId();
+            Executor executor = ConcurrentMultiInstanceExecutor.of(multiInstanceConcurrency());
+            processWorkItemHandler(() -> pendingActivation = ((LightWorkItemManager) workItemManager).internalExecuteWorkItem(workItem, executor));
+            if (pendingActivation != null) {
+                concurrentMultiInstance.addPendingActivation(this);
+            }
+            return;
+        }
+        processWorkItemHandler(() -> workItemManager.internalExecuteWorkItem(workItem));
         if (!workItemNode.isWaitForCompletion()) {
             triggerCompleted();
         }
         this.workItemId = workItem.getStringId();
     }
 
+    private int multiInstanceConcurrency() {
+        Application application = InternalProcessRuntime.asKogitoProcessRuntime(getProcessInstance().getKnowledgeRuntime()).getApplication();
+        ConfigBean configBean = application != null && application.config() != null ? application.config().get(ConfigBean.class) : null;
+        return configBean != null ? configBean.multiInstanceConcurrency() : new StaticConfigBean().multiInstanceConcurrency();
+    }
+
+    protected boolean supportsConcurrentActivation() {
+        return true;
+    }
+
+    private ForEachNodeInstance getConcurrentMultiInstance() {
+        if (!supportsConcurrentActivation()) {
+            return null;
+        }
+        org.kie.api.runtime.process.NodeInstanceContainer container = getNodeInstanceContainer();
+        while (container instanceof KogitoNodeInstance) {
+            if (container instanceof ForEachNodeInstance forEachNodeInstance && forEachNodeInstance.isCollectingActivations()) {
+                return forEachNodeInstance;
+            }
+            container = ((KogitoNodeInstance) container).getNodeInstanceContainer();
+        }
+        return null;
+    }
+
+    CompletableFuture<Runnable> getPendingActivation() {
+        return pendingActivation;
+    }
+
+    boolean hasPendingActivation() {
+        return pendingActivation != null;
+    }
+
+    /**
+     * Aborts the work item while its activation is still running, waiting for the handler to finish it.
+     */
+    void abortActivation() {
+        CompletableFuture<Runnable> activation = pendingActivation;
+        pendingActivation = null;
+        InternalKogitoWorkItemManager workItemManager =
+                (InternalKogitoWorkItemManager) InternalProcessRuntime.asKogitoProcessRuntime(getProcessInstance().getKnowledgeRuntime()).getKogitoWorkItemManager();
+        try {
+            ((LightWorkItemManager) workItemManager).internalAbortActivatingWorkItem(getWorkItem(), activation);
+        } catch (KogitoWorkItemHandlerNotFoundException wihnfe) {
+            logger.error("The workitem {} is being aborted but not workitem handlers was associated with {}", workItem.getStringId(), workItem.getName());
+        }
+    }
+
+    void resumeActivation() {
+        Runnable continuation = pendingActivation.join();
+        pendingActivation = null;
+        captureExecutionException(() -> processWorkItemHandler(continuation));
+    }
+
+    /**
+     * Handles the failure reported by a handler completing its work item asynchronously, the same way
+     * a failure thrown by the handler on activation is handled.
+     */
+    public void workItemFailed(RuntimeException e) {
+        captureExecutionException(() -> processWorkItemHandler(() -> {
+            throw e;
+        }));
+    }
+
     private void processWorkItemHandler(Runnable handler) {
         try {
             handler.run();
@@ -282,7 +365,10 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
     @Override
     public void cancel(CancelType cancelType) {
         InternalKogitoWorkItem item = getWorkItem();
-        if (item != null && !List.of(COMPLETED, ABORTED).contains(item.getState())) {
+        if (pendingActivation != null) {
+            // activation still running on the multi instance executor, its outcome is discarded
+            abortActivation();
+        } else if (item != null && !List.of(COMPLETED, ABORTED).contains(item.getState())) {
             try {
                 ((InternalKogitoWorkItemManager) getProcessInstance().getKnowledgeRuntime().getWorkItemManager()).internalAbortWorkItem(item.getStringId());
             } catch (KogitoWorkItemHandlerNotFoundException wihnfe) {
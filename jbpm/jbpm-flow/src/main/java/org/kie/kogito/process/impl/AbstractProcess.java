@@ -28,6 +28,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jbpm.process.core.ProcessSupplier;
 import org.jbpm.process.core.timer.DateTimeUtils;
@@ -66,13 +67,18 @@ import org.kie.kogito.process.Signal;
 import org.kie.kogito.process.SignalFactory;
 import org.kie.kogito.process.WorkItem;
 import org.kie.kogito.signal.ProcessInstanceResolver;
+import org.kie.kogito.signal.SignalManager;
 import org.kie.kogito.signal.SignalManagerHub;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static org.kie.kogito.internal.process.workitem.KogitoWorkItemHandlerFactory.findAllKogitoWorkItemHandlersRegistered;
 
 @SuppressWarnings("unchecked")
 public abstract class AbstractProcess<T extends Model> implements Process<T>, ProcessSupplier {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractProcess.class);
+
     protected final ProcessRuntimeServiceProvider services;
     protected ProcessInstancesFactory processInstancesFactory;
     protected MutableProcessInstances<T> instances;
@@ -80,7 +86,7 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
 
     protected Application app;
 
-    protected boolean activated;
+    protected volatile boolean activated;
     protected KogitoProcessRuntime processRuntime;
     protected InternalProcessRuntime internalProcessRuntime;
 
@@ -89,6 +95,8 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
     private CorrelationService correlations;
     private ProcessVersionResolver versionResolver;
     private ProcessInstanceResolver<T> processInstanceResolver;
+    private ProcessDescriptor descriptor;
+    private EventListener lazyActivationListener;
 
     protected AbstractProcess() {
         this(null, new LightProcessRuntimeServiceProvider());
@@ -117,7 +125,7 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
         this.services = services;
         this.processInstancesFactory = factory;
         this.correlations = Optional.ofNullable(correlations).orElseGet(() -> new DefaultCorrelationService());
-        this.versionResolver = Optional.ofNullable(versionResolver).orElse(p -> get().getVersion());
+        this.versionResolver = Optional.ofNullable(versionResolver).orElse(p -> descriptor != null ? descriptor.getVersion() : get().getVersion());
         KogitoWorkItemManager workItemManager = services.getKogitoWorkItemManager();
 
         // loading defaults
@@ -135,12 +143,12 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
 
     @Override
     public String id() {
-        return get().getId();
+        return descriptor != null ? descriptor.getId() : get().getId();
     }
 
     @Override
     public String name() {
-        return get().getName();
+        return descriptor != null ? descriptor.getName() : get().getName();
     }
 
     @Override
@@ -161,7 +169,7 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
 
     @Override
     public String type() {
-        return get().getType();
+        return descriptor != null ? descriptor.getType() : get().getType();
     }
 
     @Override
@@ -180,12 +188,13 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
 
     @Override
     public Collection<KogitoNode> findNodes(Predicate<KogitoNode> filter) {
-        RuleFlowProcess p = (RuleFlowProcess) this.process;
+        RuleFlowProcess p = (RuleFlowProcess) get();
         return p.getNodesRecursively().stream().map(n -> (KogitoNode) n).filter(filter).collect(Collectors.toList());
     }
 
     @Override
     public ProcessInstances<T> instances() {
+        ensureActivated();
         return instances;
     }
 
@@ -196,6 +205,7 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
 
     @Override
     public <S> void send(Signal<S> signal) {
+        ensureActivated();
         getProcessRuntime().signalEvent(signal.channel(), signal.payload());
     }
 
@@ -214,24 +224,86 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
     }
 
     public KogitoProcessRuntime getProcessRuntime() {
+        ensureActivated();
         return this.processRuntime;
     }
 
+    public boolean isActivated() {
+        return activated;
+    }
+
+    /**
+     * Defers {@link #activate()} until the process is first used. Only the descriptor is kept in the
+     * meantime; its start event types are subscribed to so a matching event activates the process and
+     * is then delivered to it. That listener stays the only subscription to the start events once the
+     * process is activated, so each event reaches the start listeners exactly once.
+     * The process instance resolver is registered right away, but it answers from the descriptor until
+     * the process is activated: only an event type the instances can wait for activates the process.
+     *
+     * Processes with timer start events or subprocess completion listeners need to be activated eagerly.
+     */
+    protected void activateLazily(ProcessDescriptor descriptor) {
+        this.descriptor = descriptor;
+        SignalManager signalManager = services.getSignalManager();
+        if (signalManager != null && !descriptor.getStartEventTypes().isEmpty()) {
+            this.lazyActivationListener = new LazyActivationListener();
+            descriptor.getStartEventTypes().forEach(type -> signalManager.addEventListener(type, lazyActivationListener));
+        }
+        registerProcessInstanceResolver();
+    }
+
+    protected void ensureActivated() {
+        if (!this.activated && this.descriptor != null) {
+            activate();
+        }
+    }
+
     @Override
     public void activate() {
         if (this.activated) {
             return;
         }
-        this.internalProcessRuntime = LightProcessRuntime.of(app, Collections.singletonList(get()), services);
-        this.processRuntime = createProcessRuntime().getKogitoProcessRuntime();
+        processInitLock.lock();
+        try {
+            if (!this.activated) {
+                long start = System.nanoTime();
+                doActivate();
+                LOGGER.debug("Process {} activated in {} ms", id(), (System.nanoTime() - start) / 1_000_000);
+            }
+        } finally {
+            processInitLock.unlock();
+        }
+    }
+
+    private void doActivate() {
+        // with lazy activation the start events keep going through the lazy activation listener
+        this.internalProcessRuntime = LightProcessRuntime.of(app, Collections.singletonList(get()), services, lazyActivationListener == null);
+        this.processRuntime = internalProcessRuntime.getKogitoProcessRuntime();
         configure();
+        registerProcessInstanceResolver();
+
+        this.activated = true;
+    }
+
+    private void registerProcessInstanceResolver() {
         // this belongs to only for the work item handler so we keep within the context of the current process instance loaded in memory
-        if (this.services.getSignalManager() instanceof SignalManagerHub signalManagerHub) {
+        // instances() activates a lazy process the first time the resolver is queried for an event type it may wait for
+        if (processInstanceResolver == null && this.services.getSignalManager() instanceof SignalManagerHub signalManagerHub) {
             processInstanceResolver = new ProcessInstanceResolver<T>() {
 
                 @Override
                 public List<ProcessInstance<T>> waitingForEvents(String eventType) {
-                    List<ProcessInstance<T>> list = instances.waitingForEventType(eventType, ProcessInstanceReadMode.MUTABLE)
+                    try (Stream<ProcessInstance<T>> waiting = streamWaitingForEvents(eventType)) {
+                        return waiting.toList();
+                    }
+                }
+
+                @Override
+                public Stream<ProcessInstance<T>> streamWaitingForEvents(String eventType) {
+                    if (!mayWaitFor(eventType)) {
+                        return Stream.empty();
+                    }
+                    return instances().waitingForEventType(eventType, ProcessInstanceReadMode.MUTABLE)
                             .map(e -> (AbstractProcessInstance<T>) e)
                             .map(pi -> {
                                 KogitoProcessRuntime runtime = getProcessRuntime();
@@ -241,27 +313,37 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
                                 }
                                 return pi;
                             })
-                            .map(e -> (ProcessInstance<T>) e)
-                            .toList();
-                    return list;
+                            .map(e -> (ProcessInstance<T>) e);
+                }
+
+                @Override
+                public boolean existsWaitingFor(String eventType) {
+                    return mayWaitFor(eventType) && instances().existsWaitingFor(eventType);
                 }
 
                 @Override
                 public ProcessInstance<T> findById(String processInstanceId) {
-                    Optional<ProcessInstance<T>> instance = instances.findById(processInstanceId);
+                    Optional<ProcessInstance<T>> instance = instances().findById(processInstanceId);
                     return instance.orElse(null);
                 }
             };
             signalManagerHub.addProcessInstanceResolver(processInstanceResolver);
         }
+    }
 
-        this.activated = true;
+    private boolean mayWaitFor(String eventType) {
+        return activated || descriptor == null || descriptor.mayWaitFor(eventType);
     }
 
     @Override
     public void deactivate() {
-        if (this.services.getSignalManager() instanceof SignalManagerHub signalManagerHub) {
+        removeLazyActivationListener();
+        if (processInstanceResolver != null && this.services.getSignalManager() instanceof SignalManagerHub signalManagerHub) {
             signalManagerHub.removeProcessInstanceResolver(processInstanceResolver);
+            processInstanceResolver = null;
+        }
+        if (!this.activated) {
+            return;
         }
         this.internalProcessRuntime.dispose();
         this.internalProcessRuntime = null;
@@ -319,9 +401,17 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
     protected abstract org.kie.api.definition.process.Process process();
 
     protected InternalProcessRuntime createProcessRuntime() {
+        ensureActivated();
         return internalProcessRuntime;
     }
 
+    private void removeLazyActivationListener() {
+        if (lazyActivationListener != null) {
+            descriptor.getStartEventTypes().forEach(type -> services.getSignalManager().removeEventListener(type, lazyActivationListener));
+            lazyActivationListener = null;
+        }
+    }
+
     protected boolean isProcessFactorySet() {
         return processInstancesFactory != null;
     }
@@ -364,6 +454,23 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
         }
     }
 
+    private class LazyActivationListener implements EventListener {
+
+        @Override
+        public void signalEvent(String type, Object event) {
+            activate();
+            // the start listeners of a lazily activated process are not subscribed to the signal manager
+            if (internalProcessRuntime instanceof LightProcessRuntime lightProcessRuntime) {
+                lightProcessRuntime.signalStartProcessEvent(type, event);
+            }
+        }
+
+        @Override
+        public String[] getEventTypes() {
+            return descriptor.getStartEventTypes().toArray(String[]::new);
+        }
+    }
+
     @Override
     public int hashCode() {
         return id().hashCode();
@@ -31,6 +31,8 @@ import org.kie.kogito.auth.AuthTokenProvider;
 import org.kie.kogito.auth.IdentityProvider;
 import org.kie.kogito.auth.impl.NoOpAuthTokenProvider;
 import org.kie.kogito.calendar.BusinessCalendar;
+import org.kie.kogito.config.ConfigBean;
+import org.kie.kogito.config.StaticConfigBean;
 import org.kie.kogito.event.EventPublisher;
 import org.kie.kogito.jobs.JobsService;
 import org.kie.kogito.process.ProcessConfig;
@@ -49,7 +51,7 @@ import org.kie.kogito.uow.events.UnitOfWorkEventListener;
 public abstract class AbstractProcessConfig implements ProcessConfig {
 
     private final WorkItemHandlerConfig workItemHandlerConfig;
-    private final SignalManagerHub signalManagerHub = new DefaultSignalManagerHub();
+    private final DefaultSignalManagerHub signalManagerHub;
     private final ProcessEventListenerConfig processEventListenerConfig;
     private final UnitOfWorkManager unitOfWorkManager;
     private final JobsService jobsService;
@@ -71,10 +73,29 @@ public abstract class AbstractProcessConfig implements ProcessConfig {
             Iterable<IdentityProvider> identityProvider,
             Iterable<AuthTokenProvider> authTokenProvider,
             Iterable<BusinessCalendar> businessCalendar) {
+        this(workItemHandlerConfig, processEventListenerConfigs, processEventListeners, unitOfWorkManager, jobsService, eventPublishers, kogitoService, unitOfWorkListeners,
+                versionResolver, identityProvider, authTokenProvider, businessCalendar, new StaticConfigBean());
+    }
+
+    protected AbstractProcessConfig(
+            Iterable<WorkItemHandlerConfig> workItemHandlerConfig,
+            Iterable<ProcessEventListenerConfig> processEventListenerConfigs,
+            Iterable<ProcessEventListener> processEventListeners,
+            Iterable<UnitOfWorkManager> unitOfWorkManager,
+            Iterable<JobsService> jobsService,
+            Iterable<EventPublisher> eventPublishers,
+            String kogitoService,
+            Iterable<UnitOfWorkEventListener> unitOfWorkListeners,
+            Iterable<ProcessVersionResolver> versionResolver,
+            Iterable<IdentityProvider> identityProvider,
+            Iterable<AuthTokenProvider> authTokenProvider,
+            Iterable<BusinessCalendar> businessCalendar,
+            ConfigBean configBean) {
 
         this.workItemHandlerConfig = mergeWorkItemHandler(workItemHandlerConfig, DefaultWorkItemHandlerConfig::new);
         this.processEventListenerConfig = merge(processEventListenerConfigs, processEventListeners);
         this.unitOfWorkManager = orDefault(unitOfWorkManager, () -> new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory()));
+        this.signalManagerHub = new DefaultSignalManagerHub(this.unitOfWorkManager, configBean.signalBroadcastPageSize(), configBean.signalBroadcastConcurrency());
         this.jobsService = orDefault(jobsService, StaticJobService::staticJobService);
         this.versionResolver = orDefault(versionResolver, () -> null);
         this.identityProvider = orDefault(identityProvider, NoOpIdentityProvider::new);
@@ -112,6 +133,13 @@ public abstract class AbstractProcessConfig implements ProcessConfig {
         return signalManagerHub;
     }
 
+    /**
+     * Releases the resources held by the process services, to be called when the application stops
+     */
+    public void shutdown() {
+        signalManagerHub.shutdown();
+    }
+
     @Override
     public UnitOfWorkManager unitOfWorkManager() {
         return unitOfWorkManager;
@@ -35,7 +35,9 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import org.jbpm.process.core.context.variable.VariableScope;
 import org.jbpm.process.instance.InternalProcessRuntime;
+import org.jbpm.process.instance.context.variable.VariableScopeInstance;
 import org.jbpm.ruleflow.core.RuleFlowProcess;
 import org.jbpm.workflow.core.Node;
 import org.jbpm.workflow.core.WorkflowProcess;
@@ -49,6 +51,7 @@ import org.kie.internal.process.CorrelationAwareProcessRuntime;
 import org.kie.internal.process.CorrelationKey;
 import org.kie.internal.process.CorrelationProperty;
 import org.kie.kogito.Model;
+import org.kie.kogito.ModelBinder;
 import org.kie.kogito.Models;
 import org.kie.kogito.correlation.CompositeCorrelation;
 import org.kie.kogito.correlation.Correlation;
@@ -468,13 +471,24 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
 
     private T updateVariables(Map<String, Object> map) {
         return executeInWorkflowProcessInstanceWrite(pi -> {
+            VariableScopeInstance variableScope = (VariableScopeInstance) pi.getContextInstance(VariableScope.VARIABLE_SCOPE);
             for (Entry<String, Object> entry : map.entrySet()) {
-                pi.setVariable(entry.getKey(), entry.getValue());
+                if (isUnchanged(pi.getVariable(entry.getKey()), entry.getValue())) {
+                    // no change event for an equal value, but the process holds the same instance as the model from now on
+                    variableScope.internalSetVariable(entry.getKey(), entry.getValue());
+                } else {
+                    pi.setVariable(entry.getKey(), entry.getValue());
+                }
             }
             return variables;
         });
     }
 
+    // the same instance is never unchanged, it might have been modified in place
+    private static boolean isUnchanged(Object current, Object value) {
+        return current != value && Objects.equals(current, value);
+    }
+
     @Override
     public Optional<ProcessError> error() {
         return Optional.ofNullable(this.processError);
@@ -793,8 +807,19 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
         }
     }
 
-    // this must be overridden at compile time
+    /**
+     * Returns the binder generated for the model, <code>null</code> when the model has none and its fields must be
+     * copied through reflection.
+     */
+    protected ModelBinder<T> modelBinder() {
+        return null;
+    }
+
     protected Map<String, Object> bind(T variables) {
+        ModelBinder<T> binder = modelBinder();
+        if (binder != null) {
+            return variables == null ? new HashMap<>() : binder.toMap(variables);
+        }
         HashMap<String, Object> vmap = new HashMap<>();
         if (variables == null) {
             return vmap;
@@ -816,6 +841,12 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
         if (vmap == null) {
             return;
         }
+        ModelBinder<T> binder = modelBinder();
+        if (binder != null) {
+            binder.setId(variables, id());
+            binder.fromMap(variables, vmap);
+            return;
+        }
         Models.setId(variables, id);
         try {
             for (Field f : variables.getClass().getDeclaredFields()) {
@@ -18,7 +18,6 @@
  */
 package org.kie.kogito.process.impl;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -95,15 +94,20 @@ class MapProcessInstances<T extends Model> implements MutableProcessInstances<T>
 
     @Override
     public Stream<ProcessInstance<T>> waitingForEventType(String eventType, ProcessInstanceReadMode mode) {
-        List<String> processInstanceIds = eventTypes.getOrDefault(eventType, Collections.emptyList());
-        List<ProcessInstance<T>> waitingInstances = new ArrayList<>();
+        // copy on write lists, so the stream works on a snapshot of the ids
+        return eventTypes.getOrDefault(eventType, Collections.emptyList()).stream()
+                .map(instances::get)
+                .filter(Objects::nonNull)
+                .map(instance -> {
+                    AbstractProcessInstance pi = (AbstractProcessInstance) toProcessInstance(instance, mode);
+                    connectProcessInstance(pi);
+                    return pi;
+                });
+    }
 
-        for (String processInstanceId : processInstanceIds) {
-            AbstractProcessInstance pi = (AbstractProcessInstance) toProcessInstance(instances.get(processInstanceId), mode);
-            connectProcessInstance(pi);
-            waitingInstances.add(pi);
-        }
-        return waitingInstances.stream();
+    @Override
+    public boolean existsWaitingFor(String eventType) {
+        return !eventTypes.getOrDefault(eventType, Collections.emptyList()).isEmpty();
     }
 
     private ProcessInstance<T> toProcessInstance(WorkflowProcessInstance instance, ProcessInstanceReadMode mode) {
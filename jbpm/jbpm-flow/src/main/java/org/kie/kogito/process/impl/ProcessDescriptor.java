@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.process.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Lightweight view of a process definition that is available without
+ * building its node graph. It carries the identity of the process, the
+ * event types of its start events and the event types its instances can
+ * wait for, so the process can be registered, triggered and asked for
+ * waiting instances before the definition itself is materialized.
+ */
+public final class ProcessDescriptor {
+
+    // registered by every instance regardless of its nodes, or suffixed with a node or instance id
+    private static final Set<String> INSTANCE_EVENT_TYPES = Set.of("timer", "Compensation");
+
+    private final String id;
+    private final String name;
+    private final String version;
+    private final String type;
+    private final Collection<String> startEventTypes;
+    private final Collection<String> eventTypes;
+
+    public ProcessDescriptor(String id, String name, String version, String type, Collection<String> startEventTypes) {
+        this(id, name, version, type, startEventTypes, null);
+    }
+
+    /**
+     * @param eventTypes event types the instances of the process can wait for, <code>null</code> when they are only
+     *        known at runtime
+     */
+    public ProcessDescriptor(String id, String name, String version, String type, Collection<String> startEventTypes, Collection<String> eventTypes) {
+        this.id = id;
+        this.name = name;
+        this.version = version;
+        this.type = type;
+        this.startEventTypes = startEventTypes == null ? List.of() : List.copyOf(startEventTypes);
+        this.eventTypes = eventTypes == null ? null : Set.copyOf(eventTypes);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Collection<String> getStartEventTypes() {
+        return startEventTypes;
+    }
+
+    /**
+     * Returns <code>false</code> only when no instance of the process can be waiting for the given event type,
+     * so the persisted instances do not need to be looked up.
+     */
+    public boolean mayWaitFor(String eventType) {
+        return eventTypes == null || eventType == null || eventTypes.contains(eventType) || INSTANCE_EVENT_TYPES.contains(eventType) || eventType.indexOf(':') >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessDescriptor [id=" + id + ", version=" + version + ", startEventTypes=" + startEventTypes + "]";
+    }
+}
@@ -19,19 +19,38 @@
 package org.jbpm.process;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.jbpm.process.core.datatype.impl.type.ObjectDataType;
+import org.jbpm.process.instance.LightWorkItemManager;
 import org.jbpm.ruleflow.core.RuleFlowProcessFactory;
 import org.jbpm.ruleflow.core.WorkflowElementIdentifierFactory;
 import org.jbpm.test.util.AbstractBaseTest;
 import org.junit.jupiter.api.Test;
 import org.kie.api.definition.process.WorkflowElementIdentifier;
+import org.kie.api.event.process.DefaultProcessEventListener;
+import org.kie.api.event.process.ProcessNodeLeftEvent;
+import org.kie.kogito.internal.process.event.DefaultKogitoProcessEventListener;
+import org.kie.kogito.internal.process.event.ProcessWorkItemTransitionEvent;
+import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
 import org.kie.kogito.internal.process.runtime.KogitoProcessRuntime;
+import org.kie.kogito.internal.process.workitem.KogitoWorkItem;
+import org.kie.kogito.internal.process.workitem.KogitoWorkItemHandler;
+import org.kie.kogito.internal.process.workitem.KogitoWorkItemManager;
+import org.kie.kogito.internal.process.workitem.WorkItemTransition;
+import org.kie.kogito.process.workitems.impl.DefaultKogitoWorkItemHandler;
 import org.slf4j.LoggerFactory;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class ForEachTest extends AbstractBaseTest {
 
     private static WorkflowElementIdentifier one = WorkflowElementIdentifierFactory.fromExternalFormat("one");
@@ -99,4 +118,241 @@ public class ForEachTest extends AbstractBaseTest {
         kruntime.startProcess("ParentProcess", parameters);
     }
 
+    @Test
+    public void testConcurrentWorkItems() {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("ConcurrentProcess");
+        factory.variable("list", new ObjectDataType("java.util.List"));
+        factory.name("Concurrent Process");
+        factory.packageName("org.drools.bpmn2");
+        factory.dynamic(false);
+        factory.version("1.0");
+        factory.visibility("Private");
+        factory.startNode(one).name("StartProcess").done();
+        org.jbpm.ruleflow.core.factory.ForEachNodeFactory forEachNode2 = factory.forEachNode(two);
+        forEachNode2.collectionExpression("list");
+        forEachNode2.variable("x", new ObjectDataType("java.lang.String"));
+        forEachNode2.concurrent(true);
+
+        forEachNode2.workItemNode(five).name("Remote").workName("Remote").done();
+        forEachNode2.linkIncomingConnections(five);
+        forEachNode2.linkOutgoingConnections(five);
+
+        forEachNode2.done();
+        factory.endNode(three).name("EndProcess").terminate(true).done();
+        factory.connection(one, two, "_1-_2");
+        factory.connection(two, three, "_2-_3");
+        factory.validate();
+
+        List<String> list = List.of("first", "second", "third");
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch activations = new CountDownLatch(list.size());
+
+        KogitoProcessRuntime kruntime = createKogitoProcessRuntime(factory.getProcess());
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("Remote", new DefaultKogitoWorkItemHandler() {
+            @Override
+            public Optional<WorkItemTransition> activateWorkItemHandler(KogitoWorkItemManager manager, KogitoWorkItemHandler handler, KogitoWorkItem workItem,
+                    WorkItemTransition transition) {
+                threads.add(Thread.currentThread().getName());
+                activations.countDown();
+                // every activation waits for the others, which only succeeds when they run at the same time
+                try {
+                    assertThat(activations.await(10, TimeUnit.SECONDS)).isTrue();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Optional.of(workItemLifeCycle.newTransition(TRANSITION_COMPLETE, workItem.getPhaseStatus(), Collections.emptyMap()));
+            }
+        });
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("list", list);
+        KogitoProcessInstance processInstance = kruntime.startProcess("ConcurrentProcess", parameters);
+
+        assertThat(processInstance.getState()).isEqualTo(KogitoProcessInstance.STATE_COMPLETED);
+        assertThat(activations.getCount()).isZero();
+        assertThat(threads).doesNotContain(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void testConcurrentWorkItemsCompletedByHandler() {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("ConcurrentProcess");
+        factory.variable("list", new ObjectDataType("java.util.List"));
+        factory.name("Concurrent Process");
+        factory.packageName("org.drools.bpmn2");
+        factory.dynamic(false);
+        factory.version("1.0");
+        factory.visibility("Private");
+        factory.startNode(one).name("StartProcess").done();
+        org.jbpm.ruleflow.core.factory.ForEachNodeFactory forEachNode2 = factory.forEachNode(two);
+        forEachNode2.collectionExpression("list");
+        forEachNode2.variable("x", new ObjectDataType("java.lang.String"));
+        forEachNode2.concurrent(true);
+
+        forEachNode2.workItemNode(five).name("Remote").workName("Remote").done();
+        forEachNode2.linkIncomingConnections(five);
+        forEachNode2.linkOutgoingConnections(five);
+
+        forEachNode2.done();
+        factory.endNode(three).name("EndProcess").terminate(true).done();
+        factory.connection(one, two, "_1-_2");
+        factory.connection(two, three, "_2-_3");
+        factory.validate();
+
+        Set<String> handlerThreads = ConcurrentHashMap.newKeySet();
+        Set<String> engineThreads = ConcurrentHashMap.newKeySet();
+
+        KogitoProcessRuntime kruntime = createKogitoProcessRuntime(factory.getProcess());
+        kruntime.getProcessEventManager().addEventListener(new DefaultProcessEventListener() {
+            @Override
+            public void afterNodeLeft(ProcessNodeLeftEvent event) {
+                engineThreads.add(Thread.currentThread().getName());
+            }
+        });
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("Remote", new DefaultKogitoWorkItemHandler() {
+            @Override
+            public Optional<WorkItemTransition> activateWorkItemHandler(KogitoWorkItemManager manager, KogitoWorkItemHandler handler, KogitoWorkItem workItem,
+                    WorkItemTransition transition) {
+                handlerThreads.add(Thread.currentThread().getName());
+                // completing from the handler thread is applied later by the thread owning the process instance
+                manager.completeWorkItem(workItem.getStringId(), Collections.singletonMap("result", workItem.getParameter("x")));
+                return Optional.empty();
+            }
+        });
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("list", List.of("first", "second", "third"));
+        KogitoProcessInstance processInstance = kruntime.startProcess("ConcurrentProcess", parameters);
+
+        assertThat(processInstance.getState()).isEqualTo(KogitoProcessInstance.STATE_COMPLETED);
+        assertThat(handlerThreads).isNotEmpty().doesNotContain(Thread.currentThread().getName());
+        assertThat(engineThreads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void testConcurrentWorkItemsAbortedOnCompletionCondition() {
+        RuleFlowProcessFactory factory = concurrentProcess(true);
+        KogitoProcessRuntime kruntime = createKogitoProcessRuntime(factory.getProcess());
+        CountDownLatch release = new CountDownLatch(1);
+        Set<String> aborted = ConcurrentHashMap.newKeySet();
+        List<String> abortTransitions = Collections.synchronizedList(new ArrayList<>());
+        kruntime.getProcessEventManager().addEventListener(new DefaultKogitoProcessEventListener() {
+            @Override
+            public void beforeNodeLeft(ProcessNodeLeftEvent event) {
+                // the first completed item satisfies the completion condition, the others are still activating
+                if ("Remote".equals(event.getNodeInstance().getNodeName())) {
+                    release.countDown();
+                }
+            }
+
+            @Override
+            public void afterWorkItemTransition(ProcessWorkItemTransitionEvent event) {
+                if (TRANSITION_ABORT.equals(event.getTransition().id())) {
+                    abortTransitions.add((String) event.getWorkItem().getParameter("x"));
+                }
+            }
+        });
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("Remote", new BlockingHandler(release, aborted));
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("list", List.of("first", "second", "third"));
+        KogitoProcessInstance processInstance = kruntime.startProcess("ConcurrentProcess", parameters);
+
+        assertThat(processInstance.getState()).isEqualTo(KogitoProcessInstance.STATE_COMPLETED);
+        assertThat(aborted).containsExactlyInAnyOrder("second", "third");
+        assertThat(abortTransitions).containsExactlyInAnyOrder("second", "third");
+        assertThat(kruntime.getKogitoWorkItemManager()).isInstanceOfSatisfying(LightWorkItemManager.class,
+                manager -> assertThat(manager.getWorkItems()).isEmpty());
+    }
+
+    @Test
+    public void testConcurrentWorkItemsAbortedWithProcessInstance() {
+        RuleFlowProcessFactory factory = concurrentProcess(false);
+        KogitoProcessRuntime kruntime = createKogitoProcessRuntime(factory.getProcess());
+        CountDownLatch release = new CountDownLatch(1);
+        Set<String> aborted = ConcurrentHashMap.newKeySet();
+        kruntime.getProcessEventManager().addEventListener(new DefaultKogitoProcessEventListener() {
+            @Override
+            public void afterNodeLeft(ProcessNodeLeftEvent event) {
+                if ("Remote".equals(event.getNodeInstance().getNodeName()) && release.getCount() > 0) {
+                    release.countDown();
+                    kruntime.abortProcessInstance(((KogitoProcessInstance) event.getProcessInstance()).getStringId());
+                }
+            }
+        });
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("Remote", new BlockingHandler(release, aborted));
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("list", List.of("first", "second", "third"));
+        KogitoProcessInstance processInstance = kruntime.startProcess("ConcurrentProcess", parameters);
+
+        assertThat(processInstance.getState()).isEqualTo(KogitoProcessInstance.STATE_ABORTED);
+        assertThat(aborted).containsExactlyInAnyOrder("second", "third");
+    }
+
+    private RuleFlowProcessFactory concurrentProcess(boolean completeOnFirst) {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("ConcurrentProcess");
+        factory.variable("list", new ObjectDataType("java.util.List"));
+        factory.name("Concurrent Process");
+        factory.packageName("org.drools.bpmn2");
+        factory.dynamic(false);
+        factory.version("1.0");
+        factory.visibility("Private");
+        factory.startNode(one).name("StartProcess").done();
+        org.jbpm.ruleflow.core.factory.ForEachNodeFactory forEachNode2 = factory.forEachNode(two);
+        forEachNode2.collectionExpression("list");
+        forEachNode2.variable("x", new ObjectDataType("java.lang.String"));
+        forEachNode2.concurrent(true);
+        if (completeOnFirst) {
+            forEachNode2.completionCondition(context -> true);
+        }
+
+        forEachNode2.workItemNode(five).name("Remote").workName("Remote").done();
+        forEachNode2.linkIncomingConnections(five);
+        forEachNode2.linkOutgoingConnections(five);
+
+        forEachNode2.done();
+        factory.endNode(three).name("EndProcess").terminate(true).done();
+        factory.connection(one, two, "_1-_2");
+        factory.connection(two, three, "_2-_3");
+        factory.validate();
+        return factory;
+    }
+
+    /**
+     * Completes the "first" item right away, the others stay activating until released and are expected to be aborted.
+     */
+    private static class BlockingHandler extends DefaultKogitoWorkItemHandler {
+
+        private final CountDownLatch release;
+        private final Set<String> aborted;
+
+        BlockingHandler(CountDownLatch release, Set<String> aborted) {
+            this.release = release;
+            this.aborted = aborted;
+        }
+
+        @Override
+        public Optional<WorkItemTransition> activateWorkItemHandler(KogitoWorkItemManager manager, KogitoWorkItemHandler handler, KogitoWorkItem workItem,
+                WorkItemTransition transition) {
+            if ("first".equals(workItem.getParameter("x"))) {
+                return Optional.of(workItemLifeCycle.newTransition(TRANSITION_COMPLETE, workItem.getPhaseStatus(), Collections.emptyMap()));
+            }
+            try {
+                assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // completion reported while the item is being aborted is discarded
+            manager.completeWorkItem(workItem.getStringId(), Collections.emptyMap());
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<WorkItemTransition> abortWorkItemHandler(KogitoWorkItemManager manager, KogitoWorkItemHandler handler, KogitoWorkItem workItem,
+                WorkItemTransition transition) {
+            aborted.add((String) workItem.getParameter("x"));
+            return Optional.empty();
+        }
+    }
+
 }
@@ -21,13 +21,16 @@ package org.jbpm.process.core.timer;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Properties;
+import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.stream.IntStream;
 
@@ -284,6 +287,70 @@ class BusinessCalendarImplTest extends AbstractBaseTest {
         weekendDays.forEach(workingDay -> assertThat(BusinessCalendarImpl.isWorkingDay(weekendDays, workingDay)).isFalse());
     }
 
+    @Test
+    void addWorkingDaysMatchesDayByDayRolling() {
+        Random random = new Random(20241128L);
+        String[] weekendDaysConfigurations = { "1,7", "6,7", "0", "1", "2,4,6" };
+        for (int run = 0; run < 300; run++) {
+            LocalDate firstHoliday = LocalDate.of(2025, 1, 1).plusDays(random.nextInt(60));
+            StringBuilder holidays = new StringBuilder();
+            int numberOfHolidays = 1 + random.nextInt(20);
+            for (int i = 0; i < numberOfHolidays; i++) {
+                LocalDate from = firstHoliday.plusDays(random.nextInt(700));
+                holidays.append(holidays.length() > 0 ? "," : "").append(from);
+                if (random.nextBoolean()) {
+                    holidays.append(':').append(from.plusDays(random.nextInt(10)));
+                }
+            }
+            Properties config = new Properties();
+            config.setProperty(START_HOUR, "9");
+            config.setProperty(END_HOUR, "17");
+            config.setProperty(WEEKEND_DAYS, weekendDaysConfigurations[random.nextInt(weekendDaysConfigurations.length)]);
+            config.setProperty(HOLIDAYS, holidays.toString());
+            CalendarBean calendarBean = new CalendarBean(config);
+            BusinessCalendarImpl businessCal = BusinessCalendarImpl.builder().withCalendarBean(calendarBean).build();
+
+            Calendar start = Calendar.getInstance();
+            start.setTimeInMillis(LocalDate.of(2025, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli() + random.nextInt(365 * 24 * 60) * 60_000L);
+            BusinessCalendarImpl.rollCalendarToNextWorkingDayIfCurrentDayIsNonWorking(start, calendarBean.getWeekendDays(), false);
+            int numberOfDays = 1 + random.nextInt(400);
+            boolean resetTime = random.nextBoolean();
+
+            Calendar expected = (Calendar) start.clone();
+            for (int i = 0; i < numberOfDays; i++) {
+                expected.add(Calendar.DAY_OF_YEAR, 1);
+                BusinessCalendarImpl.rollCalendarToNextWorkingDayIfCurrentDayIsNonWorking(expected, calendarBean.getWeekendDays(), false);
+                BusinessCalendarImpl.rollCalendarAfterHolidays(expected, calendarBean.getHolidays(), calendarBean.getWeekendDays(), resetTime);
+            }
+            Calendar retrieved = (Calendar) start.clone();
+            businessCal.addWorkingDays(retrieved, numberOfDays, resetTime);
+
+            assertThat(retrieved.getTime()).as("%s plus %d days with %s", start.getTime(), numberOfDays, config).isEqualTo(expected.getTime());
+        }
+    }
+
+    @Test
+    void holidayIndexFindsFirstConfiguredContainingHoliday() {
+        Random random = new Random(20250101L);
+        for (int run = 0; run < 100; run++) {
+            List<BusinessCalendarImpl.TimePeriod> holidays = new ArrayList<>();
+            int numberOfHolidays = random.nextInt(30);
+            for (int i = 0; i < numberOfHolidays; i++) {
+                long from = random.nextInt(1000) * 1000L;
+                holidays.add(new BusinessCalendarImpl.TimePeriod(new Date(from), new Date(from + random.nextInt(200) * 1000L)));
+            }
+            BusinessCalendarImpl.HolidayIndex index = new BusinessCalendarImpl.HolidayIndex(holidays);
+            for (long instant = 0; instant < 1_300_000L; instant += 500L) {
+                long current = instant;
+                BusinessCalendarImpl.TimePeriod expected = holidays.stream()
+                        .filter(holiday -> holiday.getFrom().getTime() < current && holiday.getTo().getTime() > current)
+                        .findFirst()
+                        .orElse(null);
+                assertThat(index.containing(current)).isSameAs(expected);
+            }
+        }
+    }
+
     private void commonCalculateBusinessTimeAsDateAssertBetweenHours(int startHourGap, int endHourGap, int testingCalendarHourGap, int executionHourDelay, int daysToSkip, String holidayDateFormat,
             String holidays) {
         BiFunction<Instant, Instant, Boolean> startBooleanCondition = (resultInstant, expectedStartTime) -> {
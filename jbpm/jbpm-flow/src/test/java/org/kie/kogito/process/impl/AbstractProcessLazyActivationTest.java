@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.process.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.jbpm.process.instance.LightProcessRuntimeServiceProvider;
+import org.jbpm.ruleflow.core.RuleFlowProcessFactory;
+import org.jbpm.ruleflow.core.WorkflowElementIdentifierFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.api.definition.process.WorkflowElementIdentifier;
+import org.kie.api.event.process.ProcessStartedEvent;
+import org.kie.api.runtime.process.WorkflowProcessInstance;
+import org.kie.kogito.Application;
+import org.kie.kogito.Config;
+import org.kie.kogito.Model;
+import org.kie.kogito.correlation.CompositeCorrelation;
+import org.kie.kogito.internal.process.event.DefaultKogitoProcessEventListener;
+import org.kie.kogito.process.MutableProcessInstances;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceReadMode;
+import org.kie.kogito.process.Processes;
+import org.kie.kogito.process.impl.AbstractProcessInstanceTest.TestModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AbstractProcessLazyActivationTest {
+
+    private static final String START_EVENT_TYPE = "Message-start";
+    private static final String INTERMEDIATE_EVENT_TYPE = "Message-intermediate";
+
+    private static final String UNRELATED_EVENT_TYPE = "Message-unrelated";
+
+    private Application application;
+    private LightProcessRuntimeServiceProvider services;
+    private TestProcess process;
+
+    @BeforeEach
+    void setup() {
+        application = mock(Application.class);
+        Config config = mock(Config.class);
+        when(application.config()).thenReturn(config);
+        when(config.get(any())).thenReturn(mock(AbstractProcessConfig.class));
+        when(application.get(Processes.class)).thenReturn(mock(Processes.class));
+        services = new LightProcessRuntimeServiceProvider();
+        process = new TestProcess(application, services, true);
+    }
+
+    @Test
+    void testDescriptorDoesNotMaterializeProcess() {
+        assertThat(process.id()).isEqualTo("lazy");
+        assertThat(process.name()).isEqualTo("LazyProcess");
+        assertThat(process.version()).isEqualTo("1.0");
+        assertThat(process.isActivated()).isFalse();
+        assertThat(process.materialized).isZero();
+    }
+
+    @Test
+    void testActivatedOnFirstUse() {
+        assertThat(process.getProcessRuntime()).isNotNull();
+        assertThat(process.instances()).isNotNull();
+        assertThat(process.isActivated()).isTrue();
+        assertThat(process.materialized).isOne();
+    }
+
+    @Test
+    void testStartupDoesNotBuildLazyProcesses() {
+        List<TestProcess> lazy = new ArrayList<>();
+        List<TestProcess> eager = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            lazy.add(new TestProcess(application, new LightProcessRuntimeServiceProvider(), true));
+            eager.add(new TestProcess(application, new LightProcessRuntimeServiceProvider(), false));
+        }
+
+        assertThat(lazy).allSatisfy(p -> {
+            assertThat(p.materialized).isZero();
+            assertThat(p.internalProcessRuntime).isNull();
+        });
+        assertThat(eager).allSatisfy(p -> {
+            assertThat(p.materialized).isOne();
+            assertThat(p.internalProcessRuntime).isNotNull();
+        });
+    }
+
+    @Test
+    void testActivatedByStartEvent() {
+        AtomicInteger started = countStartedInstances();
+
+        services.getSignalManager().signalEvent(START_EVENT_TYPE, "payload");
+        assertThat(process.isActivated()).isTrue();
+        assertThat(process.materialized).isOne();
+        assertThat(started).hasValue(1);
+
+        services.getSignalManager().signalEvent(START_EVENT_TYPE, "payload");
+        assertThat(process.materialized).isOne();
+        assertThat(started).hasValue(2);
+    }
+
+    @Test
+    void testStartEventAfterExplicitActivationHandledOnce() {
+        AtomicInteger started = countStartedInstances();
+
+        process.activate();
+        services.getSignalManager().signalEvent(START_EVENT_TYPE, "payload");
+
+        assertThat(started).hasValue(1);
+    }
+
+    @Test
+    void testUnrelatedEventDoesNotActivateProcess() {
+        services.getSignalManager().signalEvent(UNRELATED_EVENT_TYPE, "payload");
+
+        assertThat(services.getSignalManager().accept(UNRELATED_EVENT_TYPE, "payload")).isFalse();
+        assertThat(process.isActivated()).isFalse();
+        assertThat(process.materialized).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPersistedInstanceWaitingOnIntermediateEventActivatesProcess() {
+        AbstractProcessInstance<TestModel> waiting = mock(AbstractProcessInstance.class);
+        when(waiting.id()).thenReturn("waiting");
+        MutableProcessInstances<TestModel> instances = mock(MutableProcessInstances.class);
+        when(instances.waitingForEventType(INTERMEDIATE_EVENT_TYPE, ProcessInstanceReadMode.MUTABLE)).thenReturn(Stream.of(waiting));
+        process.setProcessInstancesFactory(p -> instances);
+
+        services.getSignalManager().signalEvent(INTERMEDIATE_EVENT_TYPE, "payload");
+
+        assertThat(process.isActivated()).isTrue();
+        verify(waiting).send(argThat(signal -> INTERMEDIATE_EVENT_TYPE.equals(signal.channel()) && "payload".equals(signal.payload())));
+    }
+
+    @Test
+    void testDeactivateBeforeFirstUse() {
+        process.deactivate();
+        services.getSignalManager().signalEvent(START_EVENT_TYPE, "payload");
+        assertThat(process.isActivated()).isFalse();
+        assertThat(process.materialized).isZero();
+    }
+
+    private AtomicInteger countStartedInstances() {
+        AtomicInteger started = new AtomicInteger();
+        services.getEventSupport().addEventListener(new DefaultKogitoProcessEventListener() {
+            @Override
+            public void beforeProcessStarted(ProcessStartedEvent event) {
+                started.incrementAndGet();
+            }
+        });
+        return started;
+    }
+
+    private static class TestProcess extends AbstractProcess<TestModel> {
+
+        private static final WorkflowElementIdentifier START = WorkflowElementIdentifierFactory.fromExternalFormat("start");
+        private static final WorkflowElementIdentifier END = WorkflowElementIdentifierFactory.fromExternalFormat("end");
+
+        private int materialized;
+
+        TestProcess(Application application, LightProcessRuntimeServiceProvider services, boolean lazy) {
+            super(application, services);
+            if (lazy) {
+                activateLazily(new ProcessDescriptor("lazy", "LazyProcess", "1.0", "RuleFlow", List.of(START_EVENT_TYPE), List.of(INTERMEDIATE_EVENT_TYPE)));
+            } else {
+                activate();
+            }
+        }
+
+        @Override
+        protected org.kie.api.definition.process.Process process() {
+            materialized++;
+            return RuleFlowProcessFactory.createProcess("lazy")
+                    .name("LazyProcess")
+                    .version("1.0")
+                    .packageName("org.jbpm")
+                    .startNode(START).name("Start").trigger(START_EVENT_TYPE, List.of()).done()
+                    .endNode(END).name("End").done()
+                    .connection(START, END)
+                    .validate()
+                    .getProcess();
+        }
+
+        @Override
+        public ProcessInstance<TestModel> createInstance(TestModel workingMemory) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ProcessInstance<TestModel> createInstance(String businessKey, TestModel workingMemory) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ProcessInstance<TestModel> createInstance(String businessKey, CompositeCorrelation correlation, TestModel workingMemory) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ProcessInstance<? extends Model> createInstance(Model m) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ProcessInstance<TestModel> createInstance(WorkflowProcessInstance wpi) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ProcessInstance<TestModel> createReadOnlyInstance(WorkflowProcessInstance wpi) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
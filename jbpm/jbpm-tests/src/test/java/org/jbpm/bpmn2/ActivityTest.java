@@ -222,6 +222,7 @@ import org.kie.kogito.internal.process.workitem.InvalidTransitionException;
 import org.kie.kogito.internal.process.workitem.KogitoWorkItem;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.WorkItem;
+import org.kie.kogito.process.impl.AbstractProcessInstance;
 import org.kie.kogito.process.workitems.InternalKogitoWorkItem;
 import org.kie.kogito.process.workitems.impl.DefaultKogitoWorkItemHandler;
 
@@ -528,6 +529,39 @@ public class ActivityTest extends JbpmBpmn2TestCase {
         assertThat(instance).extracting(ProcessInstance::status).isEqualTo(ProcessInstance.STATE_COMPLETED);
     }
 
+    @Test
+    public void testUpdateVariablesWithEqualValue() {
+        Application app = ProcessTestHelper.newApplication();
+        List<Object> changes = new ArrayList<>();
+        ProcessTestHelper.registerProcessEventListener(app, new DefaultKogitoProcessEventListener() {
+            @Override
+            public void afterVariableChanged(ProcessVariableChangedEvent event) {
+                changes.add(event.getNewValue());
+            }
+        });
+        ProcessTestHelper.registerHandler(app, "Human Task", new TestUserTaskWorkItemHandler());
+        org.kie.kogito.process.Process<UserTaskModel> processDefinition = UserTaskProcess.newProcess(app);
+        UserTaskModel model = processDefinition.createModel();
+        model.setS("value");
+        org.kie.kogito.process.ProcessInstance<UserTaskModel> instance = processDefinition.createInstance(model);
+        instance.start();
+        changes.clear();
+
+        UserTaskModel update = processDefinition.createModel();
+        String equalValue = new String("value");
+        update.setS(equalValue);
+        instance.updateVariables(update);
+        assertThat(changes).isEmpty();
+        // the process holds the same instance as the model
+        assertThat(((AbstractProcessInstance<UserTaskModel>) instance).internalGetProcessInstance().getVariable("s")).isSameAs(equalValue);
+
+        update.setS("changed");
+        instance.updateVariables(update);
+        assertThat(changes).containsExactly("changed");
+        assertThat(((AbstractProcessInstance<UserTaskModel>) instance).internalGetProcessInstance().getVariable("s")).isEqualTo("changed");
+        assertThat(instance.variables().getS()).isEqualTo("changed");
+    }
+
     @Test
     public void testUserTaskActorAssignment() {
         Application app = ProcessTestHelper.newApplication();
@@ -21,12 +21,14 @@ package org.kie.kogito.usertask.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.kie.kogito.auth.IdentityProvider;
@@ -40,18 +42,32 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+/**
+ * In memory store of user task instances.
+ * <p>
+ * Instances are kept as serialized snapshots, so callers never share mutable state with the store, together with
+ * the fields used for visibility and filtering. Secondary indexes by assignment make an inbox query proportional to
+ * the number of tasks visible to the identity: only the matching snapshots are deserialized.
+ */
 public class InMemoryUserTaskInstances implements UserTaskInstances {
 
     private static Logger LOG = LoggerFactory.getLogger(InMemoryUserTaskInstances.class);
 
-    private Map<String, byte[]> userTaskInstances;
+    private final Map<String, Entry> userTaskInstances;
+    private final Index actualOwnerIndex = new Index();
+    private final Index potentialUserIndex = new Index();
+    private final Index potentialGroupIndex = new Index();
+    private final Index adminUserIndex = new Index();
+    private final Index adminGroupIndex = new Index();
+    private final Index statusIndex = new Index();
+    private final Index processIdIndex = new Index();
     private Function<UserTaskInstance, UserTaskInstance> reconnectUserTaskInstance;
     private Function<UserTaskInstance, UserTaskInstance> disconnectUserTaskInstance;
     private ObjectMapper mapper;
 
     public InMemoryUserTaskInstances() {
         LOG.info("Initializing InMemoryUsertaskInstances");
-        this.userTaskInstances = new HashMap<>();
+        this.userTaskInstances = new ConcurrentHashMap<>();
         this.reconnectUserTaskInstance = null;
         this.disconnectUserTaskInstance = null;
         this.mapper = new ObjectMapper();
@@ -71,11 +87,11 @@ public class InMemoryUserTaskInstances implements UserTaskInstances {
     @Override
     public Optional<UserTaskInstance> findById(String userTaskInstanceId) {
         try {
-            if (!userTaskInstances.containsKey(userTaskInstanceId)) {
+            Entry entry = userTaskInstances.get(userTaskInstanceId);
+            if (entry == null) {
                 return Optional.empty();
             }
-            UserTaskInstance userTaskInstance = mapper.readValue(userTaskInstances.get(userTaskInstanceId), DefaultUserTaskInstance.class);
-            return Optional.ofNullable(reconnectUserTaskInstance.apply(userTaskInstance));
+            return Optional.ofNullable(reconnectUserTaskInstance.apply(read(entry)));
         } catch (Exception e) {
             // The replace calls are sanitization of the user input. The userTaskInstanceId has a way to reach here from the user.
             LOG.error("during find by Id {}", userTaskInstanceId.replace('\n', '_').replace('\r', '_'), e);
@@ -85,115 +101,65 @@ public class InMemoryUserTaskInstances implements UserTaskInstances {
 
     @Override
     public List<UserTaskInstance> findByIdentity(IdentityProvider identity) {
-        try {
-            String user = identity.getName();
-            Collection<String> roles = identity.getRoles();
-            List<UserTaskInstance> users = new ArrayList<>();
-            for (String id : userTaskInstances.keySet()) {
-                UserTaskInstance userTaskInstance = mapper.readValue(userTaskInstances.get(id), DefaultUserTaskInstance.class);
-                if (checkVisibility(userTaskInstance, user, roles)) {
-                    users.add(reconnectUserTaskInstance.apply(userTaskInstance));
-                }
-            }
-            return users;
-        } catch (Exception e) {
-            LOG.error("during find by Identity {}", identity.getName(), e);
-            return Collections.emptyList();
-        }
+        return findByIdentity(identity, null);
     }
 
     @Override
     public List<UserTaskInstance> findByIdentity(IdentityProvider identity, UserTaskFilter filter) {
         try {
-            // Start with identity-based filtering
-            List<UserTaskInstance> tasks = findByIdentity(identity);
-
-            // If no filter provided, return all tasks for this identity
-            if (filter == null) {
-                return tasks;
+            String user = identity.getName();
+            Collection<String> roles = identity.getRoles() != null ? identity.getRoles() : Collections.emptyList();
+            Collection<String> ids = candidates(user, roles, filter);
+            int limit = Integer.MAX_VALUE;
+            if (filter != null && filter.isPaged()) {
+                // keyset paging: walk the candidates in id order, starting after the cursor
+                NavigableSet<String> sorted = new TreeSet<>(ids);
+                ids = filter.cursor() != null && !filter.cursor().isEmpty() ? sorted.tailSet(filter.cursor(), false) : sorted;
+                if (filter.limit() != null && filter.limit() > 0) {
+                    limit = filter.limit();
+                }
             }
-
-            // Apply business logic filters
-            List<UserTaskInstance> filteredTasks = new ArrayList<>();
-            for (UserTaskInstance task : tasks) {
-                if (matchesFilter(task, filter)) {
-                    filteredTasks.add(task);
+            List<UserTaskInstance> users = new ArrayList<>();
+            for (String id : ids) {
+                if (users.size() >= limit) {
+                    break;
+                }
+                Entry entry = userTaskInstances.get(id);
+                // entries are re-checked as the indexes might have changed since the candidates were collected
+                if (entry != null && entry.isVisibleTo(user, roles) && (filter == null || entry.matches(filter))) {
+                    users.add(reconnectUserTaskInstance.apply(read(entry)));
                 }
             }
-            return filteredTasks;
+            return users;
         } catch (Exception e) {
-            LOG.error("during find by Identity and Filter {}", identity.getName(), e);
+            LOG.error("during find by Identity {}", identity.getName(), e);
             return Collections.emptyList();
         }
     }
 
-    private boolean matchesFilter(UserTaskInstance task, UserTaskFilter filter) {
-        // Process ID filter (exact match)
-        if (filter.processId() != null) {
-            ProcessInfo info = task.getProcessInfo();
-            if (info == null || !filter.processId().equals(info.getProcessId())) {
-                return false;
-            }
-        }
-
-        // Process Instance ID filter (exact match)
-        if (filter.processInstanceId() != null) {
-            ProcessInfo info = task.getProcessInfo();
-            if (info == null || !filter.processInstanceId().equals(info.getProcessInstanceId())) {
-                return false;
-            }
+    private Set<String> candidates(String user, Collection<String> roles, UserTaskFilter filter) {
+        // a process id filter is usually more selective than the assignment of the identity
+        if (filter != null && filter.processId() != null) {
+            return processIdIndex.get(filter.processId());
         }
-
-        // Status filter (exact match against persisted state name)
-        if (filter.statuses() != null && !filter.statuses().isEmpty()) {
-            boolean statusMatches = filter.statuses().stream()
-                    .anyMatch(status -> status.equals(task.getStatus().getName()));
-            if (!statusMatches) {
-                return false;
-            }
+        Set<String> candidates = new HashSet<>();
+        candidates.addAll(actualOwnerIndex.get(user));
+        candidates.addAll(potentialUserIndex.get(user));
+        candidates.addAll(adminUserIndex.get(user));
+        for (String role : roles) {
+            candidates.addAll(potentialGroupIndex.get(role));
+            candidates.addAll(adminGroupIndex.get(role));
         }
-
-        // Task name filter (exact match)
-        if (filter.taskName() != null) {
-            String taskName = task.getTaskName();
-            if (taskName == null || !taskName.equals(filter.taskName())) {
-                return false;
+        if (filter != null && filter.statuses() != null && !filter.statuses().isEmpty()) {
+            int withStatusCount = filter.statuses().stream().mapToInt(status -> statusIndex.get(status).size()).sum();
+            // narrowing through the status index only pays off when it is smaller than the assigned tasks
+            if (withStatusCount < candidates.size()) {
+                Set<String> withStatus = new HashSet<>();
+                filter.statuses().forEach(status -> withStatus.addAll(statusIndex.get(status)));
+                candidates.retainAll(withStatus);
             }
         }
-
-        return true;
-    }
-
-    private boolean checkVisibility(UserTaskInstance userTaskInstance, String user, Collection<String> roles) {
-        Set<String> adminUsers = userTaskInstance.getAdminUsers();
-        if (adminUsers.contains(user)) {
-            return true;
-        }
-
-        Set<String> userAdminGroups = new HashSet<>(userTaskInstance.getAdminGroups());
-        userAdminGroups.retainAll(roles);
-        if (!userAdminGroups.isEmpty()) {
-            return true;
-        }
-
-        if (userTaskInstance.getActualOwner() != null && userTaskInstance.getActualOwner().equals(user)) {
-            return true;
-        }
-
-        // there is no user
-        Set<String> users = new HashSet<>(userTaskInstance.getPotentialUsers());
-        users.removeAll(userTaskInstance.getExcludedUsers());
-        if (users.contains(user)) {
-            return true;
-        }
-
-        Set<String> userPotGroups = new HashSet<>(userTaskInstance.getPotentialGroups());
-        userPotGroups.retainAll(roles);
-        if (!userPotGroups.isEmpty()) {
-            return true;
-        }
-
-        return false;
+        return candidates;
     }
 
     @Override
@@ -205,8 +171,7 @@ public class InMemoryUserTaskInstances implements UserTaskInstances {
     public UserTaskInstance create(UserTaskInstance userTaskInstance) {
         try {
             LOG.trace("create {}", userTaskInstance);
-            byte[] data = mapper.writeValueAsBytes(userTaskInstance);
-            userTaskInstances.put(userTaskInstance.getId(), data);
+            store(userTaskInstance);
             return reconnectUserTaskInstance.apply(userTaskInstance);
         } catch (Exception e) {
             LOG.error("during create {}", userTaskInstance.getId(), e);
@@ -218,8 +183,7 @@ public class InMemoryUserTaskInstances implements UserTaskInstances {
     public UserTaskInstance update(UserTaskInstance userTaskInstance) {
         try {
             LOG.trace("update {}", userTaskInstance);
-            byte[] data = mapper.writeValueAsBytes(userTaskInstance);
-            userTaskInstances.put(userTaskInstance.getId(), data);
+            store(userTaskInstance);
             return userTaskInstance;
         } catch (Exception e) {
             LOG.error("during udpate {}", userTaskInstance.getId(), e);
@@ -230,11 +194,16 @@ public class InMemoryUserTaskInstances implements UserTaskInstances {
     @Override
     public UserTaskInstance remove(UserTaskInstance userTaskInstance) {
         try {
-            if (!userTaskInstances.containsKey(userTaskInstance.getId())) {
+            boolean[] removed = { false };
+            userTaskInstances.computeIfPresent(userTaskInstance.getId(), (id, current) -> {
+                unindex(current);
+                removed[0] = true;
+                return null;
+            });
+            if (!removed[0]) {
                 return null;
             }
             LOG.trace("remove {}", userTaskInstance);
-            userTaskInstances.remove(userTaskInstance.getId());
             return disconnectUserTaskInstance.apply(userTaskInstance);
         } catch (Exception e) {
             LOG.error("during remove {}", userTaskInstance, e);
@@ -242,4 +211,138 @@ public class InMemoryUserTaskInstances implements UserTaskInstances {
         }
     }
 
+    private UserTaskInstance read(Entry entry) throws java.io.IOException {
+        return mapper.readValue(entry.data, DefaultUserTaskInstance.class);
+    }
+
+    private void store(UserTaskInstance userTaskInstance) throws java.io.IOException {
+        Entry entry = new Entry(userTaskInstance, mapper.writeValueAsBytes(userTaskInstance));
+        userTaskInstances.compute(entry.id, (id, current) -> {
+            if (current != null) {
+                unindex(current);
+            }
+            index(entry);
+            return entry;
+        });
+    }
+
+    private void index(Entry entry) {
+        actualOwnerIndex.add(entry.actualOwner, entry.id);
+        entry.potentialUsers.forEach(user -> potentialUserIndex.add(user, entry.id));
+        entry.potentialGroups.forEach(group -> potentialGroupIndex.add(group, entry.id));
+        entry.adminUsers.forEach(user -> adminUserIndex.add(user, entry.id));
+        entry.adminGroups.forEach(group -> adminGroupIndex.add(group, entry.id));
+        statusIndex.add(entry.status, entry.id);
+        processIdIndex.add(entry.processId, entry.id);
+    }
+
+    private void unindex(Entry entry) {
+        actualOwnerIndex.remove(entry.actualOwner, entry.id);
+        entry.potentialUsers.forEach(user -> potentialUserIndex.remove(user, entry.id));
+        entry.potentialGroups.forEach(group -> potentialGroupIndex.remove(group, entry.id));
+        entry.adminUsers.forEach(user -> adminUserIndex.remove(user, entry.id));
+        entry.adminGroups.forEach(group -> adminGroupIndex.remove(group, entry.id));
+        statusIndex.remove(entry.status, entry.id);
+        processIdIndex.remove(entry.processId, entry.id);
+    }
+
+    private static Set<String> copyOf(Set<String> values) {
+        return values == null ? Set.of() : Set.copyOf(values);
+    }
+
+    /**
+     * Serialized snapshot of a user task instance plus the fields needed to evaluate visibility and filters.
+     */
+    private static class Entry {
+
+        private final String id;
+        private final byte[] data;
+        private final String actualOwner;
+        private final Set<String> potentialUsers;
+        private final Set<String> potentialGroups;
+        private final Set<String> adminUsers;
+        private final Set<String> adminGroups;
+        private final Set<String> excludedUsers;
+        private final String status;
+        private final String processId;
+        private final String processInstanceId;
+        private final String taskName;
+
+        private Entry(UserTaskInstance userTaskInstance, byte[] data) {
+            this.id = userTaskInstance.getId();
+            this.data = data;
+            this.actualOwner = userTaskInstance.getActualOwner();
+            this.potentialUsers = copyOf(userTaskInstance.getPotentialUsers());
+            this.potentialGroups = copyOf(userTaskInstance.getPotentialGroups());
+            this.adminUsers = copyOf(userTaskInstance.getAdminUsers());
+            this.adminGroups = copyOf(userTaskInstance.getAdminGroups());
+            this.excludedUsers = copyOf(userTaskInstance.getExcludedUsers());
+            this.status = userTaskInstance.getStatus() != null ? userTaskInstance.getStatus().getName() : null;
+            ProcessInfo info = userTaskInstance.getProcessInfo();
+            this.processId = info != null ? info.getProcessId() : null;
+            this.processInstanceId = info != null ? info.getProcessInstanceId() : null;
+            this.taskName = userTaskInstance.getTaskName();
+        }
+
+        private boolean isVisibleTo(String user, Collection<String> roles) {
+            if (adminUsers.contains(user) || (actualOwner != null && actualOwner.equals(user))) {
+                return true;
+            }
+            if (potentialUsers.contains(user) && !excludedUsers.contains(user)) {
+                return true;
+            }
+            for (String role : roles) {
+                if (adminGroups.contains(role) || potentialGroups.contains(role)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean matches(UserTaskFilter filter) {
+            if (filter.processId() != null && !filter.processId().equals(processId)) {
+                return false;
+            }
+            if (filter.processInstanceId() != null && !filter.processInstanceId().equals(processInstanceId)) {
+                return false;
+            }
+            // exact match against persisted state name
+            if (filter.statuses() != null && !filter.statuses().isEmpty() && (status == null || !filter.statuses().contains(status))) {
+                return false;
+            }
+            return filter.taskName() == null || filter.taskName().equals(taskName);
+        }
+    }
+
+    /**
+     * Concurrent multimap from an assignment (or attribute) value to the ids of the user tasks having it.
+     */
+    private static class Index {
+
+        private final Map<String, Set<String>> ids = new ConcurrentHashMap<>();
+
+        private void add(String key, String id) {
+            if (key != null) {
+                ids.compute(key, (k, values) -> {
+                    Set<String> result = values != null ? values : ConcurrentHashMap.newKeySet();
+                    result.add(id);
+                    return result;
+                });
+            }
+        }
+
+        private void remove(String key, String id) {
+            if (key != null) {
+                ids.computeIfPresent(key, (k, values) -> {
+                    values.remove(id);
+                    return values.isEmpty() ? null : values;
+                });
+            }
+        }
+
+        private Set<String> get(String key) {
+            Set<String> values = key != null ? ids.get(key) : null;
+            return values != null ? values : Set.of();
+        }
+    }
 }
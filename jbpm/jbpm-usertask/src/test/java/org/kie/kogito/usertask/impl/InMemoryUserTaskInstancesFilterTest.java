@@ -362,6 +362,66 @@ public class InMemoryUserTaskInstancesFilterTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    public void testFindByIdentityAfterReassignment() {
+        when(identity.getRoles()).thenReturn(Collections.emptyList());
+
+        DefaultUserTaskInstance task1 = createTask("task1", "hr_interview", "recruiter", "hiring", "pi1", "Reserved");
+        instances.create(task1);
+
+        task1.setActualOwner("manager");
+        task1.setPotentialUsers(Collections.singleton("manager"));
+        task1.setStatus(UserTaskState.of("InProgress"));
+        instances.update(task1);
+
+        when(identity.getName()).thenReturn("recruiter");
+        assertThat(instances.findByIdentity(identity)).isEmpty();
+
+        when(identity.getName()).thenReturn("manager");
+        assertThat(instances.findByIdentity(identity, UserTaskFilter.builder()
+                .statuses(List.of("Reserved"))
+                .build())).isEmpty();
+        assertThat(instances.findByIdentity(identity, UserTaskFilter.builder()
+                .statuses(List.of("InProgress"))
+                .build())).extracting(UserTaskInstance::getId).containsExactly("task1");
+    }
+
+    @Test
+    public void testFindByIdentityAfterRemove() {
+        when(identity.getName()).thenReturn("recruiter");
+        when(identity.getRoles()).thenReturn(Collections.emptyList());
+
+        DefaultUserTaskInstance task1 = createTask("task1", "hr_interview", "recruiter", "hiring", "pi1", "Reserved");
+        DefaultUserTaskInstance task2 = createTask("task2", "hr_review", "recruiter", "hiring", "pi2", "Reserved");
+        instances.create(task1);
+        instances.create(task2);
+        instances.remove(task1);
+
+        assertThat(instances.exists("task1")).isFalse();
+        assertThat(instances.findByIdentity(identity, UserTaskFilter.builder()
+                .processId("hiring")
+                .build())).extracting(UserTaskInstance::getId).containsExactly("task2");
+    }
+
+    @Test
+    public void testFindByIdentityWithKeysetPagination() {
+        when(identity.getName()).thenReturn("recruiter");
+        when(identity.getRoles()).thenReturn(Collections.emptyList());
+
+        instances.create(createTask("task3", "hr_final", "recruiter", "hiring", "pi3", "Reserved"));
+        instances.create(createTask("task1", "hr_interview", "recruiter", "hiring", "pi1", "Reserved"));
+        instances.create(createTask("task2", "hr_review", "recruiter", "hiring", "pi2", "Reserved"));
+
+        assertThat(instances.findByIdentity(identity, UserTaskFilter.builder()
+                .limit(2)
+                .build())).extracting(UserTaskInstance::getId).containsExactly("task1", "task2");
+
+        assertThat(instances.findByIdentity(identity, UserTaskFilter.builder()
+                .limit(2)
+                .cursor("task2")
+                .build())).extracting(UserTaskInstance::getId).containsExactly("task3");
+    }
+
     private DefaultUserTaskInstance createTask(String id, String taskName, String owner,
             String processId, String processInstanceId, String status) {
         DefaultUserTaskInstance task = new DefaultUserTaskInstance();
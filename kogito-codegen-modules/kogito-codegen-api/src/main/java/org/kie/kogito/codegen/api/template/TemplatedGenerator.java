@@ -18,10 +18,15 @@
  */
 package org.kie.kogito.codegen.api.template;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.text.MessageFormat;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.kie.kogito.codegen.api.context.KogitoBuildContext;
 
@@ -50,6 +55,8 @@ public final class TemplatedGenerator {
     protected static final String TEMPLATE_FORMAT = "{0}{1}{2}{3}";
     protected static final String TEMPLATE_SUFFIX = "Template.java";
 
+    private static final Map<ClassLoader, Map<String, CompilationUnit>> PARSED_TEMPLATES = new WeakHashMap<>();
+
     protected final String packageName;
     protected final String sourceFilePath;
 
@@ -97,7 +104,8 @@ public final class TemplatedGenerator {
 
         try {
             CompilationUnit compilationUnit =
-                    parse(getResource(selectedResource))
+                    parsedTemplate(selectedResource)
+                            .clone()
                             .setPackageDeclaration(packageName);
 
             return Optional.of(compilationUnit);
@@ -106,6 +114,23 @@ public final class TemplatedGenerator {
         }
     }
 
+    /**
+     * Templates are parsed once per class loader, callers always get a copy they are free to modify
+     */
+    private CompilationUnit parsedTemplate(String path) {
+        Map<String, CompilationUnit> templates;
+        synchronized (PARSED_TEMPLATES) {
+            templates = PARSED_TEMPLATES.computeIfAbsent(Thread.currentThread().getContextClassLoader(), cl -> new ConcurrentHashMap<>());
+        }
+        return templates.computeIfAbsent(path, key -> {
+            try (InputStream is = getResource(key)) {
+                return parse(is);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     public CompilationUnit compilationUnitOrThrow(String errorMessage) {
         return compilationUnit().orElseThrow(() -> new InvalidTemplateException(
                 this,
@@ -125,11 +150,11 @@ public final class TemplatedGenerator {
         String resourcePath = uncheckedTemplatePath();
         String fallbackPath = createTemplatePath(templateBasePath, templateName, fallbackContext);
 
-        if (getResource(resourcePath) != null) {
+        if (resourceExists(resourcePath)) {
             return resourcePath;
         }
 
-        if (fallbackContext != null && getResource(fallbackPath) != null) {
+        if (fallbackContext != null && resourceExists(fallbackPath)) {
             return fallbackPath;
         }
 
@@ -145,6 +170,11 @@ public final class TemplatedGenerator {
         return createTemplatePath(templateBasePath, templateName, context.name());
     }
 
+    private boolean resourceExists(String path) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader.getResource(path) != null || this.getClass().getResource(path) != null;
+    }
+
     private InputStream getResource(String path) {
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         InputStream is = classLoader.getResourceAsStream(path);
@@ -22,6 +22,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.codegen.api.context.KogitoBuildContext;
 
+import com.github.javaparser.ast.CompilationUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.kie.kogito.codegen.api.template.TemplatedGenerator.Builder;
@@ -217,4 +219,25 @@ class TemplatedGeneratorTest {
                 .isInstanceOf(TemplateInstantiationException.class)
                 .hasMessageContaining(templateName);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void compilationUnitIsACopyOfTheParsedTemplate() {
+        TemplatedGenerator generator = TemplatedGenerator.builder()
+                .withFallbackContext(SPRING)
+                .build(context, templateName);
+        TemplatedGenerator otherPackageGenerator = TemplatedGenerator.builder()
+                .withFallbackContext(SPRING)
+                .withPackageName("other")
+                .build(context, templateName);
+
+        CompilationUnit first = generator.compilationUnitOrThrow();
+        first.getTypes().clear();
+        CompilationUnit second = generator.compilationUnitOrThrow();
+        CompilationUnit third = otherPackageGenerator.compilationUnitOrThrow();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getTypes()).isNotEmpty();
+        assertThat(second.getPackageDeclaration()).map(pd -> pd.getNameAsString()).contains(KogitoBuildContext.DEFAULT_PACKAGE_NAME);
+        assertThat(third.getPackageDeclaration()).map(pd -> pd.getNameAsString()).contains("other");
+    }
+}
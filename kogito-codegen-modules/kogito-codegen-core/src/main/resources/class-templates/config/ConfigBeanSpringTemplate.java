@@ -30,11 +30,23 @@ public class ConfigBean extends org.kie.kogito.config.StaticConfigBean {
     @org.springframework.beans.factory.annotation.Value("${kogito.jackson.fail-on-empty-bean:#{false}}")
     boolean failOnEmptyBean;
 
+    @org.springframework.beans.factory.annotation.Value("${kogito.process.multi-instance.concurrency:#{32}}")
+    int multiInstanceConcurrency;
+
+    @org.springframework.beans.factory.annotation.Value("${kogito.signal.broadcast.page-size:#{100}}")
+    int signalBroadcastPageSize;
+
+    @org.springframework.beans.factory.annotation.Value("${kogito.signal.broadcast.concurrency:#{1}}")
+    int signalBroadcastConcurrency;
+
     @jakarta.annotation.PostConstruct
     protected void init() {
         setServiceUrl(kogitoService.orElse(""));
         setCloudEvents(useCloudEvents);
         setFailOnEmptyBean(failOnEmptyBean);
+        setMultiInstanceConcurrency(multiInstanceConcurrency);
+        setSignalBroadcastPageSize(signalBroadcastPageSize);
+        setSignalBroadcastConcurrency(signalBroadcastConcurrency);
         setGav($gav$);
     }
 }
@@ -65,6 +65,10 @@ public class DecisionCodegen extends AbstractGenerator {
      * model validation strategy; possible values: ENABLED, DISABLED, IGNORE; (default ENABLED)
      */
     public static String VALIDATION_CONFIGURATION_KEY = "kogito.decisions.validation";
+    /**
+     * (boolean) build the DMN runtime on a background thread instead of during class initialization (default false)
+     */
+    public static String BACKGROUND_INITIALIZATION_CONFIGURATION_KEY = "kogito.decisions.backgroundinit";
 
     /**
      * (string) kafka bootstrap server address
@@ -106,6 +110,7 @@ public class DecisionCodegen extends AbstractGenerator {
     private final List<String> classesForManualReflection = new ArrayList<>();
     private final Set<DMNProfile> customDMNProfiles = new HashSet<>();
     private final boolean enableRuntimeTypeCheckOption;
+    private final boolean backgroundInitialization;
 
     public DecisionCodegen(KogitoBuildContext context, List<CollectedResource> cResources) {
         super(context, GENERATOR_NAME, new DecisionConfigGenerator(context));
@@ -113,6 +118,7 @@ public class DecisionCodegen extends AbstractGenerator {
         Set<String> customDMNProfilesProperties = getCustomDMNProfilesProperties();
         customDMNProfiles.addAll(getCustomDMNProfiles(customDMNProfilesProperties, context.getClassLoader()));
         enableRuntimeTypeCheckOption = getEnableRuntimeTypeCheckOption();
+        backgroundInitialization = getBackgroundInitialization();
         this.cResources = cResources;
     }
 
@@ -125,7 +131,8 @@ public class DecisionCodegen extends AbstractGenerator {
                 this.cResources,
                 this.classesForManualReflection,
                 this.customDMNProfiles,
-                this.enableRuntimeTypeCheckOption));
+                this.enableRuntimeTypeCheckOption,
+                this.backgroundInitialization));
     }
 
     @Override
@@ -186,6 +193,12 @@ public class DecisionCodegen extends AbstractGenerator {
         return Boolean.parseBoolean(propertiesMap.getOrDefault(RuntimeTypeCheckOption.PROPERTY_NAME, "false"));
     }
 
+    boolean getBackgroundInitialization() {
+        return context().getApplicationProperty(BACKGROUND_INITIALIZATION_CONFIGURATION_KEY)
+                .map(Boolean::parseBoolean)
+                .orElse(false);
+    }
+
     static Set<DMNProfile> getCustomDMNProfiles(Set<String> customDMNProfiles, ClassLoader classLoader) {
         Set<DMNProfile> toReturn = new HashSet<>();
         for (String profileName : customDMNProfiles) {
@@ -66,10 +66,18 @@ public class DecisionContainerGenerator extends AbstractApplicationSection {
     private final List<String> classesForManualReflection = new ArrayList<>();
     private final Set<DMNProfile> customDMNProfiles = new HashSet<>();
     private final boolean enableRuntimeTypeCheckOption;
+    private final boolean backgroundInitialization;
 
     public DecisionContainerGenerator(KogitoBuildContext context, String applicationCanonicalName, Collection<CollectedResource> cResources, List<String> classesForManualReflection,
             Set<DMNProfile> customDMNProfiles,
             boolean enableRuntimeTypeCheckOption) {
+        this(context, applicationCanonicalName, cResources, classesForManualReflection, customDMNProfiles, enableRuntimeTypeCheckOption, false);
+    }
+
+    public DecisionContainerGenerator(KogitoBuildContext context, String applicationCanonicalName, Collection<CollectedResource> cResources, List<String> classesForManualReflection,
+            Set<DMNProfile> customDMNProfiles,
+            boolean enableRuntimeTypeCheckOption,
+            boolean backgroundInitialization) {
         super(context, SECTION_CLASS_NAME);
         this.applicationCanonicalName = applicationCanonicalName;
         this.resources = cResources;
@@ -79,6 +87,7 @@ public class DecisionContainerGenerator extends AbstractApplicationSection {
         this.classesForManualReflection.addAll(classesForManualReflection);
         this.customDMNProfiles.addAll(customDMNProfiles);
         this.enableRuntimeTypeCheckOption = enableRuntimeTypeCheckOption;
+        this.backgroundInitialization = backgroundInitialization;
     }
 
     @Override
@@ -100,6 +109,7 @@ public class DecisionContainerGenerator extends AbstractApplicationSection {
         setupCustomDMNProfiles(initMethod, customDMNProfiles);
         setupEnableRuntimeTypeCheckOption(initMethod, enableRuntimeTypeCheckOption);
         setupModelPathsFile(initMethod, applicationCanonicalName);
+        setupBackgroundInitialization(initMethod, backgroundInitialization);
         return compilationUnit;
     }
 
@@ -141,6 +151,10 @@ public class DecisionContainerGenerator extends AbstractApplicationSection {
         initMethod.addArgument(methodCallExpr);
     }
 
+    static void setupBackgroundInitialization(MethodCallExpr initMethod, boolean backgroundInitialization) {
+        initMethod.addArgument(new BooleanLiteralExpr(backgroundInitialization));
+    }
+
     public List<String> getClassesForManualReflection() {
         return classesForManualReflection;
     }
@@ -38,6 +38,7 @@ import org.kie.kogito.codegen.api.context.impl.QuarkusKogitoBuildContext;
 import org.kie.kogito.codegen.api.template.TemplatedGenerator;
 import org.kie.kogito.codegen.core.BodyDeclarationComparator;
 import org.kie.kogito.codegen.core.CodegenUtils;
+import org.kie.kogito.dmn.rest.DMNBulkEvaluation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +48,7 @@ import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.FieldDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
 import com.github.javaparser.ast.expr.MemberValuePair;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.Name;
@@ -88,6 +90,7 @@ public class DecisionRestResourceGenerator {
     private static final String DMN_RESULT_ENDPOINT_OPERATION_ID = "evaluateDmnFullResults_";
     private static final String DECISION_SERVICE_ENDPOINT_OPERATION_ID = "evaluateDmnService_";
     private static final String DECISION_SERVICE_RESULT_ENDPOINT_OPERATION_ID = "evaluateDmnServiceFullResults_";
+    private static final String DECISION_SERVICE_BULK_ENDPOINT_OPERATION_ID = "evaluateDmnServiceBulk_";
     public static final String DMN_DEFINITIONS_JSON_REFS = "refs/";
     private static final String DMN_DEFINITIONS_JSON_ROOT = "/" + DMN_DEFINITIONS_JSON_REFS;
 
@@ -147,6 +150,7 @@ public class DecisionRestResourceGenerator {
 
         MethodDeclaration dmnMethod = template.findAll(MethodDeclaration.class, x -> x.getName().toString().equals("dmn")).get(0);
         processOASAnn(dmnMethod, null);
+        MethodDeclaration bulkMethod = template.findAll(MethodDeclaration.class, x -> x.getNameAsString().equals("dmn_bulk")).get(0);
 
         final String dmnMethodUrlPlaceholder = "$dmnMethodUrl$";
 
@@ -197,6 +201,7 @@ public class DecisionRestResourceGenerator {
                     path,
                     modelAndServiceName,
                     DECISION_SERVICE_RESULT_ENDPOINT_OPERATION_ID));
+            template.addMember(cloneForDecisionServiceBulk(bulkMethod, name + "_bulk", ds.getName(), modelAndServiceName));
         }
 
         //set the root path for the dmnMethod itself
@@ -311,6 +316,23 @@ public class DecisionRestResourceGenerator {
         return clonedDmnMethod;
     }
 
+    private MethodDeclaration cloneForDecisionServiceBulk(MethodDeclaration bulkMethod, String name, String decisionServiceName, String modelAndServiceName) {
+        MethodDeclaration clonedBulkMethod = bulkMethod.clone();
+        clonedBulkMethod.setName(name);
+
+        // e.g.: @jakarta.ws.rs.Path(DMNBulkEvaluation.PATH) becomes @jakarta.ws.rs.Path("/DSn/dmnresult/bulk")
+        String path = "/" + decisionServiceName + DMNBulkEvaluation.PATH;
+        clonedBulkMethod.getAnnotations().stream()
+                .filter(a -> a.getNameAsString().endsWith("Path") || a.getNameAsString().endsWith("PostMapping"))
+                .flatMap(a -> a.findAll(FieldAccessExpr.class, f -> f.getNameAsString().equals("PATH")).stream())
+                .forEach(f -> f.replace(new StringLiteralExpr(path)));
+        interpolateOperation(modelAndServiceName, DECISION_SERVICE_BULK_ENDPOINT_OPERATION_ID, clonedBulkMethod);
+
+        MethodCallExpr evaluateCall = clonedBulkMethod.findFirst(MethodCallExpr.class, x -> x.getNameAsString().equals("evaluate")).orElseThrow(TEMPLATE_WAS_MODIFIED);
+        evaluateCall.setArgument(1, new StringLiteralExpr(decisionServiceName));
+        return clonedBulkMethod;
+    }
+
     private void interpolateRequestPath(String pathName, String placeHolder, MethodDeclaration clonedDmnMethod) {
         clonedDmnMethod.getAnnotations().stream()
                 .filter(a -> a.getNameAsString().endsWith("Path") || a.getNameAsString().endsWith("PostMapping")) // e.g.: @jakarta.ws.rs.Path("/DSn/dmnresult") or @org.springframework.web.bind.annotation.PostMapping(value = "$dmnMethodUrl$", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -33,6 +33,8 @@ import jakarta.ws.rs.core.Response.ResponseBuilder;
 
 import org.kie.dmn.feel.codegen.feel11.CodegenStringUtil;
 import org.kie.kogito.Application;
+import org.kie.kogito.dmn.BulkEvaluationExecutor;
+import org.kie.kogito.dmn.rest.DMNBulkEvaluation;
 import org.kie.kogito.dmn.rest.DMNEvaluationErrorException;
 import org.kie.kogito.dmn.rest.DMNJSONUtils;
 import org.kie.kogito.dmn.rest.KogitoDMNResult;
@@ -72,6 +74,17 @@ public class DMNRestResourceTemplate {
         return enrichResponseHeaders(decisionResult, $extractContextMethod$(result));
     }
 
+    @POST
+    @Path(DMNBulkEvaluation.PATH)
+    @Consumes(DMNBulkEvaluation.NDJSON)
+    @Produces(DMNBulkEvaluation.NDJSON)
+    @org.eclipse.microprofile.openapi.annotations.Operation(operationId ="evaluateDmnBulk_$modelName$", summary = "It evaluates the $modelName$ DMN Model for each input of a newline delimited JSON stream")
+    public jakarta.ws.rs.core.StreamingOutput dmn_bulk(InputStream body) {
+        org.kie.kogito.decision.DecisionModel decision = application.get(org.kie.kogito.decision.DecisionModels.class).getDecisionModel("$modelNamespace$", "$modelName$");
+        BulkEvaluationExecutor executor = BulkEvaluationExecutor.of(application.config().get(org.kie.kogito.decision.DecisionConfig.class));
+        return output -> DMNBulkEvaluation.evaluate(decision, null, executor, body, output, objectMapper);
+    }
+
     @GET
     @Produces(MediaType.APPLICATION_XML)
     @org.eclipse.microprofile.openapi.annotations.Operation(operationId ="getDmn_$modelName$", summary = "Get the DMN $modelName$ model file")
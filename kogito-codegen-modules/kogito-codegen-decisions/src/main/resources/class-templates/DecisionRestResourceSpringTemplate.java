@@ -26,6 +26,8 @@ import java.util.stream.Collectors;
 
 import org.kie.dmn.feel.codegen.feel11.CodegenStringUtil;
 import org.kie.kogito.Application;
+import org.kie.kogito.dmn.BulkEvaluationExecutor;
+import org.kie.kogito.dmn.rest.DMNBulkEvaluation;
 import org.kie.kogito.dmn.rest.DMNEvaluationErrorException;
 import org.kie.kogito.dmn.rest.DMNJSONUtils;
 import org.kie.kogito.dmn.rest.KogitoDMNResult;
@@ -75,6 +77,14 @@ public class DMNRestResourceTemplate {
         return enrichResponseHeaders(decisionResult, $extractContextMethod$(result));
     }
 
+    @PostMapping(value = DMNBulkEvaluation.PATH, produces = DMNBulkEvaluation.NDJSON, consumes = DMNBulkEvaluation.NDJSON)
+    @io.swagger.v3.oas.annotations.Operation(operationId ="evaluateDmnBulk_$modelName$", summary = "It evaluates the $modelName$ DMN Model for each input of a newline delimited JSON stream")
+    public ResponseEntity<org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody> dmn_bulk(InputStream body) {
+        org.kie.kogito.decision.DecisionModel decision = application.get(org.kie.kogito.decision.DecisionModels.class).getDecisionModel("$modelNamespace$", "$modelName$");
+        BulkEvaluationExecutor executor = BulkEvaluationExecutor.of(application.config().get(org.kie.kogito.decision.DecisionConfig.class));
+        return ResponseEntity.ok(output -> DMNBulkEvaluation.evaluate(decision, null, executor, body, output, objectMapper));
+    }
+
     @GetMapping(produces = MediaType.APPLICATION_XML_VALUE)
     @io.swagger.v3.oas.annotations.Operation(operationId ="getDmn_$modelName$", summary = "Get the DMN $modelName$ model file")
     public String dmn() throws java.io.IOException {
@@ -27,8 +27,11 @@ import java.util.stream.Stream;
 
 import jakarta.enterprise.inject.Instance;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.kogito.decision.DecisionCacheConfig;
 import org.kie.kogito.decision.DecisionEventListenerConfig;
+import org.kie.kogito.dmn.BulkEvaluationExecutor;
 import org.kie.kogito.dmn.config.AbstractDecisionConfig;
 import org.kie.kogito.rules.RuleEventListenerConfig;
 
@@ -38,8 +41,11 @@ class DecisionConfig extends AbstractDecisionConfig {
     @jakarta.inject.Inject
     public DecisionConfig(
             Instance<DecisionEventListenerConfig> decisionEventListenerConfigs,
-            Instance<DMNRuntimeEventListener> dmnRuntimeEventListeners) {
-        super(decisionEventListenerConfigs, dmnRuntimeEventListeners);
+            Instance<DMNRuntimeEventListener> dmnRuntimeEventListeners,
+            @ConfigProperty(name = DecisionCacheConfig.MAX_SIZE_PROPERTY, defaultValue = "0") int cacheMaxSize,
+            @ConfigProperty(name = DecisionCacheConfig.TTL_MILLIS_PROPERTY, defaultValue = "600000") long cacheTtlMillis,
+            @ConfigProperty(name = BulkEvaluationExecutor.PARALLELISM_PROPERTY, defaultValue = "0") int bulkParallelism) {
+        super(decisionEventListenerConfigs, dmnRuntimeEventListeners, DecisionCacheConfig.of(cacheMaxSize, cacheTtlMillis), bulkParallelism);
     }
 
 }
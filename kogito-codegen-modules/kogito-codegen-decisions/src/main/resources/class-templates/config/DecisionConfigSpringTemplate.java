@@ -26,7 +26,9 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.kogito.decision.DecisionCacheConfig;
 import org.kie.kogito.decision.DecisionEventListenerConfig;
+import org.kie.kogito.dmn.BulkEvaluationExecutor;
 import org.kie.kogito.dmn.config.AbstractDecisionConfig;
 import org.kie.kogito.rules.RuleEventListenerConfig;
 
@@ -36,8 +38,11 @@ class DecisionConfig extends AbstractDecisionConfig {
     @org.springframework.beans.factory.annotation.Autowired
     public DecisionConfig(
             List<DecisionEventListenerConfig> decisionEventListenerConfigs,
-            List<DMNRuntimeEventListener> dmnRuntimeEventListeners) {
-        super(decisionEventListenerConfigs, dmnRuntimeEventListeners);
+            List<DMNRuntimeEventListener> dmnRuntimeEventListeners,
+            @org.springframework.beans.factory.annotation.Value("${" + DecisionCacheConfig.MAX_SIZE_PROPERTY + ":0}") int cacheMaxSize,
+            @org.springframework.beans.factory.annotation.Value("${" + DecisionCacheConfig.TTL_MILLIS_PROPERTY + ":600000}") long cacheTtlMillis,
+            @org.springframework.beans.factory.annotation.Value("${" + BulkEvaluationExecutor.PARALLELISM_PROPERTY + ":0}") int bulkParallelism) {
+        super(decisionEventListenerConfigs, dmnRuntimeEventListeners, DecisionCacheConfig.of(cacheMaxSize, cacheTtlMillis), bulkParallelism);
     }
 
 }
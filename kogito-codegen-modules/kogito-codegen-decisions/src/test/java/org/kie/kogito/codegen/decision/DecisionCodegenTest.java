@@ -362,6 +362,11 @@ public class DecisionCodegenTest {
                 .map(x -> x.findFirst(ReturnStmt.class).orElseThrow(() -> new NoSuchElementException("Could not find return statement")))
                 .map(x -> x.findFirst(MethodCallExpr.class).orElseThrow(() -> new NoSuchElementException("Could not find method call")))
                 .forEach(x -> assertThat(x.getNameAsString()).isEqualTo("buildDMNResultResponse"));
+        List<String> methodNames = compilationUnit.findAll(MethodDeclaration.class).stream().map(MethodDeclaration::getNameAsString).collect(Collectors.toList());
+        assertThat(methodNames).contains("dmn_bulk");
+        methodNames.stream()
+                .filter(name -> name.startsWith("decisionService_") && !name.endsWith("_dmnresult") && !name.endsWith("_bulk"))
+                .forEach(name -> assertThat(methodNames).contains(name + "_bulk"));
     }
 
     protected DecisionCodegen getDecisionCodegen(String sourcePath, KogitoBuildContext.Builder contextBuilder) {
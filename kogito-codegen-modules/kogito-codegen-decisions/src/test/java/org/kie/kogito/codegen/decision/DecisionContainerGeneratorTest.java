@@ -126,6 +126,17 @@ class DecisionContainerGeneratorTest {
         assertThat(((BooleanLiteralExpr) retrieved).getValue()).isEqualTo(enableRuntimeTypeCheckOption);
     }
 
+    @ParameterizedTest
+    @MethodSource("booleans")
+    void setupBackgroundInitialization(boolean backgroundInitialization) {
+        assertThat(initMethod.getArguments()).isEmpty();
+        DecisionContainerGenerator.setupBackgroundInitialization(initMethod, backgroundInitialization);
+        assertThat(initMethod.getArguments()).hasSize(1);
+        Expression retrieved = initMethod.getArguments().get(0);
+        assertThat(retrieved).isInstanceOf(BooleanLiteralExpr.class);
+        assertThat(((BooleanLiteralExpr) retrieved).getValue()).isEqualTo(backgroundInitialization);
+    }
+
     static Stream<Boolean> booleans() {
         return Stream.of(true, false);
     }
@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.drools.codegen.common.GeneratedFile;
@@ -119,6 +120,8 @@ public class ProcessCodegen extends AbstractGenerator {
 
     private static final String IS_BUSINESS_CALENDAR_PRESENT = "isBusinessCalendarPresent";
     private static final String RECORD_NODES_IO_GLOBAL_PROPERTY = "kogito.processes.nodes.record-io";
+    // opt-in until the BPMN semantic module handlers, shared by every parser, are known to be thread safe
+    static final String PARALLEL_PROPERTY = "kogito.codegen.process.parallel";
 
     static {
         ProcessValidatorRegistry.getInstance().registerAdditonalValidator(JavaRuleFlowProcessValidator.getInstance());
@@ -131,7 +134,7 @@ public class ProcessCodegen extends AbstractGenerator {
 
     public static ProcessCodegen ofCollectedResources(KogitoBuildContext context, Collection<CollectedResource> resources) {
         Map<String, byte[]> processSVGMap = new HashMap<>();
-        Map<String, Throwable> processesErrors = new HashMap<>();
+        Map<String, Throwable> processesErrors = Collections.synchronizedMap(new HashMap<>());
         boolean useSvgAddon = context.getAddonsConfig().useProcessSVG();
         final List<GeneratedInfo<KogitoWorkflowProcess>> processes = getGeneratedInfoForProcesses(context, resources,
                 useSvgAddon,
@@ -154,28 +157,63 @@ public class ProcessCodegen extends AbstractGenerator {
             boolean useSvgAddon,
             Map<String, byte[]> processSVGMap,
             Map<String, Throwable> processesErrors) {
-        return resources.stream()
+        // parsing and validation of each file are independent, so they can run in parallel
+        boolean parallel = context.getApplicationProperty(PARALLEL_PROPERTY, Boolean.class).orElse(false);
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        List<Resource> bpmnResources = resources.stream()
                 .map(CollectedResource::resource)
-                .flatMap(resource -> {
-                    try {
-                        if (SupportedExtensions.getBPMNExtensions().stream().anyMatch(resource.getSourcePath()::endsWith)) {
-                            Collection<Process> p = parseProcessFile(resource);
-                            notifySourceFileCodegenBindListeners(context, resource, p);
-                            if (useSvgAddon) {
-                                processSVG(resource, resources, p, processSVGMap);
-                            }
-                            return p.stream().map(KogitoWorkflowProcess.class::cast).map(GeneratedInfo::new).map(info -> addResource(info, resource));
-                        }
-                    } catch (ValidationException e) {
-                        processesErrors.put(resource.getSourcePath(), e);
-                    } catch (ProcessParsingException e) {
-                        processesErrors.put(resource.getSourcePath(), e.getCause());
-                    }
-                    return Stream.empty();
-                })
-                //Validate parsed processes
-                .map(processInfo -> validate(processInfo, processesErrors))
+                .filter(resource -> SupportedExtensions.getBPMNExtensions().stream().anyMatch(resource.getSourcePath()::endsWith))
+                .collect(toList());
+        List<Collection<Process>> parsedProcesses = stream(bpmnResources, parallel)
+                .map(resource -> withContextClassLoader(classLoader, () -> parseProcessFile(resource, processesErrors)))
                 .collect(toList());
+
+        // listeners and svg lookup are not meant to be called concurrently
+        List<GeneratedInfo<KogitoWorkflowProcess>> processes = new ArrayList<>();
+        for (int i = 0; i < bpmnResources.size(); i++) {
+            Resource resource = bpmnResources.get(i);
+            Collection<Process> p = parsedProcesses.get(i);
+            if (p.isEmpty()) {
+                continue;
+            }
+            notifySourceFileCodegenBindListeners(context, resource, p);
+            if (useSvgAddon) {
+                processSVG(resource, resources, p, processSVGMap);
+            }
+            p.stream().map(KogitoWorkflowProcess.class::cast).map(GeneratedInfo::new).map(info -> addResource(info, resource)).forEach(processes::add);
+        }
+
+        //Validate parsed processes
+        return stream(processes, parallel)
+                .map(processInfo -> withContextClassLoader(classLoader, () -> validate(processInfo, processesErrors)))
+                .collect(toList());
+    }
+
+    private static Collection<Process> parseProcessFile(Resource resource, Map<String, Throwable> processesErrors) {
+        try {
+            return parseProcessFile(resource);
+        } catch (ValidationException e) {
+            processesErrors.put(resource.getSourcePath(), e);
+        } catch (ProcessParsingException e) {
+            processesErrors.put(resource.getSourcePath(), e.getCause());
+        }
+        return Collections.emptyList();
+    }
+
+    private static <T> Stream<T> stream(Collection<T> items, boolean parallel) {
+        return parallel ? items.parallelStream() : items.stream();
+    }
+
+    private static <T> T withContextClassLoader(ClassLoader classLoader, Supplier<T> action) {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return action.get();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
     }
 
     private static GeneratedInfo<KogitoWorkflowProcess> addResource(GeneratedInfo<KogitoWorkflowProcess> info, Resource r) {
@@ -281,6 +319,7 @@ public class ProcessCodegen extends AbstractGenerator {
 
     private final Map<String, KogitoWorkflowProcess> processes;
     private final Set<GeneratedFile> generatedFiles = new HashSet<>();
+    private final Set<String> generatedFilePaths = new HashSet<>();
 
     protected ProcessCodegen(KogitoBuildContext context, Collection<GeneratedInfo<KogitoWorkflowProcess>> processes) {
         super(context, GENERATOR_NAME, new ProcessConfigGenerator(context));
@@ -292,7 +331,7 @@ public class ProcessCodegen extends AbstractGenerator {
                                 process.info().getId(),
                                 process.info().getType().toLowerCase()));
             }
-            generatedFiles.addAll(process.files());
+            process.files().forEach(this::addGeneratedFile);
             this.processes.put(process.info().getId(), process.info());
         }
     }
@@ -579,7 +618,7 @@ public class ProcessCodegen extends AbstractGenerator {
                     context().getGAV().orElse(KogitoGAV.EMPTY_GAV),
                     false);
             String globalDbName = buildDashboardName(context().getGAV(), "Global");
-            globalDbJson.ifPresent(dashboard -> generatedFiles.addAll(DashboardGeneratedFileUtils.operational(dashboard, globalDbName + ".json")));
+            globalDbJson.ifPresent(dashboard -> DashboardGeneratedFileUtils.operational(dashboard, globalDbName + ".json").forEach(this::addGeneratedFile));
             for (KogitoWorkflowProcess process : processes.values()) {
                 String dbName = buildDashboardName(context().getGAV(), process.getId());
                 Optional<String> dbJson = generateOperationalDashboard(PROCESS_OPERATIONAL_DASHBOARD_TEMPLATE,
@@ -588,7 +627,7 @@ public class ProcessCodegen extends AbstractGenerator {
                         process.getId(),
                         context().getGAV().orElse(KogitoGAV.EMPTY_GAV),
                         false);
-                dbJson.ifPresent(dashboard -> generatedFiles.addAll(DashboardGeneratedFileUtils.operational(dashboard, dbName + ".json")));
+                dbJson.ifPresent(dashboard -> DashboardGeneratedFileUtils.operational(dashboard, dbName + ".json").forEach(this::addGeneratedFile));
             }
         }
 
@@ -618,21 +657,26 @@ public class ProcessCodegen extends AbstractGenerator {
     }
 
     private void storeFile(GeneratedFileType type, String path, String source) {
-        if (generatedFiles.stream().anyMatch(f -> path.equals(f.relativePath()))) {
+        if (generatedFilePaths.contains(path)) {
             LOGGER.warn("There is already a generated file named {} to be compiled. Ignoring.", path);
         } else {
-            generatedFiles.add(new GeneratedFile(type, path, source));
+            addGeneratedFile(new GeneratedFile(type, path, source));
         }
     }
 
     private void storeFile(GeneratedFileType type, String path, byte[] source) {
-        if (generatedFiles.stream().anyMatch(f -> path.equals(f.relativePath()))) {
+        if (generatedFilePaths.contains(path)) {
             LOGGER.warn("There is already a generated file named {} to be compiled. Ignoring.", path);
         } else {
-            generatedFiles.add(new GeneratedFile(type, path, source));
+            addGeneratedFile(new GeneratedFile(type, path, source));
         }
     }
 
+    private void addGeneratedFile(GeneratedFile generatedFile) {
+        generatedFiles.add(generatedFile);
+        generatedFilePaths.add(generatedFile.relativePath());
+    }
+
     @Override
     public boolean isEmpty() {
         return processes.isEmpty();
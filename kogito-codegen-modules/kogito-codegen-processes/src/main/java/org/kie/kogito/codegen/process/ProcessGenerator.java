@@ -20,17 +20,33 @@ package org.kie.kogito.codegen.process;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.lang.model.SourceVersion;
 
 import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
 import org.jbpm.compiler.canonical.ProcessMetaData;
 import org.jbpm.compiler.canonical.TriggerMetaData;
+import org.jbpm.process.core.event.EventTypeFilter;
+import org.jbpm.ruleflow.core.RuleFlowProcess;
+import org.jbpm.util.PatternConstants;
+import org.jbpm.workflow.core.node.DynamicNode;
+import org.jbpm.workflow.core.node.EventNode;
+import org.jbpm.workflow.core.node.EventSubProcessNode;
+import org.jbpm.workflow.core.node.EventTrigger;
+import org.jbpm.workflow.core.node.MilestoneNode;
+import org.jbpm.workflow.core.node.RuleSetNode;
+import org.jbpm.workflow.core.node.StartNode;
+import org.jbpm.workflow.core.node.StateNode;
+import org.jbpm.workflow.core.node.Trigger;
+import org.kie.api.definition.process.Node;
 import org.kie.api.definition.process.Process;
 import org.kie.api.runtime.process.WorkflowProcessInstance;
 import org.kie.kogito.Model;
@@ -42,6 +58,7 @@ import org.kie.kogito.internal.process.runtime.KogitoWorkflowProcess;
 import org.kie.kogito.process.ProcessInstancesFactory;
 import org.kie.kogito.process.Processes;
 import org.kie.kogito.process.impl.AbstractProcess;
+import org.kie.kogito.process.impl.ProcessDescriptor;
 
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.Modifier;
@@ -57,9 +74,11 @@ import com.github.javaparser.ast.expr.AssignExpr;
 import com.github.javaparser.ast.expr.AssignExpr.Operator;
 import com.github.javaparser.ast.expr.CastExpr;
 import com.github.javaparser.ast.expr.ClassExpr;
+import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.FieldAccessExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
 import com.github.javaparser.ast.expr.ObjectCreationExpr;
 import com.github.javaparser.ast.expr.SimpleName;
 import com.github.javaparser.ast.expr.StringLiteralExpr;
@@ -86,6 +105,7 @@ public class ProcessGenerator {
     private static final String WPI = "wpi";
     private static final String FACTORY = "factory";
     private static final String CORRELATIONS = "correlations";
+    private static final String LAZY_ACTIVATION_PROPERTY = "kogito.codegen.process.lazy-activation";
 
     private final String packageName;
     private final KogitoWorkflowProcess process;
@@ -337,6 +357,82 @@ public class ProcessGenerator {
         return Optional.empty();
     }
 
+    private MethodCallExpr activateMethod(ProcessMetaData processMetaData) {
+        boolean lazy = context.getApplicationProperty(LAZY_ACTIVATION_PROPERTY, Boolean.class).orElse(false);
+        // timer start events and subprocess completion listeners have to be registered at startup
+        if (!lazy || !(process instanceof RuleFlowProcess ruleFlowProcess) || !ruleFlowProcess.getTimerStart().isEmpty() || !processMetaData.getSubProcesses().isEmpty()) {
+            return new MethodCallExpr("activate");
+        }
+        MethodCallExpr startEventTypes = new MethodCallExpr(new NameExpr("java.util.List"), "of");
+        startEventTypes(ruleFlowProcess).forEach(type -> startEventTypes.addArgument(new StringLiteralExpr(type)));
+        ObjectCreationExpr descriptor = new ObjectCreationExpr(null, new ClassOrInterfaceType(null, ProcessDescriptor.class.getCanonicalName()), NodeList.nodeList(
+                stringLiteralOrNull(process.getId()),
+                stringLiteralOrNull(process.getName()),
+                stringLiteralOrNull(process.getVersion()),
+                stringLiteralOrNull(process.getType()),
+                startEventTypes,
+                eventTypesOrNull(awaitedEventTypes(ruleFlowProcess))));
+        return new MethodCallExpr("activateLazily").addArgument(descriptor);
+    }
+
+    /**
+     * Event types the instances of the process can register for, or <code>null</code> when some of them are
+     * only known at runtime (variable expressions, state and ad hoc nodes, rule sets, milestones).
+     */
+    private static Set<String> awaitedEventTypes(RuleFlowProcess process) {
+        Set<String> types = new LinkedHashSet<>();
+        types.add("RuleFlowStateEvent-" + process.getId());
+        for (Node node : process.getNodesRecursively()) {
+            if (node instanceof StateNode || node instanceof DynamicNode || node instanceof RuleSetNode || node instanceof MilestoneNode) {
+                return null;
+            }
+            List<String> nodeTypes = List.of();
+            if (node instanceof EventNode eventNode) {
+                nodeTypes = Collections.singletonList(eventNode.getType());
+            } else if (node instanceof EventSubProcessNode eventSubProcessNode) {
+                nodeTypes = eventSubProcessNode.getEvents();
+            }
+            for (String type : nodeTypes) {
+                if (type == null || PatternConstants.PARAMETER_MATCHER.matcher(type).find()) {
+                    return null;
+                }
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    private static Expression eventTypesOrNull(Set<String> types) {
+        if (types == null) {
+            return new NullLiteralExpr();
+        }
+        MethodCallExpr eventTypes = new MethodCallExpr(new NameExpr("java.util.List"), "of");
+        types.forEach(type -> eventTypes.addArgument(new StringLiteralExpr(type)));
+        return eventTypes;
+    }
+
+    private static Set<String> startEventTypes(RuleFlowProcess process) {
+        Set<String> types = new LinkedHashSet<>();
+        for (Node node : process.getNodes()) {
+            if (node instanceof StartNode startNode && startNode.getTriggers() != null) {
+                for (Trigger trigger : startNode.getTriggers()) {
+                    if (trigger instanceof EventTrigger eventTrigger) {
+                        eventTrigger.getEventFilters().stream()
+                                .filter(EventTypeFilter.class::isInstance)
+                                .map(filter -> ((EventTypeFilter) filter).getType())
+                                .reduce((first, second) -> second)
+                                .ifPresent(types::add);
+                    }
+                }
+            }
+        }
+        return types;
+    }
+
+    private static Expression stringLiteralOrNull(String value) {
+        return value == null ? new NullLiteralExpr() : new StringLiteralExpr(value);
+    }
+
     private Optional<MethodDeclaration> internalRegisterListeners(ProcessMetaData processMetaData) {
         if (!processMetaData.getSubProcesses().isEmpty()) {
             BlockStmt body = new BlockStmt();
@@ -389,7 +485,7 @@ public class ProcessGenerator {
 
         constructor.setBody(new BlockStmt()
                 .addStatement(superMethod)
-                .addStatement(new MethodCallExpr("activate")));
+                .addStatement(activateMethod(processMetaData)));
 
         if (context.hasDI()) {
             context.getDependencyInjectionAnnotator().withNamedApplicationComponent(cls, process.getId());
@@ -19,12 +19,12 @@
 package org.kie.kogito.codegen.process;
 
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
 
 import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
 import org.jbpm.compiler.canonical.ModelMetaData;
 import org.kie.api.runtime.process.ProcessRuntime;
 import org.kie.api.runtime.process.WorkflowProcessInstance;
+import org.kie.kogito.ModelBinder;
 import org.kie.kogito.codegen.core.BodyDeclarationComparator;
 import org.kie.kogito.correlation.CompositeCorrelation;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
@@ -34,16 +34,12 @@ import com.github.javaparser.ast.Modifier;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.ConstructorDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
-import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
-import com.github.javaparser.ast.expr.NullLiteralExpr;
-import com.github.javaparser.ast.expr.ObjectCreationExpr;
 import com.github.javaparser.ast.stmt.BlockStmt;
-import com.github.javaparser.ast.stmt.IfStmt;
 import com.github.javaparser.ast.stmt.ReturnStmt;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
-import com.github.javaparser.ast.type.VoidType;
 
 public class ProcessInstanceGenerator {
 
@@ -104,47 +100,19 @@ public class ProcessInstanceGenerator {
                 .addMember(constructorWithWorkflowInstanceAndRuntimeDecl())
                 .addMember(constructorWorkflowInstanceDecl())
                 .addMember(constructorWithCorrelationDecl())
-                .addMember(bind())
-                .addMember(unbind());
+                .addMember(modelBinder());
         classDecl.getMembers().sort(new BodyDeclarationComparator());
         return classDecl;
     }
 
-    private MethodDeclaration bind() {
-        String modelName = model.getModelClassSimpleName();
-        BlockStmt body = new BlockStmt()
-                .addStatement(new IfStmt()
-                        .setCondition(new BinaryExpr(new NullLiteralExpr(), new NameExpr("variables"), BinaryExpr.Operator.NOT_EQUALS))
-                        .setThenStmt(new ReturnStmt(model.toMap("variables")))
-                        .setElseStmt(new ReturnStmt(new ObjectCreationExpr().setType(new ClassOrInterfaceType(null, HashMap.class.getCanonicalName())))));
+    private MethodDeclaration modelBinder() {
         return new MethodDeclaration()
                 .setModifiers(Modifier.Keyword.PROTECTED)
-                .setName("bind")
-                .addParameter(modelName, "variables")
-                .setType(new ClassOrInterfaceType()
-                        .setName("java.util.Map")
-                        .setTypeArguments(new ClassOrInterfaceType().setName("String"),
-                                new ClassOrInterfaceType().setName("Object")))
-                .setBody(body);
-
-    }
-
-    private MethodDeclaration unbind() {
-        String modelName = model.getModelClassSimpleName();
-        BlockStmt body = new BlockStmt()
-                .addStatement(model.fromMap("variables", "vmap"));
-
-        return new MethodDeclaration()
-                .setModifiers(Modifier.Keyword.PROTECTED)
-                .setName("unbind")
-                .setType(new VoidType())
-                .addParameter(modelName, "variables")
-                .addParameter(new ClassOrInterfaceType()
-                        .setName("java.util.Map")
-                        .setTypeArguments(new ClassOrInterfaceType().setName("String"),
-                                new ClassOrInterfaceType().setName("Object")),
-                        "vmap")
-                .setBody(body);
+                .setName("modelBinder")
+                .setType(new ClassOrInterfaceType(null, ModelBinder.class.getCanonicalName())
+                        .setTypeArguments(new ClassOrInterfaceType(null, model.getModelClassSimpleName())))
+                .setBody(new BlockStmt().addStatement(new ReturnStmt(
+                        new FieldAccessExpr(new NameExpr(model.getModelClassSimpleName()), ModelMetaData.BINDER_FIELD))));
     }
 
     private ConstructorDeclaration constructorDecl() {
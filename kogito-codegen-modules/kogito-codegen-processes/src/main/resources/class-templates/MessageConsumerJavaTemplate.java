@@ -18,9 +18,6 @@
  */
 package com.myspace.demo;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-
 import org.kie.kogito.Application;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessService;
@@ -35,8 +32,6 @@ public class $Type$MessageConsumer extends AbstractMessageConsumer<$Type$, $Data
 
     boolean useCloudEvents = true;
 
-    ExecutorService executor = Executors.newSingleThreadExecutor();
-    
     ProcessService service;
 
     public void configure() {
@@ -61,6 +61,12 @@ public class ProcessConfig extends org.kie.kogito.process.impl.AbstractProcessCo
                 versionResolver,
                 identityProvider,
                 authTokenProvider,
-                businessCalendar);
+                businessCalendar,
+                configBean);
+    }
+
+    @jakarta.annotation.PreDestroy
+    protected void close() {
+        shutdown();
     }
 }
@@ -91,13 +91,17 @@ public class UserTasksResource {
             @QueryParam("processId") String processId,
             @QueryParam("processInstanceId") String processInstanceId,
             @QueryParam("status") List<String> status,
-            @QueryParam("taskName") String taskName) {
+            @QueryParam("taskName") String taskName,
+            @QueryParam("limit") Integer limit,
+            @QueryParam("cursor") String cursor) {
 
         UserTaskFilter filter = UserTaskFilter.builder()
                 .processId(processId)
                 .processInstanceId(processInstanceId)
                 .taskName(taskName)
                 .statuses(status)
+                .limit(limit)
+                .cursor(cursor)
                 .build();
 
         List<UserTaskView> tasks = userTaskService.listTasks(
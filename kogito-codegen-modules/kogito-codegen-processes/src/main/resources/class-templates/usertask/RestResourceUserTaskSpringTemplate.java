@@ -89,13 +89,17 @@ public class UserTasksResource {
             @RequestParam(value = "processId", required = false) String processId,
             @RequestParam(value = "processInstanceId", required = false) String processInstanceId,
             @RequestParam(value = "status", required = false) List<String> status,
-            @RequestParam(value = "taskName", required = false) String taskName) {
+            @RequestParam(value = "taskName", required = false) String taskName,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
 
         UserTaskFilter filter = UserTaskFilter.builder()
                 .processId(processId)
                 .processInstanceId(processInstanceId)
                 .taskName(taskName)
                 .statuses(status)
+                .limit(limit)
+                .cursor(cursor)
                 .build();
 
         List<UserTaskView> tasks = userTaskService.listTasks(
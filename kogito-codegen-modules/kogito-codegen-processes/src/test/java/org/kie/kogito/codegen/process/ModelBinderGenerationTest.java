@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.codegen.process;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jbpm.compiler.canonical.ModelMetaData;
+import org.jbpm.compiler.canonical.ProcessToExecModelGenerator;
+import org.jbpm.process.core.datatype.impl.type.BooleanDataType;
+import org.jbpm.process.core.datatype.impl.type.IntegerDataType;
+import org.jbpm.process.core.datatype.impl.type.ObjectDataType;
+import org.jbpm.ruleflow.core.RuleFlowProcessFactory;
+import org.jbpm.ruleflow.core.WorkflowElementIdentifierFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kie.api.definition.process.WorkflowProcess;
+import org.kie.kogito.MapInputId;
+import org.kie.kogito.Model;
+import org.kie.kogito.ModelBinder;
+import org.kie.memorycompiler.KieMemoryCompiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Compiles the models generated for a process and runs their binders.
+ */
+public class ModelBinderGenerationTest {
+
+    private static Class<?> modelClass;
+    private static Class<?> inputClass;
+
+    @BeforeAll
+    public static void compileModels() {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("demo.orders");
+        factory
+                .variable("count", new IntegerDataType())
+                .variable("approved", new BooleanDataType())
+                .variable("items", new ObjectDataType("java.util.List<java.lang.String>"))
+                .variable("scores", new ObjectDataType("java.util.Map<java.lang.String, java.lang.Integer>"))
+                .name("orders")
+                .packageName("com.myspace.demo")
+                .dynamic(false)
+                .version("1.0")
+                .startNode(WorkflowElementIdentifierFactory.fromExternalFormat("one"))
+                .name("start")
+                .done()
+                .endNode(WorkflowElementIdentifierFactory.fromExternalFormat("two"))
+                .name("end")
+                .terminate(false)
+                .done()
+                .connection(WorkflowElementIdentifierFactory.fromExternalFormat("one"), WorkflowElementIdentifierFactory.fromExternalFormat("two"));
+        WorkflowProcess process = factory.validate().getProcess();
+
+        ModelMetaData model = ProcessToExecModelGenerator.INSTANCE.generateModel(process);
+        ModelMetaData input = ProcessToExecModelGenerator.INSTANCE.generateInputModel(process);
+        Map<String, String> sources = new HashMap<>();
+        for (ModelMetaData metaData : List.of(model, input, ProcessToExecModelGenerator.INSTANCE.generateOutputModel(process))) {
+            sources.put(metaData.getModelClassName(), metaData.generate());
+        }
+        Map<String, Class<?>> classes = KieMemoryCompiler.compile(sources, ModelBinderGenerationTest.class.getClassLoader());
+        modelClass = classes.get(model.getModelClassName());
+        inputClass = classes.get(input.getModelClassName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ModelBinder<Object> binder(Class<?> clazz) throws ReflectiveOperationException {
+        return (ModelBinder<Object>) clazz.getField(ModelMetaData.BINDER_FIELD).get(null);
+    }
+
+    private static Map<String, Object> values() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("count", 5);
+        values.put("approved", true);
+        values.put("items", List.of("first", "second"));
+        values.put("scores", Map.of("first", 1));
+        return values;
+    }
+
+    @Test
+    public void testBinderCopiesVariables() throws ReflectiveOperationException {
+        Model model = (Model) modelClass.getConstructor().newInstance();
+        ((MapInputId) model).fromMap("instanceId", values());
+
+        assertThat(modelClass.getMethod("getId").invoke(model)).isEqualTo("instanceId");
+        assertThat(modelClass.getMethod("getCount").invoke(model)).isEqualTo(5);
+        assertThat(modelClass.getMethod("getItems").invoke(model)).isEqualTo(List.of("first", "second"));
+        assertThat(model.toMap()).containsExactlyInAnyOrderEntriesOf(values());
+        assertThat(binder(modelClass).toMap(model)).containsExactlyInAnyOrderEntriesOf(values());
+    }
+
+    @Test
+    public void testMissingVariablesAreLeftUntouched() throws ReflectiveOperationException {
+        Model model = (Model) modelClass.getConstructor().newInstance();
+        assertThat(model.toMap()).containsOnlyKeys("count", "approved", "items", "scores");
+        assertThat(model.toMap().values()).containsOnlyNulls();
+
+        model.update(values());
+        Map<String, Object> update = new HashMap<>();
+        update.put("count", 7);
+        update.put("approved", null);
+        model.update(update);
+
+        Map<String, Object> expected = values();
+        expected.put("count", 7);
+        expected.put("approved", null);
+        assertThat(model.toMap()).containsExactlyInAnyOrderEntriesOf(expected);
+    }
+
+    @Test
+    public void testWrongVariableTypeIsRejected() throws ReflectiveOperationException {
+        Model model = (Model) modelClass.getConstructor().newInstance();
+
+        assertThatExceptionOfType(ClassCastException.class).isThrownBy(() -> model.update(Map.of("count", "five")));
+    }
+
+    @Test
+    public void testModelWithoutId() throws ReflectiveOperationException {
+        assertThat(inputClass.getMethods()).extracting("name").doesNotContain("getId", "setId");
+
+        Model input = (Model) inputClass.getConstructor().newInstance();
+        ((MapInputId) input).fromMap("instanceId", values());
+        binder(inputClass).setId(input, "otherId");
+
+        assertThat(input.toMap()).containsExactlyInAnyOrderEntriesOf(values());
+    }
+}
@@ -18,16 +18,19 @@
  */
 package org.kie.kogito.codegen.process;
 
+import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.drools.codegen.common.GeneratedFile;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -127,6 +130,37 @@ class ProcessCodegenTest {
         assertThat(businessCalendarProducer).isEmpty();
     }
 
+    @Test
+    public void parallelParsingGeneratesTheSameFiles() {
+        File[] sources = Stream.of("ProcessWithDocumentation.bpmn",
+                "ProcessWithoutDocumentation.bpmn",
+                "usertask/approval.bpmn2",
+                MESSAGE_USERTASK_SOURCE,
+                "messageevent/IntermediateThrowEventMessage.bpmn2",
+                "messageevent/BoundaryMessageEventOnTask.bpmn2",
+                "messageevent/IntermediateCatchEventMessage.bpmn2",
+                "signalevent/BoundarySignalEventOnTask.bpmn2",
+                "startsignal/StartSignalEventStringPayload.bpmn2",
+                "startsignal/StartSignalEventNoPayload.bpmn2")
+                .map(BASE_PATH::resolve)
+                .map(Path::toFile)
+                .toArray(File[]::new);
+
+        Map<String, String> sequential = generate(false, sources);
+        // repeated to give a race between the parsers sharing the semantic modules a chance to show up
+        for (int i = 0; i < 5; i++) {
+            assertThat(generate(true, sources)).isEqualTo(sequential);
+        }
+    }
+
+    private static Map<String, String> generate(boolean parallel, File... sources) {
+        Properties properties = new Properties();
+        properties.put(ProcessCodegen.PARALLEL_PROPERTY, String.valueOf(parallel));
+        KogitoBuildContext context = JavaKogitoBuildContext.builder().withApplicationProperties(properties).build();
+        return ProcessCodegen.ofCollectedResources(context, CollectedResourceProducer.fromFiles(BASE_PATH, sources)).generate().stream()
+                .collect(Collectors.toMap(GeneratedFile::relativePath, file -> new String(file.contents())));
+    }
+
     private List<GeneratedFile> generateTestDashboards(ProcessCodegen codeGenerator, int expectedDashboards) {
         Collection<GeneratedFile> generatedFiles = codeGenerator.generate();
         List<GeneratedFile> dashboards = generatedFiles.stream()
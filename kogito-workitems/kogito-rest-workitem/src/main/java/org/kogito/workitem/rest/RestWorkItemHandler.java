@@ -21,14 +21,17 @@ package org.kogito.workitem.rest;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -39,12 +42,19 @@ import org.jbpm.util.ContextFactory;
 import org.jbpm.workflow.core.node.WorkItemNode;
 import org.jbpm.workflow.instance.NodeInstance;
 import org.jbpm.workflow.instance.node.WorkItemNodeInstance;
+import org.kie.kogito.internal.process.runtime.KogitoProcessContext;
 import org.kie.kogito.internal.process.workitem.KogitoWorkItem;
 import org.kie.kogito.internal.process.workitem.KogitoWorkItemHandler;
 import org.kie.kogito.internal.process.workitem.KogitoWorkItemManager;
+import org.kie.kogito.internal.process.workitem.WorkItemExecutionException;
 import org.kie.kogito.internal.process.workitem.WorkItemRecordParameters;
 import org.kie.kogito.internal.process.workitem.WorkItemTransition;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.Processes;
 import org.kie.kogito.process.workitems.impl.DefaultKogitoWorkItemHandler;
+import org.kie.kogito.services.uow.BaseWorkUnit;
+import org.kie.kogito.services.uow.UnitOfWorkExecutor;
+import org.kie.kogito.uow.WorkUnit;
 import org.kogito.workitem.rest.auth.ApiKeyAuthDecorator;
 import org.kogito.workitem.rest.auth.AuthDecorator;
 import org.kogito.workitem.rest.auth.BasicAuthDecorator;
@@ -62,7 +72,9 @@ import org.kogito.workitem.rest.resulthandlers.RestWorkItemHandlerResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.smallrye.mutiny.TimeoutException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.mutiny.core.buffer.Buffer;
 import io.vertx.mutiny.ext.web.client.HttpRequest;
@@ -97,9 +109,15 @@ public class RestWorkItemHandler extends DefaultKogitoWorkItemHandler {
     private static final String HTTPS_PROTOCOL = "https";
 
     public static final String REQUEST_TIMEOUT_IN_MILLIS = "RequestTimeout";
+    public static final String ASYNC = "Async";
+    public static final String MAX_RETRIES = "MaxRetries";
+    public static final String RETRY_DELAY_IN_MILLIS = "RetryDelay";
+    public static final String MAX_IN_FLIGHT = "MaxInFlight";
 
     public static final int DEFAULT_PORT = 80;
     public static final int DEFAULT_SSL_PORT = 443;
+    public static final int DEFAULT_MAX_IN_FLIGHT = 16;
+    public static final long DEFAULT_RETRY_DELAY_IN_MILLIS = 100L;
 
     private static final Logger logger = LoggerFactory.getLogger(RestWorkItemHandler.class);
     private static final RestWorkItemHandlerResult DEFAULT_RESULT_HANDLER = new DefaultRestWorkItemHandlerResult();
@@ -119,6 +137,7 @@ public class RestWorkItemHandler extends DefaultKogitoWorkItemHandler {
     protected final WebClient httpClient;
     protected final WebClient httpsClient;
     private Collection<RequestDecorator> requestDecorators;
+    private final Map<String, InFlightRequests> inFlightRequests = new ConcurrentHashMap<>();
 
     public RestWorkItemHandler(WebClient httpClient, WebClient httpsClient) {
         this.httpClient = httpClient;
@@ -149,6 +168,17 @@ public class RestWorkItemHandler extends DefaultKogitoWorkItemHandler {
         ParamsDecorator paramsDecorator = getClassParam(parameters, PARAMS_DECORATOR, ParamsDecorator.class, DEFAULT_PARAMS_DECORATOR, paramsDecorators);
         PathParamResolver pathParamResolver = getClassParam(parameters, PATH_PARAM_RESOLVER, PathParamResolver.class, DEFAULT_PATH_PARAM_RESOLVER, pathParamsResolvers);
         Collection<? extends AuthDecorator> authDecorators = getClassListParam(parameters, AUTH_METHOD, AuthDecorator.class, DEFAULT_AUTH_DECORATORS, authDecoratorsMap);
+        boolean async = getParam(parameters, ASYNC, Boolean.class, Boolean.FALSE);
+        int maxRetries = getParam(parameters, MAX_RETRIES, Integer.class, 0);
+        Duration retryDelay = Duration.ofMillis(getParam(parameters, RETRY_DELAY_IN_MILLIS, Long.class, DEFAULT_RETRY_DELAY_IN_MILLIS));
+        int maxInFlight = getParam(parameters, MAX_IN_FLIGHT, Integer.class, DEFAULT_MAX_IN_FLIGHT);
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Parameter " + MAX_IN_FLIGHT + " must be greater than zero, it is " + maxInFlight);
+        }
+        if (async && application == null) {
+            // the response completes the work item through the application, a blocking call is not what was asked for
+            throw new IllegalStateException("Parameter " + ASYNC + " requires the handler to be bound to an application");
+        }
 
         logger.debug("Filtered parameters are {}", parameters);
         // create request
@@ -196,7 +226,22 @@ public class RestWorkItemHandler extends DefaultKogitoWorkItemHandler {
         authDecorators.forEach(d -> d.decorate(workItem, parameters, request));
         paramsDecorator.decorate(workItem, parameters, request);
         Duration requestTimeout = getRequestTimeout(parameters);
-        HttpResponse<Buffer> response = method.equals(HttpMethod.POST) || method.equals(HttpMethod.PUT) || method.equals(HttpMethod.PATCH)
+        boolean hasBody = method.equals(HttpMethod.POST) || method.equals(HttpMethod.PUT) || method.equals(HttpMethod.PATCH);
+        if (async) {
+            Uni<HttpResponse<Buffer>> uni = hasBody ? sendBodyAsync(request, bodyBuilder.apply(parameters)) : request.send();
+            // server errors are retried like connection failures
+            uni = uni.onItem().transform(RestWorkItemHandler::checkServerError);
+            if (requestTimeout != null) {
+                uni = uni.ifNoItem().after(requestTimeout).fail();
+            }
+            if (maxRetries > 0) {
+                uni = uni.onFailure().retry().withBackOff(retryDelay).atMost(maxRetries);
+            }
+            sendAsync(workItem, uni, resultHandler, targetInfo, maxInFlight);
+            // work item stays active until the response arrives
+            return Optional.empty();
+        }
+        HttpResponse<Buffer> response = hasBody
                 ? sendBody(request, bodyBuilder.apply(parameters), requestTimeout)
                 : send(request, requestTimeout);
         Object outputParams = resultHandler.apply(response, targetInfo, ContextFactory.fromItem(workItem));
@@ -204,6 +249,108 @@ public class RestWorkItemHandler extends DefaultKogitoWorkItemHandler {
                 Collections.singletonMap(RESULT, outputParams)));
     }
 
+    /**
+     * The request is fired once the current unit of work ends, so the process instance state holding the active work item
+     * is stored before the response can complete it. The response is handled on a worker thread, completing (or failing)
+     * the work item through the process instance API within its own unit of work.
+     * At most <code>maxInFlight</code> requests of a process instance are running, the others wait in order for a free slot.
+     */
+    private void sendAsync(KogitoWorkItem workItem, Uni<HttpResponse<Buffer>> request, RestWorkItemHandlerResult resultHandler, Class<?> targetInfo, int maxInFlight) {
+        String processId = workItem.getProcessInstance().getProcessId();
+        String processInstanceId = workItem.getProcessInstanceStringId();
+        KogitoProcessContext context = ContextFactory.fromItem(workItem);
+        application.unitOfWorkManager().currentUnitOfWork().intercept(new BaseWorkUnit<>(workItem.getStringId(),
+                workItemId -> dispatch(processInstanceId, maxInFlight, () -> request.emitOn(Infrastructure.getDefaultWorkerPool()).subscribe().with(
+                        response -> {
+                            try {
+                                Object outputParams = resultHandler.apply(response, targetInfo, context);
+                                executeInProcessInstance(processId, processInstanceId, pi -> pi.completeWorkItem(workItemId, Collections.singletonMap(RESULT, outputParams)));
+                            } catch (RuntimeException e) {
+                                failWorkItem(processId, processInstanceId, workItemId, e);
+                            } finally {
+                                releaseInFlight(processInstanceId);
+                            }
+                        },
+                        error -> {
+                            try {
+                                failWorkItem(processId, processInstanceId, workItemId, error);
+                            } finally {
+                                releaseInFlight(processInstanceId);
+                            }
+                        })),
+                workItemId -> {
+                }, WorkUnit.LOW_PRIORITY));
+    }
+
+    private static HttpResponse<Buffer> checkServerError(HttpResponse<Buffer> response) {
+        if (response.statusCode() >= 500) {
+            throw new WorkItemExecutionException(Integer.toString(response.statusCode()), "Request failed with message: " + response.statusMessage());
+        }
+        return response;
+    }
+
+    private void failWorkItem(String processId, String processInstanceId, String workItemId, Throwable error) {
+        logger.warn("Asynchronous request of work item {} in process instance {} failed", workItemId, processInstanceId, error);
+        RuntimeException exception;
+        if (error instanceof TimeoutException) {
+            exception = new WorkItemExecutionException("408", "Request timed out", error);
+        } else if (error instanceof RuntimeException runtimeException) {
+            exception = runtimeException;
+        } else {
+            exception = new WorkItemExecutionException("500", error);
+        }
+        executeInProcessInstance(processId, processInstanceId, pi -> pi.updateWorkItem(workItemId, item -> {
+            ((WorkItemNodeInstance) item.getNodeInstance()).workItemFailed(exception);
+            return null;
+        }));
+    }
+
+    private void executeInProcessInstance(String processId, String processInstanceId, Consumer<ProcessInstance<?>> action) {
+        UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> {
+            application.get(Processes.class).processById(processId).instances().findById(processInstanceId)
+                    .ifPresentOrElse(action, () -> logger.warn("Process instance {} not found, discarding response of asynchronous request", processInstanceId));
+            return null;
+        });
+    }
+
+    private void dispatch(String processInstanceId, int maxInFlight, Runnable send) {
+        boolean[] acquired = { false };
+        inFlightRequests.compute(processInstanceId, (id, requests) -> {
+            InFlightRequests current = requests == null ? new InFlightRequests() : requests;
+            if (current.running < maxInFlight) {
+                current.running++;
+                acquired[0] = true;
+            } else {
+                logger.debug("Too many in flight requests for process instance {}, queueing request", processInstanceId);
+                current.queued.add(send);
+            }
+            return current;
+        });
+        if (acquired[0]) {
+            send.run();
+        }
+    }
+
+    private void releaseInFlight(String processInstanceId) {
+        Runnable[] next = { null };
+        inFlightRequests.computeIfPresent(processInstanceId, (id, requests) -> {
+            // a queued request takes over the slot being released
+            next[0] = requests.queued.poll();
+            if (next[0] == null) {
+                requests.running--;
+            }
+            return requests.running == 0 ? null : requests;
+        });
+        if (next[0] != null) {
+            next[0].run();
+        }
+    }
+
+    private static class InFlightRequests {
+        private int running;
+        private final Deque<Runnable> queued = new ArrayDeque<>();
+    }
+
     private boolean isHttps(String protocol) {
         return HTTPS_PROTOCOL.equalsIgnoreCase(protocol);
     }
@@ -213,15 +360,17 @@ public class RestWorkItemHandler extends DefaultKogitoWorkItemHandler {
     }
 
     private static HttpResponse<Buffer> sendBodyTimeout(HttpRequest<Buffer> request, Object body, Duration requestTimeout) {
-        Uni<HttpResponse<Buffer>> uni;
+        return sendBodyAsync(request, body).await().atMost(requestTimeout);
+    }
+
+    private static Uni<HttpResponse<Buffer>> sendBodyAsync(HttpRequest<Buffer> request, Object body) {
         if (body instanceof String string) {
-            uni = request.sendBuffer(Buffer.buffer(string));
+            return request.sendBuffer(Buffer.buffer(string));
         } else if (body instanceof byte[] bytes) {
-            uni = request.sendBuffer(Buffer.buffer(bytes));
+            return request.sendBuffer(Buffer.buffer(bytes));
         } else {
-            uni = request.sendJson(body);
+            return request.sendJson(body);
         }
-        return uni.await().atMost(requestTimeout);
     }
 
     private static HttpResponse<Buffer> sendBody(HttpRequest<Buffer> request, Object body) {
@@ -19,8 +19,13 @@
 package org.kogito.workitem.rest;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jbpm.process.core.Process;
 import org.jbpm.process.core.context.variable.Variable;
@@ -34,10 +39,17 @@ import org.jbpm.workflow.instance.node.WorkItemNodeInstance;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.kie.kogito.Application;
 import org.kie.kogito.internal.process.workitem.KogitoWorkItemManager;
 import org.kie.kogito.internal.process.workitem.WorkItemTransition;
 import org.kie.kogito.jackson.utils.ObjectMapperFactory;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstances;
+import org.kie.kogito.process.Processes;
 import org.kie.kogito.process.workitems.impl.KogitoWorkItemImpl;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.UnitOfWorkManager;
+import org.kie.kogito.uow.WorkUnit;
 import org.kogito.workitem.rest.bodybuilders.DefaultWorkItemHandlerBodyBuilder;
 import org.kogito.workitem.rest.resulthandlers.DefaultRestWorkItemHandlerResult;
 import org.kogito.workitem.rest.resulthandlers.RestWorkItemHandlerResult;
@@ -51,6 +63,8 @@ import org.mockito.quality.Strictness;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.mutiny.core.buffer.Buffer;
 import io.vertx.mutiny.ext.web.client.HttpRequest;
@@ -58,11 +72,15 @@ import io.vertx.mutiny.ext.web.client.HttpResponse;
 import io.vertx.mutiny.ext.web.client.WebClient;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.kogito.workitem.rest.RestWorkItemHandler.BODY_BUILDER;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -299,6 +317,120 @@ public class RestWorkItemHandlerTest {
         assertSSLResult(handler.transitionToPhase(manager, workItem, handler.startingTransition(parameters)));
     }
 
+    @Test
+    public void testAsyncRequestLeavesWorkItemActive() {
+        UnitOfWork unitOfWork = mockApplication();
+        when(request.send()).thenReturn(Uni.createFrom().item(response));
+        parameters.put(RestWorkItemHandler.METHOD, "GET");
+        parameters.put(RestWorkItemHandler.ASYNC, true);
+
+        assertThat(handler.transitionToPhase(manager, workItem, handler.startingTransition(parameters))).isEmpty();
+
+        verify(request, never()).sendAndAwait();
+        verify(unitOfWork).intercept(any(WorkUnit.class));
+    }
+
+    @Test
+    public void testAsyncRequestBeyondInFlightLimitIsQueued() throws InterruptedException {
+        UnitOfWork unitOfWork = mockApplication();
+        ProcessInstance<?> processInstance = mockProcessInstance();
+        List<UniEmitter<? super HttpResponse<Buffer>>> emitters = new CopyOnWriteArrayList<>();
+        Semaphore sent = new Semaphore(0);
+        when(request.send()).thenReturn(Uni.createFrom().emitter(emitter -> {
+            emitters.add(emitter);
+            sent.release();
+        }));
+        parameters.put(RestWorkItemHandler.METHOD, "GET");
+        parameters.put(RestWorkItemHandler.ASYNC, true);
+        parameters.put(RestWorkItemHandler.MAX_IN_FLIGHT, 1);
+
+        assertThat(handler.transitionToPhase(manager, workItem, handler.startingTransition(parameters))).isEmpty();
+        assertThat(handler.transitionToPhase(manager, workItem, handler.startingTransition(parameters))).isEmpty();
+        ArgumentCaptor<WorkUnit> workUnits = ArgumentCaptor.forClass(WorkUnit.class);
+        verify(unitOfWork, times(2)).intercept(workUnits.capture());
+        workUnits.getAllValues().forEach(WorkUnit::perform);
+
+        // second request waits for the first one instead of blocking the caller
+        assertThat(sent.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sent.tryAcquire(100, TimeUnit.MILLISECONDS)).isFalse();
+        verify(request, never()).sendAndAwait();
+
+        emitters.get(0).complete(response);
+        assertThat(sent.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+        emitters.get(1).complete(response);
+        verify(processInstance, timeout(5000).times(2)).completeWorkItem(eq("2"), any());
+    }
+
+    @Test
+    public void testAsyncRequestWithoutInFlightSlotsIsRejected() {
+        mockApplication();
+        parameters.put(RestWorkItemHandler.METHOD, "GET");
+        parameters.put(RestWorkItemHandler.ASYNC, true);
+        parameters.put(RestWorkItemHandler.MAX_IN_FLIGHT, 0);
+
+        assertThatThrownBy(() -> handler.transitionToPhase(manager, workItem, handler.startingTransition(parameters))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testAsyncRequestWithoutApplicationIsRejected() {
+        parameters.put(RestWorkItemHandler.METHOD, "GET");
+        parameters.put(RestWorkItemHandler.ASYNC, true);
+
+        assertThatThrownBy(() -> handler.transitionToPhase(manager, workItem, handler.startingTransition(parameters))).isInstanceOf(IllegalStateException.class);
+        verify(request, never()).sendAndAwait();
+    }
+
+    @Test
+    public void testAsyncRequestServerErrorIsRetriedThenFailsWorkItem() {
+        UnitOfWork unitOfWork = mockApplication();
+        ProcessInstance<?> processInstance = mockProcessInstance();
+        HttpResponse<Buffer> serverError = mock(HttpResponse.class);
+        when(serverError.statusCode()).thenReturn(503);
+        AtomicInteger attempts = new AtomicInteger();
+        when(request.send()).thenReturn(Uni.createFrom().item(() -> {
+            attempts.incrementAndGet();
+            return serverError;
+        }));
+        parameters.put(RestWorkItemHandler.METHOD, "GET");
+        parameters.put(RestWorkItemHandler.ASYNC, true);
+        parameters.put(RestWorkItemHandler.MAX_RETRIES, 2);
+        parameters.put(RestWorkItemHandler.RETRY_DELAY_IN_MILLIS, 1L);
+
+        assertThat(handler.transitionToPhase(manager, workItem, handler.startingTransition(parameters))).isEmpty();
+        ArgumentCaptor<WorkUnit> workUnit = ArgumentCaptor.forClass(WorkUnit.class);
+        verify(unitOfWork).intercept(workUnit.capture());
+        workUnit.getValue().perform();
+
+        verify(processInstance, timeout(5000)).updateWorkItem(eq("2"), any());
+        verify(processInstance, never()).completeWorkItem(anyString(), any());
+        assertThat(attempts).hasValue(3);
+    }
+
+    private UnitOfWork mockApplication() {
+        Application application = mock(Application.class);
+        UnitOfWorkManager unitOfWorkManager = mock(UnitOfWorkManager.class);
+        UnitOfWork unitOfWork = mock(UnitOfWork.class);
+        when(application.unitOfWorkManager()).thenReturn(unitOfWorkManager);
+        when(unitOfWorkManager.currentUnitOfWork()).thenReturn(unitOfWork);
+        when(unitOfWorkManager.newUnitOfWork()).thenReturn(mock(UnitOfWork.class));
+        handler.setApplication(application);
+        workItem.setProcessInstanceId("1");
+        return unitOfWork;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private ProcessInstance<?> mockProcessInstance() {
+        Processes processes = mock(Processes.class);
+        org.kie.kogito.process.Process process = mock(org.kie.kogito.process.Process.class);
+        ProcessInstances instances = mock(ProcessInstances.class);
+        ProcessInstance processInstance = mock(ProcessInstance.class);
+        when(handler.getApplication().get(Processes.class)).thenReturn(processes);
+        when(processes.processById(any())).thenReturn(process);
+        when(process.instances()).thenReturn(instances);
+        when(instances.findById(anyString())).thenReturn(Optional.of(processInstance));
+        return processInstance;
+    }
+
     public void assertResult(Optional<WorkItemTransition> transition) {
         Map<String, Object> results = transition.get().data();
         assertThat(results).hasSize(1).containsKey(RestWorkItemHandler.RESULT);
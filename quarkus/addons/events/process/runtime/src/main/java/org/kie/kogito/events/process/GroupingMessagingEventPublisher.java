@@ -54,6 +54,9 @@ public class GroupingMessagingEventPublisher extends AbstractMessagingEventPubli
     @ConfigProperty(name = "kogito.events.grouping.compress", defaultValue = "false")
     private boolean compress;
 
+    @ConfigProperty(name = "kogito.events.grouping.compact", defaultValue = "false")
+    private boolean compact;
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     public void publish(Collection<DataEvent<?>> events) {
@@ -69,13 +72,22 @@ public class GroupingMessagingEventPublisher extends AbstractMessagingEventPubli
         DataEvent<?> firstEvent = (DataEvent<?>) entry.getValue().iterator().next();
         URI source = firstEvent.getSource();
         if (firstEvent instanceof UserTaskInstanceDataEvent) {
-            publishToTopic(entry.getKey(), new MultipleUserTaskInstanceDataEvent(source, (Collection<UserTaskInstanceDataEvent<?>>) entry.getValue()));
+            MultipleUserTaskInstanceDataEvent sent = new MultipleUserTaskInstanceDataEvent(source, (Collection<UserTaskInstanceDataEvent<?>>) entry.getValue());
+            if (binary && compact) {
+                sent.setDataContentType(MultipleProcessInstanceDataEvent.BINARY_CONTENT_TYPE);
+                sent.setCompressed(compress);
+            }
+            publishToTopic(entry.getKey(), sent);
         } else if (firstEvent instanceof ProcessInstanceDataEvent) {
             MultipleProcessInstanceDataEvent sent = new MultipleProcessInstanceDataEvent(source, (Collection<ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport>>) entry.getValue());
             if (binary) {
                 sent.setDataContentType(MultipleProcessInstanceDataEvent.BINARY_CONTENT_TYPE);
                 sent.setCompressed(compress);
-                sent.setMarshallFlags(KogitoMarshallEventFlag.buildFlags(EnumSet.allOf(KogitoMarshallEventFlag.class)));
+                EnumSet<KogitoMarshallEventFlag> flags = EnumSet.allOf(KogitoMarshallEventFlag.class);
+                if (!compact) {
+                    flags.remove(KogitoMarshallEventFlag.COMPACT);
+                }
+                sent.setMarshallFlags(KogitoMarshallEventFlag.buildFlags(flags));
             }
             publishToTopic(entry.getKey(), sent);
         } else {
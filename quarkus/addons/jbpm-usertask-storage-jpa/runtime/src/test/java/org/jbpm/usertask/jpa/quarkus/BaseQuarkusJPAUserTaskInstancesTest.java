@@ -32,6 +32,7 @@ import org.jbpm.usertask.jpa.repository.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.auth.IdentityProviders;
+import org.kie.kogito.usertask.UserTaskFilter;
 import org.kie.kogito.usertask.UserTaskInstance;
 import org.kie.kogito.usertask.impl.DefaultUserTaskInstance;
 import org.kie.kogito.usertask.model.Attachment;
@@ -466,7 +467,7 @@ public abstract class BaseQuarkusJPAUserTaskInstancesTest {
         UserTaskInstance task2 = createTaskWithName("task2", "Approve Document", "InProgress", "Homer");
         UserTaskInstance task3 = createTaskWithName("task3", "Reject Application", "Reserved", "Homer");
 
-        org.kie.kogito.usertask.UserTaskFilter filter = org.kie.kogito.usertask.UserTaskFilter.builder()
+        UserTaskFilter filter = UserTaskFilter.builder()
                 .taskName("Approve Request")
                 .build();
 
@@ -488,7 +489,7 @@ public abstract class BaseQuarkusJPAUserTaskInstancesTest {
         UserTaskInstance task1 = createTaskWithName("task1", "approve request", "Reserved", "Homer");
         UserTaskInstance task2 = createTaskWithName("task2", "APPROVE REQUEST", "Reserved", "Homer");
 
-        org.kie.kogito.usertask.UserTaskFilter filter = org.kie.kogito.usertask.UserTaskFilter.builder()
+        UserTaskFilter filter = UserTaskFilter.builder()
                 .taskName("APPROVE REQUEST")
                 .build();
 
@@ -506,7 +507,7 @@ public abstract class BaseQuarkusJPAUserTaskInstancesTest {
         UserTaskInstance task2 = createTaskWithName("task2", "Task 2", "InProgress", "Homer");
         UserTaskInstance task3 = createTaskWithName("task3", "Task 3", "Completed", "Homer");
 
-        org.kie.kogito.usertask.UserTaskFilter filter = org.kie.kogito.usertask.UserTaskFilter.builder()
+        UserTaskFilter filter = UserTaskFilter.builder()
                 .statuses(Collections.singletonList("Reserved"))
                 .build();
 
@@ -529,7 +530,7 @@ public abstract class BaseQuarkusJPAUserTaskInstancesTest {
         UserTaskInstance task3 = createTaskWithName("task3", "Task 3", "Completed", "Homer");
         UserTaskInstance task4 = createTaskWithName("task4", "Task 4", "Suspended", "Homer");
 
-        org.kie.kogito.usertask.UserTaskFilter filter = org.kie.kogito.usertask.UserTaskFilter.builder()
+        UserTaskFilter filter = UserTaskFilter.builder()
                 .statuses(Arrays.<String> asList(
                         "Reserved",
                         "InProgress"))
@@ -554,7 +555,7 @@ public abstract class BaseQuarkusJPAUserTaskInstancesTest {
         UserTaskInstance task2 = createTaskWithProcessInfo("task2", "Task 2", "Reserved", "Homer", "onboarding", "inst2");
         UserTaskInstance task3 = createTaskWithProcessInfo("task3", "Task 3", "Reserved", "Homer", "hiring", "inst3");
 
-        org.kie.kogito.usertask.UserTaskFilter filter = org.kie.kogito.usertask.UserTaskFilter.builder()
+        UserTaskFilter filter = UserTaskFilter.builder()
                 .processId("hiring")
                 .build();
 
@@ -576,7 +577,7 @@ public abstract class BaseQuarkusJPAUserTaskInstancesTest {
         UserTaskInstance task2 = createTaskWithProcessInfo("task2", "Task 2", "Reserved", "Homer", "hiring", "inst1");
         UserTaskInstance task3 = createTaskWithProcessInfo("task3", "Task 3", "Reserved", "Homer", "hiring", "inst2");
 
-        org.kie.kogito.usertask.UserTaskFilter filter = org.kie.kogito.usertask.UserTaskFilter.builder()
+        UserTaskFilter filter = UserTaskFilter.builder()
                 .processInstanceId("inst1")
                 .build();
 
@@ -599,7 +600,7 @@ public abstract class BaseQuarkusJPAUserTaskInstancesTest {
         UserTaskInstance task3 = createTaskWithProcessInfo("task3", "Approve Request", "Reserved", "Homer", "onboarding", "inst2");
         UserTaskInstance task4 = createTaskWithProcessInfo("task4", "Review Request", "Reserved", "Homer", "hiring", "inst1");
 
-        org.kie.kogito.usertask.UserTaskFilter filter = org.kie.kogito.usertask.UserTaskFilter.builder()
+        UserTaskFilter filter = UserTaskFilter.builder()
                 .taskName("Approve Request")
                 .statuses(Collections.singletonList("Reserved"))
                 .processId("hiring")
@@ -636,7 +637,7 @@ public abstract class BaseQuarkusJPAUserTaskInstancesTest {
     public void testFindByIdentityWithEmptyResultFilter() {
         UserTaskInstance task1 = createTaskWithName("task1", "Approve Request", "Reserved", "Homer");
 
-        org.kie.kogito.usertask.UserTaskFilter filter = org.kie.kogito.usertask.UserTaskFilter.builder()
+        UserTaskFilter filter = UserTaskFilter.builder()
                 .taskName("reject")
                 .build();
 
@@ -647,6 +648,35 @@ public abstract class BaseQuarkusJPAUserTaskInstancesTest {
         userTaskInstances.remove(task1);
     }
 
+    @Test
+    public void testFindByIdentityWithKeysetPagination() {
+        UserTaskInstance task1 = createTaskWithName("task1", "Task 1", "Reserved", "Homer");
+        UserTaskInstance task2 = createTaskWithName("task2", "Task 2", "Reserved", "Homer");
+        UserTaskInstance task3 = createTaskWithName("task3", "Task 3", "Reserved", "Homer");
+
+        List<UserTaskInstance> firstPage = userTaskInstances.findByIdentity(IdentityProviders.of("Homer"), UserTaskFilter.builder()
+                .limit(2)
+                .build());
+
+        assertThat(firstPage)
+                .extracting(UserTaskInstance::getId)
+                .containsExactly("task1", "task2");
+        assertThat(firstPage.get(0).getAdminUsers()).containsExactly("Homer");
+
+        List<UserTaskInstance> secondPage = userTaskInstances.findByIdentity(IdentityProviders.of("Homer"), UserTaskFilter.builder()
+                .limit(2)
+                .cursor("task2")
+                .build());
+
+        assertThat(secondPage)
+                .extracting(UserTaskInstance::getId)
+                .containsExactly("task3");
+
+        userTaskInstances.remove(task1);
+        userTaskInstances.remove(task2);
+        userTaskInstances.remove(task3);
+    }
+
     // Helper methods for filter tests
 
     private UserTaskInstance createTaskWithName(String id, String taskName, String status, String actualOwner) {
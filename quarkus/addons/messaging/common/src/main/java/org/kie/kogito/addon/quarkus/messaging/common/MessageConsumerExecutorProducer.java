@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.addon.quarkus.messaging.common;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.kie.kogito.event.KogitoEventStreams;
+import org.kie.kogito.event.impl.MessageConsumerExecutor;
+
+import io.quarkus.arc.DefaultBean;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+/**
+ * Produces the {@link MessageConsumerExecutor} shared by every message consumer. Its queue depth and rejections are
+ * exposed as meters by {@link QuarkusMessageConsumerExecutorMeterBinder} when the Micrometer extension is present.
+ * <p>
+ * A message rejected because the queue is full is negatively acknowledged. With the default
+ * <code>failure-strategy=fail</code> of the SmallRye Kafka connector a single nack stops the channel, so either size
+ * the queue for the expected bursts or set <code>mp.messaging.incoming.&lt;channel&gt;.failure-strategy</code> to
+ * <code>ignore</code> or <code>dead-letter-queue</code>.
+ */
+@ApplicationScoped
+public class MessageConsumerExecutorProducer {
+
+    @ConfigProperty(name = KogitoEventStreams.CONSUMER_PARALLELISM_PROPERTY, defaultValue = KogitoEventStreams.DEFAULT_CONSUMER_PARALLELISM)
+    int parallelism;
+
+    @ConfigProperty(name = KogitoEventStreams.CONSUMER_QUEUE_SIZE_PROPERTY, defaultValue = KogitoEventStreams.DEFAULT_CONSUMER_QUEUE_SIZE)
+    int queueSize;
+
+    @Produces
+    @Singleton
+    @DefaultBean
+    public MessageConsumerExecutor messageConsumerExecutor() {
+        return new MessageConsumerExecutor(parallelism, queueSize);
+    }
+}
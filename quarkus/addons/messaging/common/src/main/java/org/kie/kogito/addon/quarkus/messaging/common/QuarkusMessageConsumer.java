@@ -24,6 +24,7 @@ import org.kie.kogito.Application;
 import org.kie.kogito.Model;
 import org.kie.kogito.event.EventReceiver;
 import org.kie.kogito.event.impl.AbstractMessageConsumer;
+import org.kie.kogito.event.impl.MessageConsumerExecutor;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessService;
 
@@ -37,8 +38,11 @@ public abstract class QuarkusMessageConsumer<M extends Model, D> extends Abstrac
     @Inject
     ProcessService processService;
 
+    @Inject
+    MessageConsumerExecutor executor;
+
     protected void init(Process<M> process, String trigger, Class<D> objectClass, EventReceiver eventReceiver, Set<String> correlation) {
-        init(application, process, trigger, eventReceiver, objectClass, processService, correlation);
+        init(application, process, trigger, eventReceiver, objectClass, processService, correlation, executor);
     }
 
 }
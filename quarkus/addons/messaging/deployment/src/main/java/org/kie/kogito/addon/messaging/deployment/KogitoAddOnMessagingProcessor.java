@@ -20,15 +20,34 @@ package org.kie.kogito.addon.messaging.deployment;
 
 import org.kie.kogito.quarkus.addons.common.deployment.AnyEngineKogitoAddOnProcessor;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.processor.DotNames;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 
 public class KogitoAddOnMessagingProcessor extends AnyEngineKogitoAddOnProcessor {
 
     private static final String FEATURE = "kie-addon-messaging-extension";
+    private static final String METER_BINDER = "org.kie.kogito.addon.quarkus.messaging.common.QuarkusMessageConsumerExecutorMeterBinder";
 
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(FEATURE);
     }
+
+    @BuildStep
+    @SuppressWarnings("unused")
+    void meterBinder(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        // referenced by name, the binder cannot be loaded without Micrometer
+        if (capabilities.isPresent(Capability.MICROMETER)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.builder()
+                    .addBeanClass(METER_BINDER)
+                    .setDefaultScope(DotNames.SINGLETON)
+                    .setUnremovable()
+                    .build());
+        }
+    }
 }
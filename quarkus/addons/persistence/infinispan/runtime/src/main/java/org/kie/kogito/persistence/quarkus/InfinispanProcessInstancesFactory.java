@@ -37,8 +37,9 @@ public class InfinispanProcessInstancesFactory extends AbstractProcessInstancesF
     @Inject
     public InfinispanProcessInstancesFactory(RemoteCacheManager cacheManager,
             @ConfigProperty(name = "kogito.persistence.optimistic.lock", defaultValue = "false") Boolean lock,
-            @ConfigProperty(name = "kogito.persistence.infinispan.template") Optional<String> templateName) {
-        super(cacheManager, lock, templateName.orElse(null));
+            @ConfigProperty(name = "kogito.persistence.infinispan.template") Optional<String> templateName,
+            @ConfigProperty(name = "kogito.persistence.infinispan.retire-legacy-events", defaultValue = "false") boolean retireLegacyEvents) {
+        super(cacheManager, lock, templateName.orElse(null), retireLegacyEvents);
     }
 
 }
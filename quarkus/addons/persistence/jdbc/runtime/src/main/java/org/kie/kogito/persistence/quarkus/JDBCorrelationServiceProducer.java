@@ -18,8 +18,11 @@
  */
 package org.kie.kogito.persistence.quarkus;
 
+import java.time.Duration;
+
 import javax.sql.DataSource;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.correlation.CorrelationService;
 import org.kie.kogito.persistence.jdbc.correlation.JDBCCorrelationService;
 
@@ -27,8 +30,14 @@ import jakarta.enterprise.inject.Produces;
 
 public class JDBCorrelationServiceProducer {
 
+    /**
+     * The correlation cache is off by default. When enabled, correlations deleted or replaced by other nodes may still
+     * resolve on this node for up to the configured time to live.
+     */
     @Produces
-    public CorrelationService jdbcCorrelationService(DataSource dataSource) {
-        return new JDBCCorrelationService(dataSource);
+    public CorrelationService jdbcCorrelationService(DataSource dataSource,
+            @ConfigProperty(name = "kogito.persistence.correlation.cache.size", defaultValue = "10000") int cacheSize,
+            @ConfigProperty(name = "kogito.persistence.correlation.cache.ttl.millis", defaultValue = "0") long cacheTimeToLive) {
+        return new JDBCCorrelationService(dataSource, cacheSize, Duration.ofMillis(cacheTimeToLive));
     }
 }
@@ -22,6 +22,7 @@ import org.kie.kogito.persistence.kafka.KafkaPersistenceUtils;
 import org.kie.kogito.quarkus.addons.common.deployment.KogitoCapability;
 import org.kie.kogito.quarkus.addons.common.deployment.OneOfCapabilityKogitoAddOnProcessor;
 
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
@@ -30,6 +31,7 @@ class KogitoAddOnPersistenceKafkaProcessor extends OneOfCapabilityKogitoAddOnPro
 
     private static final String FEATURE = "kie-addon-persistence-kafka-extension";
     private static final String QUARKUS_KAFKA_STREAMS_TOPICS_PROP = "quarkus.kafka-streams.topics";
+    private static final String KAFKA_STREAMS_PREFIX = "kafka-streams.";
 
     KogitoAddOnPersistenceKafkaProcessor() {
         super(KogitoCapability.PROCESSES);
@@ -41,7 +43,8 @@ class KogitoAddOnPersistenceKafkaProcessor extends OneOfCapabilityKogitoAddOnPro
     }
 
     @BuildStep
-    RunTimeConfigurationDefaultBuildItem runTimeConfiguration() {
-        return new RunTimeConfigurationDefaultBuildItem(QUARKUS_KAFKA_STREAMS_TOPICS_PROP, KafkaPersistenceUtils.topicName());
+    void runTimeConfiguration(BuildProducer<RunTimeConfigurationDefaultBuildItem> runTimeConfiguration) {
+        runTimeConfiguration.produce(new RunTimeConfigurationDefaultBuildItem(QUARKUS_KAFKA_STREAMS_TOPICS_PROP, KafkaPersistenceUtils.topicName()));
+        KafkaPersistenceUtils.streamsConfig().forEach((name, value) -> runTimeConfiguration.produce(new RunTimeConfigurationDefaultBuildItem(KAFKA_STREAMS_PREFIX + name, value)));
     }
 }
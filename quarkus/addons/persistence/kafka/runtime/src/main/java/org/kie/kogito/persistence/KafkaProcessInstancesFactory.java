@@ -18,21 +18,14 @@
  */
 package org.kie.kogito.persistence;
 
-import java.util.Map;
-
-import org.apache.kafka.clients.producer.KafkaProducer;
-import org.apache.kafka.common.serialization.ByteArraySerializer;
-import org.apache.kafka.common.serialization.StringSerializer;
 import org.kie.kogito.persistence.kafka.KafkaProcessInstances;
+import org.kie.kogito.persistence.kafka.KafkaProcessInstancesProducer;
 import org.kie.kogito.persistence.kafka.KafkaStreamsStateListener;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstancesFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.smallrye.common.annotation.Identifier;
-
-import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -42,7 +35,7 @@ public class KafkaProcessInstancesFactory implements ProcessInstancesFactory {
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaProcessInstancesFactory.class);
 
     KafkaStreamsStateListener stateListener;
-    KafkaProducer<String, byte[]> producer;
+    KafkaProcessInstancesProducer producer;
 
     @Inject
     public void setStateListener(KafkaStreamsStateListener stateListener) {
@@ -50,15 +43,8 @@ public class KafkaProcessInstancesFactory implements ProcessInstancesFactory {
     }
 
     @Inject
-    public void setKafkaConfig(@Identifier("default-kafka-broker") Map<String, Object> kafkaConfig) {
-        producer = new KafkaProducer<>(kafkaConfig, new StringSerializer(), new ByteArraySerializer());
-    }
-
-    @PreDestroy
-    public void stop() {
-        if (producer != null) {
-            producer.close();
-        }
+    public void setProducer(KafkaProcessInstancesProducer producer) {
+        this.producer = producer;
     }
 
     public KafkaProcessInstances createProcessInstances(Process<?> process) {
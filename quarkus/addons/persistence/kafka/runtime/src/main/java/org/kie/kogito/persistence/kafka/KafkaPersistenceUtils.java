@@ -18,9 +18,14 @@
  */
 package org.kie.kogito.persistence.kafka;
 
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.IsolationLevel;
 import org.apache.kafka.common.serialization.Serdes;
 import org.apache.kafka.common.utils.Bytes;
 import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
 import org.apache.kafka.streams.Topology;
 import org.apache.kafka.streams.kstream.Materialized;
 import org.apache.kafka.streams.state.KeyValueStore;
@@ -44,6 +49,14 @@ public class KafkaPersistenceUtils {
         return STORE;
     }
 
+    /**
+     * Kafka Streams settings the store relies on: records are written in transactions, so the global table must skip
+     * the records of aborted transactions.
+     */
+    public static Map<String, String> streamsConfig() {
+        return Map.of(StreamsConfig.globalConsumerPrefix(ConsumerConfig.ISOLATION_LEVEL_CONFIG), IsolationLevel.READ_COMMITTED.toString());
+    }
+
     public static Topology createTopologyForProcesses() {
         StreamsBuilder builder = new StreamsBuilder();
         builder.globalTable(topicName(), Materialized.<String, byte[], KeyValueStore<Bytes, byte[]>> as(storeName())
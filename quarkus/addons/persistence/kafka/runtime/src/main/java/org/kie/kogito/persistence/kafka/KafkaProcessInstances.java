@@ -19,24 +19,20 @@
 package org.kie.kogito.persistence.kafka;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import org.apache.kafka.clients.producer.KafkaProducer;
-import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.serialization.Serdes;
-import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.state.KeyValueIterator;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.jbpm.flow.serialization.ProcessInstanceMarshallerService;
@@ -47,24 +43,20 @@ import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstanceDuplicatedException;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
-import org.rocksdb.RocksDBException;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toCollection;
-import static org.kie.kogito.persistence.kafka.KafkaPersistenceUtils.topicName;
 
 public class KafkaProcessInstances<T extends Model> implements MutableProcessInstances<T> {
     private final String EVENT_SEPARATOR = "::";
     private Process<?> process;
-    private KafkaProducer<String, byte[]> producer;
-    private String topic;
+    private KafkaProcessInstancesProducer producer;
     private ReadOnlyKeyValueStore<String, byte[]> store;
     private ProcessInstanceMarshallerService marshaller;
     private CountDownLatch latch = new CountDownLatch(1);
 
-    public KafkaProcessInstances(Process<?> process, KafkaProducer<String, byte[]> producer) {
+    public KafkaProcessInstances(Process<?> process, KafkaProcessInstancesProducer producer) {
         this.process = process;
-        this.topic = topicName();
         this.producer = producer;
         setMarshaller(ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build());
     }
@@ -112,7 +104,11 @@ public class KafkaProcessInstances<T extends Model> implements MutableProcessIns
     }
 
     protected Optional<byte[]> getProcessInstanceById(String id) {
-        return Optional.ofNullable(getStore().get(getKeyForProcessInstance(id)));
+        return Optional.ofNullable(read(getKeyForProcessInstance(id)));
+    }
+
+    protected byte[] read(String key) {
+        return producer.read(key, k -> getStore().get(k));
     }
 
     protected String getKeyForProcessInstance(String id) {
@@ -120,15 +116,15 @@ public class KafkaProcessInstances<T extends Model> implements MutableProcessIns
     }
 
     protected String getKeyForEvents() {
-        return format("events-%s", getProcess().id(), "events");
+        return format("events-%s", getProcess().id());
     }
 
-    protected void sendKafkaRecord(String id, byte[] data) throws ExecutionException, InterruptedException {
-        producer.send(new ProducerRecord<>(topic, getKeyForProcessInstance(id), data)).get();
+    protected void sendKafkaRecord(String id, byte[] data) {
+        producer.send(getKeyForProcessInstance(id), data);
     }
 
-    protected void sendEventKafkaRecord(byte[] data) throws ExecutionException, InterruptedException {
-        producer.send(new ProducerRecord<>(topic, getKeyForEvents(), data)).get();
+    protected void sendEventKafkaRecord(byte[] data) {
+        producer.send(getKeyForEvents(), data);
     }
 
     @Override
@@ -172,10 +168,6 @@ public class KafkaProcessInstances<T extends Model> implements MutableProcessIns
         try {
             sendKafkaRecord(id, null);
             clearEvents(id);
-            // this avoids generates a race condition as one thing is send to kafka and the other is to be processed by the table.
-            while (exists(id)) {
-                Thread.sleep(100L);
-            }
         } catch (Exception e) {
             throw new RuntimeException("Unable to remove process instance id: " + id, e);
         }
@@ -199,7 +191,8 @@ public class KafkaProcessInstances<T extends Model> implements MutableProcessIns
     public Stream<ProcessInstance<T>> stream(ProcessInstanceReadMode mode) {
         KeyValueIterator<String, byte[]> iterator = getStore().prefixScan("process-" + getProcess().id(), Serdes.String().serializer());
         return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
-                .map(k -> k.value)
+                .map(k -> producer.overlay(k.key, k.value))
+                .filter(Objects::nonNull)
                 .map(data -> {
                     AbstractProcessInstance<T> pi = (AbstractProcessInstance) marshaller.unmarshallProcessInstance(data, process, mode);
                     connectInstance(pi);
@@ -217,16 +210,9 @@ public class KafkaProcessInstances<T extends Model> implements MutableProcessIns
 
     @Override
     public Stream<ProcessInstance<T>> waitingForEventType(String eventType, ProcessInstanceReadMode mode) {
-
-        KeyValueIterator<String, byte[]> iterator = getStore().prefixScan("events-" + getProcess().id(), Serdes.String().serializer());
-        if (!iterator.hasNext()) {
-            return Collections.<ProcessInstance<T>> emptyList().stream();
-        }
-        KeyValue<String, byte[]> entry = iterator.next();
-
-        byte[] eventData = entry.value;
+        byte[] eventData = read(getKeyForEvents());
         if (eventData == null) {
-            return Collections.<ProcessInstance<T>> emptyList().stream();
+            return Stream.empty();
         }
         String list = new String(eventData);
         List<String> processInstancesId = Stream.of(list.split(","))
@@ -236,29 +222,27 @@ public class KafkaProcessInstances<T extends Model> implements MutableProcessIns
 
         List<ProcessInstance<T>> waitingInstances = new ArrayList<>();
         for (String processInstanceId : processInstancesId) {
-            byte[] data = getStore().get(getKeyForProcessInstance(processInstanceId));
+            byte[] data = read(getKeyForProcessInstance(processInstanceId));
+            if (data == null) {
+                continue;
+            }
             AbstractProcessInstance<T> pi = (AbstractProcessInstance) marshaller.unmarshallProcessInstance(data, process, mode);
             connectInstance(pi);
             waitingInstances.add(pi);
         }
         return waitingInstances.stream();
-
     }
 
     private byte[] toBytes(Set<String> events) {
         return String.join(",", events).getBytes();
     }
 
-    private Set<String> clearEventTypes(String processInstanceId) throws RocksDBException {
-        KeyValueIterator<String, byte[]> iterator = getStore().prefixScan("events-" + getProcess().id(), Serdes.String().serializer());
-        if (!iterator.hasNext()) {
+    private Set<String> clearEventTypes(String processInstanceId) {
+        byte[] eventData = read(getKeyForEvents());
+        if (eventData == null) {
             return new HashSet<>();
         }
-        KeyValue<String, byte[]> entry = iterator.next();
-
-        byte[] eventData = entry.value;
-        String list = eventData != null ? new String(eventData) : new String();
-        return Stream.of(list.split(",")).filter(e -> !e.endsWith(EVENT_SEPARATOR + processInstanceId)).collect(toCollection(HashSet::new));
+        return Stream.of(new String(eventData).split(",")).filter(e -> !e.isEmpty() && !e.endsWith(EVENT_SEPARATOR + processInstanceId)).collect(toCollection(HashSet::new));
     }
 
     private Set<String> getUniqueEvents(ProcessInstance<T> instance) {
@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.kafka;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.AuthorizationException;
+import org.apache.kafka.common.errors.OutOfOrderSequenceException;
+import org.apache.kafka.common.errors.ProducerFencedException;
+import org.apache.kafka.common.errors.UnsupportedVersionException;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.kie.kogito.services.uow.BaseWorkUnit;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.WorkUnit;
+import org.kie.kogito.uow.events.UnitOfWorkAbortEvent;
+import org.kie.kogito.uow.events.UnitOfWorkEndEvent;
+import org.kie.kogito.uow.events.UnitOfWorkEventListener;
+import org.kie.kogito.uow.events.UnitOfWorkStartEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.smallrye.common.annotation.Identifier;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import static org.kie.kogito.persistence.kafka.KafkaPersistenceUtils.topicName;
+
+/**
+ * Writes the process instance records through an idempotent, transactional producer.
+ * <p>
+ * Records written within a unit of work are collected and sent as a single transaction by a low priority work unit,
+ * so the unit of work waits for the broker once and its events are published only after the records are committed.
+ * Batches of units of work ending at the same time are committed together. Records written outside a unit of work
+ * are sent in a transaction of their own.
+ * <p>
+ * Reads go through {@link #read(String, Function)}, which overlays the records pending in the current unit of work
+ * and the committed records the Kafka Streams store has not caught up with yet. Committed records are kept for at most
+ * a minute and up to {@value #MAX_COMMITTED_RECORDS} of them.
+ * <p>
+ * A producer hitting a fatal error, such as being fenced, cannot be used anymore: it is closed and a new one is
+ * created for the next transaction.
+ */
+@ApplicationScoped
+public class KafkaProcessInstancesProducer implements UnitOfWorkEventListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaProcessInstancesProducer.class);
+
+    // committed records are overlaid until the store shows them, or at most for this long
+    private static final long OVERLAY_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+    static final int MAX_COMMITTED_RECORDS = 10_000;
+
+    private KafkaProducer<String, byte[]> producer;
+    private Supplier<KafkaProducer<String, byte[]>> producerFactory;
+    private final String topic = topicName();
+    private final ThreadLocal<PendingRecords> pending = new ThreadLocal<>();
+    private final Map<String, CommittedRecord> committed = new ConcurrentHashMap<>();
+    private final Queue<Batch> batches = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock transactionLock = new ReentrantLock();
+    // committed keys in commit order, only touched while holding the transaction lock
+    private final Deque<Map.Entry<String, CommittedRecord>> commitOrder = new ArrayDeque<>();
+
+    public KafkaProcessInstancesProducer() {
+    }
+
+    public KafkaProcessInstancesProducer(KafkaProducer<String, byte[]> producer) {
+        this.producer = producer;
+    }
+
+    public KafkaProcessInstancesProducer(Supplier<KafkaProducer<String, byte[]>> producerFactory) {
+        this.producerFactory = producerFactory;
+        this.producer = producerFactory.get();
+    }
+
+    @Inject
+    public void setKafkaConfig(@Identifier("default-kafka-broker") Map<String, Object> kafkaConfig) {
+        Map<String, Object> config = new HashMap<>(kafkaConfig);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.TRANSACTIONAL_ID_CONFIG, "kogito-persistence-" + UUID.randomUUID());
+        producerFactory = () -> {
+            KafkaProducer<String, byte[]> transactionalProducer = new KafkaProducer<>(config, new StringSerializer(), new ByteArraySerializer());
+            transactionalProducer.initTransactions();
+            return transactionalProducer;
+        };
+        producer = producerFactory.get();
+    }
+
+    @PreDestroy
+    public void stop() {
+        transactionLock.lock();
+        try {
+            if (producer != null) {
+                producer.close();
+            }
+        } finally {
+            transactionLock.unlock();
+        }
+    }
+
+    @Override
+    public void onBeforeStartEvent(UnitOfWorkStartEvent event) {
+        if (pending.get() == null) {
+            pending.set(new PendingRecords(event.getUnitOfWork()));
+        }
+    }
+
+    @Override
+    public void onAfterEndEvent(UnitOfWorkEndEvent event) {
+        PendingRecords records = pending.get();
+        pending.remove();
+        // records first written by another work unit while the unit of work was ending missed their work unit
+        if (records != null && !records.values.isEmpty()) {
+            commit(records.values);
+        }
+    }
+
+    @Override
+    public void onAfterAbortEvent(UnitOfWorkAbortEvent event) {
+        pending.remove();
+    }
+
+    /**
+     * Writes a record, a {@code null} value removes the key.
+     */
+    public void send(String key, byte[] value) {
+        PendingRecords records = pending.get();
+        if (records != null) {
+            if (records.values.isEmpty()) {
+                // the unit of work is started by now, the work unit runs after the other ones and before publishing events
+                records.unitOfWork.intercept(new BaseWorkUnit<>(records, this::commitPending, null, WorkUnit.LOW_PRIORITY));
+            }
+            records.values.put(key, value);
+        } else {
+            commit(Collections.singletonMap(key, value));
+        }
+    }
+
+    /**
+     * Reads a record, looking at the writes not visible in the store yet before the store itself.
+     */
+    public byte[] read(String key, Function<String, byte[]> store) {
+        PendingRecords records = pending.get();
+        if (records != null && records.values.containsKey(key)) {
+            return records.values.get(key);
+        }
+        return overlay(key, store.apply(key));
+    }
+
+    /**
+     * Replaces a value read from the store with the last committed write of the key, while the store does not show it.
+     */
+    public byte[] overlay(String key, byte[] stored) {
+        PendingRecords records = pending.get();
+        if (records != null && records.values.containsKey(key)) {
+            return records.values.get(key);
+        }
+        CommittedRecord record = committed.get(key);
+        if (record == null) {
+            return stored;
+        }
+        if (Arrays.equals(record.value, stored) || System.currentTimeMillis() - record.time > OVERLAY_TIMEOUT) {
+            committed.remove(key, record);
+            return stored;
+        }
+        return record.value;
+    }
+
+    int committedSize() {
+        return committed.size();
+    }
+
+    private void commitPending(PendingRecords records) {
+        // cleared here too, the end event is not fired when the commit fails
+        pending.remove();
+        commit(records.values);
+    }
+
+    private void commit(Map<String, byte[]> records) {
+        Batch batch = new Batch(records);
+        batches.add(batch);
+        // a producer runs one transaction at a time, whoever gets the lock commits every batch waiting for it
+        while (!batch.done.isDone()) {
+            transactionLock.lock();
+            try {
+                if (!batch.done.isDone()) {
+                    commitWaitingBatches();
+                }
+            } finally {
+                transactionLock.unlock();
+            }
+        }
+        try {
+            batch.done.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private void commitWaitingBatches() {
+        List<Batch> transaction = new ArrayList<>();
+        Batch next;
+        while ((next = batches.poll()) != null) {
+            transaction.add(next);
+        }
+        if (transaction.isEmpty()) {
+            return;
+        }
+        try {
+            KafkaProducer<String, byte[]> transactionalProducer = producer();
+            transactionalProducer.beginTransaction();
+            try {
+                transaction.forEach(batch -> batch.records.forEach((key, value) -> transactionalProducer.send(new ProducerRecord<>(topic, key, value))));
+                transactionalProducer.commitTransaction();
+            } catch (RuntimeException e) {
+                if (isFatal(e)) {
+                    discardProducer(e);
+                } else {
+                    abortTransaction(e);
+                }
+                throw e;
+            }
+            long time = System.currentTimeMillis();
+            transaction.forEach(batch -> batch.records.forEach((key, value) -> {
+                CommittedRecord record = new CommittedRecord(value, time);
+                committed.put(key, record);
+                commitOrder.addLast(Map.entry(key, record));
+            }));
+            evictCommitted(time);
+            transaction.forEach(batch -> batch.done.complete(null));
+        } catch (RuntimeException e) {
+            transaction.forEach(batch -> batch.done.completeExceptionally(e));
+        }
+    }
+
+    private void evictCommitted(long time) {
+        // oldest first, so each commit only looks at the records it evicts: expired ones, which would stay forever
+        // when their keys are never read again, and past the cap the oldest ones, whose reads fall back to the store
+        Map.Entry<String, CommittedRecord> oldest;
+        while ((oldest = commitOrder.peekFirst()) != null
+                && (commitOrder.size() > MAX_COMMITTED_RECORDS || time - oldest.getValue().time > OVERLAY_TIMEOUT)) {
+            commitOrder.removeFirst();
+            committed.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    private KafkaProducer<String, byte[]> producer() {
+        if (producer == null) {
+            producer = producerFactory.get();
+        }
+        return producer;
+    }
+
+    private static boolean isFatal(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ProducerFencedException || cause instanceof OutOfOrderSequenceException || cause instanceof AuthorizationException
+                    || cause instanceof UnsupportedVersionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void discardProducer(RuntimeException cause) {
+        if (producerFactory == null) {
+            return;
+        }
+        LOGGER.warn("Kafka producer failed with a fatal error, a new one will be created: {}", cause.getMessage());
+        try {
+            producer.close(Duration.ZERO);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Unable to close Kafka producer after fatal error", e);
+        }
+        producer = null;
+    }
+
+    private void abortTransaction(RuntimeException cause) {
+        try {
+            producer.abortTransaction();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Unable to abort Kafka transaction after failure: {}", cause.getMessage(), e);
+        }
+    }
+
+    private static class PendingRecords {
+
+        private final UnitOfWork unitOfWork;
+        private final Map<String, byte[]> values = new LinkedHashMap<>();
+
+        private PendingRecords(UnitOfWork unitOfWork) {
+            this.unitOfWork = unitOfWork;
+        }
+    }
+
+    private static class Batch {
+
+        private final Map<String, byte[]> records;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private Batch(Map<String, byte[]> records) {
+            this.records = records;
+        }
+    }
+
+    private static class CommittedRecord {
+
+        private final byte[] value;
+        private final long time;
+
+        private CommittedRecord(byte[] value, long time) {
+            this.value = value;
+            this.time = time;
+        }
+    }
+}
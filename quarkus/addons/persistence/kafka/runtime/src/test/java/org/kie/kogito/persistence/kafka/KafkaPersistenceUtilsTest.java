@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.kie.kogito.persistence.kafka.KafkaPersistenceUtils.createTopologyForProcesses;
 import static org.kie.kogito.persistence.kafka.KafkaPersistenceUtils.storeName;
+import static org.kie.kogito.persistence.kafka.KafkaPersistenceUtils.streamsConfig;
 import static org.kie.kogito.persistence.kafka.KafkaPersistenceUtils.topicName;
 
 public class KafkaPersistenceUtilsTest {
@@ -38,6 +39,11 @@ public class KafkaPersistenceUtilsTest {
         assertThat(storeName()).isEqualTo("kogito-store");
     }
 
+    @Test
+    public void testStreamsConfig() {
+        assertThat(streamsConfig()).containsEntry("global.consumer.isolation.level", "read_committed");
+    }
+
     @Test
     public void testTopology() {
         Topology topology = createTopologyForProcesses();
@@ -23,14 +23,22 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.stream.Stream;
 
+import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.StoreQueryParameters;
 import org.apache.kafka.streams.StreamsConfig;
 import org.apache.kafka.streams.Topology;
 import org.apache.kafka.streams.errors.StreamsUncaughtExceptionHandler;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -62,6 +70,8 @@ import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.kie.api.runtime.process.ProcessInstance.STATE_ACTIVE;
 import static org.kie.kogito.persistence.kafka.KafkaPersistenceUtils.createTopologyForProcesses;
+import static org.kie.kogito.persistence.kafka.KafkaPersistenceUtils.storeName;
+import static org.kie.kogito.persistence.kafka.KafkaPersistenceUtils.topicName;
 import static org.kie.kogito.process.ProcessInstance.STATE_COMPLETED;
 import static org.kie.kogito.process.ProcessInstance.STATE_ERROR;
 import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.abort;
@@ -80,20 +90,24 @@ public class KafkaProcessInstancesIT {
 
     KafkaProcessInstancesFactory factory;
 
+    KafkaProcessInstancesProducer producer;
+
     KafkaStreamsStateListener listener;
 
     @BeforeEach
     void start() {
         listener = new KafkaStreamsStateListener();
+        producer = new KafkaProcessInstancesProducer();
+        producer.setKafkaConfig(singletonMap(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers()));
         factory = new KafkaProcessInstancesFactory();
-        factory.setKafkaConfig(singletonMap(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers()));
+        factory.setProducer(producer);
         factory.setStateListener(listener);
     }
 
     @AfterEach
     void stop() {
-        if (factory != null) {
-            factory.stop();
+        if (producer != null) {
+            producer.stop();
         }
         if (listener.getKafkaStreams() != null) {
             listener.getKafkaStreams().close();
@@ -124,6 +138,7 @@ public class KafkaProcessInstancesIT {
                 .build();
 
         Application application = StaticApplicationAssembler.instance().newStaticApplication(factory, processConfig, fileName);
+        application.unitOfWorkManager().register(producer);
 
         org.kie.kogito.process.Processes container = application.get(org.kie.kogito.process.Processes.class);
         String processId = container.processIds().stream().findFirst().get();
@@ -222,6 +237,34 @@ public class KafkaProcessInstancesIT {
         awaitTillEmpty(instances);
     }
 
+    @Test
+    void testAbortedRecordsAreNotStored() {
+        KafkaStreams streams = createStreams();
+        listener.setKafkaStreams(streams);
+        streams.start();
+
+        Map<String, Object> config = Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers(),
+                ProducerConfig.TRANSACTIONAL_ID_CONFIG, "kogito-aborted-batch");
+        try (KafkaProducer<String, byte[]> transactionalProducer = new KafkaProducer<>(config, new StringSerializer(), new ByteArraySerializer())) {
+            transactionalProducer.initTransactions();
+            transactionalProducer.beginTransaction();
+            transactionalProducer.send(new ProducerRecord<>(topicName(), "aborted", new byte[] { 1 }));
+            transactionalProducer.flush();
+            transactionalProducer.abortTransaction();
+            transactionalProducer.beginTransaction();
+            transactionalProducer.send(new ProducerRecord<>(topicName(), "committed", new byte[] { 2 }));
+            transactionalProducer.commitTransaction();
+        }
+
+        // the committed record comes after the aborted one, once it is stored the aborted one has been skipped
+        await().atMost(TIMEOUT).ignoreExceptions().until(() -> store(streams).get("committed") != null);
+        assertThat(store(streams).get("aborted")).isNull();
+    }
+
+    private static ReadOnlyKeyValueStore<String, byte[]> store(KafkaStreams streams) {
+        return streams.store(StoreQueryParameters.fromNameAndType(storeName(), QueryableStoreTypes.keyValueStore()));
+    }
+
     KafkaStreams createStreams() {
         Topology topology = createTopologyForProcesses();
         KafkaStreams streams = new KafkaStreams(topology, getStreamsConfig());
@@ -237,6 +280,7 @@ public class KafkaProcessInstancesIT {
         Properties properties = new Properties();
         properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "kogito");
         properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers());
+        properties.putAll(KafkaPersistenceUtils.streamsConfig());
         try {
             Path tempDir = Files.createTempDirectory("kafka-streams-test");
             properties.put(StreamsConfig.STATE_DIR_CONFIG, tempDir.toString());
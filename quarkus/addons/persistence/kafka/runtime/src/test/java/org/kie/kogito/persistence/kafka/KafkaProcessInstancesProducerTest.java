@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.kafka;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.ProducerFencedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kie.kogito.event.EventBatch;
+import org.kie.kogito.event.EventManager;
+import org.kie.kogito.services.uow.CollectingUnitOfWork;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+import org.kie.kogito.services.uow.PassThroughUnitOfWork;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.WorkUnit;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.kie.kogito.persistence.kafka.KafkaPersistenceUtils.topicName;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class KafkaProcessInstancesProducerTest {
+
+    @Mock
+    KafkaProducer<String, byte[]> kafkaProducer;
+
+    @Mock
+    EventManager eventManager;
+
+    @Mock
+    EventBatch eventBatch;
+
+    KafkaProcessInstancesProducer producer;
+
+    DefaultUnitOfWorkManager unitOfWorkManager;
+
+    Map<String, byte[]> store = new HashMap<>();
+
+    @BeforeEach
+    public void setup() {
+        producer = new KafkaProcessInstancesProducer(kafkaProducer);
+        unitOfWorkManager = new DefaultUnitOfWorkManager(new PassThroughUnitOfWork(), em -> new CollectingUnitOfWork(eventManager));
+        unitOfWorkManager.register(producer);
+    }
+
+    private UnitOfWork startUnitOfWork() {
+        when(eventManager.newBatch()).thenReturn(eventBatch);
+        UnitOfWork unitOfWork = unitOfWorkManager.newUnitOfWork();
+        unitOfWork.start();
+        return unitOfWork;
+    }
+
+    @Test
+    public void testSendOutsideUnitOfWork() {
+        producer.send("key", new byte[] { 1 });
+
+        InOrder order = inOrder(kafkaProducer);
+        order.verify(kafkaProducer).beginTransaction();
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        order.verify(kafkaProducer).send(captor.capture());
+        order.verify(kafkaProducer).commitTransaction();
+        assertThat(captor.getValue().topic()).isEqualTo(topicName());
+        assertThat(captor.getValue().key()).isEqualTo("key");
+        assertThat(captor.getValue().value()).containsExactly(1);
+    }
+
+    @Test
+    public void testBatchWithinUnitOfWork() {
+        UnitOfWork unitOfWork = startUnitOfWork();
+        producer.send("first", new byte[] { 1 });
+        producer.send("second", new byte[] { 2 });
+        producer.send("first", new byte[] { 3 });
+
+        verify(kafkaProducer, never()).beginTransaction();
+        assertThat(producer.read("first", store::get)).containsExactly(3);
+
+        unitOfWork.end();
+
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaProducer).beginTransaction();
+        verify(kafkaProducer, times(2)).send(captor.capture());
+        verify(kafkaProducer).commitTransaction();
+        assertThat(captor.getAllValues()).extracting(ProducerRecord::key).containsExactly("first", "second");
+        assertThat(captor.getAllValues().get(0).value()).containsExactly(3);
+    }
+
+    @Test
+    public void testCommitBeforeEventsArePublished() {
+        UnitOfWork unitOfWork = startUnitOfWork();
+        producer.send("key", new byte[] { 1 });
+        unitOfWork.end();
+
+        InOrder order = inOrder(kafkaProducer, eventManager);
+        order.verify(kafkaProducer).commitTransaction();
+        order.verify(eventManager).publish(eventBatch);
+    }
+
+    @Test
+    public void testCommitRecordsWrittenByOtherWorkUnits() {
+        UnitOfWork unitOfWork = startUnitOfWork();
+        unitOfWork.intercept(WorkUnit.create("work", data -> producer.send("key", new byte[] { 1 })));
+        unitOfWork.end();
+
+        verify(kafkaProducer).send(any());
+        verify(kafkaProducer).commitTransaction();
+        assertThat(producer.read("key", store::get)).containsExactly(1);
+    }
+
+    @Test
+    public void testAbortDiscardsBatch() {
+        UnitOfWork unitOfWork = startUnitOfWork();
+        producer.send("key", new byte[] { 1 });
+        unitOfWork.abort();
+
+        verify(kafkaProducer, never()).beginTransaction();
+        verify(kafkaProducer, never()).send(any());
+        assertThat(producer.read("key", store::get)).isNull();
+    }
+
+    @Test
+    public void testReadOverlaysCommittedWrites() {
+        store.put("key", new byte[] { 1 });
+        producer.send("key", new byte[] { 2 });
+        producer.send("removed", null);
+        store.put("removed", new byte[] { 3 });
+
+        assertThat(producer.read("key", store::get)).containsExactly(2);
+        assertThat(producer.read("removed", store::get)).isNull();
+
+        store.put("key", new byte[] { 2 });
+        assertThat(producer.read("key", store::get)).containsExactly(2);
+        store.put("key", new byte[] { 4 });
+        assertThat(producer.read("key", store::get)).containsExactly(4);
+    }
+
+    @Test
+    public void testCommitFailureAbortsTransaction() {
+        doThrow(new KafkaException("failure")).when(kafkaProducer).commitTransaction();
+
+        UnitOfWork unitOfWork = startUnitOfWork();
+        producer.send("key", new byte[] { 1 });
+
+        assertThatExceptionOfType(KafkaException.class).isThrownBy(unitOfWork::end);
+        verify(kafkaProducer).abortTransaction();
+        verify(eventManager, never()).publish(any());
+        assertThat(producer.read("key", store::get)).isNull();
+    }
+
+    @Test
+    public void testCommittedRecordsAreBounded() {
+        for (int i = 0; i <= KafkaProcessInstancesProducer.MAX_COMMITTED_RECORDS; i++) {
+            producer.send("key" + i, new byte[] { 1 });
+        }
+
+        assertThat(producer.committedSize()).isEqualTo(KafkaProcessInstancesProducer.MAX_COMMITTED_RECORDS);
+        // the oldest record goes first
+        assertThat(producer.read("key0", store::get)).isNull();
+        assertThat(producer.read("key1", store::get)).containsExactly(1);
+    }
+
+    @Test
+    public void testFencedProducerIsReplaced() {
+        KafkaProducer<String, byte[]> fenced = mock(KafkaProducer.class);
+        KafkaProducer<String, byte[]> replacement = mock(KafkaProducer.class);
+        doThrow(new ProducerFencedException("fenced")).when(fenced).commitTransaction();
+        Iterator<KafkaProducer<String, byte[]>> producers = List.of(fenced, replacement).iterator();
+        producer = new KafkaProcessInstancesProducer(producers::next);
+
+        assertThatExceptionOfType(ProducerFencedException.class).isThrownBy(() -> producer.send("key", new byte[] { 1 }));
+        // a fenced producer cannot abort, it is closed instead
+        verify(fenced, never()).abortTransaction();
+        verify(fenced).close(Duration.ZERO);
+
+        producer.send("key", new byte[] { 2 });
+        verify(replacement).beginTransaction();
+        verify(replacement).commitTransaction();
+        assertThat(producer.read("key", store::get)).containsExactly(2);
+    }
+}
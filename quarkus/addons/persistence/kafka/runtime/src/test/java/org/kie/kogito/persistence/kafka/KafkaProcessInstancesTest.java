@@ -85,7 +85,7 @@ public class KafkaProcessInstancesTest {
     public void setup() {
         lenient().doReturn(processId).when(process).id();
 
-        instances = new KafkaProcessInstances(process, producer);
+        instances = new KafkaProcessInstances(process, new KafkaProcessInstancesProducer(producer));
         instances.setStore(store);
         instances.setMarshaller(marshaller);
         lenient().when(marshaller.unmarshallProcessInstance(any(), any())).thenCallRealMethod();
@@ -93,7 +93,7 @@ public class KafkaProcessInstancesTest {
 
     @Test
     public void testProcessInstancesSetup() {
-        instances = new KafkaProcessInstances(process, producer);
+        instances = new KafkaProcessInstances(process, new KafkaProcessInstancesProducer(producer));
 
         assertThat(instances.getProcess()).isEqualTo(process);
 
@@ -112,9 +112,6 @@ public class KafkaProcessInstancesTest {
     public void testProcessInstancesRemove() {
         doReturn(mock(Future.class)).when(producer).send(any());
 
-        KeyValueIterator<String, byte[]> iterator = mock(KeyValueIterator.class);
-        when(store.prefixScan(contains("events"), any())).thenReturn(iterator);
-        when(iterator.hasNext()).thenReturn(false);
 
         instances.remove(id);
 
@@ -153,7 +150,7 @@ public class KafkaProcessInstancesTest {
         assertThat(instances.findById(UUID.randomUUID().toString(), ProcessInstanceReadMode.READ_ONLY)).isNotPresent();
     }
 
-    private static class KeyValueIteratorMock implements KeyValueIterator<String, String> {
+    private class KeyValueIteratorMock implements KeyValueIterator<String, byte[]> {
         boolean hasNext = true;
 
         @Override
@@ -164,8 +161,8 @@ public class KafkaProcessInstancesTest {
         }
 
         @Override
-        public KeyValue<String, String> next() {
-            return mock(KeyValue.class);
+        public KeyValue<String, byte[]> next() {
+            return KeyValue.pair(storedId, new byte[] {});
         }
 
         @Override
@@ -205,9 +202,6 @@ public class KafkaProcessInstancesTest {
         doReturn(new byte[] {}).when(marshaller).marshallProcessInstance(instance);
         when(instance.status()).thenReturn(ProcessInstance.STATE_ACTIVE);
 
-        KeyValueIterator<String, byte[]> iterator = mock(KeyValueIterator.class);
-        when(store.prefixScan(contains("events"), any())).thenReturn(iterator);
-        when(iterator.hasNext()).thenReturn(false);
         WorkflowProcessInstance processInstance = mock(WorkflowProcessInstance.class);
         when(processInstance.getEventTypes()).thenReturn(new String[0]);
         when(instance.internalGetProcessInstance()).thenReturn(processInstance);
@@ -249,9 +243,6 @@ public class KafkaProcessInstancesTest {
         AbstractProcessInstance instance = mock(AbstractProcessInstance.class);
         doReturn(new byte[] {}).when(marshaller).marshallProcessInstance(instance);
         when(instance.status()).thenReturn(ProcessInstance.STATE_ACTIVE);
-        KeyValueIterator<String, byte[]> iterator = mock(KeyValueIterator.class);
-        when(store.prefixScan(contains("events"), any())).thenReturn(iterator);
-        when(iterator.hasNext()).thenReturn(false);
         WorkflowProcessInstance processInstance = mock(WorkflowProcessInstance.class);
         when(processInstance.getEventTypes()).thenReturn(new String[0]);
         when(instance.internalGetProcessInstance()).thenReturn(processInstance);
@@ -44,8 +44,9 @@ public class MongoDBProcessInstancesFactory extends AbstractProcessInstancesFact
             @ConfigProperty(name = "quarkus.mongodb.database", defaultValue = "kogito") String dbName,
             @ConfigProperty(name = "kogito.persistence.optimistic.lock", defaultValue = "false") Boolean lock,
             @ConfigProperty(name = "kogito.persistence.headers.enabled", defaultValue = "false") boolean headersEnabled,
-            @ConfigProperty(name = "kogito.persistence.headers.excluded") Optional<List<String>> headersExcluded) {
-        super(mongoClient, dbName, lock, transactionManager, HeadersPersistentConfig.of(headersEnabled, headersExcluded));
+            @ConfigProperty(name = "kogito.persistence.headers.excluded") Optional<List<String>> headersExcluded,
+            @ConfigProperty(name = "kogito.persistence.mongodb.retire-legacy-events", defaultValue = "false") boolean retireLegacyEvents) {
+        super(mongoClient, dbName, lock, transactionManager, HeadersPersistentConfig.of(headersEnabled, headersExcluded), retireLegacyEvents);
     }
 
 }
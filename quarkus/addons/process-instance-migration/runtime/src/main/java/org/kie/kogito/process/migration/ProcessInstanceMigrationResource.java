@@ -79,4 +79,28 @@ public class ProcessInstanceMigrationResource extends BaseProcessInstanceMigrati
     public Response migrateAllInstances(@PathParam("processId") String processId, ProcessMigrationSpec migrationSpec) {
         return doMigrateAllInstances(processId, migrationSpec);
     }
+
+    @Override
+    @POST
+    @Path("{processId}/migrate/jobs")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response startMigrationJob(@PathParam("processId") String processId, ProcessMigrationSpec migrationSpec) {
+        return doStartMigrationJob(processId, migrationSpec);
+    }
+
+    @Override
+    @GET
+    @Path("{processId}/migrate/jobs/{jobId}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getMigrationJob(@PathParam("processId") String processId, @PathParam("jobId") String jobId) {
+        return doGetMigrationJob(processId, jobId);
+    }
+
+    @Override
+    @DELETE
+    @Path("{processId}/migrate/jobs/{jobId}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response cancelMigrationJob(@PathParam("processId") String processId, @PathParam("jobId") String jobId) {
+        return doCancelMigrationJob(processId, jobId);
+    }
 }
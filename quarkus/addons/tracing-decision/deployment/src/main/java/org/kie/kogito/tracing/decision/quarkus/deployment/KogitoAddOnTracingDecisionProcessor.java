@@ -21,12 +21,18 @@ package org.kie.kogito.tracing.decision.quarkus.deployment;
 import org.kie.kogito.quarkus.addons.common.deployment.KogitoCapability;
 import org.kie.kogito.quarkus.addons.common.deployment.RequireCapabilityKogitoAddOnProcessor;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.processor.DotNames;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 
 class KogitoAddOnTracingDecisionProcessor extends RequireCapabilityKogitoAddOnProcessor {
 
     private static final String FEATURE = "kie-addon-tracing-decision-extension";
+    private static final String METER_BINDER = "org.kie.kogito.tracing.decision.QuarkusDecisionTracingMeterBinder";
 
     KogitoAddOnTracingDecisionProcessor() {
         super(KogitoCapability.DECISIONS);
@@ -38,4 +44,17 @@ class KogitoAddOnTracingDecisionProcessor extends RequireCapabilityKogitoAddOnPr
         return new FeatureBuildItem(FEATURE);
     }
 
+    @BuildStep
+    @SuppressWarnings("unused")
+    void meterBinder(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        // referenced by name, the binder cannot be loaded without Micrometer
+        if (capabilities.isPresent(Capability.MICROMETER)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.builder()
+                    .addBeanClass(METER_BINDER)
+                    .setDefaultScope(DotNames.SINGLETON)
+                    .setUnremovable()
+                    .build());
+        }
+    }
+
 }
@@ -18,8 +18,10 @@
  */
 package org.kie.kogito.tracing.decision;
 
+import java.time.Duration;
 import java.util.function.BiFunction;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.Application;
 import org.kie.kogito.config.ConfigBean;
 import org.kie.kogito.tracing.decision.event.evaluate.EvaluateEvent;
@@ -27,9 +29,15 @@ import org.kie.kogito.tracing.decision.modelsupplier.ApplicationModelSupplier;
 
 import io.quarkus.vertx.ConsumeEvent;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import static org.kie.kogito.tracing.decision.DecisionTracingCollectorConfig.EXECUTION_TTL_MILLIS_PROPERTY;
+import static org.kie.kogito.tracing.decision.DecisionTracingCollectorConfig.QUEUE_CAPACITY_PROPERTY;
+import static org.kie.kogito.tracing.decision.DecisionTracingCollectorConfig.SAMPLING_RATE_PROPERTY;
+import static org.kie.kogito.tracing.decision.DecisionTracingCollectorConfig.WORKERS_PROPERTY;
+
 @Singleton
 public class QuarkusDecisionTracingCollector {
 
@@ -38,16 +46,44 @@ public class QuarkusDecisionTracingCollector {
     public QuarkusDecisionTracingCollector(final QuarkusTraceEventEmitter eventEmitter,
             final ConfigBean configBean,
             final BiFunction<String, String, org.kie.dmn.api.core.DMNModel> modelSupplier) {
-        this.collector = new DecisionTracingCollector(eventEmitter::emit, modelSupplier, configBean);
+        this(eventEmitter, configBean, modelSupplier, DecisionTracingCollectorConfig.synchronous());
+    }
+
+    public QuarkusDecisionTracingCollector(final QuarkusTraceEventEmitter eventEmitter,
+            final ConfigBean configBean,
+            final BiFunction<String, String, org.kie.dmn.api.core.DMNModel> modelSupplier,
+            final DecisionTracingCollectorConfig config) {
+        this.collector = new DecisionTracingCollector(eventEmitter::emit, modelSupplier, configBean, config);
     }
 
-    @Inject
     public QuarkusDecisionTracingCollector(final QuarkusTraceEventEmitter eventEmitter,
             final ConfigBean configBean,
             final Application application) {
         this(eventEmitter, configBean, new ApplicationModelSupplier(application));
     }
 
+    @Inject
+    public QuarkusDecisionTracingCollector(final QuarkusTraceEventEmitter eventEmitter,
+            final ConfigBean configBean,
+            final Application application,
+            @ConfigProperty(name = "kogito.addon.tracing.decision.asyncEnabled", defaultValue = "true") boolean asyncEnabled,
+            @ConfigProperty(name = QUEUE_CAPACITY_PROPERTY, defaultValue = "10000") int queueCapacity,
+            @ConfigProperty(name = WORKERS_PROPERTY, defaultValue = "1") int workers,
+            @ConfigProperty(name = EXECUTION_TTL_MILLIS_PROPERTY, defaultValue = "60000") long executionTtlMillis,
+            @ConfigProperty(name = SAMPLING_RATE_PROPERTY, defaultValue = "1.0") double samplingRate) {
+        this(eventEmitter, configBean, new ApplicationModelSupplier(application),
+                new DecisionTracingCollectorConfig(asyncEnabled ? queueCapacity : 0, workers, Duration.ofMillis(executionTtlMillis), samplingRate));
+    }
+
+    public DecisionTracingCollector getCollector() {
+        return collector;
+    }
+
+    @PreDestroy
+    void close() {
+        collector.close();
+    }
+
     @ConsumeEvent("kogito-tracing-decision_EvaluateEvent")
     public void onEvent(final EvaluateEvent event) {
         collector.addEvent(event);
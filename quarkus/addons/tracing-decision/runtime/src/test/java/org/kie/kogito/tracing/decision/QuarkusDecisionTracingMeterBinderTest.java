@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.tracing.decision;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.config.ConfigBean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.kie.kogito.tracing.decision.DecisionTracingMeterBinder.DROPPED_EVENTS_NAME;
+import static org.kie.kogito.tracing.decision.DecisionTracingMeterBinder.DROPPED_TRACES_NAME;
+import static org.kie.kogito.tracing.decision.DecisionTracingMeterBinder.EVICTED_TRACES_NAME;
+import static org.kie.kogito.tracing.decision.DecisionTracingMeterBinder.PENDING_EXECUTIONS_NAME;
+import static org.mockito.Mockito.mock;
+
+class QuarkusDecisionTracingMeterBinderTest {
+
+    @Test
+    void testMetersAreRegistered() {
+        QuarkusDecisionTracingCollector collector = new QuarkusDecisionTracingCollector(mock(QuarkusTraceEventEmitter.class), mock(ConfigBean.class), (namespace, name) -> null);
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        new QuarkusDecisionTracingMeterBinder(collector).bindTo(registry);
+
+        assertNotNull(registry.find(DROPPED_EVENTS_NAME).functionCounter());
+        assertNotNull(registry.find(DROPPED_TRACES_NAME).functionCounter());
+        assertNotNull(registry.find(EVICTED_TRACES_NAME).functionCounter());
+        assertNotNull(registry.find(PENDING_EXECUTIONS_NAME).gauge());
+    }
+}
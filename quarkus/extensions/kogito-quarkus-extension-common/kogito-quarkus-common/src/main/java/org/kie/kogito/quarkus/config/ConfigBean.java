@@ -52,6 +52,21 @@ public class ConfigBean extends StaticConfigBean {
         return runtimeConfig.get().processInstanceLimit();
     }
 
+    @Override
+    public int multiInstanceConcurrency() {
+        return runtimeConfig.get().multiInstanceConcurrency();
+    }
+
+    @Override
+    public int signalBroadcastPageSize() {
+        return runtimeConfig.get().signalBroadcastPageSize();
+    }
+
+    @Override
+    public int signalBroadcastConcurrency() {
+        return runtimeConfig.get().signalBroadcastConcurrency();
+    }
+
     @Override
     public Optional<KogitoGAV> getGav() {
         return Optional.ofNullable(gav.get());
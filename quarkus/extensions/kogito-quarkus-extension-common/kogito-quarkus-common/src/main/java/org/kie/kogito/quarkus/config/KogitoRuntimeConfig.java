@@ -50,6 +50,27 @@ public interface KogitoRuntimeConfig {
     @WithDefault("1000")
     short processInstanceLimit();
 
+    /**
+     * Maximum number of work item activations of concurrent multi-instance loops running at the same time
+     */
+    @WithName("process.multi-instance.concurrency")
+    @WithDefault("32")
+    int multiInstanceConcurrency();
+
+    /**
+     * Maximum number of waiting process instances loaded at once when broadcasting a signal
+     */
+    @WithName("signal.broadcast.page-size")
+    @WithDefault("100")
+    int signalBroadcastPageSize();
+
+    /**
+     * Maximum number of waiting process instances signalled at the same time when broadcasting a signal
+     */
+    @WithName("signal.broadcast.concurrency")
+    @WithDefault("1")
+    int signalBroadcastConcurrency();
+
     /**
      * Auth Configuration
      */
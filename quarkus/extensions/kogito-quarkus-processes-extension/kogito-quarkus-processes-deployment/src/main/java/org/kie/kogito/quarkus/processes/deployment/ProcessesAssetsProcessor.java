@@ -45,6 +45,7 @@ import org.kie.kogito.event.usertask.UserTaskInstanceStateDataEvent;
 import org.kie.kogito.event.usertask.UserTaskInstanceStateEventBody;
 import org.kie.kogito.event.usertask.UserTaskInstanceVariableDataEvent;
 import org.kie.kogito.event.usertask.UserTaskInstanceVariableEventBody;
+import org.kie.kogito.quarkus.processes.rules.QuarkusKieSessionPoolsShutdown;
 import org.kie.kogito.quarkus.processes.workitems.QuarkusConfigResolver;
 import org.kie.kogito.quarkus.workflow.KogitoBeanProducer;
 import org.kie.kogito.quarkus.workflow.deployment.WorkflowProcessor;
@@ -104,7 +105,8 @@ public class ProcessesAssetsProcessor extends WorkflowProcessor {
                         QuarkusHumanTaskService.class,
                         QuarkusProcessIdFactory.class,
                         KogitoBeanProducer.class,
-                        QuarkusConfigResolver.class)
+                        QuarkusConfigResolver.class,
+                        QuarkusKieSessionPoolsShutdown.class)
                 .build();
     }
 
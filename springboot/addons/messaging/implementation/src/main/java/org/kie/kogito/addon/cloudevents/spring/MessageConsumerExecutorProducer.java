@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.addon.cloudevents.spring;
+
+import org.kie.kogito.addon.cloudevents.MessageConsumerExecutorMeterBinder;
+import org.kie.kogito.event.KogitoEventStreams;
+import org.kie.kogito.event.impl.MessageConsumerExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Produces the {@link MessageConsumerExecutor} shared by every message consumer, along with its queue depth and
+ * rejection meters when Micrometer is available.
+ * <p>
+ * A message rejected because the queue is full fails the listener with a
+ * {@link java.util.concurrent.RejectedExecutionException}, the container error handler decides whether it is retried
+ * or skipped.
+ */
+@Configuration
+public class MessageConsumerExecutorProducer {
+
+    @Value("${" + KogitoEventStreams.CONSUMER_PARALLELISM_PROPERTY + ":#{" + KogitoEventStreams.DEFAULT_CONSUMER_PARALLELISM + "}}")
+    int parallelism;
+
+    @Value("${" + KogitoEventStreams.CONSUMER_QUEUE_SIZE_PROPERTY + ":#{" + KogitoEventStreams.DEFAULT_CONSUMER_QUEUE_SIZE + "}}")
+    int queueSize;
+
+    @Bean
+    @ConditionalOnMissingBean
+    public MessageConsumerExecutor messageConsumerExecutor() {
+        return new MessageConsumerExecutor(parallelism, queueSize);
+    }
+
+    /**
+     * Binds the executor meters to every registry of the application, when Micrometer is available
+     */
+    @Configuration
+    @ConditionalOnClass(MeterBinder.class)
+    public static class MetricsConfiguration {
+
+        @Bean
+        public MeterBinder messageConsumerExecutorMeterBinder(MessageConsumerExecutor executor) {
+            return new MessageConsumerExecutorMeterBinder(executor);
+        }
+    }
+}
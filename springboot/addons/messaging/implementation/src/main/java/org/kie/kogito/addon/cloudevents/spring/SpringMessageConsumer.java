@@ -24,6 +24,7 @@ import org.kie.kogito.Application;
 import org.kie.kogito.Model;
 import org.kie.kogito.event.EventReceiver;
 import org.kie.kogito.event.impl.AbstractMessageConsumer;
+import org.kie.kogito.event.impl.MessageConsumerExecutor;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,8 +37,11 @@ public abstract class SpringMessageConsumer<M extends Model, D> extends Abstract
     @Autowired
     ProcessService processService;
 
+    @Autowired
+    MessageConsumerExecutor executor;
+
     protected void init(Process<M> process, String trigger, Class<D> objectClass, EventReceiver eventReceiver) {
-        init(application, process, trigger, eventReceiver, objectClass, processService, Collections.emptySet());
+        init(application, process, trigger, eventReceiver, objectClass, processService, Collections.emptySet(), executor);
     }
 
 }
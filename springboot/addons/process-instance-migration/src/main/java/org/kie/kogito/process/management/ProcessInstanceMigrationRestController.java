@@ -67,4 +67,22 @@ public class ProcessInstanceMigrationRestController extends BaseProcessInstanceM
         return doMigrateAllInstances(processId, migrationSpec);
     }
 
+    @Override
+    @PostMapping(value = "{processId}/migrate/jobs", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity startMigrationJob(@PathVariable("processId") String processId, @RequestBody ProcessMigrationSpec migrationSpec) {
+        return doStartMigrationJob(processId, migrationSpec);
+    }
+
+    @Override
+    @GetMapping(value = "{processId}/migrate/jobs/{jobId}", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity getMigrationJob(@PathVariable("processId") String processId, @PathVariable("jobId") String jobId) {
+        return doGetMigrationJob(processId, jobId);
+    }
+
+    @Override
+    @DeleteMapping(value = "{processId}/migrate/jobs/{jobId}", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity cancelMigrationJob(@PathVariable("processId") String processId, @PathVariable("jobId") String jobId) {
+        return doCancelMigrationJob(processId, jobId);
+    }
+
 }
@@ -33,7 +33,14 @@ public class SpringBootDecisionTracingCollector {
     public SpringBootDecisionTracingCollector(final SpringBootTraceEventEmitter eventEmitter,
             final ConfigBean configBean,
             final BiFunction<String, String, DMNModel> modelSupplier) {
-        this.collector = new DecisionTracingCollector(eventEmitter::emit, modelSupplier, configBean);
+        this(eventEmitter, configBean, modelSupplier, DecisionTracingCollectorConfig.synchronous());
+    }
+
+    public SpringBootDecisionTracingCollector(final SpringBootTraceEventEmitter eventEmitter,
+            final ConfigBean configBean,
+            final BiFunction<String, String, DMNModel> modelSupplier,
+            final DecisionTracingCollectorConfig config) {
+        this.collector = new DecisionTracingCollector(eventEmitter::emit, modelSupplier, configBean, config);
     }
 
     public SpringBootDecisionTracingCollector(final SpringBootTraceEventEmitter eventEmitter,
@@ -42,7 +49,22 @@ public class SpringBootDecisionTracingCollector {
         this(eventEmitter, configBean, new ApplicationModelSupplier(application));
     }
 
+    public SpringBootDecisionTracingCollector(final SpringBootTraceEventEmitter eventEmitter,
+            final ConfigBean configBean,
+            final Application application,
+            final DecisionTracingCollectorConfig config) {
+        this(eventEmitter, configBean, new ApplicationModelSupplier(application), config);
+    }
+
+    public DecisionTracingCollector getCollector() {
+        return collector;
+    }
+
     public void onApplicationEvent(final EvaluateEvent event) {
         collector.addEvent(event);
     }
+
+    public void close() {
+        collector.close();
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.kie.kogito.tracing.decision;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Executor;
@@ -30,6 +31,7 @@ import org.apache.kafka.common.serialization.StringSerializer;
 import org.kie.kogito.Application;
 import org.kie.kogito.config.ConfigBean;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -39,6 +41,8 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.scheduling.annotation.EnableAsync;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+
 @Configuration
 @EnableAsync
 public class SpringBootDecisionTracingConfiguration {
@@ -48,6 +52,15 @@ public class SpringBootDecisionTracingConfiguration {
     private final int kafkaTopicPartitions;
     private final short kafkaTopicReplicationFactor;
 
+    @Value(value = "${" + DecisionTracingCollectorConfig.QUEUE_CAPACITY_PROPERTY + ":10000}")
+    private int queueCapacity = DecisionTracingCollectorConfig.DEFAULT_QUEUE_CAPACITY;
+    @Value(value = "${" + DecisionTracingCollectorConfig.WORKERS_PROPERTY + ":1}")
+    private int workers = DecisionTracingCollectorConfig.DEFAULT_WORKERS;
+    @Value(value = "${" + DecisionTracingCollectorConfig.EXECUTION_TTL_MILLIS_PROPERTY + ":60000}")
+    private long executionTtlMillis = DecisionTracingCollectorConfig.DEFAULT_EXECUTION_TTL_MILLIS;
+    @Value(value = "${" + DecisionTracingCollectorConfig.SAMPLING_RATE_PROPERTY + ":1.0}")
+    private double samplingRate = DecisionTracingCollectorConfig.DEFAULT_SAMPLING_RATE;
+
     public SpringBootDecisionTracingConfiguration(
             @Value(value = "${kogito.addon.tracing.decision.kafka.bootstrapAddress}") String kafkaBootstrapAddress,
             @Value(value = "${kogito.addon.tracing.decision.kafka.topic.name:kogito-tracing-decision}") String kafkaTopicName,
@@ -66,9 +79,11 @@ public class SpringBootDecisionTracingConfiguration {
             final Application application,
             @Value(value = "${kogito.addon.tracing.decision.asyncEnabled:true}") final boolean asyncEnabled) {
         if (asyncEnabled) {
-            return new SpringBootDecisionTracingCollectorAsync(eventEmitter, configBean, application);
+            DecisionTracingCollectorConfig config = new DecisionTracingCollectorConfig(queueCapacity, workers, Duration.ofMillis(executionTtlMillis), samplingRate);
+            return new SpringBootDecisionTracingCollectorAsync(eventEmitter, configBean, application, config);
         } else {
-            return new SpringBootDecisionTracingCollector(eventEmitter, configBean, application);
+            DecisionTracingCollectorConfig config = new DecisionTracingCollectorConfig(0, workers, Duration.ofMillis(executionTtlMillis), samplingRate);
+            return new SpringBootDecisionTracingCollector(eventEmitter, configBean, application, config);
         }
     }
 
@@ -115,4 +130,17 @@ public class SpringBootDecisionTracingConfiguration {
     public Executor threadPoolTaskExecutor() {
         return Executors.newSingleThreadExecutor(r -> new Thread(r, "kogito-tracing"));
     }
+
+    /**
+     * Binds the collector meters to every registry of the application, when Micrometer is available
+     */
+    @Configuration
+    @ConditionalOnClass(MeterBinder.class)
+    public static class MetricsConfiguration {
+
+        @Bean
+        public MeterBinder decisionTracingMeterBinder(final SpringBootDecisionTracingCollector collector) {
+            return new DecisionTracingMeterBinder(collector.getCollector());
+        }
+    }
 }
@@ -22,7 +22,11 @@ import org.junit.jupiter.api.Test;
 import org.kie.kogito.Application;
 import org.kie.kogito.config.ConfigBean;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -42,4 +46,18 @@ class SpringBootDecisionTracingConfigurationTest {
         SpringBootDecisionTracingCollector syncCollector = config.collector(mockedEmitter, mockedConfigBean, mockedApplication, false);
         assertFalse(syncCollector instanceof SpringBootDecisionTracingCollectorAsync);
     }
+
+    @Test
+    void testMeterBinder() {
+        SpringBootDecisionTracingConfiguration config = new SpringBootDecisionTracingConfiguration("localhost:9092", "kogito-tracing-decision", 1, (short) 1);
+        SpringBootDecisionTracingCollector collector = config.collector(mock(SpringBootTraceEventEmitter.class), mock(ConfigBean.class), mock(Application.class), false);
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        new SpringBootDecisionTracingConfiguration.MetricsConfiguration().decisionTracingMeterBinder(collector).bindTo(registry);
+
+        assertNotNull(registry.find(DecisionTracingMeterBinder.DROPPED_EVENTS_NAME).functionCounter());
+        assertNotNull(registry.find(DecisionTracingMeterBinder.DROPPED_TRACES_NAME).functionCounter());
+        assertNotNull(registry.find(DecisionTracingMeterBinder.EVICTED_TRACES_NAME).functionCounter());
+        assertNotNull(registry.find(DecisionTracingMeterBinder.PENDING_EXECUTIONS_NAME).gauge());
+    }
 }
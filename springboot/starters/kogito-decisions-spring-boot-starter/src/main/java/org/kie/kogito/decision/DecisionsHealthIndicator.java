@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.decision;
+
+import java.util.Optional;
+
+import org.kie.kogito.dmn.AbstractDecisionModels;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the application as out of service while the DMN runtime is being compiled in the background
+ * (<code>kogito.decisions.backgroundinit</code>), and as down when that compilation failed.
+ */
+@Component
+public class DecisionsHealthIndicator implements HealthIndicator {
+
+    @Override
+    public Health health() {
+        Optional<Throwable> failure = AbstractDecisionModels.getDMNRuntimeFailure();
+        if (failure.isPresent()) {
+            return Health.down().withDetail("error", String.valueOf(failure.get().getMessage())).build();
+        }
+        return AbstractDecisionModels.isDMNRuntimeReady() ? Health.up().build() : Health.outOfService().build();
+    }
+
+}